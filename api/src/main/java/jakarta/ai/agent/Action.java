@@ -49,6 +49,9 @@ import java.lang.annotation.Target;
  *       automatically injected into subsequent life-cycle methods. Use this pattern
  *       to pass action results forward in the workflow.</li>
  * </ul>
+ * <p>
+ * A side-effect-free first action may be annotated with
+ * {@link Speculative @Speculative} to let it start while the decisions are pending.
  *
  * <p><b>Examples</b><br>
  * <pre>{@code
@@ -91,6 +94,7 @@ import java.lang.annotation.Target;
  * }</pre>
  *
  * @see Decision
+ * @see Speculative
  * @see Outcome
  * @see WorkflowContext
  * @see LargeLanguageModel
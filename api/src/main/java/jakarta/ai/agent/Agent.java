@@ -32,6 +32,10 @@ import java.lang.annotation.Target;
  * agent is @ApplicationScoped, beginning with a trigger and in most cases 
  * ending with an outcome.
  * </p>
+ * <p>
+ * Operational limits such as maximum concurrency, timeouts and a dedicated executor
+ * are declared with the companion {@link AgentLimits} annotation.
+ * </p>
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
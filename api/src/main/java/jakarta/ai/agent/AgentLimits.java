@@ -0,0 +1,92 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Operational limits of an agent, isolating it from other agents deployed in the
+ * same application.
+ * <p>
+ * An agent with slow LLM calls, such as documentation generation, can otherwise
+ * exhaust threads or LLM quota shared with latency-critical agents. With this
+ * annotation, the agent runs at most {@link #maxConcurrentWorkflows()} workflows at a
+ * time, on its own {@link #executor()} if one is named, and its phases and workflows
+ * fail with {@link WorkflowTimeoutException} when they exceed their timeouts.
+ * <p>
+ * A value of {@code 0} or an empty string means no limit or the runtime default.
+ * Workflows started while the agent is at its concurrency limit wait for a running
+ * workflow to end; use {@link Intake} to bound how many may wait.
+ * <p>
+ * <b>Deployment overrides</b><br>
+ * Each attribute can be overridden by deployment configuration, such as MicroProfile
+ * Config, using the key {@code jakarta.ai.agent.<agent-name>.<property>}, where
+ * {@code <agent-name>} is the {@link Agent#name()} and {@code <property>} is one of
+ * {@code max-concurrent-workflows}, {@code phase-timeout-millis},
+ * {@code workflow-timeout-millis}, {@code executor} or {@code priority}.
+ * Overrides apply even when the agent class is not annotated.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Agent(name = "docsAgent")
+ * @AgentLimits(maxConcurrentWorkflows = 4,
+ *              phaseTimeoutMillis = 90_000,
+ *              executor = "java:app/concurrent/docsExecutor",
+ *              priority = WorkflowPriority.LOW)
+ * public class DocsAgent {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @see WorkflowTimeoutException
+ * @see WorkflowPriority
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AgentLimits {
+
+    /**
+     * The maximum number of workflows of the agent running at the same time, or
+     * {@code 0} for no limit.
+     */
+    int maxConcurrentWorkflows() default 0;
+
+    /**
+     * The longest time, in milliseconds, a single phase may take, or {@code 0} for no
+     * timeout.
+     */
+    long phaseTimeoutMillis() default 0;
+
+    /**
+     * The longest time, in milliseconds, a whole workflow may take from trigger to
+     * outcome, or {@code 0} for no timeout.
+     */
+    long workflowTimeoutMillis() default 0;
+
+    /**
+     * The JNDI name of the {@code ManagedExecutorService} running the workflows of the
+     * agent, or an empty string for the runtime's default executor.
+     * <p>
+     * Agents naming the same executor share it; an agent naming its own executor
+     * cannot take threads from other agents.
+     */
+    String executor() default "";
+
+    /**
+     * The initial priority of the workflows of the agent.
+     */
+    WorkflowPriority priority() default WorkflowPriority.MEDIUM;
+}
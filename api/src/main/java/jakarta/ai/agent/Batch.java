@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a {@link Trigger} method start one workflow per batch of events instead of
+ * one workflow per event.
+ * <p>
+ * The annotated trigger method declares a {@code java.util.List<E>} parameter in place
+ * of the event parameter. The runtime observes CDI events of type {@code E} and
+ * accumulates them until {@link #size()} events are pending or the first pending event
+ * has waited {@link #lingerMillis()} milliseconds, whichever comes first. The batch is
+ * then passed to the trigger method, and the {@code List<E>} is available for
+ * injection into the decision, action and outcome phases. The triggering event stored
+ * in the {@link WorkflowContext} is the batch.
+ * <p>
+ * <b>Per-element outcomes</b><br>
+ * If the {@link Outcome @Outcome} method declares a parameter of the element type
+ * {@code E} rather than {@code List<E>}, it is invoked once per element, in batch
+ * order, with the result of the last {@link Action @Action} method. With
+ * {@link #pairResults()}, that action returns a {@code List} with one entry per
+ * element, and each invocation receives the entry at the index of its element in
+ * place of the whole list. An exception thrown for one element does not prevent the
+ * outcome of the remaining elements; the first exception, with any later ones
+ * suppressed, is dispatched to the {@link HandleException @HandleException} methods.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Trigger
+ * @Batch(size = 50, lingerMillis = 200, pairResults = true)
+ * public void onTransactions(List<BankTransaction> transactions) {
+ *     ...
+ * }
+ *
+ * @Action
+ * public List<FraudVerdict> classify(List<BankTransaction> transactions, LargeLanguageModel llm) {
+ *     return llm.query("Classify each transaction", FraudVerdicts.class, transactions).verdicts();
+ * }
+ *
+ * @Outcome
+ * public void mark(BankTransaction transaction, FraudVerdict verdict) {
+ *     transaction.setVerdict(verdict);
+ * }
+ * }</pre>
+ *
+ * @see Trigger
+ * @see Outcome
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Batch {
+
+    /**
+     * The number of events that starts a workflow immediately.
+     */
+    int size() default 100;
+
+    /**
+     * The longest time, in milliseconds, an event waits for its batch to fill before
+     * a workflow is started with a partial batch.
+     */
+    long lingerMillis() default 100;
+
+    /**
+     * Whether the last action returns one result per element, to be passed to the
+     * per-element outcome of that element. A result that is not a {@code List} of the
+     * batch size then fails the workflow. Otherwise every per-element invocation
+     * receives the whole result, even a list that happens to have the batch size.
+     */
+    boolean pairResults() default false;
+}
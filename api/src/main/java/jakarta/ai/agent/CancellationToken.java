@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Cooperative cancellation and deadline of a workflow, available through
+ * {@link WorkflowContext#getCancellationToken()}.
+ * <p>
+ * A workflow is cancelled through its {@link WorkflowHandle}, or when its deadline
+ * passes. The runtime checks the token between phases and stops the workflow once it
+ * is cancelled, releasing its {@link WorkflowScoped} beans immediately. Long-running
+ * phases may call {@link #throwIfCancelled()} themselves.
+ * <p>
+ * {@link LargeLanguageModel} implementations honor the token of the current workflow:
+ * they pass {@link #getRemainingTime()} to the provider as the request timeout, and
+ * register an {@link #onCancel(Runnable) action} that aborts the in-flight HTTP call or
+ * stream, so that a cancelled workflow stops consuming tokens.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Action
+ * public void generate(PullRequestEvent event, WorkflowContext context) {
+ *     for (String file : event.getChangedFiles()) {
+ *         context.getCancellationToken().throwIfCancelled();
+ *         generateDocs(file);
+ *     }
+ * }
+ * }</pre>
+ */
+public interface CancellationToken {
+
+    /**
+     * Check whether the workflow has been cancelled or its deadline has passed.
+     *
+     * @return {@code true} if the workflow should stop
+     */
+    boolean isCancelled();
+
+    /**
+     * Get the deadline of the workflow.
+     *
+     * @return the deadline, or empty if the workflow has none
+     */
+    Optional<Instant> getDeadline();
+
+    /**
+     * Get the time left until the deadline, never negative.
+     *
+     * @return the remaining time, or empty if the workflow has no deadline
+     */
+    default Optional<Duration> getRemainingTime() {
+        return getDeadline().map(deadline -> {
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        });
+    }
+
+    /**
+     * Throw if the workflow should stop.
+     *
+     * @throws WorkflowTimeoutException if the deadline has passed
+     * @throws WorkflowCancelledException if the workflow has been cancelled
+     */
+    default void throwIfCancelled() {
+        if (!isCancelled()) {
+            return;
+        }
+        if (getDeadline().filter(deadline -> !Instant.now().isBefore(deadline)).isPresent()) {
+            throw new WorkflowTimeoutException("Workflow deadline " + getDeadline().get() + " has passed");
+        }
+        throw new WorkflowCancelledException("Workflow has been cancelled");
+    }
+
+    /**
+     * Register an action to run once when the workflow is cancelled or its deadline
+     * passes. If the workflow is already cancelled, the action runs immediately on the
+     * calling thread.
+     * <p>
+     * Actions must be quick and must not throw; they typically abort an I/O operation.
+     *
+     * @param action the action
+     * @return a registration that removes the action when closed
+     */
+    Registration onCancel(Runnable action);
+
+    /**
+     * Registration of a cancellation action.
+     */
+    interface Registration extends AutoCloseable {
+
+        /**
+         * Remove the action. Has no effect if it already ran.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Get a token that is never cancelled and has no deadline.
+     *
+     * @return the token
+     */
+    static CancellationToken none() {
+        return new CancellationToken() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public Optional<Instant> getDeadline() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Registration onCancel(Runnable action) {
+                return () -> { };
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes the runtime evaluate the {@link Decision @Decision} methods of an agent
+ * concurrently and combine their results, instead of evaluating them one after the
+ * other.
+ * <p>
+ * Without this annotation, decision methods run sequentially and the first one that
+ * stops the workflow ends it. With it, all decision methods start at once, so the
+ * decision phase takes as long as its slowest method, or less when the
+ * {@link #combinator() combinator} can decide early. As soon as the combined result is
+ * known, the decisions still running are cancelled through the
+ * {@link CancellationToken} of the workflow, which aborts their pending
+ * {@link LargeLanguageModel} calls.
+ * <p>
+ * The decision methods must be independent of each other: a decision method may not
+ * depend on a value returned by another one. Each result is interpreted as described
+ * in {@link Decision}, and the values of the passing decisions are available for
+ * injection into the later phases as usual.
+ * <p>
+ * An exception thrown by a decision method ends the decision phase immediately,
+ * cancels the other decisions and is dispatched to the
+ * {@link HandleException @HandleException} methods.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Agent
+ * @ConcurrentDecisions(combinator = ConcurrentDecisions.Combinator.WEIGHTED_VOTE, threshold = 0.6)
+ * public class FraudDetectionAgent {
+ *
+ *     @Decision(weight = 1)
+ *     public boolean rules(BankTransaction transaction) { ... }
+ *
+ *     @Decision(weight = 2)
+ *     public boolean model(BankTransaction transaction, LargeLanguageModel llm) { ... }
+ *
+ *     @Decision(weight = 1)
+ *     public boolean history(BankTransaction transaction) { ... }
+ * }
+ * }</pre>
+ *
+ * @see Decision
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrentDecisions {
+
+    /**
+     * How the results of the decision methods are combined.
+     */
+    Combinator combinator() default Combinator.ALL;
+
+    /**
+     * For {@link Combinator#WEIGHTED_VOTE}, the share of the total
+     * {@link Decision#weight() weight} that must pass for the workflow to proceed,
+     * between 0 (exclusive) and 1 (inclusive). Ignored by the other combinators.
+     */
+    double threshold() default 0.5;
+
+    /**
+     * Ways of combining the results of concurrent decision methods.
+     */
+    enum Combinator {
+
+        /**
+         * The workflow proceeds if every decision passes. The first decision that
+         * stops the workflow ends the decision phase.
+         */
+        ALL,
+
+        /**
+         * The workflow proceeds if at least one decision passes. The first decision
+         * that passes ends the decision phase.
+         */
+        ANY,
+
+        /**
+         * The workflow proceeds if the weight of the passing decisions is at least
+         * {@link ConcurrentDecisions#threshold()} of the total weight. The decision
+         * phase ends as soon as the remaining decisions can no longer change the result.
+         */
+        WEIGHTED_VOTE
+    }
+}
@@ -0,0 +1,32 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+/**
+ * Destination for triggering events shed by an {@link Intake} stage configured with
+ * {@link Intake.Overflow#DEAD_LETTER}.
+ * <p>
+ * Applications provide an implementation as a CDI bean. The runtime calls it on the
+ * thread that fired the event, so implementations should return quickly, for example
+ * by writing to a message queue or a table for later replay.
+ */
+public interface DeadLetterStore {
+
+    /**
+     * Store an event that did not start a workflow.
+     *
+     * @param agentName the name of the agent the event was meant for
+     * @param event the triggering event
+     */
+    void store(String agentName, Object event);
+}
@@ -49,6 +49,18 @@ import java.lang.annotation.Target;
  *       stop the workflow</li>
  * </ul>
  * <p>
+ * Stopping the workflow is a normal outcome, not an error: the runtime ends the
+ * workflow with {@link WorkflowStatus#TERMINATED} and destroys its
+ * {@link WorkflowScoped} beans without invoking any {@link Action}, {@link Outcome} or
+ * {@link HandleException} method.
+ * <p>
+ * <b>Multiple decisions</b><br>
+ * An agent may declare several decision methods. By default they are evaluated one
+ * after the other and the first one that stops the workflow ends it. An agent
+ * annotated with {@link ConcurrentDecisions @ConcurrentDecisions} evaluates them
+ * concurrently and combines their results, using {@link #weight()} for a weighted
+ * vote.
+ * <p>
  * <b>Examples</b><br>
  * <pre>{@code
  * // Boolean return
@@ -90,6 +102,7 @@ import java.lang.annotation.Target;
  * }
  * }</pre>
  *
+ * @see ConcurrentDecisions
  * @see Trigger
  * @see Action
  * @see Outcome
@@ -97,4 +110,11 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Decision {
+
+    /**
+     * The weight of this decision in a
+     * {@link ConcurrentDecisions.Combinator#WEIGHTED_VOTE weighted vote}, must be
+     * positive. Ignored otherwise.
+     */
+    double weight() default 1.0;
 }
@@ -0,0 +1,94 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bounds how many workflows of an agent may be started by its {@link Trigger}.
+ * <p>
+ * Without this annotation, every matching CDI event starts a workflow immediately.
+ * With it, the runtime places an intake stage between event observation and workflow
+ * start. Events wait in a bounded queue, and at most {@link #maxInFlight()} workflows
+ * of the agent run at the same time. When the queue is full, the {@link #overflow()}
+ * policy decides what happens to the new event.
+ * <p>
+ * Runtimes should expose the queue depth and the time events spend waiting in the
+ * queue as metrics.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Agent
+ * @Intake(capacity = 500, maxInFlight = 32, overflow = Intake.Overflow.DEAD_LETTER)
+ * public class FraudDetectionAgent {
+ *
+ *     @Trigger
+ *     public void onTransaction(BankTransaction transaction) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see TriggerRejected
+ * @see DeadLetterStore
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Intake {
+
+    /**
+     * The maximum number of events waiting for a workflow to start.
+     */
+    int capacity() default 1024;
+
+    /**
+     * The maximum number of workflows of the agent running at the same time.
+     */
+    int maxInFlight() default 64;
+
+    /**
+     * What happens to an event that arrives while the queue is full.
+     */
+    Overflow overflow() default Overflow.BLOCK;
+
+    /**
+     * Overflow policies of the intake queue.
+     */
+    enum Overflow {
+
+        /**
+         * The thread firing the event blocks until the queue has room.
+         */
+        BLOCK,
+
+        /**
+         * The oldest waiting event is discarded to make room for the new one. A
+         * {@link TriggerRejected} event is fired for the discarded event.
+         */
+        DROP_OLDEST,
+
+        /**
+         * The new event is discarded and a {@link TriggerRejected} event is fired.
+         */
+        REJECT,
+
+        /**
+         * The new event is handed to the application's {@link DeadLetterStore}. If no
+         * store is available, the event is rejected as with {@link #REJECT}.
+         */
+        DEAD_LETTER
+    }
+}
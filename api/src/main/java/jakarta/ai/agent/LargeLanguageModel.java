@@ -19,6 +19,12 @@ package jakarta.ai.agent;
  * for querying LLMs with support for type conversion of parameters and results.
  * <p>
  * Implementations will delegate to external LLM APIs or services.
+ * <p>
+ * When called from a workflow, implementations honor its
+ * {@link WorkflowContext#getCancellationToken() cancellation token}: the remaining
+ * time until the deadline is used as the request timeout, and cancelling the workflow
+ * aborts the in-flight call, which then fails with {@link WorkflowCancelledException}
+ * or, when the deadline passed, {@link WorkflowTimeoutException}.
  */
 public interface LargeLanguageModel {
 
@@ -55,7 +61,9 @@ public interface LargeLanguageModel {
      * returning a String response.
      * <p>
      * The input objects may be domain objects, JSON, or other serializable types. 
-     * Implementations should handle conversion as needed.
+     * Implementations should handle conversion as needed. {@link Payload} inputs
+     * should be streamed into the request from off-heap memory rather than copied
+     * into a String.
      *
      * @param prompt The prompt or query.
      * @param inputs The input objects (e.g., domain objects, JSON, etc.).
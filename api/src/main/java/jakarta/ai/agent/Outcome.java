@@ -56,6 +56,8 @@ import java.lang.annotation.Target;
  *   <li>Marks the end of successful workflow execution</li>
  *   <li>The current workflow context will be destroyed by the container
  *       after outcome completion</li>
+ *   <li>For a {@link Batch} trigger, an outcome method that declares a parameter of the
+ *       batch element type is invoked once per element</li>
  * </ul>
  *
  * <p><b>Examples</b><br>
@@ -106,6 +108,7 @@ import java.lang.annotation.Target;
  * @see Action
  * @see Decision
  * @see Trigger
+ * @see Batch
  * @see WorkflowContext
  * @see LargeLanguageModel
  */
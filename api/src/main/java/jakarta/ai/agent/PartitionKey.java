@@ -0,0 +1,63 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the method that extracts the partition key of a triggering event, making the
+ * workflows of the agent run in key order.
+ * <p>
+ * The annotated method takes the trigger event as its only parameter and returns the
+ * key, for example the account identifier of a transaction. Workflows whose events
+ * have equal keys run one after another, in the order their events were fired; a
+ * workflow starts only when the previous workflow for the same key has ended.
+ * Workflows with different keys run in parallel.
+ * <p>
+ * The runtime hashes keys onto {@link #lanes()} serial lanes, so unrelated keys may
+ * share a lane and wait for each other. More lanes reduce such waiting at the cost of
+ * memory. A {@code null} key is allowed and maps to a fixed lane.
+ * <p>
+ * There MUST be at most one {@code @PartitionKey} method per agent class.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Agent
+ * public class FraudDetectionAgent {
+ *
+ *     @PartitionKey(lanes = 64)
+ *     public String account(BankTransaction transaction) {
+ *         return transaction.getAccountId();
+ *     }
+ *
+ *     @Trigger
+ *     public void onTransaction(BankTransaction transaction) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see Trigger
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PartitionKey {
+
+    /**
+     * The number of serial lanes keys are hashed onto.
+     */
+    int lanes() default 16;
+}
@@ -0,0 +1,300 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Handle to a large workflow payload kept outside the Java heap.
+ * <p>
+ * Diffs, documents and generated prompts can be megabytes in size and live for
+ * the whole duration of a workflow. Holding them as {@code String} keeps them on
+ * the heap, where they inflate garbage collection pauses. A payload copies the
+ * content once into direct memory; domain objects and {@link WorkflowContext}
+ * attributes then hold only the small handle.
+ * <p>
+ * Text is stored as UTF-8. The content can be read without copying it back onto
+ * the heap through {@link #asReadOnlyBuffer()}, {@link #openStream()},
+ * {@link #openReader()} or {@link #writeTo(WritableByteChannel)}.
+ * {@link LargeLanguageModel} implementations should stream payload inputs into
+ * the request this way rather than converting them to strings.
+ * <p>
+ * A payload is released with {@link #release()} (or {@link #close()}); afterwards
+ * any access fails with {@link IllegalStateException}. Payloads stored as
+ * {@link WorkflowContext} attributes are released by the runtime when the
+ * workflow ends. Payloads referenced only from domain objects must be released
+ * by the application, typically in the {@link Outcome @Outcome} method.
+ * Releasing drops the handle's reference to the direct memory; the memory itself
+ * is returned by the JVM once no buffer obtained from the payload is still in use.
+ * <p>
+ * Payloads are immutable and safe to read from multiple threads.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Trigger
+ * public void onPullRequest(PullRequest pr, WorkflowContext context) {
+ *     context.setAttribute("diff", Payload.of(pr.getDiff()));
+ * }
+ *
+ * @Decision
+ * public boolean needsDocs(WorkflowContext context, LargeLanguageModel llm) {
+ *     Payload diff = (Payload) context.getAttribute("diff");
+ *     return llm.query("Does this diff change a public API?", Boolean.class, diff);
+ * }
+ * }</pre>
+ */
+public final class Payload implements AutoCloseable {
+
+    private volatile ByteBuffer buffer;
+    private final long size;
+
+    private Payload(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.size = buffer.remaining();
+    }
+
+    /**
+     * Create a payload holding the UTF-8 encoding of the given text.
+     * <p>
+     * The text is encoded directly into off-heap memory without an intermediate
+     * byte array. Unpaired surrogates are replaced, as {@link String#getBytes} does.
+     *
+     * @param text the text, must not be {@code null}
+     * @return a new payload
+     */
+    public static Payload of(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        ByteBuffer target = ByteBuffer.allocateDirect(Math.toIntExact(utf8Length(text)));
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        encoder.encode(CharBuffer.wrap(text), target, true);
+        encoder.flush(target);
+        return new Payload(target.flip());
+    }
+
+    /**
+     * Create a payload holding a copy of the given bytes.
+     *
+     * @param bytes the content, must not be {@code null}
+     * @return a new payload
+     */
+    public static Payload of(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        return new Payload(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+    }
+
+    /**
+     * Create a payload holding the remaining content of the given stream.
+     * <p>
+     * The stream is read to its end but not closed.
+     *
+     * @param in the stream to read, must not be {@code null}
+     * @return a new payload
+     * @throws IOException if the stream cannot be read
+     */
+    public static Payload read(InputStream in) throws IOException {
+        Objects.requireNonNull(in, "in");
+        ByteBuffer target = ByteBuffer.allocateDirect(8192);
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            if (target.remaining() < read) {
+                ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(target.capacity() * 2, target.position() + read));
+                grown.put(target.flip());
+                target = grown;
+            }
+            target.put(chunk, 0, read);
+        }
+        target.flip();
+        if (target.capacity() - target.limit() > target.capacity() / 4) {
+            target = ByteBuffer.allocateDirect(target.limit()).put(target).flip();
+        }
+        return new Payload(target);
+    }
+
+    /**
+     * Get the size of the content in bytes.
+     *
+     * @return the content size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get a read-only view of the content.
+     * <p>
+     * The view shares the payload's off-heap memory; no content is copied.
+     *
+     * @return a new read-only buffer positioned at the start of the content
+     * @throws IllegalStateException if the payload has been released
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return content().asReadOnlyBuffer();
+    }
+
+    /**
+     * Open a stream over the content.
+     *
+     * @return a new input stream reading from off-heap memory
+     * @throws IllegalStateException if the payload has been released
+     */
+    public InputStream openStream() {
+        ByteBuffer view = content().duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                Objects.checkFromIndexSize(off, len, b.length);
+                if (len == 0) {
+                    return 0;
+                }
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(len, view.remaining());
+                view.get(b, off, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    /**
+     * Open a reader decoding the content as UTF-8.
+     *
+     * @return a new reader
+     * @throws IllegalStateException if the payload has been released
+     */
+    public Reader openReader() {
+        return new InputStreamReader(openStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write the content to a channel.
+     *
+     * @param channel the target channel
+     * @throws IOException if the content cannot be written
+     * @throws IllegalStateException if the payload has been released
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer view = content().duplicate();
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+
+    /**
+     * Write the content to a stream.
+     *
+     * @param out the target stream, which is not closed
+     * @throws IOException if the content cannot be written
+     * @throws IllegalStateException if the payload has been released
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        writeTo(Channels.newChannel(out));
+    }
+
+    /**
+     * Decode the content as a UTF-8 string.
+     * <p>
+     * This copies the whole content onto the heap and should be avoided for
+     * large payloads.
+     *
+     * @return the content as a string
+     * @throws IllegalStateException if the payload has been released
+     */
+    public String asString() {
+        return StandardCharsets.UTF_8.decode(content().duplicate()).toString();
+    }
+
+    /**
+     * Check whether this payload has been released.
+     *
+     * @return {@code true} once {@link #release()} has been called
+     */
+    public boolean isReleased() {
+        return buffer == null;
+    }
+
+    /**
+     * Drop this payload's reference to its off-heap buffer; the memory is reclaimed
+     * once the buffer is unreachable.
+     * <p>
+     * Calling this method more than once has no further effect.
+     */
+    public void release() {
+        buffer = null;
+    }
+
+    /**
+     * Same as {@link #release()}.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public String toString() {
+        return "Payload{size=" + size + (isReleased() ? ", released" : "") + "}";
+    }
+
+    private ByteBuffer content() {
+        ByteBuffer current = buffer;
+        if (current == null) {
+            throw new IllegalStateException("Payload has been released");
+        }
+        return current;
+    }
+
+    private static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
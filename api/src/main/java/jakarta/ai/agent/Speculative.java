@@ -0,0 +1,57 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows the runtime to start the first {@link Action @Action} method of an agent
+ * while its {@link Decision @Decision} methods are still running.
+ * <p>
+ * Speculation trades some wasted work for latency. It pays off when the decision lets
+ * most workflows proceed and the action starts with preparation, such as loading data
+ * the later steps need. If the decision lets the workflow proceed, the action result
+ * is used as if the action had run after it. If the decision stops the workflow, the
+ * action is cancelled through the {@link CancellationToken} of its workflow context,
+ * and its result or exception is discarded.
+ * <p>
+ * By annotating a method, the developer asserts that it is free of side effects. In
+ * particular it must not modify the {@link WorkflowContext} or send messages.
+ * A speculative action cannot receive decision results: its parameters are resolved
+ * from the trigger phase only, as described in {@link Action}. The annotation is
+ * ignored on any method other than the first action of the agent.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Action
+ * @Speculative
+ * public Customer loadCustomer(BankTransaction transaction) {
+ *     return customers.find(transaction.getCustomerId());
+ * }
+ *
+ * @Action
+ * public void handleFraud(Fraud fraud, BankTransaction transaction, Customer customer) {
+ *     alertCustomer(fraud, transaction, customer);
+ * }
+ * }</pre>
+ *
+ * @see Action
+ * @see Decision
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Speculative {
+}
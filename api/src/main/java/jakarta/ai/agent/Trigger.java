@@ -26,9 +26,10 @@ import java.lang.annotation.Target;
  * method's parameter type. The triggering event is automatically added to
  * the workflow context for access in subsequent phases.
  * <p>
- * While triggers are currently limited to CDI events, future versions may 
- * support other event sources, such as Jakarta Messaging messages, 
- * manual/programmatic workflow invocation, or REST POST requests.
+ * Workflows can also be started programmatically through the
+ * {@link WorkflowLauncher}, which passes the given event to the trigger method.
+ * Future versions may support other event sources, such as Jakarta Messaging
+ * messages or REST POST requests.
  * <p>
  * Currently, there MUST be only one {@code @Trigger} method per agent class.
  * This constraint will be relaxed in future versions to support multiple 
@@ -58,6 +59,12 @@ import java.lang.annotation.Target;
  *   <li>Invoked when a CDI event matching the trigger parameter is fired</li>
  *   <li>First phase of workflow execution - creates a new workflow context</li>
  *   <li>The triggering event is automatically stored in {@link WorkflowContext}</li>
+ *   <li>If the trigger method is annotated with {@link Batch}, it receives a
+ *       {@code List} of matching events and one workflow processes the whole batch</li>
+ *   <li>If the agent declares a {@link PartitionKey} method, workflows for events with
+ *       equal keys run one after another</li>
+ *   <li>If the agent is annotated with {@link Intake}, the event may wait in a bounded
+ *       queue before the workflow starts, or be discarded when the queue is full</li>
  * </ul>
  * <p>
  * <b>Examples</b><br>
@@ -122,6 +129,8 @@ import java.lang.annotation.Target;
  * @see Outcome
  * @see WorkflowContext
  * @see LargeLanguageModel
+ * @see Intake
+ * @see Batch
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
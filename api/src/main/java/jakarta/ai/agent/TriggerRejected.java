@@ -0,0 +1,31 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+/**
+ * CDI event fired by the runtime when an event is discarded by the {@link Intake}
+ * stage of an agent instead of starting a workflow.
+ * <p>
+ * Applications may observe this event to log, count or re-submit discarded events.
+ *
+ * <pre>{@code
+ * public void onRejected(@Observes TriggerRejected rejected) {
+ *     logger.warning("Dropped " + rejected.event() + " for " + rejected.agentName());
+ * }
+ * }</pre>
+ *
+ * @param agentName the name of the agent that did not start a workflow
+ * @param event the discarded triggering event
+ * @param overflow the overflow policy that discarded the event
+ */
+public record TriggerRejected(String agentName, Object event, Intake.Overflow overflow) {}
@@ -0,0 +1,44 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Exception thrown when work is attempted for a workflow that has been cancelled.
+ * <p>
+ * It is thrown by {@link CancellationToken#throwIfCancelled()} and by
+ * {@link LargeLanguageModel} implementations whose in-flight call was aborted. It
+ * extends {@link CancellationException}, so the result stage of the workflow's
+ * {@link WorkflowHandle} fails with it as with any other cancellation.
+ */
+public class WorkflowCancelledException extends CancellationException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new workflow cancelled exception with null as its detail message.
+     */
+    public WorkflowCancelledException() {
+        super();
+    }
+
+    /**
+     * Constructs a new workflow cancelled exception with the specified detail message.
+     *
+     * @param message The detail message.
+     */
+    public WorkflowCancelledException(String message) {
+        super(message);
+    }
+}
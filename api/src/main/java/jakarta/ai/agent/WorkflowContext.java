@@ -28,6 +28,22 @@ import java.util.Set;
  * <p>
  * The workflow context can be included as a parameter in annotated agent
  * life-cycle methods, or injected via @Inject into the agent class.
+ * <p>
+ * Large content such as diffs or documents should be stored as a {@link Payload}
+ * rather than a {@code String}, to keep it off the heap. Payload attributes are
+ * released by the runtime when the workflow ends.
+ * <p>
+ * Runtimes may limit the approximate memory retained by the attributes of a
+ * workflow. Storing an attribute that would exceed the limit throws
+ * {@link WorkflowMemoryExceededException}.
+ * <p>
+ * Phases of a workflow may run on different threads, and some of them concurrently, so
+ * implementations must be thread-safe. A value stored by one thread is visible, fully
+ * constructed, to threads that retrieve it afterwards; concurrent updates of different
+ * attributes are not lost; and iterating over {@link #getAttributeNames()} while
+ * attributes are added or removed never throws
+ * {@link java.util.ConcurrentModificationException}. The values themselves are not
+ * made thread-safe by being stored in the context.
  *
  * <h2>Example Usage</h2>
  * <pre>{@code
@@ -62,6 +78,8 @@ public interface WorkflowContext {
      * @param name the attribute name, must not be {@code null}
      * @param value the attribute value
      * @throws IllegalArgumentException if name is {@code null}
+     * @throws WorkflowMemoryExceededException if the runtime limits context memory
+     *         and the attribute cannot be stored within the limit
      */
     void setAttribute(String name, Object value);
 
@@ -98,4 +116,41 @@ public interface WorkflowContext {
      * @return the trigger event object, or {@code null} if not set
      */
     Object getTriggerEvent();
+
+    /**
+     * Get the scheduling priority of this workflow.
+     * <p>
+     * The default implementation returns {@link WorkflowPriority#MEDIUM}, for runtimes
+     * that do not schedule by priority.
+     *
+     * @return the current priority, never {@code null}
+     */
+    default WorkflowPriority getPriority() {
+        return WorkflowPriority.MEDIUM;
+    }
+
+    /**
+     * Raise the scheduling priority of this workflow.
+     * <p>
+     * The new priority applies to the phases and LLM calls the workflow schedules
+     * from now on. If the workflow already has the given or a higher priority, this
+     * method does nothing. The default implementation does nothing, for runtimes
+     * that do not schedule by priority.
+     *
+     * @param priority the requested priority, must not be {@code null}
+     */
+    default void raisePriority(WorkflowPriority priority) {
+    }
+
+    /**
+     * Get the cancellation token and deadline of this workflow.
+     * <p>
+     * The default implementation returns {@link CancellationToken#none()}, for runtimes
+     * that do not support cancellation.
+     *
+     * @return the cancellation token, never {@code null}
+     */
+    default CancellationToken getCancellationToken() {
+        return CancellationToken.none();
+    }
 }
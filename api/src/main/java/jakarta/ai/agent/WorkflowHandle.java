@@ -0,0 +1,83 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Handle on a workflow started through a {@link WorkflowLauncher}.
+ * <p>
+ * The {@link #getResult() result} stage completes when the workflow ends:
+ * <ul>
+ *   <li>normally, with the value returned by the last trigger, decision or action
+ *       method that returned a value, or {@code null}, when the workflow
+ *       {@link WorkflowStatus#COMPLETED completes} or is
+ *       {@link WorkflowStatus#TERMINATED terminated} by a decision</li>
+ *   <li>exceptionally, with the exception that failed the workflow, once its
+ *       {@link HandleException} methods have been invoked</li>
+ *   <li>exceptionally, with a {@link java.util.concurrent.CancellationException},
+ *       when the workflow is {@link #cancel() cancelled}</li>
+ * </ul>
+ *
+ * @param <R> the result type
+ */
+public interface WorkflowHandle<R> {
+
+    /**
+     * Get the identifier of the workflow.
+     *
+     * @return the workflow identifier
+     */
+    String getWorkflowId();
+
+    /**
+     * Get the name of the agent running the workflow.
+     *
+     * @return the agent name
+     */
+    String getAgentName();
+
+    /**
+     * Get the time the workflow was submitted to the launcher.
+     *
+     * @return the submission time
+     */
+    Instant getStartTime();
+
+    /**
+     * Get the current status of the workflow.
+     *
+     * @return the status, never {@code null}
+     */
+    WorkflowStatus getStatus();
+
+    /**
+     * Get the stage completed when the workflow ends.
+     *
+     * @return the result stage
+     */
+    CompletionStage<R> getResult();
+
+    /**
+     * Request cancellation of the workflow.
+     * <p>
+     * A pending workflow never starts. A running workflow stops at the next point where
+     * the runtime or its phases check for cancellation, and the result stage fails with
+     * a {@link java.util.concurrent.CancellationException} immediately.
+     *
+     * @return {@code true} if the workflow was cancelled by this call, {@code false} if
+     *         it had already ended
+     */
+    boolean cancel();
+}
@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Starts agent workflows programmatically, without firing a CDI event.
+ * <p>
+ * The runtime provides an implementation as a CDI bean that applications inject.
+ * A workflow started through the launcher behaves as if its trigger event had been
+ * fired: it passes through the agent's {@link Intake} and {@link AgentLimits}, and its
+ * {@link Trigger} method receives the event.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * @Inject
+ * WorkflowLauncher launcher;
+ *
+ * public void replay(List<BankTransaction> transactions) {
+ *     launcher.startAll("fraudDetectionAgent", transactions.stream(), 16)
+ *             .toCompletableFuture()
+ *             .join();
+ * }
+ *
+ * public Result check(BankTransaction transaction) {
+ *     WorkflowHandle<Object> handle = launcher.start(FraudDetectionAgent.class, transaction);
+ *     return (Result) handle.getResult().toCompletableFuture().join();
+ * }
+ * }</pre>
+ *
+ * @see WorkflowHandle
+ */
+public interface WorkflowLauncher {
+
+    /**
+     * Start a workflow of the named agent.
+     *
+     * @param agentName the agent name, see {@link Agent#name()}
+     * @param triggerEvent the event passed to the {@link Trigger} method
+     * @return a handle on the workflow
+     * @throws IllegalArgumentException if there is no such agent, or its trigger does
+     *         not accept the event
+     */
+    WorkflowHandle<Object> start(String agentName, Object triggerEvent);
+
+    /**
+     * Start a workflow of the given agent class.
+     *
+     * @param agentClass the agent class
+     * @param triggerEvent the event passed to the {@link Trigger} method
+     * @return a handle on the workflow
+     * @throws IllegalArgumentException if the class is not an agent, or its trigger does
+     *         not accept the event
+     */
+    WorkflowHandle<Object> start(Class<?> agentClass, Object triggerEvent);
+
+    /**
+     * Start one workflow per event of a stream, with backpressure.
+     * <p>
+     * The stream is consumed lazily: the next event is taken only when fewer than
+     * {@code maxInFlight} workflows started by this call are running, so arbitrarily
+     * long streams can be processed in bounded memory. Failed or terminated workflows
+     * do not stop the remaining events; inspect them through {@code onStart}.
+     *
+     * @param agentName the agent name, see {@link Agent#name()}
+     * @param triggerEvents the events
+     * @param maxInFlight the maximum number of workflows of this call running at a time
+     * @param onStart receives the handle of every started workflow
+     * @return a stage completed with the number of started workflows once all of them
+     *         have ended, or failed if the stream itself fails
+     */
+    CompletionStage<Long> startAll(String agentName, Stream<?> triggerEvents, int maxInFlight,
+                                   Consumer<? super WorkflowHandle<Object>> onStart);
+
+    /**
+     * Start one workflow per event of a stream, with backpressure.
+     *
+     * @param agentName the agent name, see {@link Agent#name()}
+     * @param triggerEvents the events
+     * @param maxInFlight the maximum number of workflows of this call running at a time
+     * @return a stage completed with the number of started workflows once all of them
+     *         have ended, or failed if the stream itself fails
+     * @see #startAll(String, Stream, int, Consumer)
+     */
+    default CompletionStage<Long> startAll(String agentName, Stream<?> triggerEvents, int maxInFlight) {
+        return startAll(agentName, triggerEvents, maxInFlight, handle -> { });
+    }
+}
@@ -0,0 +1,62 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+/**
+ * Runtime exception thrown when storing an attribute in a {@link WorkflowContext}
+ * would exceed the memory budget of the workflow or of the runtime.
+ * <p>
+ * Runtimes may limit the approximate amount of memory that the attributes of a
+ * single workflow, or of all workflows together, may retain. Depending on the
+ * runtime configuration, exceeding a limit either rejects the attribute, moves it
+ * out of memory, or fails the workflow. When the workflow fails, this exception is
+ * dispatched to {@link HandleException} annotated methods like any other exception.
+ */
+public class WorkflowMemoryExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long requestedBytes;
+    private final long limitBytes;
+
+    /**
+     * Constructs a new exception with the specified detail message and sizes.
+     *
+     * @param message The detail message.
+     * @param requestedBytes The approximate size of the attribute that could not be stored.
+     * @param limitBytes The limit that would have been exceeded.
+     */
+    public WorkflowMemoryExceededException(String message, long requestedBytes, long limitBytes) {
+        super(message);
+        this.requestedBytes = requestedBytes;
+        this.limitBytes = limitBytes;
+    }
+
+    /**
+     * Get the approximate size of the attribute that could not be stored.
+     *
+     * @return The requested size in bytes.
+     */
+    public long getRequestedBytes() {
+        return requestedBytes;
+    }
+
+    /**
+     * Get the limit that would have been exceeded.
+     *
+     * @return The limit in bytes.
+     */
+    public long getLimitBytes() {
+        return limitBytes;
+    }
+}
@@ -0,0 +1,67 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+import java.util.Locale;
+
+/**
+ * Scheduling priority of a workflow.
+ * <p>
+ * When workflows compete for threads or LLM capacity, runtimes that support
+ * priorities serve higher classes more often, while still guaranteeing progress
+ * to lower classes. Every workflow starts at {@link #MEDIUM} unless configured
+ * otherwise, and its phases may raise the priority through
+ * {@link WorkflowContext#raisePriority(WorkflowPriority)}, for example when a
+ * decision finds that a transaction is likely fraudulent.
+ */
+public enum WorkflowPriority {
+
+    /**
+     * Latency-critical work, such as fraud alerts.
+     */
+    HIGH,
+
+    /**
+     * Regular work.
+     */
+    MEDIUM,
+
+    /**
+     * Bulk or background work, such as documentation generation.
+     */
+    LOW;
+
+    /**
+     * Check whether this priority is higher than another.
+     *
+     * @param other the other priority
+     * @return {@code true} if this priority is served before {@code other}
+     */
+    public boolean isHigherThan(WorkflowPriority other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Parse a priority name, ignoring case, such as {@code "high"}.
+     *
+     * @param name the priority name
+     * @return the priority
+     * @throws IllegalArgumentException if the name is not a priority
+     */
+    public static WorkflowPriority parse(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Priority name must not be null");
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -34,6 +34,14 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * <p>
  * This scope is particularly useful for sharing state across different phases
  * of a workflow execution without requiring explicit parameter passing.
+ * <p>
+ * Phases of the same workflow may run concurrently on different threads. The scope
+ * creates at most one instance of a bean per workflow, even when the instance is
+ * first requested by several phases at once, and destroys every instance exactly once
+ * when the workflow ends. Once the workflow has ended, the scope is no longer active
+ * and further requests fail with
+ * {@link jakarta.enterprise.context.ContextNotActiveException}. The beans themselves
+ * must guard their state if phases can use them concurrently.
  *
  * <h2>Example Usage</h2>
  * <pre>{@code
@@ -0,0 +1,60 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+/**
+ * Status of a workflow started through a {@link WorkflowLauncher}.
+ */
+public enum WorkflowStatus {
+
+    /**
+     * The workflow is waiting to start, for example in an {@link Intake} queue or
+     * for a slot of its agent's {@link AgentLimits}.
+     */
+    PENDING,
+
+    /**
+     * The workflow is executing its phases.
+     */
+    RUNNING,
+
+    /**
+     * The workflow ran its outcome phase.
+     */
+    COMPLETED,
+
+    /**
+     * A {@link Decision} method stopped the workflow before its actions.
+     */
+    TERMINATED,
+
+    /**
+     * The workflow ended with an exception, after its {@link HandleException}
+     * methods were invoked.
+     */
+    FAILED,
+
+    /**
+     * The workflow was cancelled before it ended.
+     */
+    CANCELLED;
+
+    /**
+     * Check whether the workflow has ended.
+     *
+     * @return {@code true} for every status except {@link #PENDING} and {@link #RUNNING}
+     */
+    public boolean isDone() {
+        return this != PENDING && this != RUNNING;
+    }
+}
@@ -0,0 +1,52 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent;
+
+/**
+ * Runtime exception thrown when a workflow phase, or a whole workflow, exceeds the
+ * timeout configured by {@link AgentLimits}, or when work is attempted after the
+ * deadline of its {@link CancellationToken}.
+ * <p>
+ * As a runtime exception, it does not require explicit handling but can be
+ * caught by {@link HandleException} annotated methods in agent workflows.
+ */
+public class WorkflowTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new workflow timeout exception with null as its detail message.
+     */
+    public WorkflowTimeoutException() {
+        super();
+    }
+
+    /**
+     * Constructs a new workflow timeout exception with the specified detail message.
+     *
+     * @param message The detail message.
+     */
+    public WorkflowTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new workflow timeout exception with the specified detail message and cause.
+     *
+     * @param message The detail message.
+     * @param cause The cause (which is saved for later retrieval by the {@link #getCause()} method).
+     */
+    public WorkflowTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
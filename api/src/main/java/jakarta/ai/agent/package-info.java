@@ -29,12 +29,22 @@
  *   <li>{@link jakarta.ai.agent.Action @Action} - Marks an action execution step</li>
  *   <li>{@link jakarta.ai.agent.Outcome @Outcome} - Marks the workflow outcome phase</li>
  *   <li>{@link jakarta.ai.agent.HandleException @HandleException} - Marks an exception handler</li>
+ *   <li>{@link jakarta.ai.agent.Batch @Batch} - Starts one workflow per batch of trigger events</li>
+ *   <li>{@link jakarta.ai.agent.PartitionKey @PartitionKey} - Orders the workflows of an agent by event key</li>
+ *   <li>{@link jakarta.ai.agent.AgentLimits @AgentLimits} - Concurrency, timeout and executor limits of an agent</li>
+ *   <li>{@link jakarta.ai.agent.Intake @Intake} - Bounds the workflows started by an agent's trigger</li>
+ *   <li>{@link jakarta.ai.agent.ConcurrentDecisions @ConcurrentDecisions} - Evaluates the decisions of an agent concurrently</li>
+ *   <li>{@link jakarta.ai.agent.Speculative @Speculative} - Starts a side-effect-free first action during the decision phase</li>
  * </ul>
  *
  * <h3>Core Interfaces</h3>
  * <ul>
  *   <li>{@link jakarta.ai.agent.WorkflowContext} - Manages workflow state and context</li>
  *   <li>{@link jakarta.ai.agent.LargeLanguageModel} - Facade for LLM operations</li>
+ *   <li>{@link jakarta.ai.agent.WorkflowLauncher} - Starts workflows programmatically</li>
+ *   <li>{@link jakarta.ai.agent.WorkflowHandle} - Status, result and cancellation of a started workflow</li>
+ *   <li>{@link jakarta.ai.agent.CancellationToken} - Cooperative cancellation and deadline of a workflow</li>
+ *   <li>{@link jakarta.ai.agent.DeadLetterStore} - Destination for events shed by an intake stage</li>
  * </ul>
  *
  * <h3>CDI Integration</h3>
@@ -45,7 +55,13 @@
  * <h3>Data Models</h3>
  * <ul>
  *   <li>{@link jakarta.ai.agent.Result} - Standardized decision outcome record</li>
+ *   <li>{@link jakarta.ai.agent.WorkflowStatus} - Status of a started workflow</li>
+ *   <li>{@link jakarta.ai.agent.WorkflowPriority} - Scheduling priority class of a workflow</li>
+ *   <li>{@link jakarta.ai.agent.Payload} - Off-heap handle for large workflow content</li>
+ *   <li>{@link jakarta.ai.agent.TriggerRejected} - Event fired when an intake stage discards an event</li>
  *   <li>{@link jakarta.ai.agent.LLMException} - Runtime exception for LLM operation failures</li>
+ *   <li>{@link jakarta.ai.agent.WorkflowCancelledException} - Exception for work on a cancelled workflow</li>
+ *   <li>{@link jakarta.ai.agent.WorkflowTimeoutException} - Runtime exception for exceeded agent timeouts</li>
  * </ul>
  *
  * <h2>Workflow Execution Model</h2>
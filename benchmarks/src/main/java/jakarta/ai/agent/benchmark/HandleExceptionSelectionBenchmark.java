@@ -0,0 +1,121 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.HandleException;
+import jakarta.ai.agent.LLMException;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.WorkflowTimeoutException;
+import jakarta.ai.agent.runtime.dispatch.AgentMethods;
+import jakarta.ai.agent.runtime.dispatch.ExceptionHandlers;
+import jakarta.ai.agent.runtime.dispatch.PhaseMethod;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the selection of the most specific
+ * {@link HandleException @HandleException} method for a thrown exception.
+ * <ul>
+ *   <li>{@code select} - the selection cached per exception class, the steady state.</li>
+ *   <li>{@code selectUncached} - a fresh selector for every exception, which scans the
+ *       handlers and walks the exception hierarchy.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HandleExceptionSelectionBenchmark {
+
+    ExceptionHandlers handlers;
+    List<PhaseMethod> handlerMethods;
+    Exception[] exceptions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handlers = AgentMethods.of(HandlingAgent.class).getExceptionHandlers();
+        handlerMethods = handlers.getHandlers();
+        exceptions = new Exception[] {
+                new FileNotFoundException(),
+                new LLMException("rate limited"),
+                new WorkflowTimeoutException("too slow"),
+                new IllegalStateException(),
+                new UncheckedIOException(new IOException()),
+                new InterruptedException()
+        };
+    }
+
+    private Exception randomException() {
+        return exceptions[ThreadLocalRandom.current().nextInt(exceptions.length)];
+    }
+
+    @Benchmark
+    public Optional<PhaseMethod> select() {
+        return handlers.select(randomException());
+    }
+
+    @Benchmark
+    public Optional<PhaseMethod> selectUncached() {
+        return new ExceptionHandlers(handlerMethods).select(randomException());
+    }
+
+    /**
+     * Agent with handlers at several levels of the exception hierarchy.
+     */
+    public static class HandlingAgent {
+
+        @HandleException
+        void onException(Exception e, WorkflowContext context) {
+        }
+
+        @HandleException
+        void onRuntimeException(RuntimeException e) {
+        }
+
+        @HandleException
+        void onIOException(IOException e, WorkflowContext context) {
+        }
+
+        @HandleException
+        void onUncheckedIOException(UncheckedIOException e) {
+        }
+
+        @HandleException
+        void onLLMException(LLMException e, WorkflowContext context) {
+        }
+
+        @HandleException
+        void onTimeout(WorkflowTimeoutException e) {
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.Action;
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.example.frauddetection.BankTransaction;
+import jakarta.ai.agent.example.frauddetection.Customer;
+import jakarta.ai.agent.example.frauddetection.Fraud;
+import jakarta.ai.agent.runtime.context.DefaultWorkflowContext;
+import jakarta.ai.agent.runtime.dispatch.PhaseMethod;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of resolving and injecting the parameters of a lifecycle method.
+ * <ul>
+ *   <li>{@code phaseMethod} - a prepared {@link PhaseMethod}, as the runtime invokes phases.</li>
+ *   <li>{@code reflection} - {@link Method#invoke(Object, Object...)} with the parameter
+ *       types looked up on every call, the naive baseline.</li>
+ *   <li>{@code direct} - a direct call with the same arguments, the lower bound.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterInjectionBenchmark {
+
+    TargetAgent agent;
+    PhaseValues values;
+    PhaseMethod phaseMethod;
+    Method method;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        LargeLanguageModel model = new StubLargeLanguageModel(0);
+        agent = new TargetAgent();
+        values = new PhaseValues(new DefaultWorkflowContext("injection", null), model);
+        values.add(new BankTransaction());
+        values.add(new Fraud());
+        values.add(new Customer());
+        method = TargetAgent.class.getDeclaredMethod("handle",
+                Fraud.class, BankTransaction.class, Customer.class, WorkflowContext.class, LargeLanguageModel.class);
+        phaseMethod = PhaseMethod.of(method);
+    }
+
+    @Benchmark
+    public Object phaseMethod() throws Exception {
+        return phaseMethod.invoke(agent, values);
+    }
+
+    @Benchmark
+    public Object reflection() throws ReflectiveOperationException {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = values.resolve(types[i]);
+        }
+        return method.invoke(agent, arguments);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return agent.handle((Fraud) values.resolve(Fraud.class), (BankTransaction) values.resolve(BankTransaction.class),
+                (Customer) values.resolve(Customer.class), (WorkflowContext) values.resolve(WorkflowContext.class),
+                (LargeLanguageModel) values.resolve(LargeLanguageModel.class));
+    }
+
+    /**
+     * Agent with an action taking domain objects and runtime-provided parameters.
+     */
+    public static class TargetAgent {
+
+        @Action
+        public Customer handle(Fraud fraud, BankTransaction transaction, Customer customer,
+                               WorkflowContext context, LargeLanguageModel model) {
+            return customer;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+import jakarta.ai.agent.runtime.metrics.WorkflowMetrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of recording a lifecycle method invocation in its
+ * {@link PhaseMetrics}, as added to every phase by the built-in instrumentation.
+ * <ul>
+ *   <li>{@code record} - one thread recording.</li>
+ *   <li>{@code recordContended} - four threads recording into the same metrics, as
+ *       concurrent workflows of one agent do.</li>
+ * </ul>
+ * Run with {@code -prof gc} to confirm that recording does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PhaseMetricsRecordingBenchmark {
+
+    PhaseMetrics metrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        metrics = new WorkflowMetrics().phase("FraudDetectionAgent", Phase.DECISION, "checkFraud");
+    }
+
+    @Benchmark
+    public void record() {
+        metrics.recordInvocation(ThreadLocalRandom.current().nextLong(1_000, 10_000_000));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        metrics.recordInvocation(ThreadLocalRandom.current().nextLong(1_000, 10_000_000));
+    }
+}
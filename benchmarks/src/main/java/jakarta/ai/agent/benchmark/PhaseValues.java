@@ -0,0 +1,62 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.runtime.dispatch.ParameterResolver;
+
+import java.util.Arrays;
+
+/**
+ * The values produced by the phases of one workflow, resolved by type the way a
+ * runtime injects lifecycle method parameters. Later values win over earlier ones.
+ */
+final class PhaseValues implements ParameterResolver {
+
+    private final WorkflowContext context;
+    private final LargeLanguageModel model;
+    private Object[] values = new Object[4];
+    private int size;
+
+    PhaseValues(WorkflowContext context, LargeLanguageModel model) {
+        this.context = context;
+        this.model = model;
+    }
+
+    void add(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public Object resolve(Class<?> type) {
+        if (type == WorkflowContext.class) {
+            return context;
+        }
+        if (type == LargeLanguageModel.class) {
+            return model;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (type.isInstance(values[i])) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+}
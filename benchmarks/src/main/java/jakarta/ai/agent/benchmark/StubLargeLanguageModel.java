@@ -0,0 +1,81 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.LargeLanguageModel;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link LargeLanguageModel} that answers instantly, so that benchmarks measure the
+ * runtime rather than a model.
+ * <p>
+ * Every query answers {@code "fraud"} with the given probability and
+ * {@code "legitimate"} otherwise, which lets a benchmark choose how many workflows of
+ * {@code FraudDetectionAgent} proceed past their decision.
+ */
+public final class StubLargeLanguageModel implements LargeLanguageModel {
+
+    private final double positiveRatio;
+
+    /**
+     * Create a stub model.
+     *
+     * @param positiveRatio the probability of answering {@code "fraud"}, between 0 and 1
+     */
+    public StubLargeLanguageModel(double positiveRatio) {
+        this.positiveRatio = positiveRatio;
+    }
+
+    private String answer() {
+        return ThreadLocalRandom.current().nextDouble() < positiveRatio ? "fraud" : "legitimate";
+    }
+
+    @Override
+    public String query(String prompt) {
+        return answer();
+    }
+
+    @Override
+    public <T> T query(String prompt, Class<T> resultType) {
+        return convert(answer(), resultType);
+    }
+
+    @Override
+    public String query(String prompt, Object... inputs) {
+        return answer();
+    }
+
+    @Override
+    public <T> T query(String prompt, Class<T> resultType, Object... inputs) {
+        return convert(answer(), resultType);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> implClass) {
+        if (implClass.isInstance(this)) {
+            return implClass.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + implClass);
+    }
+
+    private static <T> T convert(String answer, Class<T> resultType) {
+        if (resultType == String.class) {
+            return resultType.cast(answer);
+        }
+        if (resultType == Boolean.class) {
+            return resultType.cast(answer.equals("fraud"));
+        }
+        throw new IllegalArgumentException("Unsupported result type " + resultType);
+    }
+}
@@ -0,0 +1,95 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.runtime.context.DefaultWorkflowContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DefaultWorkflowContext} attribute access while several phases of
+ * the same workflow use the context concurrently.
+ * <ul>
+ *   <li>{@code mostlyReads} - three threads read while one writes, as when concurrent
+ *       decisions read the trigger results.</li>
+ *   <li>{@code writes} - four threads write distinct and shared attributes.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkflowContextContentionBenchmark {
+
+    @State(Scope.Group)
+    public static class SharedContext {
+
+        @Param("16")
+        int attributes;
+
+        DefaultWorkflowContext context;
+        String[] names;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            context = new DefaultWorkflowContext("contention", null);
+            names = new String[attributes];
+            for (int i = 0; i < attributes; i++) {
+                names[i] = "attribute-" + i;
+                context.setAttribute(names[i], i);
+            }
+        }
+
+        String randomName() {
+            return names[ThreadLocalRandom.current().nextInt(names.length)];
+        }
+    }
+
+    @Benchmark
+    @Group("mostlyReads")
+    @GroupThreads(3)
+    public Object read(SharedContext shared) {
+        return shared.context.getAttribute(shared.randomName());
+    }
+
+    @Benchmark
+    @Group("mostlyReads")
+    @GroupThreads(1)
+    public void readersWriter(SharedContext shared) {
+        shared.context.setAttribute(shared.randomName(), ThreadLocalRandom.current().nextInt());
+    }
+
+    @Benchmark
+    @Group("writes")
+    @GroupThreads(4)
+    public void write(SharedContext shared) {
+        shared.context.setAttribute(shared.randomName(), ThreadLocalRandom.current().nextInt());
+    }
+}
@@ -0,0 +1,73 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.WorkflowStatus;
+import jakarta.ai.agent.example.frauddetection.BankTransaction;
+import jakarta.ai.agent.example.frauddetection.FraudDetectionAgent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a complete workflow of the {@code FraudDetectionAgent} example, from trigger
+ * to outcome, with a {@link StubLargeLanguageModel} so that only the runtime is measured.
+ * <p>
+ * {@code fraudRatio} is the share of transactions the model reports as fraud. At
+ * {@code 0.02} almost every workflow terminates at its decision, which is the common
+ * production case; at {@code 1.0} every workflow runs its action and outcome.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkflowDispatchBenchmark {
+
+    @Param({"0.02", "1.0"})
+    double fraudRatio;
+
+    WorkflowDriver driver;
+    BankTransaction transaction;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        LargeLanguageModel model = new StubLargeLanguageModel(fraudRatio);
+        FraudDetectionAgent agent = new FraudDetectionAgent();
+        Field field = FraudDetectionAgent.class.getDeclaredField("model");
+        field.setAccessible(true);
+        field.set(agent, model);
+        driver = new WorkflowDriver(agent, model);
+        transaction = new BankTransaction();
+    }
+
+    @Benchmark
+    public WorkflowStatus dispatch() throws Exception {
+        return driver.run("fraud-detection", transaction);
+    }
+}
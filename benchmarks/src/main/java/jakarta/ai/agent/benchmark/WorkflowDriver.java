@@ -0,0 +1,83 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.Result;
+import jakarta.ai.agent.WorkflowStatus;
+import jakarta.ai.agent.runtime.context.DefaultWorkflowContext;
+import jakarta.ai.agent.runtime.decision.DecisionGate;
+import jakarta.ai.agent.runtime.dispatch.AgentMethods;
+import jakarta.ai.agent.runtime.dispatch.PhaseMethod;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeContext;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeStore;
+
+/**
+ * Runs a workflow of an agent from trigger to outcome on the calling thread, with the
+ * runtime building blocks a container composes: {@link AgentMethods} for invocation,
+ * {@link DefaultWorkflowContext}, a {@link WorkflowScopeStore} and a
+ * {@link DecisionGate}.
+ */
+final class WorkflowDriver {
+
+    private final Object agent;
+    private final AgentMethods methods;
+    private final LargeLanguageModel model;
+    private final WorkflowScopeContext scopeContext = new WorkflowScopeContext();
+    private final DecisionGate gate = new DecisionGate();
+
+    WorkflowDriver(Object agent, LargeLanguageModel model) {
+        this.agent = agent;
+        this.methods = AgentMethods.of(agent.getClass());
+        this.model = model;
+    }
+
+    DecisionGate getGate() {
+        return gate;
+    }
+
+    WorkflowStatus run(String workflowId, Object event) throws Exception {
+        DefaultWorkflowContext context = new DefaultWorkflowContext(workflowId, event);
+        WorkflowScopeStore store = scopeContext.newStore(workflowId);
+        WorkflowScopeStore previous = scopeContext.activate(store);
+        PhaseValues values = new PhaseValues(context, model);
+        values.add(event);
+        try {
+            for (PhaseMethod trigger : methods.getTriggers()) {
+                values.add(trigger.invoke(agent, values));
+            }
+            Object decision = Boolean.TRUE;
+            for (PhaseMethod method : methods.getDecisions()) {
+                decision = method.invoke(agent, values);
+                if (!DecisionGate.proceeds(decision)) {
+                    break;
+                }
+                values.add(decision instanceof Result ? ((Result) decision).details() : decision);
+            }
+            if (!gate.proceed(decision, store, null)) {
+                return WorkflowStatus.TERMINATED;
+            }
+            for (PhaseMethod action : methods.getActions()) {
+                values.add(action.invoke(agent, values));
+            }
+            for (PhaseMethod outcome : methods.getOutcomes()) {
+                outcome.invoke(agent, values);
+            }
+            return WorkflowStatus.COMPLETED;
+        } finally {
+            scopeContext.restore(previous);
+            store.destroy();
+            context.end();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.runtime.introspection.AgentOccupancy;
+import jakarta.ai.agent.runtime.introspection.PhaseOccupancy;
+import jakarta.ai.agent.runtime.introspection.WorkflowCursor;
+import jakarta.ai.agent.runtime.introspection.WorkflowRegistry;
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link WorkflowRegistry} with many workflows in flight, spread over the
+ * phases of two agents.
+ * <ul>
+ *   <li>{@code enterPhase} - moving a workflow cursor to another phase, as the runtime
+ *       does before every lifecycle method.</li>
+ *   <li>{@code enterPhaseContended} - the same from four threads.</li>
+ *   <li>{@code scrape} - reading the per-agent and per-phase aggregates, which must not
+ *       depend on the number of workflows.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkflowRegistryBenchmark {
+
+    private static final Phase[] PHASES = {Phase.TRIGGER, Phase.DECISION, Phase.ACTION, Phase.OUTCOME};
+
+    @Param({"1000", "100000"})
+    int workflows;
+
+    WorkflowRegistry registry;
+    WorkflowCursor[] cursors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new WorkflowRegistry();
+        cursors = new WorkflowCursor[workflows];
+        for (int i = 0; i < workflows; i++) {
+            cursors[i] = registry.register(i % 2 == 0 ? "FraudDetectionAgent" : "SupportAgent", "workflow-" + i);
+            cursors[i].enter(PHASES[i % PHASES.length], "method");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (WorkflowCursor cursor : cursors) {
+            cursor.close();
+        }
+    }
+
+    @Benchmark
+    public void enterPhase() {
+        enterRandomPhase();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void enterPhaseContended() {
+        enterRandomPhase();
+    }
+
+    @Benchmark
+    public long scrape() {
+        List<AgentOccupancy> agents = registry.getAgents();
+        List<PhaseOccupancy> phases = registry.getPhases();
+        return agents.size() + phases.size() + registry.getInFlightWorkflows();
+    }
+
+    private void enterRandomPhase() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        cursors[random.nextInt(workflows)].enter(PHASES[random.nextInt(PHASES.length)], "method");
+    }
+}
@@ -0,0 +1,174 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.benchmark;
+
+import jakarta.ai.agent.runtime.scope.WorkflowScopeContext;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeStore;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of dispatching a client proxy call to a
+ * {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} bean through
+ * {@link WorkflowScopeContext} while many workflows are in flight.
+ * <p>
+ * A client proxy resolves its target with {@code Context.get(bean, creationalContext)}
+ * on every call; the benchmarks below do exactly that for a set of beans spread over
+ * {@code workflows} live workflow stores.
+ * <ul>
+ *   <li>{@code dispatch} - the workflow is already active on the thread, as inside a phase.</li>
+ *   <li>{@code activateAndDispatch} - the thread switches to a random workflow first, as a
+ *       runtime does when it picks up the next phase of another workflow.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class WorkflowScopedDispatchBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Workflows {
+
+        @Param("10000")
+        int workflows;
+
+        @Param("8")
+        int beans;
+
+        WorkflowScopeContext context;
+        CounterBean[] beanTypes;
+        WorkflowScopeStore[] stores;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new WorkflowScopeContext();
+            beanTypes = new CounterBean[beans];
+            for (int i = 0; i < beans; i++) {
+                beanTypes[i] = new CounterBean();
+                context.register(beanTypes[i]);
+            }
+            stores = new WorkflowScopeStore[workflows];
+            for (int i = 0; i < workflows; i++) {
+                stores[i] = context.newStore("workflow-" + i);
+                WorkflowScopeStore previous = context.activate(stores[i]);
+                try {
+                    for (CounterBean bean : beanTypes) {
+                        context.get(bean, new NoopCreationalContext<>());
+                    }
+                } finally {
+                    context.restore(previous);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            for (WorkflowScopeStore store : stores) {
+                store.destroy();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Phase {
+
+        WorkflowScopeStore previous;
+
+        @Setup(Level.Iteration)
+        public void enter(Workflows workflows) {
+            int index = ThreadLocalRandom.current().nextInt(workflows.workflows);
+            previous = workflows.context.activate(workflows.stores[index]);
+        }
+
+        @TearDown(Level.Iteration)
+        public void exit(Workflows workflows) {
+            workflows.context.restore(previous);
+        }
+    }
+
+    @Benchmark
+    public long dispatch(Workflows workflows, Phase phase) {
+        CounterBean bean = workflows.beanTypes[ThreadLocalRandom.current().nextInt(workflows.beans)];
+        return workflows.context.get(bean, new NoopCreationalContext<>()).increment();
+    }
+
+    @Benchmark
+    public long activateAndDispatch(Workflows workflows) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        WorkflowScopeStore store = workflows.stores[random.nextInt(workflows.workflows)];
+        CounterBean bean = workflows.beanTypes[random.nextInt(workflows.beans)];
+        WorkflowScopeStore previous = workflows.context.activate(store);
+        try {
+            return workflows.context.get(bean, new NoopCreationalContext<>()).increment();
+        } finally {
+            workflows.context.restore(previous);
+        }
+    }
+
+    /**
+     * Stand-in for a workflow-scoped bean instance.
+     */
+    public static class ScopedCounter {
+
+        private long count;
+
+        long increment() {
+            return ++count;
+        }
+    }
+
+    static final class CounterBean implements Contextual<ScopedCounter> {
+
+        @Override
+        public ScopedCounter create(CreationalContext<ScopedCounter> creationalContext) {
+            return new ScopedCounter();
+        }
+
+        @Override
+        public void destroy(ScopedCounter instance, CreationalContext<ScopedCounter> creationalContext) {
+            creationalContext.release();
+        }
+    }
+
+    static final class NoopCreationalContext<T> implements CreationalContext<T> {
+
+        @Override
+        public void push(T incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
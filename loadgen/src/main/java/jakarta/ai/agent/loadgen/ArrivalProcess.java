@@ -0,0 +1,50 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import java.util.SplittableRandom;
+
+/**
+ * The spacing of the trigger events fired at a target rate.
+ */
+public enum ArrivalProcess {
+
+    /**
+     * Events at fixed intervals of one over the rate.
+     */
+    CONSTANT,
+
+    /**
+     * Events at exponentially distributed intervals with a mean of one over the rate,
+     * as independent clients produce them. Bursts above the rate are part of the load.
+     */
+    POISSON;
+
+    /**
+     * Draw the interval between two events.
+     *
+     * @param ratePerSecond the mean number of events per second
+     * @param random the source of randomness
+     * @return the interval in nanoseconds
+     */
+    public long nextIntervalNanos(double ratePerSecond, SplittableRandom random) {
+        double mean = 1e9 / ratePerSecond;
+        switch (this) {
+            case POISSON:
+                return (long) (-mean * Math.log(1.0 - random.nextDouble()));
+            case CONSTANT:
+            default:
+                return (long) mean;
+        }
+    }
+}
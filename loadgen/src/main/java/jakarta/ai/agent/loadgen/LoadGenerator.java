@@ -0,0 +1,151 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import ee.jakarta.tck.ai.agent.framework.llm.LatencyDistribution;
+import ee.jakarta.tck.ai.agent.framework.llm.SimulatedLargeLanguageModel;
+import ee.jakarta.tck.ai.agent.performance.PerformanceRuntime;
+import jakarta.ai.agent.WorkflowLauncher;
+import jakarta.ai.agent.runtime.jfr.AgentSummary;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Command line load generator for an agent deployed with the simulated model.
+ * <p>
+ * The generator deploys the agent through the {@link PerformanceRuntime} registered by
+ * the runtime under test, the same deployment the performance profile of the TCK uses,
+ * backed by a {@link SimulatedLargeLanguageModel}. It then fires trigger events at a
+ * fixed open-loop rate, warms up, measures, waits for the workflows in flight, and
+ * reports:
+ * <ul>
+ *   <li>the throughput, and the response and service time percentiles of the workflows</li>
+ *   <li>the time in each lifecycle method and model call, from the flight recorder
+ *       events of the runtime</li>
+ *   <li>the processor, heap, garbage collection and thread usage of the JVM</li>
+ * </ul>
+ * Run it with the runtime on the class path:
+ * <pre>{@code
+ * java -cp loadgen.jar:my-runtime.jar jakarta.ai.agent.loadgen.LoadGenerator --rate 200 --duration 120
+ * }</pre>
+ */
+public final class LoadGenerator {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: LoadGenerator [options]",
+            "  --agent <class>                 agent class (FraudDetectionAgent)",
+            "  --events <name>                 bank-transaction, pull-request, or a TriggerEventFactory class",
+            "  --rate <per second>             target event rate (50)",
+            "  --arrivals constant|poisson     spacing of the events (poisson)",
+            "  --warmup <seconds>              unmeasured load before the measurement (10)",
+            "  --duration <seconds>            measured load (60)",
+            "  --drain <seconds>               longest wait for workflows in flight (30)",
+            "  --llm-latency-ms <millis>       median model latency (400)",
+            "  --llm-sigma <sigma>             log-normal latency shape, 0 for fixed (0)",
+            "  --llm-tokens-per-second <rate>  token rate, 0 for the whole response at once (0)",
+            "  --llm-failure-rate <share>      share of failing model calls (0)",
+            "  --llm-response <text>           response of the model to every prompt",
+            "  --seed <seed>                   seed of arrivals, events and model (42)",
+            "  --report <file>                 JSON report (loadgen-report.json)",
+            "  --recording <file>              keep the flight recording of the measurement");
+
+    private LoadGenerator() {
+    }
+
+    /**
+     * Run the load generator with command line options.
+     *
+     * @param args the options, see {@link LoadSettings#parse(String[])}
+     * @throws Exception if the deployment or the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings;
+        try {
+            settings = LoadSettings.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        Optional<PerformanceRuntime> runtime = PerformanceRuntime.load();
+        if (runtime.isEmpty()) {
+            System.err.println("No " + PerformanceRuntime.class.getName() + " is registered in META-INF/services");
+            System.exit(2);
+            return;
+        }
+        run(settings, runtime.get(), System.out);
+    }
+
+    /**
+     * Deploy the agent, run the load, undeploy the agent and report.
+     *
+     * @param settings the settings
+     * @param runtime the runtime under test
+     * @param out the destination of the human-readable report
+     * @return the outcome of the measured workflows
+     * @throws Exception if the deployment or the run fails
+     */
+    public static LoadResult run(LoadSettings settings, PerformanceRuntime runtime, PrintStream out)
+            throws Exception {
+        Class<?> agentClass = Class.forName(settings.getAgentClass(), true,
+                Thread.currentThread().getContextClassLoader());
+        TriggerEventFactory events = TriggerEventFactory.forName(settings.getEvents());
+        WorkflowLauncher launcher = runtime.deploy(List.of(agentClass), model(settings));
+        try {
+            OpenLoopDriver driver = new OpenLoopDriver(launcher, agentClass, events, settings.getArrivals(),
+                    settings.getRate(), settings.getSeed());
+            try (PhaseRecording recording = PhaseRecording.create(settings.getRecording())) {
+                if (!settings.getWarmup().isZero()) {
+                    driver.fire(settings.getWarmup());
+                }
+                recording.start();
+                ResourceMeter meter = ResourceMeter.start();
+                OpenLoopDriver.Measurement measurement = driver.fire(settings.getDuration());
+                ResourceUsage resources = meter.measure();
+                if (!driver.awaitCompletion(settings.getDrain())) {
+                    long incomplete = measurement.recordInFlight();
+                    out.printf(Locale.ROOT, "%d workflows were still in flight after the drain time of %ds;"
+                            + " their latencies are recorded as lower bounds%n", incomplete,
+                            settings.getDrain().toSeconds());
+                }
+                LoadResult result = measurement.result();
+                List<AgentSummary> agents = recording.stop();
+                LoadReport report = new LoadReport(settings, result, resources, agents);
+                report.print(out);
+                report.write(settings.getReport());
+                return result;
+            }
+        } finally {
+            runtime.undeploy();
+        }
+    }
+
+    private static SimulatedLargeLanguageModel model(LoadSettings settings) {
+        LatencyDistribution latency = settings.getLlmSigma() > 0
+                ? LatencyDistribution.lognormal(settings.getLlmLatency(), settings.getLlmSigma())
+                : LatencyDistribution.fixed(settings.getLlmLatency());
+        SimulatedLargeLanguageModel.Builder builder = SimulatedLargeLanguageModel.builder()
+                .latency(latency)
+                .tokensPerSecond(settings.getLlmTokensPerSecond())
+                .failureRate(settings.getLlmFailureRate())
+                .seed(settings.getSeed());
+        if (settings.getLlmResponse() != null) {
+            builder.response(settings.getLlmResponse());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,166 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import jakarta.ai.agent.runtime.jfr.AgentSummary;
+import jakarta.ai.agent.runtime.jfr.RecordingAnalyzer;
+import jakarta.ai.agent.runtime.metrics.HistogramSnapshot;
+import jakarta.ai.agent.runtime.metrics.PhaseSnapshot;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Report of a load generator run, printed for people and written as a flat JSON object
+ * for scripts comparing runs.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadSettings settings;
+    private final LoadResult result;
+    private final ResourceUsage resources;
+    private final List<AgentSummary> agents;
+
+    LoadReport(LoadSettings settings, LoadResult result, ResourceUsage resources, List<AgentSummary> agents) {
+        this.settings = settings;
+        this.result = result;
+        this.resources = resources;
+        this.agents = agents;
+    }
+
+    /**
+     * Print the report in a human-readable form.
+     *
+     * @param out the destination
+     */
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "Load     %s with %s at %.1f/s (%s) for %ds%n", settings.getAgentClass(),
+                settings.getEvents(), settings.getRate(), settings.getArrivals(), result.duration().toSeconds());
+        out.printf(Locale.ROOT, "Workflows fired=%d completed=%d failed=%d rejected=%d incomplete=%d%n",
+                result.fired(), result.completed(), result.failed(), result.rejected(), result.incomplete());
+        out.printf(Locale.ROOT, "Throughput %.1f workflows/s%n", result.throughput());
+        out.println("Response " + percentiles(result.responseTime()));
+        out.println("Service  " + percentiles(result.serviceTime()));
+        out.println("Send lag max=" + millis(result.maxSendLag()));
+        out.printf(Locale.ROOT, "Resources cpu=%.2f cores (%.0f%%) heapPeak=%dMB heapEnd=%dMB gc=%d in %s threads=%d%n",
+                resources.cpuCores(), resources.cpuUtilization() * 100, resources.heapPeakBytes() >> 20,
+                resources.heapUsedBytes() >> 20, resources.gcCount(), millis(resources.gcTime()),
+                resources.peakThreads());
+        if (agents.isEmpty()) {
+            out.println("No workflow events were recorded; the runtime does not emit them");
+        } else {
+            RecordingAnalyzer.print(agents, out);
+        }
+    }
+
+    /**
+     * Write the report as a flat JSON object.
+     *
+     * @param file the destination
+     * @throws IOException if the file cannot be written
+     */
+    void write(Path file) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        text(entries, "agent", settings.getAgentClass());
+        text(entries, "events", settings.getEvents());
+        text(entries, "arrivals", settings.getArrivals().name());
+        number(entries, "targetRate", settings.getRate());
+        number(entries, "durationSeconds", result.duration().toNanos() / 1e9);
+        number(entries, "workflows.fired", result.fired());
+        number(entries, "workflows.completed", result.completed());
+        number(entries, "workflows.failed", result.failed());
+        number(entries, "workflows.rejected", result.rejected());
+        number(entries, "workflows.incomplete", result.incomplete());
+        number(entries, "throughput.workflowsPerSecond", result.throughput());
+        histogram(entries, "responseTime", result.responseTime());
+        histogram(entries, "serviceTime", result.serviceTime());
+        number(entries, "sendLag.maxMillis", result.maxSendLag().toNanos() / 1e6);
+        number(entries, "resources.cpuCores", resources.cpuCores());
+        number(entries, "resources.cpuUtilization", resources.cpuUtilization());
+        number(entries, "resources.heapPeakBytes", resources.heapPeakBytes());
+        number(entries, "resources.heapUsedBytes", resources.heapUsedBytes());
+        number(entries, "resources.gcCount", resources.gcCount());
+        number(entries, "resources.gcMillis", resources.gcTime().toMillis());
+        number(entries, "resources.peakThreads", resources.peakThreads());
+        for (AgentSummary agent : agents) {
+            String prefix = "agent." + agent.getAgentName() + '.';
+            for (PhaseSnapshot phase : agent.getPhases()) {
+                String name = prefix + phase.phase().name().toLowerCase(Locale.ROOT) + '.' + phase.methodName();
+                number(entries, name + ".invocations", phase.invocations());
+                number(entries, name + ".exceptions", phase.exceptions());
+                histogram(entries, name, phase.latency());
+            }
+            if (agent.getLlmLatency().getCount() > 0) {
+                number(entries, prefix + "llm.calls", agent.getLlmLatency().getCount());
+                number(entries, prefix + "llm.failures", agent.getLlmFailures());
+                histogram(entries, prefix + "llm", agent.getLlmLatency());
+            }
+            number(entries, prefix + "gcPauseInPhasesMillis", agent.getGcPauseTime().toNanos() / 1e6);
+            number(entries, prefix + "blockedInPhasesMillis", agent.getBlockedTime().toNanos() / 1e6);
+        }
+        StringBuilder json = new StringBuilder("{\n");
+        int remaining = entries.size();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            json.append("  \"").append(entry.getKey()).append("\": ").append(entry.getValue());
+            json.append(--remaining > 0 ? ",\n" : "\n");
+        }
+        json.append("}\n");
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+    }
+
+    private static void histogram(Map<String, String> entries, String name, HistogramSnapshot histogram) {
+        for (double percentile : PERCENTILES) {
+            String label = percentile == Math.rint(percentile)
+                    ? Long.toString((long) percentile)
+                    : Double.toString(percentile).replace(".", "");
+            number(entries, name + ".p" + label + "Millis",
+                    histogram.getValueAtPercentile(percentile).toNanos() / 1e6);
+        }
+        number(entries, name + ".maxMillis", histogram.getMax().toNanos() / 1e6);
+    }
+
+    private static void number(Map<String, String> entries, String name, double value) {
+        entries.put(name, Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "null");
+    }
+
+    private static void text(Map<String, String> entries, String name, String value) {
+        entries.put(name, '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+    }
+
+    private static String percentiles(HistogramSnapshot histogram) {
+        StringBuilder text = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            text.append('p').append(percentile == Math.rint(percentile) ? Long.toString((long) percentile)
+                    : Double.toString(percentile)).append('=').append(millis(histogram.getValueAtPercentile(percentile)))
+                    .append(' ');
+        }
+        return text.append("max=").append(millis(histogram.getMax())).toString();
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.3fms", duration.toNanos() / 1e6);
+    }
+}
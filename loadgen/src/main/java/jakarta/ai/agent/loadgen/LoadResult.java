@@ -0,0 +1,42 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import jakarta.ai.agent.runtime.metrics.HistogramSnapshot;
+
+import java.time.Duration;
+
+/**
+ * Outcome of the workflows started during the measured part of a run.
+ *
+ * @param fired the number of trigger events fired
+ * @param rejected the number of events the launcher refused to start a workflow for
+ * @param completed the number of workflows that completed normally
+ * @param failed the number of workflows that completed exceptionally, including cancelled
+ *        and timed out workflows
+ * @param incomplete the number of workflows still in flight when the drain time ran out;
+ *        the latencies include them with their time in flight at that point, a lower
+ *        bound that keeps the slowest workflows from disappearing from the percentiles
+ * @param duration the measured time
+ * @param throughput the completed workflows per second, over the time from the start of
+ *        the measurement to the last completion, but at least the measured time
+ * @param responseTime the time from the intended start of each workflow to its end, which
+ *        includes any delay in firing the event and is free of coordinated omission
+ * @param serviceTime the time from the actual start of each workflow to its end
+ * @param maxSendLag the longest delay between the intended and the actual firing of an
+ *        event; if it is large, the generator could not keep up with the rate
+ */
+public record LoadResult(long fired, long rejected, long completed, long failed, long incomplete, Duration duration,
+                         double throughput, HistogramSnapshot responseTime, HistogramSnapshot serviceTime,
+                         Duration maxSendLag) {
+}
@@ -0,0 +1,475 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Settings of a load generator run.
+ */
+public final class LoadSettings {
+
+    private final String agentClass;
+    private final String events;
+    private final double rate;
+    private final ArrivalProcess arrivals;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration drain;
+    private final Duration llmLatency;
+    private final double llmSigma;
+    private final double llmTokensPerSecond;
+    private final double llmFailureRate;
+    private final String llmResponse;
+    private final long seed;
+    private final Path report;
+    private final Path recording;
+
+    private LoadSettings(Builder builder) {
+        this.agentClass = builder.agentClass;
+        this.events = builder.events;
+        this.rate = builder.rate;
+        this.arrivals = builder.arrivals;
+        this.warmup = builder.warmup;
+        this.duration = builder.duration;
+        this.drain = builder.drain;
+        this.llmLatency = builder.llmLatency;
+        this.llmSigma = builder.llmSigma;
+        this.llmTokensPerSecond = builder.llmTokensPerSecond;
+        this.llmFailureRate = builder.llmFailureRate;
+        this.llmResponse = builder.llmResponse;
+        this.seed = builder.seed;
+        this.report = builder.report;
+        this.recording = builder.recording;
+    }
+
+    /**
+     * Create a builder with the default settings: the fraud detection example agent at
+     * 50 Poisson arrivals per second for 60 seconds after a warmup of 10 seconds, with a
+     * fixed model latency of 400 milliseconds.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parse command line options of the form {@code --name value}.
+     *
+     * @param args the command line arguments
+     * @return the settings
+     * @throws IllegalArgumentException if an option is unknown, lacks its value, or has an
+     *         invalid value
+     */
+    public static LoadSettings parse(String[] args) {
+        Builder builder = builder();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of " + option);
+            }
+            String value = args[i + 1];
+            try {
+                switch (option) {
+                    case "--agent":
+                        builder.agentClass(value);
+                        break;
+                    case "--events":
+                        builder.events(value);
+                        break;
+                    case "--rate":
+                        builder.rate(Double.parseDouble(value));
+                        break;
+                    case "--arrivals":
+                        builder.arrivals(ArrivalProcess.valueOf(value.toUpperCase(Locale.ROOT)));
+                        break;
+                    case "--warmup":
+                        builder.warmup(Duration.ofSeconds(Long.parseLong(value)));
+                        break;
+                    case "--duration":
+                        builder.duration(Duration.ofSeconds(Long.parseLong(value)));
+                        break;
+                    case "--drain":
+                        builder.drain(Duration.ofSeconds(Long.parseLong(value)));
+                        break;
+                    case "--llm-latency-ms":
+                        builder.llmLatency(Duration.ofMillis(Long.parseLong(value)));
+                        break;
+                    case "--llm-sigma":
+                        builder.llmSigma(Double.parseDouble(value));
+                        break;
+                    case "--llm-tokens-per-second":
+                        builder.llmTokensPerSecond(Double.parseDouble(value));
+                        break;
+                    case "--llm-failure-rate":
+                        builder.llmFailureRate(Double.parseDouble(value));
+                        break;
+                    case "--llm-response":
+                        builder.llmResponse(value);
+                        break;
+                    case "--seed":
+                        builder.seed(Long.parseLong(value));
+                        break;
+                    case "--report":
+                        builder.report(Path.of(value));
+                        break;
+                    case "--recording":
+                        builder.recording(Path.of(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value of " + option + ": " + value, e);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the name of the agent class under load
+     */
+    public String getAgentClass() {
+        return agentClass;
+    }
+
+    /**
+     * @return the name of the trigger event factory, see {@link TriggerEventFactory#forName(String)}
+     */
+    public String getEvents() {
+        return events;
+    }
+
+    /**
+     * @return the target number of trigger events per second
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * @return the spacing of the trigger events
+     */
+    public ArrivalProcess getArrivals() {
+        return arrivals;
+    }
+
+    /**
+     * @return the time the load runs before it is measured
+     */
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * @return the time the load is measured
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the longest wait for the workflows in flight at the end of the run
+     */
+    public Duration getDrain() {
+        return drain;
+    }
+
+    /**
+     * @return the median time to the first token of the simulated model
+     */
+    public Duration getLlmLatency() {
+        return llmLatency;
+    }
+
+    /**
+     * @return the log-normal shape of the model latency, or zero for a fixed latency
+     */
+    public double getLlmSigma() {
+        return llmSigma;
+    }
+
+    /**
+     * @return the tokens the simulated model produces per second, or zero for the whole
+     *         response at once
+     */
+    public double getLlmTokensPerSecond() {
+        return llmTokensPerSecond;
+    }
+
+    /**
+     * @return the share of model calls that fail
+     */
+    public double getLlmFailureRate() {
+        return llmFailureRate;
+    }
+
+    /**
+     * @return the response of the simulated model, or {@code null} for its default
+     */
+    public String getLlmResponse() {
+        return llmResponse;
+    }
+
+    /**
+     * @return the seed of the arrivals, the trigger events and the simulated model
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the file the JSON report is written to
+     */
+    public Path getReport() {
+        return report;
+    }
+
+    /**
+     * @return the file the flight recording of the measurement is kept in, or
+     *         {@code null} to discard it
+     */
+    public Path getRecording() {
+        return recording;
+    }
+
+    /**
+     * Builder of {@link LoadSettings}.
+     */
+    public static final class Builder {
+
+        private String agentClass = "jakarta.ai.agent.example.frauddetection.FraudDetectionAgent";
+        private String events = "bank-transaction";
+        private double rate = 50;
+        private ArrivalProcess arrivals = ArrivalProcess.POISSON;
+        private Duration warmup = Duration.ofSeconds(10);
+        private Duration duration = Duration.ofSeconds(60);
+        private Duration drain = Duration.ofSeconds(30);
+        private Duration llmLatency = Duration.ofMillis(400);
+        private double llmSigma;
+        private double llmTokensPerSecond;
+        private double llmFailureRate;
+        private String llmResponse;
+        private long seed = 42;
+        private Path report = Path.of("loadgen-report.json");
+        private Path recording;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the agent under load. The class is loaded when the run starts, so that it
+         * may come from the class path of the runtime under test.
+         *
+         * @param agentClass the name of the agent class
+         * @return this builder
+         */
+        public Builder agentClass(String agentClass) {
+            this.agentClass = Objects.requireNonNull(agentClass, "agentClass");
+            return this;
+        }
+
+        /**
+         * Set the trigger event factory. The default is {@code bank-transaction}.
+         *
+         * @param events the name of the factory, see {@link TriggerEventFactory#forName(String)}
+         * @return this builder
+         */
+        public Builder events(String events) {
+            this.events = Objects.requireNonNull(events, "events");
+            return this;
+        }
+
+        /**
+         * Set the target rate. The default is 50 events per second.
+         *
+         * @param rate the number of trigger events per second, positive
+         * @return this builder
+         */
+        public Builder rate(double rate) {
+            if (!(rate > 0)) {
+                throw new IllegalArgumentException("Rate must be positive: " + rate);
+            }
+            this.rate = rate;
+            return this;
+        }
+
+        /**
+         * Set the spacing of the trigger events. The default is {@link ArrivalProcess#POISSON}.
+         *
+         * @param arrivals the arrival process
+         * @return this builder
+         */
+        public Builder arrivals(ArrivalProcess arrivals) {
+            this.arrivals = Objects.requireNonNull(arrivals, "arrivals");
+            return this;
+        }
+
+        /**
+         * Set the time the load runs before it is measured. The default is 10 seconds.
+         *
+         * @param warmup the warmup time
+         * @return this builder
+         */
+        public Builder warmup(Duration warmup) {
+            this.warmup = nonNegative(warmup, "warmup");
+            return this;
+        }
+
+        /**
+         * Set the time the load is measured. The default is 60 seconds.
+         *
+         * @param duration the measurement time, positive
+         * @return this builder
+         */
+        public Builder duration(Duration duration) {
+            if (nonNegative(duration, "duration").isZero()) {
+                throw new IllegalArgumentException("duration must be positive");
+            }
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Set the longest wait for the workflows still in flight when the last event is
+         * fired. The default is 30 seconds.
+         *
+         * @param drain the drain time
+         * @return this builder
+         */
+        public Builder drain(Duration drain) {
+            this.drain = nonNegative(drain, "drain");
+            return this;
+        }
+
+        /**
+         * Set the median time to the first token of the simulated model. The default is
+         * 400 milliseconds.
+         *
+         * @param llmLatency the model latency
+         * @return this builder
+         */
+        public Builder llmLatency(Duration llmLatency) {
+            this.llmLatency = nonNegative(llmLatency, "llmLatency");
+            return this;
+        }
+
+        /**
+         * Set the shape of a log-normal model latency. The default, zero, makes the
+         * latency fixed.
+         *
+         * @param llmSigma the standard deviation of the logarithm of the latency
+         * @return this builder
+         */
+        public Builder llmSigma(double llmSigma) {
+            if (!(llmSigma >= 0)) {
+                throw new IllegalArgumentException("Sigma must not be negative: " + llmSigma);
+            }
+            this.llmSigma = llmSigma;
+            return this;
+        }
+
+        /**
+         * Set the rate at which the simulated model produces tokens. The default, zero,
+         * returns the whole response at the first token.
+         *
+         * @param llmTokensPerSecond the tokens per second
+         * @return this builder
+         */
+        public Builder llmTokensPerSecond(double llmTokensPerSecond) {
+            this.llmTokensPerSecond = llmTokensPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the share of model calls that fail with an
+         * {@link jakarta.ai.agent.LLMException}. The default is zero.
+         *
+         * @param llmFailureRate the share, between 0 and 1
+         * @return this builder
+         */
+        public Builder llmFailureRate(double llmFailureRate) {
+            this.llmFailureRate = llmFailureRate;
+            return this;
+        }
+
+        /**
+         * Set the response of the simulated model to every prompt. Without it, the model
+         * answers with its default response.
+         *
+         * @param llmResponse the response text
+         * @return this builder
+         */
+        public Builder llmResponse(String llmResponse) {
+            this.llmResponse = Objects.requireNonNull(llmResponse, "llmResponse");
+            return this;
+        }
+
+        /**
+         * Set the seed of the arrivals, the trigger events and the simulated model. The
+         * default is 42.
+         *
+         * @param seed the seed
+         * @return this builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Set the file the JSON report is written to. The default is
+         * {@code loadgen-report.json}.
+         *
+         * @param report the report file
+         * @return this builder
+         */
+        public Builder report(Path report) {
+            this.report = Objects.requireNonNull(report, "report");
+            return this;
+        }
+
+        /**
+         * Keep the flight recording of the measurement in a file. By default it is
+         * deleted once analyzed.
+         *
+         * @param recording the recording file
+         * @return this builder
+         */
+        public Builder recording(Path recording) {
+            this.recording = Objects.requireNonNull(recording, "recording");
+            return this;
+        }
+
+        /**
+         * Create the settings.
+         *
+         * @return the settings
+         */
+        public LoadSettings build() {
+            return new LoadSettings(this);
+        }
+
+        private static Duration nonNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name);
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import jakarta.ai.agent.WorkflowHandle;
+import jakarta.ai.agent.WorkflowLauncher;
+import jakarta.ai.agent.runtime.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fires trigger events at a target rate, independently of how fast the workflows end.
+ * <p>
+ * Each event has an intended start time on the arrival schedule. A closed-loop
+ * generator, which waits for a workflow before starting the next, sends fewer events
+ * while the runtime stalls and so never measures the stall as experienced by the
+ * events that should have arrived during it. This driver fires every event at its
+ * intended time, or as soon as possible after it if it fell behind, and measures the
+ * response time from the intended time.
+ * <p>
+ * The driver fires from the calling thread. A launcher that runs part of a workflow
+ * in {@link WorkflowLauncher#start(Class, Object)} slows the firing down; the delay then
+ * shows in {@link LoadResult#maxSendLag()} and in the response times.
+ */
+final class OpenLoopDriver {
+
+    private final WorkflowLauncher launcher;
+    private final Class<?> agentClass;
+    private final TriggerEventFactory events;
+    private final ArrivalProcess arrivals;
+    private final double rate;
+    private final SplittableRandom arrivalRandom;
+    private final SplittableRandom eventRandom;
+    private final AtomicLong outstanding = new AtomicLong();
+    private long sequence;
+    private boolean started;
+    private long nextIntendedNanos;
+    private long pausedAtNanos;
+
+    OpenLoopDriver(WorkflowLauncher launcher, Class<?> agentClass, TriggerEventFactory events,
+                   ArrivalProcess arrivals, double rate, long seed) {
+        this.launcher = launcher;
+        this.agentClass = agentClass;
+        this.events = events;
+        this.arrivals = arrivals;
+        this.rate = rate;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.arrivalRandom = random.split();
+        this.eventRandom = random.split();
+    }
+
+    /**
+     * Fire events for a period. The schedule continues where the previous period ended,
+     * shifted by the time between the two periods, in which the caller prepared the
+     * measurement and no event was due.
+     *
+     * @param period the period
+     * @return the measurement of the workflows started in the period
+     */
+    Measurement fire(Duration period) {
+        long now = System.nanoTime();
+        if (!started) {
+            nextIntendedNanos = now;
+            started = true;
+        } else {
+            nextIntendedNanos += now - pausedAtNanos;
+        }
+        Measurement measurement = new Measurement(now, period.toNanos());
+        long end = now + period.toNanos();
+        while (nextIntendedNanos - end < 0) {
+            long wait = nextIntendedNanos - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            Object event = events.create(sequence++, eventRandom);
+            start(event, nextIntendedNanos, measurement);
+            nextIntendedNanos += arrivals.nextIntervalNanos(rate, arrivalRandom);
+        }
+        pausedAtNanos = System.nanoTime();
+        return measurement;
+    }
+
+    /**
+     * Wait until no workflow is in flight.
+     *
+     * @param timeout the longest wait
+     * @return {@code true} if no workflow is in flight
+     */
+    boolean awaitCompletion(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (outstanding.get() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(10_000_000L);
+        }
+        return true;
+    }
+
+    private void start(Object event, long intendedNanos, Measurement measurement) {
+        long sentNanos = System.nanoTime();
+        measurement.sendLag.accumulate(sentNanos - intendedNanos);
+        measurement.fired.increment();
+        WorkflowHandle<Object> handle;
+        try {
+            handle = launcher.start(agentClass, event);
+        } catch (RuntimeException e) {
+            measurement.rejected.increment();
+            return;
+        }
+        outstanding.incrementAndGet();
+        InFlight flight = new InFlight(intendedNanos, sentNanos);
+        measurement.inFlight.add(flight);
+        handle.getResult().whenComplete((result, failure) -> {
+            if (measurement.inFlight.remove(flight)) {
+                long endNanos = System.nanoTime();
+                measurement.record(flight, endNanos);
+                measurement.lastEnd.accumulate(endNanos);
+                if (failure == null) {
+                    measurement.completed.increment();
+                } else {
+                    measurement.failed.increment();
+                }
+            }
+            outstanding.decrementAndGet();
+        });
+    }
+
+    /** A started workflow, compared by identity so that equal start times stay apart. */
+    private static final class InFlight {
+
+        private final long intendedNanos;
+        private final long sentNanos;
+
+        InFlight(long intendedNanos, long sentNanos) {
+            this.intendedNanos = intendedNanos;
+            this.sentNanos = sentNanos;
+        }
+    }
+
+    /**
+     * Latencies and counts of the workflows started in one period.
+     */
+    static final class Measurement {
+
+        private final long startNanos;
+        private final long periodNanos;
+        private final LongAdder fired = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAccumulator sendLag = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator lastEnd;
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final Set<InFlight> inFlight = ConcurrentHashMap.newKeySet();
+
+        private Measurement(long startNanos, long periodNanos) {
+            this.startNanos = startNanos;
+            this.periodNanos = periodNanos;
+            this.lastEnd = new LongAccumulator(Math::max, startNanos + periodNanos);
+        }
+
+        /**
+         * Record the workflows still in flight, typically after the drain time ran out,
+         * with the time they have been running so far. That is a lower bound of their
+         * latency; leaving them out would hide the slowest workflows of the run. They
+         * count as incomplete, and their later end is ignored.
+         *
+         * @return the number of workflows recorded
+         */
+        long recordInFlight() {
+            long now = System.nanoTime();
+            long recorded = 0;
+            for (InFlight flight : inFlight) {
+                if (inFlight.remove(flight)) {
+                    record(flight, now);
+                    recorded++;
+                }
+            }
+            return recorded;
+        }
+
+        private void record(InFlight flight, long endNanos) {
+            responseTime.record(endNanos - flight.intendedNanos);
+            serviceTime.record(endNanos - flight.sentNanos);
+        }
+
+        /**
+         * Get the result so far. Workflows still in flight count as incomplete.
+         *
+         * @return the result
+         */
+        LoadResult result() {
+            long done = completed.sum();
+            long failures = failed.sum();
+            long refused = rejected.sum();
+            long total = fired.sum();
+            double seconds = (lastEnd.get() - startNanos) / 1e9;
+            return new LoadResult(total, refused, done, failures, Math.max(0, total - refused - done - failures),
+                    Duration.ofNanos(periodNanos), done / seconds, responseTime.snapshot(), serviceTime.snapshot(),
+                    Duration.ofNanos(sendLag.get()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import jakarta.ai.agent.runtime.jfr.AgentSummary;
+import jakarta.ai.agent.runtime.jfr.RecordingAnalyzer;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flight recording of the measured part of a run, from which the time spent in each
+ * lifecycle method and model call is taken.
+ * <p>
+ * The recording uses the default settings of the JDK combined with
+ * {@code agentic-ai.jfc} of the runtime, and is summarized by
+ * {@link RecordingAnalyzer}. Only runtimes that emit the workflow events of
+ * {@code jakarta.ai.agent.runtime.jfr} contribute per-phase figures.
+ */
+final class PhaseRecording implements AutoCloseable {
+
+    private static final String SETTINGS = "/jakarta/ai/agent/runtime/jfr/agentic-ai.jfc";
+
+    private final Recording recording;
+    private final Path file;
+    private final boolean keep;
+
+    private PhaseRecording(Recording recording, Path file, boolean keep) {
+        this.recording = recording;
+        this.file = file;
+        this.keep = keep;
+    }
+
+    /**
+     * Create the recording. This initializes the flight recorder, which takes long
+     * enough to disturb the load, so it is done before the warmup.
+     *
+     * @param file the file to keep the recording in, or {@code null} for a temporary file
+     * @return the recording, not started
+     * @throws IOException if the settings cannot be read or the file cannot be created
+     */
+    static PhaseRecording create(Path file) throws IOException {
+        Map<String, String> settings = new HashMap<>();
+        try {
+            settings.putAll(Configuration.getConfiguration("default").getSettings());
+            try (InputStream in = PhaseRecording.class.getResourceAsStream(SETTINGS)) {
+                if (in == null) {
+                    throw new IOException("Missing flight recorder settings " + SETTINGS);
+                }
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    settings.putAll(Configuration.create(reader).getSettings());
+                }
+            }
+        } catch (ParseException e) {
+            throw new IOException("Invalid flight recorder settings", e);
+        }
+        Recording recording = new Recording(settings);
+        recording.setName("jakarta-agentic-ai-loadgen");
+        recording.setToDisk(true);
+        boolean keep = file != null;
+        Path destination = keep ? file : Files.createTempFile("loadgen", ".jfr");
+        return new PhaseRecording(recording, destination, keep);
+    }
+
+    /**
+     * Start recording.
+     */
+    void start() {
+        recording.start();
+    }
+
+    /**
+     * Stop recording and summarize the events per agent.
+     *
+     * @return the summary of each agent
+     * @throws IOException if the recording cannot be written or read
+     */
+    List<AgentSummary> stop() throws IOException {
+        recording.stop();
+        recording.dump(file);
+        return RecordingAnalyzer.analyze(file);
+    }
+
+    /**
+     * Close the recording, and delete its file unless it is kept.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        recording.close();
+        if (!keep) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+/**
+ * Measures the resources the JVM uses between two points in time, from its platform
+ * MXBeans.
+ * <p>
+ * The runtime under test runs in the same JVM as the load generator, so the usage
+ * includes the generator. The generator itself needs one thread and little allocation
+ * per event, which is small next to a workflow.
+ */
+final class ResourceMeter {
+
+    private final long startNanos;
+    private final long startCpuNanos;
+    private final long startGcCount;
+    private final long startGcMillis;
+
+    private ResourceMeter() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        this.startGcCount = gcCount();
+        this.startGcMillis = gcMillis();
+        this.startCpuNanos = processCpuNanos();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Start measuring. Resets the peak heap and thread counts of the JVM.
+     *
+     * @return the meter
+     */
+    static ResourceMeter start() {
+        return new ResourceMeter();
+    }
+
+    /**
+     * Get the resources used since the meter started.
+     *
+     * @return the usage
+     */
+    ResourceUsage measure() {
+        long elapsed = System.nanoTime() - startNanos;
+        long cpu = processCpuNanos();
+        double cores = cpu < 0 || elapsed <= 0 ? Double.NaN : (double) (cpu - startCpuNanos) / elapsed;
+        int processors = Runtime.getRuntime().availableProcessors();
+        long heapPeak = 0;
+        long heapUsed = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                heapPeak += pool.getPeakUsage().getUsed();
+                heapUsed += pool.getUsage().getUsed();
+            }
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return new ResourceUsage(cores, cores / processors, heapPeak, heapUsed, gcCount() - startGcCount,
+                Duration.ofMillis(gcMillis() - startGcMillis), threads.getPeakThreadCount());
+    }
+
+    private static long processCpuNanos() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
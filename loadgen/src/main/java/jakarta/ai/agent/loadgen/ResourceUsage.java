@@ -0,0 +1,30 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Resources the JVM used during a measurement.
+ *
+ * @param cpuCores the mean number of processor cores the process kept busy
+ * @param cpuUtilization the busy cores as a share of the available processors
+ * @param heapPeakBytes the highest heap occupancy, summed over the heap memory pools
+ * @param heapUsedBytes the heap occupancy at the end of the measurement
+ * @param gcCount the number of garbage collections
+ * @param gcTime the time spent in garbage collections, as reported by the collectors
+ * @param peakThreads the highest number of live threads
+ */
+public record ResourceUsage(double cpuCores, double cpuUtilization, long heapPeakBytes, long heapUsedBytes,
+                            long gcCount, Duration gcTime, int peakThreads) {
+}
@@ -0,0 +1,98 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import jakarta.ai.agent.example.docsagent.PullRequest;
+import jakarta.ai.agent.example.frauddetection.BankTransaction;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Creates the synthetic trigger events fired at the agent under load.
+ * <p>
+ * Implementations are called from a single thread. The events should vary in the way
+ * production events vary where an agent or its model depends on it, such as the size of
+ * a diff in a prompt.
+ */
+@FunctionalInterface
+public interface TriggerEventFactory {
+
+    /**
+     * Create the next trigger event.
+     *
+     * @param sequence the number of the event, from zero
+     * @param random the source of randomness, seeded for reproducible runs
+     * @return the trigger event
+     */
+    Object create(long sequence, SplittableRandom random);
+
+    /**
+     * Create {@link BankTransaction} events for the fraud detection example agent.
+     *
+     * @return the factory
+     */
+    static TriggerEventFactory bankTransactions() {
+        return (sequence, random) -> new BankTransaction();
+    }
+
+    /**
+     * Create {@link PullRequest} events for the documentation example agent, with
+     * between one and ten changed files and a diff of 20 to 200 lines.
+     *
+     * @return the factory
+     */
+    static TriggerEventFactory pullRequests() {
+        return (sequence, random) -> {
+            int files = 1 + random.nextInt(10);
+            String[] changedFiles = new String[files];
+            for (int i = 0; i < files; i++) {
+                changedFiles[i] = "src/main/java/org/example/Service" + random.nextInt(1000) + ".java";
+            }
+            int lines = 20 + random.nextInt(181);
+            StringBuilder diff = new StringBuilder(lines * 32);
+            for (int i = 0; i < lines; i++) {
+                diff.append(i % 2 == 0 ? "+ " : "- ").append("return service.call(").append(random.nextInt())
+                        .append(");\n");
+            }
+            return new PullRequest(Long.toString(sequence), "Change " + sequence, "Synthetic pull request",
+                    "loadgen", List.of(changedFiles), diff.toString(), "main", "feature-" + sequence);
+        };
+    }
+
+    /**
+     * Find a factory by name: {@code bank-transaction}, {@code pull-request}, or the
+     * name of a class implementing this interface with a public no-argument constructor.
+     *
+     * @param name the name
+     * @return the factory
+     * @throws IllegalArgumentException if no factory has the name
+     */
+    static TriggerEventFactory forName(String name) {
+        switch (name) {
+            case "bank-transaction":
+                return bankTransactions();
+            case "pull-request":
+                return pullRequests();
+            default:
+                try {
+                    Class<?> type = Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+                    return type.asSubclass(TriggerEventFactory.class).getConstructor().newInstance();
+                } catch (ClassNotFoundException | ClassCastException | NoSuchMethodException
+                        | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalArgumentException("Unknown trigger event factory " + name, e);
+                }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Open-loop load generator for agents, the tool for capacity planning of nodes.
+ * <p>
+ * {@link jakarta.ai.agent.loadgen.LoadGenerator} deploys an agent through the
+ * {@link ee.jakarta.tck.ai.agent.performance.PerformanceRuntime} of the runtime under
+ * test with a simulated model, and fires synthetic trigger events from a
+ * {@link jakarta.ai.agent.loadgen.TriggerEventFactory} at a constant or Poisson
+ * {@link jakarta.ai.agent.loadgen.ArrivalProcess}. Response times are measured from the
+ * intended start of each workflow, so that stalls of the runtime are not hidden by a
+ * generator that slows down with it.
+ */
+package jakarta.ai.agent.loadgen;
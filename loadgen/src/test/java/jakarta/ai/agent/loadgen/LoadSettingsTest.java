@@ -0,0 +1,100 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the command line options parsed by {@link LoadSettings}.
+ */
+public class LoadSettingsTest {
+
+    @Test
+    public void noOptionsGiveTheDefaults() {
+        LoadSettings settings = LoadSettings.parse(new String[0]);
+        assertEquals("jakarta.ai.agent.example.frauddetection.FraudDetectionAgent", settings.getAgentClass());
+        assertEquals("bank-transaction", settings.getEvents());
+        assertEquals(50, settings.getRate());
+        assertEquals(ArrivalProcess.POISSON, settings.getArrivals());
+        assertEquals(Duration.ofSeconds(10), settings.getWarmup());
+        assertEquals(Duration.ofSeconds(60), settings.getDuration());
+        assertEquals(Duration.ofSeconds(30), settings.getDrain());
+        assertEquals(Duration.ofMillis(400), settings.getLlmLatency());
+        assertEquals(0, settings.getLlmSigma());
+        assertEquals(0, settings.getLlmTokensPerSecond());
+        assertEquals(0, settings.getLlmFailureRate());
+        assertNull(settings.getLlmResponse());
+        assertEquals(42, settings.getSeed());
+        assertEquals(Path.of("loadgen-report.json"), settings.getReport());
+        assertNull(settings.getRecording(), "No recording must be kept by default");
+    }
+
+    @Test
+    public void everyOptionIsParsed() {
+        LoadSettings settings = LoadSettings.parse(new String[] {
+                "--agent", "org.example.Agent",
+                "--events", "pull-request",
+                "--rate", "12.5",
+                "--arrivals", "Constant",
+                "--warmup", "0",
+                "--duration", "5",
+                "--drain", "2",
+                "--llm-latency-ms", "150",
+                "--llm-sigma", "0.4",
+                "--llm-tokens-per-second", "80",
+                "--llm-failure-rate", "0.01",
+                "--llm-response", "no",
+                "--seed", "-7",
+                "--report", "out/report.json",
+                "--recording", "out/run.jfr"});
+        assertEquals("org.example.Agent", settings.getAgentClass());
+        assertEquals("pull-request", settings.getEvents());
+        assertEquals(12.5, settings.getRate());
+        assertEquals(ArrivalProcess.CONSTANT, settings.getArrivals(), "Arrivals must be parsed ignoring case");
+        assertEquals(Duration.ZERO, settings.getWarmup());
+        assertEquals(Duration.ofSeconds(5), settings.getDuration());
+        assertEquals(Duration.ofSeconds(2), settings.getDrain());
+        assertEquals(Duration.ofMillis(150), settings.getLlmLatency());
+        assertEquals(0.4, settings.getLlmSigma());
+        assertEquals(80, settings.getLlmTokensPerSecond());
+        assertEquals(0.01, settings.getLlmFailureRate());
+        assertEquals("no", settings.getLlmResponse());
+        assertEquals(-7, settings.getSeed());
+        assertEquals(Path.of("out/report.json"), settings.getReport());
+        assertEquals(Path.of("out/run.jfr"), settings.getRecording());
+    }
+
+    @Test
+    public void invalidOptionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> parse("--unknown", "1"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate"), "A missing value must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "fast"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "0"), "The rate must be positive");
+        assertThrows(IllegalArgumentException.class, () -> parse("--duration", "0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--warmup", "-1"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--llm-sigma", "-0.1"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--arrivals", "bursty"));
+        IllegalArgumentException invalid = assertThrows(IllegalArgumentException.class,
+                () -> parse("--seed", "x"));
+        assertTrue(invalid.getMessage().contains("--seed"), "The message must name the option");
+    }
+
+    private static LoadSettings parse(String... args) {
+        return LoadSettings.parse(args);
+    }
+}
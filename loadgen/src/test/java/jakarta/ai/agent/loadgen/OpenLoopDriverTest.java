@@ -0,0 +1,147 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.loadgen;
+
+import jakarta.ai.agent.WorkflowHandle;
+import jakarta.ai.agent.WorkflowLauncher;
+import jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the response and service times measured by the {@link OpenLoopDriver}.
+ */
+public class OpenLoopDriverTest {
+
+    @Test
+    public void stallCountsAgainstEveryEventScheduledDuringIt() {
+        StubLauncher launcher = new StubLauncher(Duration.ofMillis(300), true);
+        OpenLoopDriver driver = new OpenLoopDriver(launcher, Object.class, (sequence, random) -> sequence,
+                ArrivalProcess.CONSTANT, 100, 42);
+
+        OpenLoopDriver.Measurement measurement = driver.fire(Duration.ofMillis(300));
+        assertTrue(driver.awaitCompletion(Duration.ofSeconds(5)));
+        LoadResult result = measurement.result();
+
+        assertEquals(30, result.fired(), "Every scheduled event must be fired, even late");
+        assertEquals(30, result.completed());
+        assertEquals(30, result.responseTime().getCount());
+        assertTrue(result.maxSendLag().compareTo(Duration.ofMillis(250)) >= 0,
+                "The stall must show as send lag: " + result.maxSendLag());
+        assertTrue(result.responseTime().getValueAtPercentile(50).compareTo(Duration.ofMillis(100)) >= 0,
+                "The events due during the stall must wait for it: " + result.responseTime());
+        assertTrue(result.serviceTime().getValueAtPercentile(50).compareTo(Duration.ofMillis(50)) < 0,
+                "Only the stalled workflow itself must be slow to serve: " + result.serviceTime());
+    }
+
+    @Test
+    public void workflowsLeftInFlightAreRecordedAsLowerBounds() {
+        StubLauncher launcher = new StubLauncher(Duration.ZERO, false);
+        OpenLoopDriver driver = new OpenLoopDriver(launcher, Object.class, (sequence, random) -> sequence,
+                ArrivalProcess.CONSTANT, 100, 42);
+
+        OpenLoopDriver.Measurement measurement = driver.fire(Duration.ofMillis(100));
+        assertFalse(driver.awaitCompletion(Duration.ofMillis(100)), "Pending workflows must time the drain out");
+        assertEquals(10, measurement.recordInFlight(), "Every pending workflow must be recorded");
+        launcher.completeAll();
+
+        LoadResult result = measurement.result();
+        assertEquals(10, result.fired());
+        assertEquals(0, result.completed(), "A workflow ending after it was recorded must be ignored");
+        assertEquals(10, result.incomplete());
+        assertEquals(10, result.responseTime().getCount(), "Incomplete workflows must be in the latencies");
+        assertTrue(result.responseTime().getMax().compareTo(Duration.ofMillis(100)) >= 0,
+                "The lower bound must include the drain time: " + result.responseTime());
+        assertEquals(0, measurement.recordInFlight(), "A workflow must be recorded once");
+    }
+
+    @Test
+    public void refusedEventsCountAsRejected() {
+        WorkflowLauncher refusing = new StubLauncher(Duration.ZERO, true) {
+            @Override
+            public WorkflowHandle<Object> start(Class<?> agentClass, Object triggerEvent) {
+                throw new IllegalStateException("queue full");
+            }
+        };
+        OpenLoopDriver driver = new OpenLoopDriver(refusing, Object.class, (sequence, random) -> sequence,
+                ArrivalProcess.CONSTANT, 100, 42);
+        LoadResult result = driver.fire(Duration.ofMillis(50)).result();
+        assertEquals(5, result.fired());
+        assertEquals(5, result.rejected());
+        assertEquals(0, result.incomplete());
+        assertEquals(0, result.responseTime().getCount());
+    }
+
+    /**
+     * Starts workflows that end at once, or that stay pending, after stalling the
+     * first start.
+     */
+    private static class StubLauncher implements WorkflowLauncher {
+
+        private final Duration firstStall;
+        private final boolean complete;
+        private final AtomicLong started = new AtomicLong();
+        private final List<DefaultWorkflowHandle<Object>> pending = new CopyOnWriteArrayList<>();
+
+        StubLauncher(Duration firstStall, boolean complete) {
+            this.firstStall = firstStall;
+            this.complete = complete;
+        }
+
+        @Override
+        public WorkflowHandle<Object> start(Class<?> agentClass, Object triggerEvent) {
+            DefaultWorkflowHandle<Object> handle = new DefaultWorkflowHandle<>(
+                    "workflow-" + started.incrementAndGet(), "agent");
+            handle.markRunning();
+            if (started.get() == 1 && !firstStall.isZero()) {
+                try {
+                    Thread.sleep(firstStall.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (complete) {
+                handle.complete(triggerEvent);
+            } else {
+                pending.add(handle);
+            }
+            return handle;
+        }
+
+        void completeAll() {
+            for (DefaultWorkflowHandle<Object> handle : pending) {
+                handle.complete(null);
+            }
+        }
+
+        @Override
+        public WorkflowHandle<Object> start(String agentName, Object triggerEvent) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Long> startAll(String agentName, Stream<?> triggerEvents, int maxInFlight,
+                                              Consumer<? super WorkflowHandle<Object>> onStart) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.batch;
+
+import jakarta.ai.agent.Batch;
+
+import java.util.List;
+
+/**
+ * Per-element invocation of an {@code @Outcome} method for a {@link Batch} workflow.
+ */
+public final class BatchFanOut {
+
+    /**
+     * Invokes an outcome for one element of a batch.
+     *
+     * @param <E> the element type
+     */
+    @FunctionalInterface
+    public interface ElementOutcome<E> {
+
+        /**
+         * Invoke the outcome for one element.
+         *
+         * @param element the batch element
+         * @param result the entry of the action result for this element if results are
+         *        paired, otherwise the whole action result
+         * @throws Exception if the outcome fails
+         */
+        void invoke(E element, Object result) throws Exception;
+    }
+
+    private BatchFanOut() {
+    }
+
+    /**
+     * Invoke an outcome once per element, in batch order.
+     * <p>
+     * With {@code pairResults}, as declared by {@link Batch#pairResults()}, each element
+     * is paired with the entry of {@code actionResult} at its index; otherwise every
+     * element receives the whole result. Every element is processed even if some
+     * invocations fail; the first failure is then thrown with the others suppressed.
+     *
+     * @param <E> the element type
+     * @param batch the batch
+     * @param actionResult the result of the last action, may be {@code null}
+     * @param pairResults whether {@code actionResult} holds one entry per element
+     * @param outcome the per-element outcome
+     * @throws IllegalStateException if results are paired and {@code actionResult} is not
+     *         a {@code List} of the batch size; no outcome is invoked
+     * @throws Exception the first failure of an invocation
+     */
+    public static <E> void fanOut(List<E> batch, Object actionResult, boolean pairResults,
+                                  ElementOutcome<? super E> outcome) throws Exception {
+        List<?> perElement = null;
+        if (pairResults) {
+            if (!(actionResult instanceof List) || ((List<?>) actionResult).size() != batch.size()) {
+                throw new IllegalStateException("The action must return one result per batch element, "
+                        + batch.size() + " in all, but returned " + describe(actionResult));
+            }
+            perElement = (List<?>) actionResult;
+        }
+        Exception failure = null;
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                outcome.invoke(batch.get(i), perElement != null ? perElement.get(i) : actionResult);
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static String describe(Object actionResult) {
+        if (actionResult instanceof List) {
+            return "a list of " + ((List<?>) actionResult).size();
+        }
+        return actionResult == null ? "null" : "a " + actionResult.getClass().getName();
+    }
+}
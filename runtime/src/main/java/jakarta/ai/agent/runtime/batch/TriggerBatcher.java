@@ -0,0 +1,217 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.batch;
+
+import jakarta.ai.agent.Batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Accumulates triggering events into batches for a {@link Batch} trigger.
+ * <p>
+ * A batch is handed to the launcher when it reaches the configured size, or when its
+ * first event has lingered for the configured time. The launcher is always called
+ * outside the batcher's lock, either on the thread that added the last event or on the
+ * scheduler thread, and receives an unmodifiable list.
+ *
+ * @param <E> the event type
+ */
+public final class TriggerBatcher<E> implements AutoCloseable {
+
+    private final int size;
+    private final long lingerNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<List<E>> launcher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<E> pending;
+    private ScheduledFuture<?> lingerTask;
+    private long generation;
+    private boolean closed;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder lingerFlushes = new LongAdder();
+
+    /**
+     * Create a batcher.
+     *
+     * @param size the number of events that completes a batch
+     * @param linger the longest time the first event of a batch waits
+     * @param scheduler the scheduler used to flush lingering batches
+     * @param launcher starts a workflow for a batch
+     */
+    public TriggerBatcher(int size, Duration linger, ScheduledExecutorService scheduler, Consumer<List<E>> launcher) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.size = size;
+        this.lingerNanos = linger.toNanos();
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.launcher = Objects.requireNonNull(launcher, "launcher");
+        this.pending = new ArrayList<>(size);
+    }
+
+    /**
+     * Create a batcher from the {@link Batch} annotation of a trigger method.
+     *
+     * @param <E> the event type
+     * @param batch the annotation
+     * @param scheduler the scheduler used to flush lingering batches
+     * @param launcher starts a workflow for a batch
+     * @return the batcher
+     */
+    public static <E> TriggerBatcher<E> of(Batch batch, ScheduledExecutorService scheduler, Consumer<List<E>> launcher) {
+        return new TriggerBatcher<>(batch.size(), Duration.ofMillis(batch.lingerMillis()), scheduler, launcher);
+    }
+
+    /**
+     * Add an event to the current batch, launching the batch if it is full.
+     *
+     * @param event the event
+     * @throws IllegalStateException if the batcher is closed
+     */
+    public void add(E event) {
+        List<E> full = null;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Batcher is closed");
+            }
+            pending.add(event);
+            if (pending.size() >= size) {
+                full = takeLocked();
+            } else if (pending.size() == 1) {
+                long expected = generation;
+                lingerTask = scheduler.schedule(() -> lingerExpired(expected), lingerNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            launch(full);
+        }
+    }
+
+    /**
+     * Launch the current batch now, if it holds any event.
+     */
+    public void flush() {
+        List<E> batch = null;
+        lock.lock();
+        try {
+            if (!pending.isEmpty()) {
+                batch = takeLocked();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            launch(batch);
+        }
+    }
+
+    /**
+     * Launch the current batch and reject further events.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    private void lingerExpired(long expected) {
+        List<E> batch = null;
+        lock.lock();
+        try {
+            if (generation == expected && !pending.isEmpty()) {
+                batch = takeLocked();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            lingerFlushes.increment();
+            launch(batch);
+        }
+    }
+
+    private List<E> takeLocked() {
+        List<E> batch = Collections.unmodifiableList(pending);
+        pending = new ArrayList<>(size);
+        generation++;
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return batch;
+    }
+
+    private void launch(List<E> batch) {
+        batches.increment();
+        elements.add(batch.size());
+        launcher.accept(batch);
+    }
+
+    /**
+     * @return the number of batches launched so far
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * @return the number of events launched so far
+     */
+    public long getElementCount() {
+        return elements.sum();
+    }
+
+    /**
+     * @return the number of batches launched because their linger time expired
+     */
+    public long getLingerFlushCount() {
+        return lingerFlushes.sum();
+    }
+
+    /**
+     * @return the mean number of events per launched batch
+     */
+    public double getMeanBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) elements.sum() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "TriggerBatcher{size=" + size
+                + ", batches=" + getBatchCount()
+                + ", meanBatchSize=" + getMeanBatchSize()
+                + ", lingerFlushes=" + getLingerFlushCount() + '}';
+    }
+}
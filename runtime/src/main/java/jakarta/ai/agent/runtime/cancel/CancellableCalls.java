@@ -0,0 +1,123 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.cancel;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.LLMException;
+import jakarta.ai.agent.WorkflowCancelledException;
+import jakarta.ai.agent.WorkflowTimeoutException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Helps {@link jakarta.ai.agent.LargeLanguageModel} implementations honor the
+ * {@link CancellationToken} of the calling workflow.
+ */
+public final class CancellableCalls {
+
+    private CancellableCalls() {
+    }
+
+    /**
+     * Run an asynchronous provider call and wait for its result on behalf of a workflow.
+     * <p>
+     * The call receives the remaining time until the deadline, to use as its request
+     * timeout. If the workflow is cancelled while waiting, the call's future is
+     * cancelled with interruption, which HTTP clients turn into an aborted request.
+     *
+     * @param <T> the result type
+     * @param token the cancellation token of the workflow
+     * @param call starts the call with the request timeout, or empty for no timeout
+     * @return the result of the call
+     * @throws WorkflowCancelledException if the workflow is cancelled
+     * @throws WorkflowTimeoutException if the deadline passes
+     * @throws LLMException if the call fails
+     */
+    public static <T> T await(CancellationToken token, Function<Optional<Duration>, CompletableFuture<T>> call) {
+        token.throwIfCancelled();
+        Optional<Duration> remaining = token.getRemainingTime();
+        CompletableFuture<T> future = call.apply(remaining);
+        CancellationToken.Registration registration = token.onCancel(() -> future.cancel(true));
+        try {
+            if (remaining.isPresent()) {
+                future.orTimeout(remaining.get().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return future.join();
+        } catch (CancellationException e) {
+            token.throwIfCancelled();
+            throw new WorkflowCancelledException("Call was cancelled");
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new WorkflowTimeoutException("Call exceeded the workflow deadline", cause);
+            }
+            if (cause instanceof RuntimeException && !(cause instanceof CompletionException)) {
+                throw (RuntimeException) cause;
+            }
+            throw new LLMException("Call failed", cause);
+        } finally {
+            registration.close();
+        }
+    }
+
+    /**
+     * Abort a streamed response when the workflow is cancelled.
+     * <p>
+     * Closing the stream, such as the body of a server-sent events response, releases
+     * the connection instead of reading the remaining tokens. The caller closes the
+     * returned registration once the stream has been consumed. A failure to close the
+     * stream does not propagate, as cancellation actions must not throw; it is passed
+     * to the uncaught exception handler of the cancelling thread.
+     *
+     * @param token the cancellation token of the workflow
+     * @param stream the response stream
+     * @return the registration of the abort action
+     */
+    public static CancellationToken.Registration abortOnCancel(CancellationToken token, AutoCloseable stream) {
+        Objects.requireNonNull(stream, "stream");
+        return token.onCancel(() -> {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread,
+                        new LLMException("Could not abort the response stream", e));
+            }
+        });
+    }
+
+    /**
+     * Cancel a subscription to a streamed response when the workflow is cancelled.
+     * <p>
+     * The caller closes the returned registration once the subscriber has received
+     * {@code onComplete} or {@code onError}.
+     *
+     * @param token the cancellation token of the workflow
+     * @param subscription the subscription to the response
+     * @return the registration of the cancel action
+     */
+    public static CancellationToken.Registration abortOnCancel(CancellationToken token,
+                                                               Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        return token.onCancel(subscription::cancel);
+    }
+}
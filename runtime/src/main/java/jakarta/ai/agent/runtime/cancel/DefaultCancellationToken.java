@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.cancel;
+
+import jakarta.ai.agent.CancellationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link CancellationToken} cancelled explicitly or when its deadline passes.
+ * <p>
+ * A runtime typically creates one token per workflow and wires it both ways:
+ * {@code handle.bind(token)} so that cancelling the
+ * {@link jakarta.ai.agent.WorkflowHandle} cancels the token, and
+ * {@code scopeStore.destroyOnCancel(token)} so that cancellation releases the
+ * workflow's {@link jakarta.ai.agent.WorkflowScoped} beans immediately.
+ * <p>
+ * Actions run exactly once, on the thread that cancels the token or, for a deadline,
+ * on the scheduler thread. The {@link CancellationToken} contract requires that actions
+ * do not throw; the token enforces it, so that an action such as a failing
+ * {@code @PreDestroy} method does not prevent the others or the completion of the
+ * workflow. The exception of an action is passed to the uncaught exception handler of
+ * the cancelling thread, and {@link #cancel()} returns normally.
+ */
+public final class DefaultCancellationToken implements CancellationToken {
+
+    private final Instant deadline;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final ConcurrentLinkedQueue<Action> actions = new ConcurrentLinkedQueue<>();
+    private volatile ScheduledFuture<?> deadlineTask;
+
+    /**
+     * Create a token without deadline.
+     */
+    public DefaultCancellationToken() {
+        this.deadline = null;
+    }
+
+    private DefaultCancellationToken(Instant deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Create a token for work done on behalf of a workflow, such as one decision of
+     * several evaluated concurrently, that can be cancelled on its own.
+     * <p>
+     * The token has the deadline of the workflow token, so that calls made with it get
+     * the remaining time as request timeout and report a passed deadline as
+     * {@link jakarta.ai.agent.WorkflowTimeoutException}. It has no timer of its own: the
+     * caller cancels it when the workflow token is cancelled, typically by registering
+     * {@code workflowToken.onCancel(token::cancel)}.
+     *
+     * @param workflowToken the token of the workflow
+     * @return the new token
+     */
+    public static DefaultCancellationToken withDeadlineOf(CancellationToken workflowToken) {
+        return new DefaultCancellationToken(workflowToken.getDeadline().orElse(null));
+    }
+
+    /**
+     * Create a token cancelled when the given time has elapsed.
+     *
+     * @param timeout the time until the deadline
+     * @param scheduler the scheduler used to cancel the token at the deadline
+     */
+    public DefaultCancellationToken(Duration timeout, ScheduledExecutorService scheduler) {
+        this.deadline = Instant.now().plus(timeout);
+        this.deadlineTask = scheduler.schedule(this::cancel, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cancel the token and run the registered actions.
+     *
+     * @return {@code true} if this call cancelled the token
+     */
+    public boolean cancel() {
+        if (!cancelled.compareAndSet(false, true)) {
+            return false;
+        }
+        ScheduledFuture<?> task = deadlineTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        for (Action action; (action = actions.poll()) != null; ) {
+            action.run();
+        }
+        return true;
+    }
+
+    /**
+     * Release the deadline timer once the workflow has ended normally. The token is not
+     * cancelled and registered actions are discarded.
+     */
+    public void close() {
+        ScheduledFuture<?> task = deadlineTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        actions.clear();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    @Override
+    public Optional<Instant> getDeadline() {
+        return Optional.ofNullable(deadline);
+    }
+
+    @Override
+    public Registration onCancel(Runnable runnable) {
+        Action action = new Action(runnable);
+        actions.add(action);
+        if (cancelled.get() && actions.remove(action)) {
+            // Cancelled concurrently: cancel() may have drained the queue before the add.
+            action.run();
+        }
+        return () -> actions.remove(action);
+    }
+
+    @Override
+    public String toString() {
+        return "CancellationToken{cancelled=" + isCancelled() + ", deadline=" + deadline + '}';
+    }
+
+    private static final class Action {
+
+        private final Runnable runnable;
+        private final AtomicBoolean ran = new AtomicBoolean();
+
+        Action(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        void run() {
+            if (ran.compareAndSet(false, true)) {
+                try {
+                    runnable.run();
+                } catch (RuntimeException e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+}
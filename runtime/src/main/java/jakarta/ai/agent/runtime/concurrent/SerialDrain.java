@@ -0,0 +1,65 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a drain action on one thread at a time without blocking, for stages that start
+ * queued workflows whenever a slot frees up.
+ * <p>
+ * The thread whose {@link #request()} finds no drain in progress runs the action, and
+ * runs it again as long as further requests arrived meanwhile; other threads return
+ * immediately. Every request is therefore followed by at least one complete run of the
+ * action, and state touched only by the action needs no further synchronization.
+ * <p>
+ * An exception thrown by the action propagates to the thread that ran it and releases
+ * the drain, so that the next request runs the action again; requests that arrived
+ * during the failed run are served by that next run.
+ */
+public final class SerialDrain {
+
+    private final Runnable action;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /**
+     * Create a drain.
+     *
+     * @param action drains until no further progress can be made
+     */
+    public SerialDrain(Runnable action) {
+        this.action = Objects.requireNonNull(action, "action");
+    }
+
+    /**
+     * Run the action on this thread, or have the thread currently running it run it
+     * again.
+     */
+    public void request() {
+        if (requests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        try {
+            do {
+                action.run();
+                missed = requests.addAndGet(-missed);
+            } while (missed != 0);
+        } finally {
+            if (missed != 0) {
+                requests.set(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.context;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.Payload;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.WorkflowPriority;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe {@link WorkflowContext} implementation backed by a concurrent map.
+ * <p>
+ * Attributes may be read and written concurrently by phases running on different
+ * threads. {@link #getAttributeNames()} returns a live, weakly consistent view that
+ * never throws {@link java.util.ConcurrentModificationException}.
+ * <p>
+ * The runtime calls {@link #end()} when the workflow finishes, which releases every
+ * {@link Payload} attribute and clears the context.
+ */
+public class DefaultWorkflowContext implements WorkflowContext {
+
+    private final String workflowId;
+    private final Object triggerEvent;
+    private final ConcurrentHashMap<String, Object> attributes = new ConcurrentHashMap<>();
+    private final AtomicReference<WorkflowPriority> priority;
+    private final CancellationToken cancellationToken;
+
+    /**
+     * Create a context for a new workflow execution with {@link WorkflowPriority#MEDIUM} priority.
+     *
+     * @param workflowId the workflow identifier
+     * @param triggerEvent the event that started the workflow, may be {@code null}
+     */
+    public DefaultWorkflowContext(String workflowId, Object triggerEvent) {
+        this(workflowId, triggerEvent, WorkflowPriority.MEDIUM);
+    }
+
+    /**
+     * Create a context for a new workflow execution.
+     *
+     * @param workflowId the workflow identifier
+     * @param triggerEvent the event that started the workflow, may be {@code null}
+     * @param priority the initial priority of the workflow
+     */
+    public DefaultWorkflowContext(String workflowId, Object triggerEvent, WorkflowPriority priority) {
+        this(workflowId, triggerEvent, priority, CancellationToken.none());
+    }
+
+    /**
+     * Create a context for a new workflow execution that can be cancelled.
+     *
+     * @param workflowId the workflow identifier
+     * @param triggerEvent the event that started the workflow, may be {@code null}
+     * @param priority the initial priority of the workflow
+     * @param cancellationToken the cancellation token and deadline of the workflow
+     */
+    public DefaultWorkflowContext(String workflowId, Object triggerEvent, WorkflowPriority priority,
+                                  CancellationToken cancellationToken) {
+        this.workflowId = Objects.requireNonNull(workflowId, "workflowId");
+        this.triggerEvent = triggerEvent;
+        this.priority = new AtomicReference<>(Objects.requireNonNull(priority, "priority"));
+        this.cancellationToken = Objects.requireNonNull(cancellationToken, "cancellationToken");
+    }
+
+    /**
+     * Get the identifier of the workflow this context belongs to.
+     *
+     * @return the workflow identifier
+     */
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (name == null) {
+            throw new IllegalArgumentException("Attribute name must not be null");
+        }
+        if (value == null) {
+            removeAttribute(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return name == null ? null : attributes.get(name);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        if (name != null) {
+            attributes.remove(name);
+        }
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return Collections.unmodifiableSet(attributes.keySet());
+    }
+
+    @Override
+    public Object getTriggerEvent() {
+        return triggerEvent;
+    }
+
+    @Override
+    public WorkflowPriority getPriority() {
+        return priority.get();
+    }
+
+    @Override
+    public void raisePriority(WorkflowPriority requested) {
+        if (requested == null) {
+            throw new IllegalArgumentException("Priority must not be null");
+        }
+        priority.accumulateAndGet(requested, (current, next) -> next.isHigherThan(current) ? next : current);
+    }
+
+    @Override
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * End the workflow: release all {@link Payload} attributes and remove all attributes.
+     */
+    public void end() {
+        for (Object value : attributes.values()) {
+            if (value instanceof Payload) {
+                ((Payload) value).release();
+            }
+        }
+        attributes.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultWorkflowContext{workflowId='" + workflowId + "', attributes=" + attributes.keySet() + '}';
+    }
+}
@@ -0,0 +1,235 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.decision;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.ConcurrentDecisions;
+import jakarta.ai.agent.Result;
+import jakarta.ai.agent.runtime.cancel.DefaultCancellationToken;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Evaluates the decision methods of an agent concurrently and combines their results,
+ * as specified by {@link ConcurrentDecisions @ConcurrentDecisions}.
+ * <p>
+ * Each evaluation of {@link #evaluate(List, CancellationToken)} runs every candidate on
+ * the executor, passing it a cancellation token that the runtime exposes as the
+ * {@link jakarta.ai.agent.WorkflowContext#getCancellationToken() token} of the
+ * decision method's context. The token has the deadline of the workflow and is
+ * cancelled as soon as the combined result is known, or when the workflow itself is
+ * cancelled, so that {@link jakarta.ai.agent.LargeLanguageModel} calls still pending
+ * are aborted. Results that arrive after that are ignored.
+ * <p>
+ * The candidates run on threads other than the workflow's. Decision methods that use
+ * {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} beans need the workflow scope
+ * on those threads: pass a {@link jakarta.ai.agent.runtime.scope.WorkflowScopeExecutor},
+ * which activates the scope that is active when {@link #evaluate} is called.
+ * <p>
+ * The combined result is a {@link Result} whose details are the values returned by the
+ * candidates, in candidate order, with {@code null} for the candidates that did not
+ * finish. It can be passed to {@link DecisionGate#proceed}.
+ * <p>
+ * Instances are thread-safe and are typically shared by all workflows of an agent.
+ */
+public final class DecisionCombiner {
+
+    // Relative tolerance of the weighted vote, so that the rounding of sums of weights
+    // such as 0.1 + 0.2 never decides it.
+    private static final double WEIGHT_TOLERANCE = 1e-9;
+
+    private final ConcurrentDecisions.Combinator combinator;
+    private final double threshold;
+    private final Executor executor;
+
+    /**
+     * Create a combiner.
+     *
+     * @param combinator how the decision results are combined
+     * @param threshold the passing share of the total weight for
+     *        {@link ConcurrentDecisions.Combinator#WEIGHTED_VOTE}
+     * @param executor the executor running the decision methods, which must propagate
+     *        the workflow scope if the decisions use workflow-scoped beans
+     */
+    public DecisionCombiner(ConcurrentDecisions.Combinator combinator, double threshold, Executor executor) {
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw new IllegalArgumentException("threshold must be in (0, 1]");
+        }
+        this.combinator = Objects.requireNonNull(combinator, "combinator");
+        this.threshold = threshold;
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Create a combiner from the annotation of an agent.
+     *
+     * @param annotation the annotation of the agent class
+     * @param executor the executor running the decision methods
+     * @return the combiner
+     */
+    public static DecisionCombiner of(ConcurrentDecisions annotation, Executor executor) {
+        return new DecisionCombiner(annotation.combinator(), annotation.threshold(), executor);
+    }
+
+    /**
+     * Evaluate the candidates concurrently.
+     *
+     * @param candidates the decision methods of the agent, in declaration order
+     * @param workflowToken the cancellation token of the workflow
+     * @return a stage completed with the combined result, or exceptionally with the
+     *         first exception thrown by a candidate
+     */
+    public CompletionStage<Result> evaluate(List<Candidate> candidates, CancellationToken workflowToken) {
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("At least one decision is required");
+        }
+        Evaluation evaluation = new Evaluation(candidates, workflowToken);
+        CancellationToken.Registration registration = workflowToken.onCancel(evaluation.token::cancel);
+        evaluation.result.whenComplete((result, failure) -> registration.close());
+        for (int i = 0; i < candidates.size(); i++) {
+            int index = i;
+            Candidate candidate = candidates.get(i);
+            try {
+                CompletableFuture.supplyAsync(() -> candidate.decision().apply(evaluation.token), executor)
+                        .whenComplete((value, failure) -> evaluation.decided(index, value, failure));
+            } catch (RuntimeException e) {
+                evaluation.decided(index, null, e);
+            }
+        }
+        return evaluation.result.minimalCompletionStage();
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionCombiner{combinator=" + combinator + ", threshold=" + threshold + '}';
+    }
+
+    /**
+     * A decision method to evaluate.
+     *
+     * @param name the name of the decision, for diagnostics
+     * @param weight the weight of the decision in a weighted vote, must be positive
+     * @param decision invokes the decision method with the cancellation token of the
+     *        evaluation and returns its result
+     */
+    public record Candidate(String name, double weight, Function<CancellationToken, ?> decision) {
+
+        /**
+         * Validate the candidate.
+         */
+        public Candidate {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(decision, "decision");
+            if (!(weight > 0)) {
+                throw new IllegalArgumentException("weight must be positive");
+            }
+        }
+    }
+
+    /**
+     * The state of one evaluation. Results are folded in under the evaluation's monitor,
+     * so the combined result is decided exactly once.
+     */
+    private final class Evaluation {
+
+        private final DefaultCancellationToken token;
+        private final CompletableFuture<Result> result = new CompletableFuture<>();
+        private final List<Candidate> candidates;
+        private final Object[] values;
+        private final double requiredWeight;
+        private final double tolerance;
+        private int pending;
+        private double passedWeight;
+        private double pendingWeight;
+        private boolean done;
+
+        Evaluation(List<Candidate> candidates, CancellationToken workflowToken) {
+            this.token = DefaultCancellationToken.withDeadlineOf(workflowToken);
+            this.candidates = candidates;
+            this.values = new Object[candidates.size()];
+            this.pending = candidates.size();
+            double total = 0;
+            for (Candidate candidate : candidates) {
+                total += candidate.weight();
+            }
+            this.pendingWeight = total;
+            this.requiredWeight = total * threshold;
+            this.tolerance = total * WEIGHT_TOLERANCE;
+        }
+
+        void decided(int index, Object value, Throwable failure) {
+            Result combined;
+            Throwable cause = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (failure != null) {
+                    done = true;
+                    combined = null;
+                    cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                } else {
+                    values[index] = value;
+                    pending--;
+                    double weight = candidates.get(index).weight();
+                    pendingWeight -= weight;
+                    boolean passed = DecisionGate.proceeds(value);
+                    if (passed) {
+                        passedWeight += weight;
+                    }
+                    Boolean outcome = outcome(passed);
+                    if (outcome == null) {
+                        return;
+                    }
+                    done = true;
+                    combined = new Result(outcome, Collections.unmodifiableList(Arrays.asList(values.clone())));
+                }
+            }
+            if (pending > 0) {
+                token.cancel();
+            }
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(combined);
+            }
+        }
+
+        /**
+         * @return the combined outcome, or {@code null} if it is not known yet
+         */
+        private Boolean outcome(boolean passed) {
+            switch (combinator) {
+                case ALL:
+                    return !passed ? Boolean.FALSE : pending == 0 ? Boolean.TRUE : null;
+                case ANY:
+                    return passed ? Boolean.TRUE : pending == 0 ? Boolean.FALSE : null;
+                default:
+                    if (passedWeight >= requiredWeight - tolerance) {
+                        return Boolean.TRUE;
+                    }
+                    return passedWeight + pendingWeight < requiredWeight - tolerance || pending == 0
+                            ? Boolean.FALSE : null;
+            }
+        }
+    }
+}
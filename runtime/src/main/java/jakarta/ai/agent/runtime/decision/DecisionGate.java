@@ -0,0 +1,132 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.decision;
+
+import jakarta.ai.agent.Result;
+import jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeStore;
+
+/**
+ * Interprets the value returned by a {@link jakarta.ai.agent.Decision @Decision} method
+ * and ends the workflow on the spot when the decision stops it.
+ * <p>
+ * For agents whose decisions are mostly negative, stopping at the decision is the
+ * common path. The gate therefore ends such a workflow without scheduling anything
+ * further: no action or outcome task is created, no exception is thrown, and the
+ * {@link WorkflowScopeStore} is destroyed in bulk on the calling thread.
+ *
+ * <pre>{@code
+ * Object decision = decisionMethod.invoke(agent, resolver, decisionMetrics);
+ * if (!gate.proceed(decision, scope, handle, decisionMetrics)) {
+ *     context.end();
+ *     return;
+ * }
+ * scheduleActions(agent, context, decision);
+ * }</pre>
+ * <p>
+ * Instances are thread-safe and are typically shared by all workflows of an agent.
+ */
+public final class DecisionGate {
+
+    private final DecisionStatistics statistics = new DecisionStatistics();
+
+    /**
+     * Check whether a decision value lets the workflow proceed: {@code null},
+     * {@link Boolean#FALSE} and a {@link Result} whose {@link Result#success()} is
+     * {@code false} stop it, any other value lets it proceed.
+     *
+     * @param decision the value returned by the decision method
+     * @return {@code true} if the workflow proceeds
+     */
+    public static boolean proceeds(Object decision) {
+        if (decision == null) {
+            return false;
+        }
+        if (decision instanceof Boolean) {
+            return (Boolean) decision;
+        }
+        if (decision instanceof Result) {
+            return ((Result) decision).success();
+        }
+        return true;
+    }
+
+    /**
+     * Let the workflow proceed, or terminate it at the decision phase.
+     * <p>
+     * When the decision stops the workflow, the workflow's scope is destroyed first, and
+     * the handle is then ended with {@link jakarta.ai.agent.WorkflowStatus#TERMINATED}
+     * and the decision value as result, such as the {@link Result} whose details explain
+     * the termination. Callers observing the handle therefore see the workflow
+     * terminated only once its {@code @PreDestroy} methods have run. Failures of those
+     * methods are rethrown after the handle has been terminated.
+     *
+     * @param <R> the result type of the handle
+     * @param decision the value returned by the decision method
+     * @param scope the workflow's scope, destroyed on termination
+     * @param handle the workflow's handle, terminated on termination, may be {@code null}
+     * @return {@code true} if the workflow proceeds to its actions
+     */
+    public <R> boolean proceed(R decision, WorkflowScopeStore scope, DefaultWorkflowHandle<? super R> handle) {
+        return proceed(decision, scope, handle, null);
+    }
+
+    /**
+     * Let the workflow proceed, or terminate it at the decision phase and count the
+     * termination in the metrics of the decision method that returned the value, as
+     * reported by {@link PhaseMetrics#getTerminationCount()}.
+     *
+     * @param <R> the result type of the handle
+     * @param decision the value returned by the decision method
+     * @param scope the workflow's scope, destroyed on termination
+     * @param handle the workflow's handle, terminated on termination, may be {@code null}
+     * @param metrics the metrics of the decision method, may be {@code null}
+     * @return {@code true} if the workflow proceeds to its actions
+     * @see #proceed(Object, WorkflowScopeStore, DefaultWorkflowHandle)
+     */
+    public <R> boolean proceed(R decision, WorkflowScopeStore scope, DefaultWorkflowHandle<? super R> handle,
+                               PhaseMetrics metrics) {
+        if (proceeds(decision)) {
+            statistics.recordProceeded();
+            return true;
+        }
+        long start = System.nanoTime();
+        try {
+            scope.destroy();
+        } finally {
+            if (handle != null) {
+                handle.terminate(decision);
+            }
+            statistics.recordTerminated(System.nanoTime() - start);
+            if (metrics != null) {
+                metrics.recordTermination();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the decision statistics.
+     *
+     * @return the statistics
+     */
+    public DecisionStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionGate{" + statistics + '}';
+    }
+}
@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.decision;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of workflows that proceeded past, or were terminated at, their decision
+ * phase.
+ * <p>
+ * All counters are striped, so recording does not contend between threads.
+ */
+public final class DecisionStatistics {
+
+    private final LongAdder proceeded = new LongAdder();
+    private final LongAdder terminated = new LongAdder();
+    private final LongAdder teardownNanos = new LongAdder();
+    private final LongAccumulator maxTeardownNanos = new LongAccumulator(Math::max, 0);
+
+    void recordProceeded() {
+        proceeded.increment();
+    }
+
+    void recordTerminated(long nanos) {
+        terminated.increment();
+        teardownNanos.add(nanos);
+        maxTeardownNanos.accumulate(nanos);
+    }
+
+    /**
+     * @return the number of workflows whose decision let them proceed
+     */
+    public long getProceededCount() {
+        return proceeded.sum();
+    }
+
+    /**
+     * @return the number of workflows terminated at the decision phase
+     */
+    public long getTerminatedAtDecisionCount() {
+        return terminated.sum();
+    }
+
+    /**
+     * @return the share of decided workflows that were terminated, between 0 and 1
+     */
+    public double getTerminationRatio() {
+        long stopped = terminated.sum();
+        long total = stopped + proceeded.sum();
+        return total == 0 ? 0 : (double) stopped / total;
+    }
+
+    /**
+     * @return the mean time spent tearing down a workflow terminated at its decision
+     */
+    public Duration getMeanTeardownTime() {
+        long count = terminated.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(teardownNanos.sum() / count);
+    }
+
+    /**
+     * @return the longest time spent tearing down a workflow terminated at its decision
+     */
+    public Duration getMaxTeardownTime() {
+        return Duration.ofNanos(maxTeardownNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionStatistics{" +
+                "proceeded=" + getProceededCount() +
+                ", terminatedAtDecision=" + getTerminatedAtDecisionCount() +
+                ", meanTeardownTime=" + getMeanTeardownTime() +
+                '}';
+    }
+}
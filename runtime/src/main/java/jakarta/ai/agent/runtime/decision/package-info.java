@@ -0,0 +1,23 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Interpretation of {@link jakarta.ai.agent.Decision @Decision} results, with a fast
+ * path for workflows terminated at their decision, see
+ * {@link jakarta.ai.agent.runtime.decision.DecisionGate}.
+ * <p>
+ * Agents annotated with {@link jakarta.ai.agent.ConcurrentDecisions @ConcurrentDecisions}
+ * have their decisions evaluated by a
+ * {@link jakarta.ai.agent.runtime.decision.DecisionCombiner}.
+ */
+package jakarta.ai.agent.runtime.decision;
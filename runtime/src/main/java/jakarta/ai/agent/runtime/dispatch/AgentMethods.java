@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+import jakarta.ai.agent.Action;
+import jakarta.ai.agent.Decision;
+import jakarta.ai.agent.HandleException;
+import jakarta.ai.agent.Outcome;
+import jakarta.ai.agent.Trigger;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The lifecycle methods of an agent class, discovered once per class.
+ * <p>
+ * Methods declared by superclasses come before those of subclasses; within a class,
+ * methods are in the order reported by reflection. Bridge and synthetic methods are
+ * ignored.
+ */
+public final class AgentMethods {
+
+    private final Class<?> agentClass;
+    private final List<PhaseMethod> triggers = new ArrayList<>();
+    private final List<PhaseMethod> decisions = new ArrayList<>();
+    private final List<PhaseMethod> actions = new ArrayList<>();
+    private final List<PhaseMethod> outcomes = new ArrayList<>();
+    private final ExceptionHandlers exceptionHandlers;
+
+    private AgentMethods(Class<?> agentClass) {
+        this.agentClass = agentClass;
+        List<PhaseMethod> handlers = new ArrayList<>();
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> type = agentClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.push(type);
+        }
+        for (Class<?> type : hierarchy) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.isAnnotationPresent(Trigger.class)) {
+                    triggers.add(PhaseMethod.of(method));
+                }
+                if (method.isAnnotationPresent(Decision.class)) {
+                    decisions.add(PhaseMethod.of(method));
+                }
+                if (method.isAnnotationPresent(Action.class)) {
+                    actions.add(PhaseMethod.of(method));
+                }
+                if (method.isAnnotationPresent(Outcome.class)) {
+                    outcomes.add(PhaseMethod.of(method));
+                }
+                if (method.isAnnotationPresent(HandleException.class)) {
+                    handlers.add(PhaseMethod.of(method));
+                }
+            }
+        }
+        this.exceptionHandlers = new ExceptionHandlers(handlers);
+    }
+
+    /**
+     * Discover the lifecycle methods of an agent class.
+     *
+     * @param agentClass the agent class
+     * @return the lifecycle methods
+     * @throws IllegalArgumentException if a lifecycle method cannot be accessed or an
+     *         exception handler declares no exception parameter
+     */
+    public static AgentMethods of(Class<?> agentClass) {
+        return new AgentMethods(agentClass);
+    }
+
+    /**
+     * @return the agent class
+     */
+    public Class<?> getAgentClass() {
+        return agentClass;
+    }
+
+    /**
+     * @return the {@link Trigger @Trigger} methods
+     */
+    public List<PhaseMethod> getTriggers() {
+        return List.copyOf(triggers);
+    }
+
+    /**
+     * @return the {@link Decision @Decision} methods
+     */
+    public List<PhaseMethod> getDecisions() {
+        return List.copyOf(decisions);
+    }
+
+    /**
+     * @return the {@link Action @Action} methods
+     */
+    public List<PhaseMethod> getActions() {
+        return List.copyOf(actions);
+    }
+
+    /**
+     * @return the {@link Outcome @Outcome} methods
+     */
+    public List<PhaseMethod> getOutcomes() {
+        return List.copyOf(outcomes);
+    }
+
+    /**
+     * @return the selector of the {@link HandleException @HandleException} methods
+     */
+    public ExceptionHandlers getExceptionHandlers() {
+        return exceptionHandlers;
+    }
+
+    @Override
+    public String toString() {
+        return "AgentMethods{" + agentClass.getName() + ", triggers=" + triggers.size() + ", decisions=" + decisions.size()
+                + ", actions=" + actions.size() + ", outcomes=" + outcomes.size()
+                + ", handlers=" + exceptionHandlers.getHandlers().size() + '}';
+    }
+}
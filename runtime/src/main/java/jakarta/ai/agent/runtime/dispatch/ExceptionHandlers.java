@@ -0,0 +1,103 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Selects the {@link jakarta.ai.agent.HandleException @HandleException} method of an
+ * agent for an exception.
+ * <p>
+ * The selected handler is the one whose exception parameter is the most specific
+ * supertype of the exception class; among handlers declaring the same type, the first
+ * one wins. Selections are cached per exception class, so after the first exception of
+ * a class, selection is a single map lookup. The cache belongs to the instance rather
+ * than to the exception classes, as a {@link ClassValue} would, so that JDK exception
+ * classes do not keep the agent's class loader reachable after undeployment.
+ */
+public final class ExceptionHandlers {
+
+    private final List<PhaseMethod> handlers;
+    private final List<Class<?>> exceptionTypes;
+    private final ConcurrentMap<Class<?>, Optional<PhaseMethod>> selections = new ConcurrentHashMap<>();
+
+    /**
+     * Create the selector for the handlers of an agent.
+     *
+     * @param handlers the handler methods, in declaration order
+     * @throws IllegalArgumentException if a handler declares no exception parameter
+     */
+    public ExceptionHandlers(List<PhaseMethod> handlers) {
+        this.handlers = List.copyOf(handlers);
+        this.exceptionTypes = new ArrayList<>(handlers.size());
+        for (PhaseMethod handler : this.handlers) {
+            exceptionTypes.add(exceptionType(handler));
+        }
+    }
+
+    /**
+     * Select the handler for an exception.
+     *
+     * @param exception the exception thrown by a lifecycle method
+     * @return the handler, or empty if the exception propagates to the container
+     */
+    public Optional<PhaseMethod> select(Throwable exception) {
+        Class<?> type = exception.getClass();
+        Optional<PhaseMethod> selected = selections.get(type);
+        if (selected == null) {
+            selected = selections.computeIfAbsent(type, key -> Optional.ofNullable(scan(key)));
+        }
+        return selected;
+    }
+
+    /**
+     * Get the handlers.
+     *
+     * @return the handler methods, in declaration order
+     */
+    public List<PhaseMethod> getHandlers() {
+        return handlers;
+    }
+
+    private PhaseMethod scan(Class<?> type) {
+        PhaseMethod selected = null;
+        Class<?> selectedType = null;
+        for (int i = 0; i < handlers.size(); i++) {
+            Class<?> candidate = exceptionTypes.get(i);
+            if (candidate.isAssignableFrom(type)
+                    && (selectedType == null || (selectedType != candidate && selectedType.isAssignableFrom(candidate)))) {
+                selected = handlers.get(i);
+                selectedType = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private static Class<?> exceptionType(PhaseMethod handler) {
+        for (Class<?> type : handler.getParameterTypes()) {
+            if (Throwable.class.isAssignableFrom(type)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Exception handler " + handler.getMethod() + " declares no exception parameter");
+    }
+
+    @Override
+    public String toString() {
+        return "ExceptionHandlers" + handlers;
+    }
+}
@@ -0,0 +1,32 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+/**
+ * Supplies the arguments of a lifecycle method invocation by parameter type.
+ * <p>
+ * A runtime resolves trigger events, decision and action results, the
+ * {@link jakarta.ai.agent.WorkflowContext}, the
+ * {@link jakarta.ai.agent.LargeLanguageModel} and CDI beans through this interface.
+ */
+@FunctionalInterface
+public interface ParameterResolver {
+
+    /**
+     * Resolve the argument for a parameter.
+     *
+     * @param type the declared parameter type
+     * @return the argument, or {@code null} if none is available
+     */
+    Object resolve(Class<?> type);
+}
@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+import jakarta.ai.agent.runtime.jfr.PhaseInvokeEvent;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+
+/**
+ * A lifecycle method of an agent, prepared for repeated invocation.
+ * <p>
+ * The parameter types and a method handle are computed once, so that an invocation
+ * costs one resolver call per parameter and one method handle call, without the
+ * access checks and argument boxing of {@link Method#invoke(Object, Object...)}.
+ */
+public final class PhaseMethod {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle invoker;
+
+    private PhaseMethod(Method method, MethodHandle invoker) {
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+        this.invoker = invoker;
+    }
+
+    /**
+     * Prepare a lifecycle method. Private methods are supported.
+     *
+     * @param method the method
+     * @return the prepared method
+     * @throws IllegalArgumentException if the method cannot be made accessible
+     */
+    public static PhaseMethod of(Method method) {
+        Objects.requireNonNull(method, "method");
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            int arity = method.getParameterCount();
+            MethodHandle invoker = handle
+                    .asType(handle.type().changeReturnType(Object.class).changeParameterType(0, Object.class))
+                    .asSpreader(Object[].class, arity)
+                    .asType(INVOKER_TYPE);
+            return new PhaseMethod(method, invoker);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access lifecycle method " + method, e);
+        }
+    }
+
+    /**
+     * Invoke the method, resolving each argument by parameter type.
+     *
+     * @param agent the agent instance, ignored for a static method
+     * @param resolver supplies the arguments
+     * @return the value returned by the method, or {@code null} for a {@code void} method
+     * @throws Exception the exception thrown by the method, unwrapped
+     */
+    public Object invoke(Object agent, ParameterResolver resolver) throws Exception {
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = resolver.resolve(parameterTypes[i]);
+        }
+        try {
+            return invoker.invokeExact(agent, arguments);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * Invoke the method and record its duration, and whether it threw, in the metrics
+     * of the method.
+     *
+     * @param agent the agent instance, ignored for a static method
+     * @param resolver supplies the arguments
+     * @param metrics the metrics of this method
+     * @return the value returned by the method, or {@code null} for a {@code void} method
+     * @throws Exception the exception thrown by the method, unwrapped
+     */
+    public Object invoke(Object agent, ParameterResolver resolver, PhaseMetrics metrics) throws Exception {
+        return invoke(agent, resolver, metrics, null);
+    }
+
+    /**
+     * Invoke the method, record it in the metrics of the method, and emit a
+     * {@link PhaseInvokeEvent} for the workflow.
+     *
+     * @param agent the agent instance, ignored for a static method
+     * @param resolver supplies the arguments
+     * @param metrics the metrics of this method
+     * @param workflowId the identifier of the workflow, or {@code null} if unknown
+     * @return the value returned by the method, or {@code null} for a {@code void} method
+     * @throws Exception the exception thrown by the method, unwrapped
+     */
+    public Object invoke(Object agent, ParameterResolver resolver, PhaseMetrics metrics, String workflowId)
+            throws Exception {
+        PhaseInvokeEvent event = PhaseInvokeEvent.start(metrics.getAgentName(), workflowId, metrics.getPhase(),
+                metrics.getMethodName());
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invoke(agent, resolver);
+        } catch (Exception | Error e) {
+            metrics.recordException(System.nanoTime() - start);
+            if (event != null) {
+                event.setException(e);
+                event.commit();
+            }
+            throw e;
+        }
+        metrics.recordInvocation(System.nanoTime() - start);
+        if (event != null) {
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Get the reflected method.
+     *
+     * @return the method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the declared parameter types.
+     *
+     * @return a copy of the parameter types
+     */
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseMethod{" + method.getDeclaringClass().getSimpleName() + '.' + method.getName() + '}';
+    }
+}
@@ -0,0 +1,23 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Discovery and invocation of agent lifecycle methods.
+ * <p>
+ * {@link jakarta.ai.agent.runtime.dispatch.AgentMethods} finds the lifecycle methods of
+ * an agent class once, as {@link jakarta.ai.agent.runtime.dispatch.PhaseMethod}s that
+ * a runtime invokes with a {@link jakarta.ai.agent.runtime.dispatch.ParameterResolver}.
+ * {@link jakarta.ai.agent.runtime.dispatch.ExceptionHandlers} selects the exception
+ * handler for a failure.
+ */
+package jakarta.ai.agent.runtime.dispatch;
@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.intake;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and queue wait times of a {@link TriggerIntake}.
+ * <p>
+ * All counters are striped, so recording does not contend between threads.
+ */
+public final class IntakeStatistics {
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakDepth = new LongAccumulator(Math::max, 0);
+
+    void recordAccepted(int depth) {
+        accepted.increment();
+        peakDepth.accumulate(depth);
+    }
+
+    void recordStarted(long waitedNanos) {
+        started.increment();
+        waitNanos.add(waitedNanos);
+        maxWaitNanos.accumulate(waitedNanos);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordDeadLettered() {
+        deadLettered.increment();
+    }
+
+    /**
+     * @return the number of events placed in the queue so far
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * @return the number of workflows started from the queue so far
+     */
+    public long getStartedCount() {
+        return started.sum();
+    }
+
+    /**
+     * @return the number of waiting events discarded by {@code DROP_OLDEST}
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of new events discarded because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the number of events handed to the dead-letter store
+     */
+    public long getDeadLetteredCount() {
+        return deadLettered.sum();
+    }
+
+    /**
+     * @return the highest queue depth observed
+     */
+    public long getPeakDepth() {
+        return peakDepth.get();
+    }
+
+    /**
+     * @return the mean time an event waited in the queue before its workflow started
+     */
+    public Duration getMeanWaitTime() {
+        long count = started.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(waitNanos.sum() / count);
+    }
+
+    /**
+     * @return the longest time an event waited in the queue before its workflow started
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "IntakeStatistics{" +
+                "accepted=" + getAcceptedCount() +
+                ", started=" + getStartedCount() +
+                ", dropped=" + getDroppedCount() +
+                ", rejected=" + getRejectedCount() +
+                ", deadLettered=" + getDeadLetteredCount() +
+                ", peakDepth=" + getPeakDepth() +
+                ", meanWaitTime=" + getMeanWaitTime() +
+                ", maxWaitTime=" + getMaxWaitTime() +
+                '}';
+    }
+}
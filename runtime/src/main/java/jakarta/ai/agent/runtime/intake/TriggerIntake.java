@@ -0,0 +1,249 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.intake;
+
+import jakarta.ai.agent.DeadLetterStore;
+import jakarta.ai.agent.Intake;
+import jakarta.ai.agent.TriggerRejected;
+import jakarta.ai.agent.runtime.concurrent.SerialDrain;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The intake stage of one agent: a bounded queue of triggering events in front of a
+ * limit on in-flight workflows.
+ * <p>
+ * The runtime's CDI observer calls {@link #submit(Object)} instead of starting the
+ * workflow directly. Queued events are started in arrival order by the launcher as
+ * soon as fewer than {@code maxInFlight} workflows are running; a permit is returned
+ * when the stage returned by the launcher completes. Only one thread starts workflows
+ * at a time, so the launcher should hand the workflow to an executor rather than run
+ * it inline, particularly with {@link Intake.Overflow#BLOCK}.
+ */
+public final class TriggerIntake {
+
+    private final String agentName;
+    private final int capacity;
+    private final int maxInFlight;
+    private final Intake.Overflow overflow;
+    private final Function<Object, ? extends CompletionStage<?>> launcher;
+    private final Consumer<TriggerRejected> rejectionListener;
+    private final DeadLetterStore deadLetterStore;
+
+    private final ArrayBlockingQueue<Entry> queue;
+    private final Semaphore permits;
+    private final SerialDrain drain = new SerialDrain(this::startQueued);
+    private final IntakeStatistics statistics = new IntakeStatistics();
+
+    /**
+     * Create the intake stage of an agent.
+     *
+     * @param agentName the agent name
+     * @param capacity the queue capacity, see {@link Intake#capacity()}
+     * @param maxInFlight the maximum number of running workflows, see {@link Intake#maxInFlight()}
+     * @param overflow the overflow policy, see {@link Intake#overflow()}
+     * @param launcher starts the workflow for an event and returns a stage completed when it ends
+     * @param rejectionListener receives a {@link TriggerRejected} for every discarded event,
+     *        typically by firing it as a CDI event
+     * @param deadLetterStore the store used by {@link Intake.Overflow#DEAD_LETTER}, may be {@code null}
+     */
+    public TriggerIntake(String agentName, int capacity, int maxInFlight, Intake.Overflow overflow,
+                         Function<Object, ? extends CompletionStage<?>> launcher,
+                         Consumer<TriggerRejected> rejectionListener,
+                         DeadLetterStore deadLetterStore) {
+        if (capacity <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("capacity and maxInFlight must be positive");
+        }
+        this.agentName = Objects.requireNonNull(agentName, "agentName");
+        this.capacity = capacity;
+        this.maxInFlight = maxInFlight;
+        this.overflow = Objects.requireNonNull(overflow, "overflow");
+        this.launcher = Objects.requireNonNull(launcher, "launcher");
+        this.rejectionListener = Objects.requireNonNull(rejectionListener, "rejectionListener");
+        this.deadLetterStore = deadLetterStore;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Create the intake stage of an agent from its {@link Intake} annotation.
+     *
+     * @param agentName the agent name
+     * @param intake the annotation on the agent class
+     * @param launcher starts the workflow for an event and returns a stage completed when it ends
+     * @param rejectionListener receives a {@link TriggerRejected} for every discarded event
+     * @param deadLetterStore the store used by {@link Intake.Overflow#DEAD_LETTER}, may be {@code null}
+     * @return the intake stage
+     */
+    public static TriggerIntake of(String agentName, Intake intake,
+                                   Function<Object, ? extends CompletionStage<?>> launcher,
+                                   Consumer<TriggerRejected> rejectionListener,
+                                   DeadLetterStore deadLetterStore) {
+        return new TriggerIntake(agentName, intake.capacity(), intake.maxInFlight(), intake.overflow(),
+                launcher, rejectionListener, deadLetterStore);
+    }
+
+    /**
+     * Submit a triggering event.
+     * <p>
+     * With {@link Intake.Overflow#BLOCK} this method blocks while the queue is full. If
+     * the calling thread is interrupted while blocked, the event is rejected and the
+     * interrupt status is restored.
+     *
+     * @param event the triggering event
+     * @return {@code true} if the event was queued and its workflow will start,
+     *         {@code false} if it was rejected or handed to the dead-letter store
+     */
+    public boolean submit(Object event) {
+        Entry entry = new Entry(event, System.nanoTime());
+        boolean queued;
+        switch (overflow) {
+            case BLOCK:
+                try {
+                    queue.put(entry);
+                    queued = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    reject(event);
+                    queued = false;
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(entry)) {
+                    Entry oldest = queue.poll();
+                    if (oldest != null) {
+                        statistics.recordDropped();
+                        rejectionListener.accept(new TriggerRejected(agentName, oldest.event(), overflow));
+                    }
+                }
+                queued = true;
+                break;
+            case DEAD_LETTER:
+                queued = queue.offer(entry);
+                if (!queued) {
+                    if (deadLetterStore != null) {
+                        statistics.recordDeadLettered();
+                        deadLetterStore.store(agentName, event);
+                    } else {
+                        reject(event);
+                    }
+                }
+                break;
+            default:
+                queued = queue.offer(entry);
+                if (!queued) {
+                    reject(event);
+                }
+                break;
+        }
+        if (queued) {
+            statistics.recordAccepted(queue.size());
+        }
+        drain.request();
+        return queued;
+    }
+
+    private void reject(Object event) {
+        statistics.recordRejected();
+        rejectionListener.accept(new TriggerRejected(agentName, event, overflow));
+    }
+
+    private void startQueued() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Entry entry = queue.poll();
+            if (entry == null) {
+                permits.release();
+            } else {
+                start(entry);
+            }
+        }
+    }
+
+    private void start(Entry entry) {
+        statistics.recordStarted(System.nanoTime() - entry.enqueuedNanos());
+        CompletionStage<?> completion;
+        try {
+            completion = Objects.requireNonNull(launcher.apply(entry.event()), "launcher returned null");
+        } catch (RuntimeException e) {
+            completion = CompletableFuture.failedFuture(e);
+        }
+        completion.whenComplete((result, failure) -> {
+            permits.release();
+            drain.request();
+        });
+    }
+
+    /**
+     * @return the agent name
+     */
+    public String getAgentName() {
+        return agentName;
+    }
+
+    /**
+     * @return the queue capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the maximum number of running workflows
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return the overflow policy
+     */
+    public Intake.Overflow getOverflow() {
+        return overflow;
+    }
+
+    /**
+     * @return the number of events waiting for their workflow to start
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of workflows started by this stage that have not completed
+     */
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * @return the counters and wait times of this stage
+     */
+    public IntakeStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "TriggerIntake{agent='" + agentName + "', depth=" + getQueueDepth()
+                + ", inFlight=" + getInFlight() + ", " + statistics + '}';
+    }
+
+    private record Entry(Object event, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,97 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import java.util.Arrays;
+
+/**
+ * Counts of in-flight workflows by age, in buckets bounded by powers of two seconds.
+ * <p>
+ * Bucket 0 holds ages below one second, bucket {@code i} ages from {@code 2^(i-1)}
+ * inclusive to {@code 2^i} seconds exclusive, and the last bucket every age from
+ * {@code 2^(BUCKETS-2)} seconds. Ages are measured in whole seconds, so an age may be
+ * counted one bucket lower than its exact value.
+ */
+public final class AgeHistogram {
+
+    /**
+     * The number of buckets.
+     */
+    public static final int BUCKETS = 18;
+
+    private final long[] counts;
+
+    AgeHistogram(long[] counts) {
+        this.counts = counts;
+    }
+
+    static int bucket(long ageSeconds) {
+        if (ageSeconds <= 0) {
+            return 0;
+        }
+        return Math.min(64 - Long.numberOfLeadingZeros(ageSeconds), BUCKETS - 1);
+    }
+
+    /**
+     * @return the number of workflows in each bucket
+     */
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * @return the exclusive upper bound of each bucket in seconds, {@link Long#MAX_VALUE}
+     *         for the last bucket
+     */
+    public long[] getUpperBoundsSeconds() {
+        long[] bounds = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            bounds[i] = 1L << i;
+        }
+        bounds[BUCKETS - 1] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+    /**
+     * @return the number of workflows in all buckets
+     */
+    public long getCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Count the workflows in the buckets whose lower bound is at least the given age.
+     *
+     * @param seconds the age in seconds
+     * @return the number of workflows at least that old, rounded to bucket bounds
+     */
+    public long getCountAtLeast(long seconds) {
+        long total = 0;
+        for (int i = BUCKETS - 1; i > 0 && (1L << (i - 1)) >= seconds; i--) {
+            total += counts[i];
+        }
+        if (seconds <= 0) {
+            total += counts[0];
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "AgeHistogram" + Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,49 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Incremental counters of the in-flight workflows of one agent.
+ */
+final class AgentGauge {
+
+    final String agentName;
+    final LongAdder workflows = new LongAdder();
+    final LongAdder pendingLlmCalls = new LongAdder();
+    final SlotCounts age = new SlotCounts();
+    final PhaseGauge[] phases;
+
+    AgentGauge(String agentName) {
+        this.agentName = agentName;
+        Phase[] values = Phase.values();
+        this.phases = new PhaseGauge[values.length];
+        for (Phase phase : values) {
+            phases[phase.ordinal()] = new PhaseGauge(phase);
+        }
+    }
+
+    static final class PhaseGauge {
+
+        final Phase phase;
+        final LongAdder workflows = new LongAdder();
+        final SlotCounts timeInPhase = new SlotCounts();
+
+        PhaseGauge(Phase phase) {
+            this.phase = phase;
+        }
+    }
+}
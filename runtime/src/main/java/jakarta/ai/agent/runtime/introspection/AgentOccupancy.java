@@ -0,0 +1,65 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+/**
+ * The in-flight workflows of one agent, read from counters maintained incrementally.
+ */
+public final class AgentOccupancy {
+
+    private final String agentName;
+    private final long workflows;
+    private final long pendingLlmCalls;
+    private final AgeHistogram workflowAge;
+
+    AgentOccupancy(String agentName, long workflows, long pendingLlmCalls, AgeHistogram workflowAge) {
+        this.agentName = agentName;
+        this.workflows = workflows;
+        this.pendingLlmCalls = pendingLlmCalls;
+        this.workflowAge = workflowAge;
+    }
+
+    /**
+     * @return the agent name
+     */
+    public String getAgentName() {
+        return agentName;
+    }
+
+    /**
+     * @return the number of in-flight workflows
+     */
+    public long getWorkflows() {
+        return workflows;
+    }
+
+    /**
+     * @return the number of large language model calls in progress
+     */
+    public long getPendingLlmCalls() {
+        return pendingLlmCalls;
+    }
+
+    /**
+     * @return the ages of the in-flight workflows since their registration
+     */
+    public AgeHistogram getWorkflowAge() {
+        return workflowAge;
+    }
+
+    @Override
+    public String toString() {
+        return "AgentOccupancy{agent='" + agentName + "', workflows=" + workflows
+                + ", pendingLlmCalls=" + pendingLlmCalls + ", age=" + workflowAge + '}';
+    }
+}
@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+/**
+ * The in-flight workflows of one agent that are in one phase, read from counters
+ * maintained incrementally.
+ */
+public final class PhaseOccupancy {
+
+    private final String agentName;
+    private final Phase phase;
+    private final long workflows;
+    private final AgeHistogram timeInPhase;
+
+    PhaseOccupancy(String agentName, Phase phase, long workflows, AgeHistogram timeInPhase) {
+        this.agentName = agentName;
+        this.phase = phase;
+        this.workflows = workflows;
+        this.timeInPhase = timeInPhase;
+    }
+
+    /**
+     * @return the agent name
+     */
+    public String getAgentName() {
+        return agentName;
+    }
+
+    /**
+     * @return the phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the number of workflows in the phase
+     */
+    public long getWorkflows() {
+        return workflows;
+    }
+
+    /**
+     * @return the time the workflows have spent in the phase so far
+     */
+    public AgeHistogram getTimeInPhase() {
+        return timeInPhase;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseOccupancy{agent='" + agentName + "', phase=" + phase + ", workflows=" + workflows
+                + ", timeInPhase=" + timeInPhase + '}';
+    }
+}
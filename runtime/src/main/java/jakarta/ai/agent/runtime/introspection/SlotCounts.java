@@ -0,0 +1,107 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of in-flight workflows by the second they entered a state.
+ * <p>
+ * Workflows are added to the slot of the second they entered the state, and each
+ * workflow keeps the counter it was added to, to remove itself from it later. Slots of
+ * past seconds mostly decrease, and a slot that reached zero is dropped when the
+ * histogram is read. A caller may still add to a past slot, for example after being
+ * descheduled between reading the clock and calling {@link #add(long)}, so a slot is
+ * first marked retired and only removed if it is still empty; an add that finds its
+ * slot retired after incrementing it backs out and retries with a live slot. A workflow
+ * is therefore never counted in a counter that is no longer in the map.
+ */
+final class SlotCounts {
+
+    private static final long NANOS_PER_SLOT = 1_000_000_000L;
+
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private volatile Slot latest = new Slot(Long.MIN_VALUE);
+
+    static long slot(long nanoTime) {
+        return Math.floorDiv(nanoTime, NANOS_PER_SLOT);
+    }
+
+    /**
+     * Add a workflow to a slot.
+     *
+     * @param slot the current slot
+     * @return the counter to decrement when the workflow leaves
+     */
+    LongAdder add(long slot) {
+        Slot cached = latest;
+        if (cached.slot == slot && cached.tryIncrement()) {
+            return cached.count;
+        }
+        for (;;) {
+            Slot current = slots.computeIfAbsent(slot, Slot::new);
+            if (current.tryIncrement()) {
+                latest = current;
+                return current.count;
+            }
+            // Retired by histogram(), which is about to remove it or to find it in use again
+            Thread.onSpinWait();
+        }
+    }
+
+    AgeHistogram histogram(long nowSlot) {
+        long[] counts = new long[AgeHistogram.BUCKETS];
+        for (Slot slot : slots.values()) {
+            long count = slot.count.sum();
+            if (count > 0) {
+                counts[AgeHistogram.bucket(nowSlot - slot.slot)] += count;
+            } else if (slot.slot < nowSlot - 2 && slot.retireIfEmpty()) {
+                slots.remove(slot.slot, slot);
+            }
+        }
+        return new AgeHistogram(counts);
+    }
+
+    private static final class Slot {
+
+        final long slot;
+        final LongAdder count = new LongAdder();
+        volatile boolean retired;
+
+        Slot(long slot) {
+            this.slot = slot;
+        }
+
+        synchronized boolean retireIfEmpty() {
+            if (retired) {
+                return false;
+            }
+            retired = true;
+            if (count.sum() == 0) {
+                return true;
+            }
+            retired = false;
+            return false;
+        }
+
+        boolean tryIncrement() {
+            count.increment();
+            if (retired) {
+                count.decrement();
+                return false;
+            }
+            return true;
+        }
+    }
+}
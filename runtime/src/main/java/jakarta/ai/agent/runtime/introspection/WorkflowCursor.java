@@ -0,0 +1,250 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.runtime.introspection.AgentGauge.PhaseGauge;
+import jakarta.ai.agent.runtime.memory.MemoryAccountingWorkflowContext;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeStore;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The position of one in-flight workflow, registered with a {@link WorkflowRegistry}.
+ * <p>
+ * The runtime moves the cursor with {@link #enter(Phase, String)} when the workflow
+ * invokes a lifecycle method and closes it when the workflow ends. Each move updates the
+ * counters of the registry, so reading the aggregates never visits the workflows.
+ * <p>
+ * While the runtime runs a lifecycle method, it makes the cursor current on the thread
+ * with {@link #activate(WorkflowCursor)}, so that layers without a reference to the
+ * workflow, such as {@link jakarta.ai.agent.runtime.llm.InstrumentedLargeLanguageModel},
+ * can report calls in progress.
+ */
+public final class WorkflowCursor implements AutoCloseable {
+
+    private static final ThreadLocal<WorkflowCursor> CURRENT = new ThreadLocal<>();
+
+    private final WorkflowRegistry registry;
+    private final AgentGauge agent;
+    private final String workflowId;
+    private final long startNanos = System.nanoTime();
+    private final LongAdder ageSlot;
+    private final AtomicInteger pendingLlmCalls = new AtomicInteger();
+    private volatile Phase phase;
+    private volatile String methodName;
+    private volatile long phaseStartNanos;
+    private volatile WorkflowContext context;
+    private volatile WorkflowScopeStore scopeStore;
+    private PhaseGauge phaseGauge;
+    private LongAdder phaseSlot;
+    private boolean closed;
+
+    WorkflowCursor(WorkflowRegistry registry, AgentGauge agent, String workflowId) {
+        this.registry = registry;
+        this.agent = agent;
+        this.workflowId = workflowId;
+        agent.workflows.increment();
+        this.ageSlot = agent.age.add(SlotCounts.slot(startNanos));
+    }
+
+    /**
+     * Make a cursor the current cursor of the calling thread.
+     *
+     * @param cursor the cursor, may be {@code null}
+     * @return the previous current cursor, to pass to {@link #restore(WorkflowCursor)}
+     */
+    public static WorkflowCursor activate(WorkflowCursor cursor) {
+        WorkflowCursor previous = CURRENT.get();
+        CURRENT.set(cursor);
+        return previous;
+    }
+
+    /**
+     * Restore the current cursor of the calling thread.
+     *
+     * @param previous the value returned by {@link #activate(WorkflowCursor)}
+     */
+    public static void restore(WorkflowCursor previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Get the current cursor of the calling thread.
+     *
+     * @return the cursor, or {@code null} if none is active
+     */
+    public static WorkflowCursor current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Record that the workflow invokes a lifecycle method. Entering the phase the
+     * workflow is already in, for example for the next of several decisions, keeps the
+     * time the phase was entered.
+     *
+     * @param phase the kind of lifecycle method
+     * @param methodName the method name
+     */
+    public void enter(Phase phase, String methodName) {
+        Objects.requireNonNull(phase, "phase");
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            this.methodName = methodName;
+            if (phase == this.phase) {
+                return;
+            }
+            leavePhase();
+            PhaseGauge gauge = agent.phases[phase.ordinal()];
+            gauge.workflows.increment();
+            phaseSlot = gauge.timeInPhase.add(SlotCounts.slot(now));
+            phaseGauge = gauge;
+            phaseStartNanos = now;
+            this.phase = phase;
+        }
+    }
+
+    /**
+     * Attach the context of the workflow, to report its size.
+     *
+     * @param context the workflow context
+     */
+    public void attach(WorkflowContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Attach the workflow scope store of the workflow, to report its instances.
+     *
+     * @param scopeStore the store
+     */
+    public void attach(WorkflowScopeStore scopeStore) {
+        this.scopeStore = scopeStore;
+    }
+
+    /**
+     * Record the start of a large language model call. Each call must be followed by
+     * {@link #llmCallEnded()}.
+     */
+    public void llmCallStarted() {
+        pendingLlmCalls.incrementAndGet();
+        agent.pendingLlmCalls.increment();
+    }
+
+    /**
+     * Record the end of a large language model call.
+     */
+    public void llmCallEnded() {
+        pendingLlmCalls.decrementAndGet();
+        agent.pendingLlmCalls.decrement();
+    }
+
+    /**
+     * Remove the workflow from the registry. Calls after the first are ignored.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            leavePhase();
+            agent.workflows.decrement();
+            ageSlot.decrement();
+        }
+        registry.remove(this);
+    }
+
+    private void leavePhase() {
+        if (phaseGauge != null) {
+            phaseGauge.workflows.decrement();
+            phaseSlot.decrement();
+            phaseGauge = null;
+            phaseSlot = null;
+        }
+    }
+
+    /**
+     * @return the agent name
+     */
+    public String getAgentName() {
+        return agent.agentName;
+    }
+
+    /**
+     * @return the workflow identifier
+     */
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    /**
+     * @return the current phase, or {@code null} before the first phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at registration
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the current phase was entered
+     */
+    public long getPhaseStartNanos() {
+        return phase == null ? startNanos : phaseStartNanos;
+    }
+
+    /**
+     * Copy the state of the workflow, including the size of its context and scope.
+     *
+     * @return the state
+     */
+    public WorkflowInfo toInfo() {
+        long now = System.nanoTime();
+        WorkflowContext currentContext = context;
+        WorkflowScopeStore store = scopeStore;
+        int attributes = -1;
+        long bytes = -1;
+        if (currentContext != null) {
+            attributes = currentContext.getAttributeNames().size();
+            if (currentContext instanceof MemoryAccountingWorkflowContext) {
+                bytes = ((MemoryAccountingWorkflowContext) currentContext).getAccount().getUsedBytes();
+            }
+        }
+        return new WorkflowInfo(agent.agentName, workflowId, phase, methodName,
+                TimeUnit.NANOSECONDS.toMillis(now - startNanos), TimeUnit.NANOSECONDS.toMillis(now - getPhaseStartNanos()),
+                pendingLlmCalls.get(), attributes, bytes, store == null ? -1 : store.size());
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowCursor{agent='" + agent.agentName + "', workflowId='" + workflowId + "', phase=" + phase + '}';
+    }
+}
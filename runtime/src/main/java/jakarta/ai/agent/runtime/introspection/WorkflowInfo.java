@@ -0,0 +1,124 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+/**
+ * The state of one in-flight workflow.
+ */
+public final class WorkflowInfo {
+
+    private final String agentName;
+    private final String workflowId;
+    private final Phase phase;
+    private final String methodName;
+    private final long ageMillis;
+    private final long timeInPhaseMillis;
+    private final int pendingLlmCalls;
+    private final int contextAttributes;
+    private final long contextBytes;
+    private final int scopeBeans;
+
+    WorkflowInfo(String agentName, String workflowId, Phase phase, String methodName, long ageMillis,
+                 long timeInPhaseMillis, int pendingLlmCalls, int contextAttributes, long contextBytes,
+                 int scopeBeans) {
+        this.agentName = agentName;
+        this.workflowId = workflowId;
+        this.phase = phase;
+        this.methodName = methodName;
+        this.ageMillis = ageMillis;
+        this.timeInPhaseMillis = timeInPhaseMillis;
+        this.pendingLlmCalls = pendingLlmCalls;
+        this.contextAttributes = contextAttributes;
+        this.contextBytes = contextBytes;
+        this.scopeBeans = scopeBeans;
+    }
+
+    /**
+     * @return the agent name
+     */
+    public String getAgentName() {
+        return agentName;
+    }
+
+    /**
+     * @return the workflow identifier
+     */
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    /**
+     * @return the current phase, or {@code null} before the first phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the lifecycle method last entered, or {@code null} before the first phase
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return the time since the registration of the workflow, in milliseconds
+     */
+    public long getAgeMillis() {
+        return ageMillis;
+    }
+
+    /**
+     * @return the time since the workflow entered its current phase, in milliseconds
+     */
+    public long getTimeInPhaseMillis() {
+        return timeInPhaseMillis;
+    }
+
+    /**
+     * @return the number of large language model calls in progress
+     */
+    public int getPendingLlmCalls() {
+        return pendingLlmCalls;
+    }
+
+    /**
+     * @return the number of attributes of the workflow context, -1 if no context is attached
+     */
+    public int getContextAttributes() {
+        return contextAttributes;
+    }
+
+    /**
+     * @return the accounted size of the workflow context, -1 if it is not accounted
+     */
+    public long getContextBytes() {
+        return contextBytes;
+    }
+
+    /**
+     * @return the number of workflow-scoped instances on the heap, -1 if no store is attached
+     */
+    public int getScopeBeans() {
+        return scopeBeans;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowInfo{agent='" + agentName + "', workflowId='" + workflowId + "', phase=" + phase
+                + ", method=" + methodName + ", ageMillis=" + ageMillis + ", timeInPhaseMillis=" + timeInPhaseMillis
+                + ", pendingLlmCalls=" + pendingLlmCalls + '}';
+    }
+}
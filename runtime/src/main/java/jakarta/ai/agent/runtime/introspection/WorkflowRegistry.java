@@ -0,0 +1,189 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import jakarta.ai.agent.runtime.introspection.AgentGauge.PhaseGauge;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registry of the in-flight workflows of a runtime, for introspection during incidents.
+ * <p>
+ * The runtime registers a {@link WorkflowCursor} when a workflow starts, moves it as the
+ * workflow enters its phases, and closes it when the workflow ends. The registry keeps,
+ * per agent, the number of workflows, the large language model calls in progress and
+ * a histogram of workflow ages, and per agent and phase, the number of workflows and a
+ * histogram of the time spent in the phase. These aggregates are maintained
+ * incrementally: reading them does not visit the workflows, so that a node holding
+ * 100,000 workflows can be scraped every few seconds. Listing individual workflows, with
+ * the size of their context and scope, visits all of them.
+ * <p>
+ * The registry is an MXBean; {@link #registerMBean(MBeanServer, String)} exposes it over
+ * JMX.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * WorkflowCursor cursor = registry.register(agentName, workflowId);
+ * cursor.attach(context);
+ * cursor.enter(Phase.TRIGGER, "onTransaction");
+ * WorkflowCursor previous = WorkflowCursor.activate(cursor);
+ * try {
+ *     trigger.invoke(agent, resolver);
+ * } finally {
+ *     WorkflowCursor.restore(previous);
+ * }
+ * // ... later phases, then, when the workflow ends
+ * cursor.close();
+ * }</pre>
+ */
+public final class WorkflowRegistry implements WorkflowRegistryMXBean {
+
+    private final ConcurrentHashMap<String, AgentGauge> agents = new ConcurrentHashMap<>();
+    private final Set<WorkflowCursor> workflows = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Register an in-flight workflow.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier
+     * @return the cursor of the workflow, to close when it ends
+     */
+    public WorkflowCursor register(String agentName, String workflowId) {
+        Objects.requireNonNull(agentName, "agentName");
+        Objects.requireNonNull(workflowId, "workflowId");
+        WorkflowCursor cursor = new WorkflowCursor(this, agents.computeIfAbsent(agentName, AgentGauge::new),
+                workflowId);
+        workflows.add(cursor);
+        return cursor;
+    }
+
+    void remove(WorkflowCursor cursor) {
+        workflows.remove(cursor);
+    }
+
+    /**
+     * Register this registry with an MBean server, under the name
+     * {@code jakarta.ai.agent:type=WorkflowRegistry,name=<name>}.
+     *
+     * @param server the MBean server
+     * @param name the name distinguishing this registry, for example the application name
+     * @return the object name of the registered MBean
+     * @throws JMException if the registration fails
+     */
+    public ObjectName registerMBean(MBeanServer server, String name) throws JMException {
+        ObjectName objectName = new ObjectName("jakarta.ai.agent:type=WorkflowRegistry,name="
+                + ObjectName.quote(name));
+        return server.registerMBean(this, objectName).getObjectName();
+    }
+
+    @Override
+    public long getInFlightWorkflows() {
+        long total = 0;
+        for (AgentGauge agent : agents.values()) {
+            total += agent.workflows.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getPendingLlmCalls() {
+        long total = 0;
+        for (AgentGauge agent : agents.values()) {
+            total += agent.pendingLlmCalls.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public List<AgentOccupancy> getAgents() {
+        long nowSlot = SlotCounts.slot(System.nanoTime());
+        List<AgentOccupancy> result = new ArrayList<>(agents.size());
+        for (AgentGauge agent : agents.values()) {
+            result.add(new AgentOccupancy(agent.agentName, agent.workflows.sum(), agent.pendingLlmCalls.sum(),
+                    agent.age.histogram(nowSlot)));
+        }
+        result.sort(Comparator.comparing(AgentOccupancy::getAgentName));
+        return result;
+    }
+
+    @Override
+    public List<PhaseOccupancy> getPhases() {
+        long nowSlot = SlotCounts.slot(System.nanoTime());
+        List<PhaseOccupancy> result = new ArrayList<>();
+        for (AgentGauge agent : agents.values()) {
+            for (PhaseGauge phase : agent.phases) {
+                long count = phase.workflows.sum();
+                AgeHistogram timeInPhase = phase.timeInPhase.histogram(nowSlot);
+                if (count > 0) {
+                    result.add(new PhaseOccupancy(agent.agentName, phase.phase, count, timeInPhase));
+                }
+            }
+        }
+        result.sort(Comparator.comparing(PhaseOccupancy::getAgentName).thenComparing(PhaseOccupancy::getPhase));
+        return result;
+    }
+
+    @Override
+    public List<WorkflowInfo> findOldestWorkflows(int limit) {
+        return find(WorkflowCursor::getStartNanos, Long.MIN_VALUE, limit);
+    }
+
+    @Override
+    public List<WorkflowInfo> findWorkflowsInPhaseLongerThan(long millis, int limit) {
+        return find(WorkflowCursor::getPhaseStartNanos, TimeUnit.MILLISECONDS.toNanos(millis), limit);
+    }
+
+    private List<WorkflowInfo> find(ToLongFunction<WorkflowCursor> since, long minNanos, int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        PriorityQueue<Candidate> oldest = new PriorityQueue<>(limit + 1,
+                Comparator.comparingLong(Candidate::nanos));
+        for (WorkflowCursor cursor : workflows) {
+            long nanos = now - since.applyAsLong(cursor);
+            if (nanos >= minNanos) {
+                oldest.add(new Candidate(nanos, cursor));
+                if (oldest.size() > limit) {
+                    oldest.poll();
+                }
+            }
+        }
+        List<Candidate> selected = new ArrayList<>(oldest);
+        selected.sort(Comparator.comparingLong(Candidate::nanos).reversed());
+        List<WorkflowInfo> result = new ArrayList<>(selected.size());
+        for (Candidate candidate : selected) {
+            result.add(candidate.cursor().toInfo());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowRegistry{agents=" + agents.keySet() + ", inFlight=" + getInFlightWorkflows() + '}';
+    }
+
+    private record Candidate(long nanos, WorkflowCursor cursor) {
+    }
+}
@@ -0,0 +1,64 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import java.util.List;
+
+/**
+ * Management interface of a {@link WorkflowRegistry}.
+ * <p>
+ * The attributes are read from counters maintained as workflows move, in time
+ * proportional to the number of agents and to the spread of the workflow ages in
+ * seconds, independently of the number of workflows; they can be scraped every few
+ * seconds. The operations visit every workflow and are meant for investigation.
+ */
+public interface WorkflowRegistryMXBean {
+
+    /**
+     * @return the number of in-flight workflows
+     */
+    long getInFlightWorkflows();
+
+    /**
+     * @return the number of large language model calls in progress
+     */
+    long getPendingLlmCalls();
+
+    /**
+     * @return the in-flight workflows of each agent
+     */
+    List<AgentOccupancy> getAgents();
+
+    /**
+     * @return the in-flight workflows of each agent in each phase, for the phases holding
+     *         at least one workflow
+     */
+    List<PhaseOccupancy> getPhases();
+
+    /**
+     * Find the oldest in-flight workflows.
+     *
+     * @param limit the maximum number of workflows
+     * @return the workflows, oldest first
+     */
+    List<WorkflowInfo> findOldestWorkflows(int limit);
+
+    /**
+     * Find the workflows that have been in their current phase for at least a duration.
+     *
+     * @param millis the minimum time in the current phase, in milliseconds
+     * @param limit the maximum number of workflows
+     * @return the workflows, longest in their phase first
+     */
+    List<WorkflowInfo> findWorkflowsInPhaseLongerThan(long millis, int limit);
+}
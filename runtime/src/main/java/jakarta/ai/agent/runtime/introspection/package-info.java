@@ -0,0 +1,24 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Introspection of in-flight workflows.
+ * <p>
+ * A {@link jakarta.ai.agent.runtime.introspection.WorkflowRegistry} tracks a
+ * {@link jakarta.ai.agent.runtime.introspection.WorkflowCursor} per in-flight workflow
+ * and maintains counters per agent and phase as the cursors move, so that the number of
+ * workflows, their ages and the time spent in each phase are read without visiting the
+ * workflows. The registry is exposed over JMX as a
+ * {@link jakarta.ai.agent.runtime.introspection.WorkflowRegistryMXBean}.
+ */
+package jakarta.ai.agent.runtime.introspection;
@@ -0,0 +1,228 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jakarta.ai.agent.runtime.metrics.HistogramSnapshot;
+import jakarta.ai.agent.runtime.metrics.LatencyHistogram;
+import jakarta.ai.agent.runtime.metrics.PhaseSnapshot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Activity of one agent in a flight recording, as summarized by {@link RecordingAnalyzer}.
+ */
+public final class AgentSummary {
+
+    private final String agentName;
+    private final LatencyHistogram pendingTime = new LatencyHistogram();
+    private final LatencyHistogram workflowDuration = new LatencyHistogram();
+    private final Map<String, Long> workflowsEnded = new TreeMap<>();
+    private final LatencyHistogram llmLatency = new LatencyHistogram();
+    private List<PhaseSnapshot> phases = List.of();
+    private long llmFailures;
+    private long llmCacheHits;
+    private long promptTokens;
+    private long completionTokens;
+    private long passivations;
+    private long passivatedBytes;
+    private long passivationNanos;
+    private long exceptionDispatches;
+    private long unrecoveredExceptions;
+    private long gcPauseNanos;
+    private long blockedNanos;
+
+    AgentSummary(String agentName) {
+        this.agentName = agentName;
+    }
+
+    void recordStart(long pendingNanos) {
+        pendingTime.record(pendingNanos);
+    }
+
+    void recordEnd(String status, long durationNanos) {
+        workflowsEnded.merge(status, 1L, Long::sum);
+        workflowDuration.record(durationNanos);
+    }
+
+    void recordLlmQuery(long durationNanos, long prompt, long completion, boolean cacheHit, boolean failed) {
+        llmLatency.record(durationNanos);
+        promptTokens += prompt;
+        completionTokens += completion;
+        if (cacheHit) {
+            llmCacheHits++;
+        }
+        if (failed) {
+            llmFailures++;
+        }
+    }
+
+    void recordPassivation(long durationNanos, long bytes) {
+        passivations++;
+        passivatedBytes += bytes;
+        passivationNanos += durationNanos;
+    }
+
+    void recordExceptionDispatch(boolean recovered) {
+        exceptionDispatches++;
+        if (!recovered) {
+            unrecoveredExceptions++;
+        }
+    }
+
+    void recordGcPause(long nanos) {
+        gcPauseNanos += nanos;
+    }
+
+    void recordBlocked(long nanos) {
+        blockedNanos += nanos;
+    }
+
+    void setPhases(List<PhaseSnapshot> phases) {
+        this.phases = List.copyOf(phases);
+    }
+
+    /**
+     * @return the agent name
+     */
+    public String getAgentName() {
+        return agentName;
+    }
+
+    /**
+     * @return the number of workflows that entered their trigger phase
+     */
+    public long getWorkflowsStarted() {
+        return pendingTime.getCount();
+    }
+
+    /**
+     * @return the number of workflows that ended, by final status
+     */
+    public Map<String, Long> getWorkflowsEnded() {
+        return Map.copyOf(workflowsEnded);
+    }
+
+    /**
+     * @return the time workflows waited between their creation and their start
+     */
+    public HistogramSnapshot getPendingTime() {
+        return pendingTime.snapshot();
+    }
+
+    /**
+     * @return the time from the creation to the end of the workflows that ended
+     */
+    public HistogramSnapshot getWorkflowDuration() {
+        return workflowDuration.snapshot();
+    }
+
+    /**
+     * @return the invocations of each lifecycle method
+     */
+    public List<PhaseSnapshot> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @return the latency of the calls to a large language model
+     */
+    public HistogramSnapshot getLlmLatency() {
+        return llmLatency.snapshot();
+    }
+
+    /**
+     * @return the number of calls to a large language model that threw
+     */
+    public long getLlmFailures() {
+        return llmFailures;
+    }
+
+    /**
+     * @return the number of calls to a large language model answered from a cache
+     */
+    public long getLlmCacheHits() {
+        return llmCacheHits;
+    }
+
+    /**
+     * @return the prompt tokens sent
+     */
+    public long getPromptTokens() {
+        return promptTokens;
+    }
+
+    /**
+     * @return the completion tokens received
+     */
+    public long getCompletionTokens() {
+        return completionTokens;
+    }
+
+    /**
+     * @return the number of workflow scope passivations
+     */
+    public long getPassivations() {
+        return passivations;
+    }
+
+    /**
+     * @return the total size of the passivated state
+     */
+    public long getPassivatedBytes() {
+        return passivatedBytes;
+    }
+
+    /**
+     * @return the total time spent passivating
+     */
+    public Duration getPassivationTime() {
+        return Duration.ofNanos(passivationNanos);
+    }
+
+    /**
+     * @return the number of exceptions dispatched to a handler
+     */
+    public long getExceptionDispatches() {
+        return exceptionDispatches;
+    }
+
+    /**
+     * @return the number of dispatched exceptions that no handler recovered
+     */
+    public long getUnrecoveredExceptions() {
+        return unrecoveredExceptions;
+    }
+
+    /**
+     * @return the time garbage collection pauses overlapped lifecycle method invocations
+     */
+    public Duration getGcPauseTime() {
+        return Duration.ofNanos(gcPauseNanos);
+    }
+
+    /**
+     * @return the time lifecycle methods were blocked on a monitor or parked
+     */
+    public Duration getBlockedTime() {
+        return Duration.ofNanos(blockedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "AgentSummary{agent='" + agentName + "', started=" + getWorkflowsStarted()
+                + ", ended=" + workflowsEnded + ", phases=" + phases.size() + '}';
+    }
+}
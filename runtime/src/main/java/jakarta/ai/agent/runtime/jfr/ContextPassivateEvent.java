@@ -0,0 +1,83 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the passivation of the
+ * {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} instances of an idle workflow.
+ * <p>
+ * Committed by the {@link jakarta.ai.agent.runtime.scope.WorkflowScopeStore} of the
+ * workflow. The store does not know the agent, so recordings attribute the event through
+ * the {@link WorkflowStartEvent} of the same workflow. Use {@link #start(String)}, which
+ * allocates nothing while the event is disabled.
+ */
+@Name("jakarta.ai.agent.ContextPassivate")
+@Label("Context Passivate")
+@Category(WorkflowStartEvent.CATEGORY)
+@Description("Serialization of the workflow-scoped instances of an idle workflow out of the heap")
+@StackTrace(false)
+public final class ContextPassivateEvent extends Event {
+
+    @Label("Workflow Id")
+    String workflowId;
+
+    @Label("Instances")
+    int instances;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    private ContextPassivateEvent(String workflowId) {
+        this.workflowId = workflowId;
+    }
+
+    /**
+     * Begin the event of a passivation, if the event is enabled.
+     *
+     * @param workflowId the workflow identifier
+     * @return the begun event, or {@code null} if the event is disabled
+     */
+    public static ContextPassivateEvent start(String workflowId) {
+        if (!Type.CONTEXT_PASSIVATE.isEnabled()) {
+            return null;
+        }
+        ContextPassivateEvent event = new ContextPassivateEvent(workflowId);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the passivated state.
+     *
+     * @param instances the number of bean instances written
+     * @param bytes the size of the serialized state
+     */
+    public void setState(int instances, long bytes) {
+        this.instances = instances;
+        this.bytes = bytes;
+    }
+
+    private static final class Type {
+        static final EventType CONTEXT_PASSIVATE = EventType.getEventType(ContextPassivateEvent.class);
+    }
+}
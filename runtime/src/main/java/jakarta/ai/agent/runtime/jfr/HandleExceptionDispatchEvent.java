@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the dispatch of an exception to a
+ * {@link jakarta.ai.agent.HandleException @HandleException} method.
+ * <p>
+ * The event spans the selection of the handler with
+ * {@link jakarta.ai.agent.runtime.dispatch.ExceptionHandlers} and its invocation. A
+ * runtime begins it with {@link #start(String, String, Throwable)}, which allocates
+ * nothing while the event is disabled, when a lifecycle method throws, and commits it
+ * once the handler returned, rethrew, or none was found.
+ */
+@Name("jakarta.ai.agent.HandleExceptionDispatch")
+@Label("Handle Exception Dispatch")
+@Category(WorkflowStartEvent.CATEGORY)
+@Description("Dispatch of an exception thrown by a lifecycle method to its handler")
+@StackTrace(false)
+public final class HandleExceptionDispatchEvent extends Event {
+
+    @Label("Agent")
+    String agentName;
+
+    @Label("Workflow Id")
+    String workflowId;
+
+    @Label("Exception")
+    Class<?> exception;
+
+    @Label("Handler")
+    @Description("Name of the selected handler method, if any")
+    String handler;
+
+    @Label("Recovered")
+    @Description("Whether the handler returned normally, so the workflow continues")
+    boolean recovered;
+
+    private HandleExceptionDispatchEvent(String agentName, String workflowId, Throwable exception) {
+        this.agentName = agentName;
+        this.workflowId = workflowId;
+        this.exception = exception.getClass();
+    }
+
+    /**
+     * Begin the event of a dispatch, if the event is enabled.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier
+     * @param exception the exception being dispatched
+     * @return the begun event, or {@code null} if the event is disabled
+     */
+    public static HandleExceptionDispatchEvent start(String agentName, String workflowId, Throwable exception) {
+        if (!Type.HANDLE_EXCEPTION_DISPATCH.isEnabled()) {
+            return null;
+        }
+        HandleExceptionDispatchEvent event = new HandleExceptionDispatchEvent(agentName, workflowId, exception);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the selected handler.
+     *
+     * @param handler the name of the handler method
+     */
+    public void setHandler(String handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Record whether the handler recovered the workflow.
+     *
+     * @param recovered {@code true} if the handler returned normally
+     */
+    public void setRecovered(boolean recovered) {
+        this.recovered = recovered;
+    }
+
+    private static final class Type {
+        static final EventType HANDLE_EXCEPTION_DISPATCH = EventType.getEventType(HandleExceptionDispatchEvent.class);
+    }
+}
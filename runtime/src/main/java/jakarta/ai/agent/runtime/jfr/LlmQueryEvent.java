@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for one call to a {@link jakarta.ai.agent.LargeLanguageModel}.
+ * <p>
+ * Committed by {@link jakarta.ai.agent.runtime.llm.InstrumentedLargeLanguageModel}. The
+ * call site identifies the agent and phase; the workflow is the one of the enclosing
+ * {@link PhaseInvokeEvent} on the same thread. Use {@link #start(String, String)}, which
+ * allocates nothing while the event is disabled.
+ */
+@Name("jakarta.ai.agent.LLMQuery")
+@Label("LLM Query")
+@Category(WorkflowStartEvent.CATEGORY)
+@Description("Call to a large language model")
+@StackTrace(false)
+public final class LlmQueryEvent extends Event {
+
+    @Label("Agent")
+    String agentName;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Prompt Tokens")
+    long promptTokens;
+
+    @Label("Completion Tokens")
+    long completionTokens;
+
+    @Label("Time To First Token")
+    @Description("Time until the first token was received, 0 if not reported")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeToFirstToken;
+
+    @Label("Retries")
+    int retries;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Label("Coalesced")
+    boolean coalesced;
+
+    @Label("Failure")
+    @Description("Category of the failure, if the call threw")
+    String failure;
+
+    private LlmQueryEvent(String agentName, String phase) {
+        this.agentName = agentName;
+        this.phase = phase;
+    }
+
+    /**
+     * Begin the event of a call, if the event is enabled.
+     *
+     * @param agentName the agent name
+     * @param phase the phase making the call, or {@code null} if unknown
+     * @return the begun event, or {@code null} if the event is disabled
+     */
+    public static LlmQueryEvent start(String agentName, String phase) {
+        if (!Type.LLM_QUERY.isEnabled()) {
+            return null;
+        }
+        LlmQueryEvent event = new LlmQueryEvent(agentName, phase);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the tokens of the call.
+     *
+     * @param promptTokens the prompt tokens
+     * @param completionTokens the completion tokens
+     */
+    public void setTokens(long promptTokens, long completionTokens) {
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+    }
+
+    /**
+     * Record how the call was served.
+     *
+     * @param timeToFirstToken the time to the first token in nanoseconds, 0 if unknown
+     * @param retries the number of provider requests sent again
+     * @param cacheHit whether the call was answered from a cache
+     * @param coalesced whether the call shared the response of another call
+     */
+    public void setServing(long timeToFirstToken, int retries, boolean cacheHit, boolean coalesced) {
+        this.timeToFirstToken = timeToFirstToken;
+        this.retries = retries;
+        this.cacheHit = cacheHit;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Record the failure of the call.
+     *
+     * @param failure the failure category
+     */
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+
+    private static final class Type {
+        static final EventType LLM_QUERY = EventType.getEventType(LlmQueryEvent.class);
+    }
+}
@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one invocation of a lifecycle method.
+ * <p>
+ * Committed by {@link jakarta.ai.agent.runtime.dispatch.PhaseMethod#invoke(Object,
+ * jakarta.ai.agent.runtime.dispatch.ParameterResolver,
+ * jakarta.ai.agent.runtime.metrics.PhaseMetrics, String)}, which uses
+ * {@link #start(String, String, Phase, String)} so that nothing is allocated while the
+ * event is disabled. Runtimes invoking lifecycle methods otherwise emit it themselves:
+ * <pre>{@code
+ * PhaseInvokeEvent event = PhaseInvokeEvent.start(agentName, workflowId, Phase.DECISION, "checkFraud");
+ * try {
+ *     return method.invoke(agent, resolver);
+ * } catch (Exception e) {
+ *     if (event != null) {
+ *         event.setException(e);
+ *     }
+ *     throw e;
+ * } finally {
+ *     if (event != null) {
+ *         event.commit();
+ *     }
+ * }
+ * }</pre>
+ */
+@Name("jakarta.ai.agent.PhaseInvoke")
+@Label("Phase Invoke")
+@Category(WorkflowStartEvent.CATEGORY)
+@Description("Invocation of a lifecycle method of an agent")
+@StackTrace(false)
+public final class PhaseInvokeEvent extends Event {
+
+    @Label("Agent")
+    String agentName;
+
+    @Label("Workflow Id")
+    String workflowId;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Exception")
+    @Description("Class of the exception thrown by the method, if any")
+    Class<?> exception;
+
+    private PhaseInvokeEvent(String agentName, String workflowId, Phase phase, String methodName) {
+        this.agentName = agentName;
+        this.workflowId = workflowId;
+        this.phase = phase.name();
+        this.methodName = methodName;
+    }
+
+    /**
+     * Begin the event of an invocation, if the event is enabled.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier, or {@code null} if unknown
+     * @param phase the kind of lifecycle method
+     * @param methodName the method name
+     * @return the begun event, or {@code null} if the event is disabled
+     */
+    public static PhaseInvokeEvent start(String agentName, String workflowId, Phase phase, String methodName) {
+        if (!Type.PHASE_INVOKE.isEnabled()) {
+            return null;
+        }
+        PhaseInvokeEvent event = new PhaseInvokeEvent(agentName, workflowId, phase, methodName);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record that the method threw.
+     *
+     * @param exception the exception
+     */
+    public void setException(Throwable exception) {
+        this.exception = exception.getClass();
+    }
+
+    private static final class Type {
+        static final EventType PHASE_INVOKE = EventType.getEventType(PhaseInvokeEvent.class);
+    }
+}
@@ -0,0 +1,299 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jakarta.ai.agent.runtime.metrics.HistogramSnapshot;
+import jakarta.ai.agent.runtime.metrics.MetricsSnapshot;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+import jakarta.ai.agent.runtime.metrics.PhaseSnapshot;
+import jakarta.ai.agent.runtime.metrics.WorkflowMetrics;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the workflow events of a flight recording per agent.
+ * <p>
+ * Besides aggregating the events of this package, the analyzer correlates them with the
+ * events of the JVM: the garbage collection pauses ({@code jdk.GCPhasePause}) that
+ * overlapped a lifecycle method invocation, and the time an invocation was blocked on a
+ * monitor ({@code jdk.JavaMonitorEnter}) or parked ({@code jdk.ThreadPark}) on its
+ * thread. Passivations are attributed to the agent of their workflow.
+ * <p>
+ * Run it on a recording with:
+ * <pre>{@code
+ * java -cp jakarta-agentic-ai-runtime.jar jakarta.ai.agent.runtime.jfr.RecordingAnalyzer recording.jfr
+ * }</pre>
+ */
+public final class RecordingAnalyzer {
+
+    private static final String PREFIX = "jakarta.ai.agent.";
+
+    private final Map<String, AgentSummary> agents = new TreeMap<>();
+    private final Map<String, String> workflowAgents = new HashMap<>();
+    private final List<RecordedEvent> passivations = new ArrayList<>();
+    private final Map<Long, List<Interval>> phasesByThread = new HashMap<>();
+    private final List<Interval> gcPauses = new ArrayList<>();
+    private final Map<Long, List<Interval>> blockingByThread = new HashMap<>();
+    private final WorkflowMetrics phases = new WorkflowMetrics();
+
+    private RecordingAnalyzer() {
+    }
+
+    /**
+     * Print the summary of a recording to the standard output.
+     *
+     * @param args the path of the recording
+     * @throws IOException if the recording cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: RecordingAnalyzer <recording.jfr>");
+            System.exit(2);
+        }
+        print(analyze(Path.of(args[0])), System.out);
+    }
+
+    /**
+     * Summarize a recording.
+     *
+     * @param recording the path of the recording
+     * @return the summary of each agent, by agent name
+     * @throws IOException if the recording cannot be read
+     */
+    public static List<AgentSummary> analyze(Path recording) throws IOException {
+        RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                analyzer.accept(file.readEvent());
+            }
+        }
+        return analyzer.summarize();
+    }
+
+    /**
+     * Print summaries in a human-readable form.
+     *
+     * @param summaries the summaries
+     * @param out the destination
+     */
+    public static void print(List<AgentSummary> summaries, PrintStream out) {
+        for (AgentSummary summary : summaries) {
+            out.println("Agent " + summary.getAgentName());
+            out.println("  workflows  started=" + summary.getWorkflowsStarted() + " ended=" + summary.getWorkflowsEnded());
+            out.println("  pending    " + percentiles(summary.getPendingTime()));
+            out.println("  duration   " + percentiles(summary.getWorkflowDuration()));
+            for (PhaseSnapshot phase : summary.getPhases()) {
+                out.println("  " + phase.phase() + ' ' + phase.methodName() + "  invocations=" + phase.invocations()
+                        + " exceptions=" + phase.exceptions() + ' ' + percentiles(phase.latency()));
+            }
+            HistogramSnapshot llm = summary.getLlmLatency();
+            if (llm.getCount() > 0) {
+                out.println("  llm        calls=" + llm.getCount() + " failures=" + summary.getLlmFailures()
+                        + " cacheHits=" + summary.getLlmCacheHits() + " promptTokens=" + summary.getPromptTokens()
+                        + " completionTokens=" + summary.getCompletionTokens() + ' ' + percentiles(llm));
+            }
+            if (summary.getPassivations() > 0) {
+                out.println("  passivate  count=" + summary.getPassivations() + " bytes=" + summary.getPassivatedBytes()
+                        + " time=" + millis(summary.getPassivationTime()));
+            }
+            if (summary.getExceptionDispatches() > 0) {
+                out.println("  exceptions dispatched=" + summary.getExceptionDispatches()
+                        + " unrecovered=" + summary.getUnrecoveredExceptions());
+            }
+            out.println("  in phases  gcPause=" + millis(summary.getGcPauseTime())
+                    + " blocked=" + millis(summary.getBlockedTime()));
+        }
+    }
+
+    private void accept(RecordedEvent event) {
+        String name = event.getEventType().getName();
+        if (name.startsWith(PREFIX)) {
+            acceptWorkflowEvent(name.substring(PREFIX.length()), event);
+        } else if (name.equals("jdk.GCPhasePause")) {
+            gcPauses.add(new Interval(nanos(event.getStartTime()), nanos(event.getEndTime()), null));
+        } else if (name.equals("jdk.JavaMonitorEnter") || name.equals("jdk.ThreadPark")) {
+            RecordedThread thread = event.getThread();
+            if (thread != null) {
+                blockingByThread.computeIfAbsent(thread.getId(), t -> new ArrayList<>())
+                        .add(new Interval(nanos(event.getStartTime()), nanos(event.getEndTime()), null));
+            }
+        }
+    }
+
+    private void acceptWorkflowEvent(String name, RecordedEvent event) {
+        switch (name) {
+            case "WorkflowStart":
+                workflowAgents.put(event.getString("workflowId"), event.getString("agentName"));
+                agent(event.getString("agentName")).recordStart(event.getLong("pendingTime"));
+                break;
+            case "WorkflowEnd":
+                workflowAgents.put(event.getString("workflowId"), event.getString("agentName"));
+                agent(event.getString("agentName")).recordEnd(event.getString("status"), event.getDuration().toNanos());
+                break;
+            case "PhaseInvoke":
+                acceptPhaseInvoke(event);
+                break;
+            case "LLMQuery":
+                agent(event.getString("agentName")).recordLlmQuery(event.getDuration().toNanos(),
+                        event.getLong("promptTokens"), event.getLong("completionTokens"),
+                        event.getBoolean("cacheHit"), event.getString("failure") != null);
+                break;
+            case "ContextPassivate":
+                passivations.add(event);
+                break;
+            case "HandleExceptionDispatch":
+                agent(event.getString("agentName")).recordExceptionDispatch(event.getBoolean("recovered"));
+                break;
+            default:
+                // an event of a later version of the runtime
+                break;
+        }
+    }
+
+    private void acceptPhaseInvoke(RecordedEvent event) {
+        String agentName = event.getString("agentName");
+        long duration = event.getDuration().toNanos();
+        PhaseMetrics metrics = phases.phase(agentName, Phase.valueOf(event.getString("phase")),
+                event.getString("methodName"));
+        RecordedClass exception = event.getClass("exception");
+        if (exception == null) {
+            metrics.recordInvocation(duration);
+        } else {
+            metrics.recordException(duration);
+        }
+        RecordedThread thread = event.getThread();
+        if (thread != null) {
+            phasesByThread.computeIfAbsent(thread.getId(), t -> new ArrayList<>())
+                    .add(new Interval(nanos(event.getStartTime()), nanos(event.getEndTime()), agentName));
+        }
+    }
+
+    private List<AgentSummary> summarize() {
+        for (RecordedEvent event : passivations) {
+            String agentName = workflowAgents.get(event.getString("workflowId"));
+            if (agentName != null) {
+                agent(agentName).recordPassivation(event.getDuration().toNanos(), event.getLong("bytes"));
+            }
+        }
+        Map<Long, Interval[]> sortedPhases = new HashMap<>();
+        for (Map.Entry<Long, List<Interval>> entry : phasesByThread.entrySet()) {
+            Interval[] intervals = entry.getValue().toArray(new Interval[0]);
+            Arrays.sort(intervals, Comparator.comparingLong(Interval::start));
+            sortedPhases.put(entry.getKey(), intervals);
+        }
+        for (Map.Entry<Long, List<Interval>> entry : blockingByThread.entrySet()) {
+            Interval[] intervals = sortedPhases.get(entry.getKey());
+            if (intervals == null) {
+                continue;
+            }
+            for (Interval blocked : entry.getValue()) {
+                Interval phase = enclosing(intervals, blocked.start());
+                if (phase != null) {
+                    agent(phase.agentName()).recordBlocked(Math.min(blocked.end(), phase.end()) - blocked.start());
+                }
+            }
+        }
+        if (!gcPauses.isEmpty()) {
+            Interval[] pauses = gcPauses.toArray(new Interval[0]);
+            Arrays.sort(pauses, Comparator.comparingLong(Interval::start));
+            for (Interval[] intervals : sortedPhases.values()) {
+                for (Interval phase : intervals) {
+                    long overlap = overlap(pauses, phase);
+                    if (overlap > 0) {
+                        agent(phase.agentName()).recordGcPause(overlap);
+                    }
+                }
+            }
+        }
+        MetricsSnapshot snapshot = phases.snapshot();
+        for (PhaseSnapshot phase : snapshot.getPhases()) {
+            agent(phase.agentName());
+        }
+        for (AgentSummary summary : agents.values()) {
+            List<PhaseSnapshot> agentPhases = new ArrayList<>(snapshot.forAgent(summary.getAgentName()));
+            agentPhases.sort(Comparator.comparing(PhaseSnapshot::phase).thenComparing(PhaseSnapshot::methodName));
+            summary.setPhases(agentPhases);
+        }
+        return List.copyOf(agents.values());
+    }
+
+    private AgentSummary agent(String agentName) {
+        return agents.computeIfAbsent(agentName, AgentSummary::new);
+    }
+
+    private static Interval enclosing(Interval[] sorted, long time) {
+        int low = 0;
+        int high = sorted.length - 1;
+        Interval candidate = null;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle].start() <= time) {
+                candidate = sorted[middle];
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return candidate != null && candidate.end() > time ? candidate : null;
+    }
+
+    private static long overlap(Interval[] sortedPauses, Interval phase) {
+        int low = 0;
+        int high = sortedPauses.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedPauses[middle].end() <= phase.start()) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        long total = 0;
+        for (int i = low; i < sortedPauses.length && sortedPauses[i].start() < phase.end(); i++) {
+            total += Math.min(sortedPauses[i].end(), phase.end()) - Math.max(sortedPauses[i].start(), phase.start());
+        }
+        return total;
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static String percentiles(HistogramSnapshot histogram) {
+        return "p50=" + millis(histogram.getValueAtPercentile(50)) + " p99=" + millis(histogram.getValueAtPercentile(99))
+                + " max=" + millis(histogram.getMax());
+    }
+
+    private static String millis(Duration duration) {
+        return String.format("%.3fms", duration.toNanos() / 1e6);
+    }
+
+    private record Interval(long start, long end, String agentName) {
+    }
+}
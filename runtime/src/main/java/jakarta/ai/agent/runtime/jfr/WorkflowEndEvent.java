@@ -0,0 +1,84 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jakarta.ai.agent.WorkflowStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning a workflow from its creation to its end.
+ * <p>
+ * The event is begun when the workflow is created and committed, possibly by another
+ * thread, when it ends. Use {@link #start(String, String)}, which allocates nothing
+ * while the event is disabled, and {@link #finish(WorkflowStatus)}.
+ */
+@Name("jakarta.ai.agent.WorkflowEnd")
+@Label("Workflow End")
+@Category(WorkflowStartEvent.CATEGORY)
+@Description("A workflow ended; the duration spans its creation to its end")
+@StackTrace(false)
+public final class WorkflowEndEvent extends Event {
+
+    @Label("Agent")
+    String agentName;
+
+    @Label("Workflow Id")
+    String workflowId;
+
+    @Label("Status")
+    String status;
+
+    private WorkflowEndEvent(String agentName, String workflowId) {
+        this.agentName = agentName;
+        this.workflowId = workflowId;
+    }
+
+    /**
+     * Begin the event of a workflow, if the event is enabled.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier
+     * @return the begun event, or {@code null} if the event is disabled
+     */
+    public static WorkflowEndEvent start(String agentName, String workflowId) {
+        if (!Type.WORKFLOW_END.isEnabled()) {
+            return null;
+        }
+        WorkflowEndEvent event = new WorkflowEndEvent(agentName, workflowId);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End and commit the event.
+     *
+     * @param status the final status of the workflow
+     */
+    public void finish(WorkflowStatus status) {
+        end();
+        if (shouldCommit()) {
+            this.status = status.name();
+            commit();
+        }
+    }
+
+    private static final class Type {
+        static final EventType WORKFLOW_END = EventType.getEventType(WorkflowEndEvent.class);
+    }
+}
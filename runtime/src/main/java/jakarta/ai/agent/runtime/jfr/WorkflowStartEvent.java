@@ -0,0 +1,75 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for a workflow entering its trigger phase.
+ * <p>
+ * Committed by {@link jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle#markRunning()}
+ * through {@link #emit(String, String, long)}, which allocates nothing while the event is
+ * disabled.
+ */
+@Name(WorkflowStartEvent.NAME)
+@Label("Workflow Start")
+@Category(WorkflowStartEvent.CATEGORY)
+@Description("A workflow entered its trigger phase")
+@StackTrace(false)
+public final class WorkflowStartEvent extends Event {
+
+    static final String NAME = "jakarta.ai.agent.WorkflowStart";
+    static final String CATEGORY = "Jakarta Agentic AI";
+
+    @Label("Agent")
+    String agentName;
+
+    @Label("Workflow Id")
+    String workflowId;
+
+    @Label("Pending Time")
+    @Description("Time between the creation of the workflow and its start")
+    @Timespan(Timespan.NANOSECONDS)
+    long pendingTime;
+
+    private WorkflowStartEvent(String agentName, String workflowId, long pendingNanos) {
+        this.agentName = agentName;
+        this.workflowId = workflowId;
+        this.pendingTime = pendingNanos;
+    }
+
+    /**
+     * Commit the event of a workflow start, if the event is enabled.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier
+     * @param pendingNanos the time the workflow waited before its start
+     */
+    public static void emit(String agentName, String workflowId, long pendingNanos) {
+        if (!Type.WORKFLOW_START.isEnabled()) {
+            return;
+        }
+        new WorkflowStartEvent(agentName, workflowId, pendingNanos).commit();
+    }
+
+    private static final class Type {
+        static final EventType WORKFLOW_START = EventType.getEventType(WorkflowStartEvent.class);
+    }
+}
@@ -0,0 +1,40 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Java Flight Recorder events of the workflow lifecycle.
+ * <p>
+ * The runtime building blocks emit the events of the workflows they see:
+ * {@link jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle} the
+ * {@link jakarta.ai.agent.runtime.jfr.WorkflowStartEvent} and
+ * {@link jakarta.ai.agent.runtime.jfr.WorkflowEndEvent},
+ * {@link jakarta.ai.agent.runtime.dispatch.PhaseMethod} the
+ * {@link jakarta.ai.agent.runtime.jfr.PhaseInvokeEvent},
+ * {@link jakarta.ai.agent.runtime.llm.InstrumentedLargeLanguageModel} the
+ * {@link jakarta.ai.agent.runtime.jfr.LlmQueryEvent} and
+ * {@link jakarta.ai.agent.runtime.scope.WorkflowScopeStore} the
+ * {@link jakarta.ai.agent.runtime.jfr.ContextPassivateEvent}. Runtimes emit the
+ * {@link jakarta.ai.agent.runtime.jfr.HandleExceptionDispatchEvent} around the dispatch
+ * of an exception to its handler. While no recording enables them, the events cost a
+ * check of a flag.
+ * <p>
+ * The settings file {@code agentic-ai.jfc} in this package enables all events, and is
+ * combined with the settings of the JDK:
+ * <pre>{@code
+ * java -XX:StartFlightRecording:settings=default,settings=agentic-ai.jfc,filename=recording.jfr ...
+ * }</pre>
+ * {@link jakarta.ai.agent.runtime.jfr.RecordingAnalyzer} summarizes a recording per
+ * agent, including the garbage collection pauses and the lock contention during
+ * lifecycle method invocations.
+ */
+package jakarta.ai.agent.runtime.jfr;
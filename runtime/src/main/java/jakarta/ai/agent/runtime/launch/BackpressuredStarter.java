@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.launch;
+
+import jakarta.ai.agent.WorkflowHandle;
+import jakarta.ai.agent.runtime.concurrent.SerialDrain;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implements {@link jakarta.ai.agent.WorkflowLauncher#startAll} on top of a single-workflow
+ * start function.
+ * <p>
+ * Events are pulled from the stream only while fewer than {@code maxInFlight} of the
+ * started workflows are running. One thread at a time pulls and starts, either the
+ * caller or the thread that ended a workflow, so the stream is never accessed
+ * concurrently.
+ *
+ * @param <H> the handle type
+ */
+public final class BackpressuredStarter<H extends WorkflowHandle<?>> {
+
+    private final Stream<?> events;
+    private final Iterator<?> iterator;
+    private final int maxInFlight;
+    private final Function<Object, H> start;
+    private final Consumer<? super H> onStart;
+    private final CompletableFuture<Long> done = new CompletableFuture<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final SerialDrain drain = new SerialDrain(this::pull);
+
+    // Guarded by drain: only the draining thread reads or writes these.
+    private boolean exhausted;
+    private RuntimeException failure;
+    private long started;
+
+    private BackpressuredStarter(Stream<?> events, int maxInFlight, Function<Object, H> start,
+                                 Consumer<? super H> onStart) {
+        this.events = events;
+        this.iterator = events.iterator();
+        this.maxInFlight = maxInFlight;
+        this.start = start;
+        this.onStart = onStart;
+    }
+
+    /**
+     * Start one workflow per event.
+     *
+     * @param <H> the handle type
+     * @param events the events
+     * @param maxInFlight the maximum number of running workflows
+     * @param start starts the workflow for an event
+     * @param onStart receives every started handle
+     * @return a stage completed with the number of started workflows once all have ended,
+     *         or failed with the exception thrown by the stream, {@code start} or
+     *         {@code onStart}, which stops pulling further events
+     */
+    public static <H extends WorkflowHandle<?>> CompletionStage<Long> startAll(Stream<?> events, int maxInFlight,
+                                                                              Function<Object, H> start,
+                                                                              Consumer<? super H> onStart) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        BackpressuredStarter<H> starter = new BackpressuredStarter<>(Objects.requireNonNull(events, "events"),
+                maxInFlight, Objects.requireNonNull(start, "start"), Objects.requireNonNull(onStart, "onStart"));
+        starter.drain.request();
+        return starter.done.minimalCompletionStage();
+    }
+
+    private void pull() {
+        while (!exhausted && inFlight.get() < maxInFlight) {
+            startNext();
+        }
+        if (exhausted && inFlight.get() == 0) {
+            if (failure != null) {
+                done.completeExceptionally(failure);
+            } else {
+                done.complete(started);
+            }
+        }
+    }
+
+    private void startNext() {
+        H handle;
+        try {
+            if (!iterator.hasNext()) {
+                exhausted = true;
+                events.close();
+                return;
+            }
+            Object event = iterator.next();
+            inFlight.incrementAndGet();
+            try {
+                handle = Objects.requireNonNull(start.apply(event), "start returned null");
+            } catch (RuntimeException e) {
+                inFlight.decrementAndGet();
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            exhausted = true;
+            failure = e;
+            events.close();
+            return;
+        }
+        started++;
+        try {
+            onStart.accept(handle);
+        } catch (RuntimeException e) {
+            exhausted = true;
+            failure = e;
+            events.close();
+        }
+        handle.getResult().whenComplete((value, error) -> {
+            inFlight.decrementAndGet();
+            drain.request();
+        });
+    }
+}
@@ -0,0 +1,234 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.launch;
+
+import jakarta.ai.agent.WorkflowHandle;
+import jakarta.ai.agent.WorkflowStatus;
+import jakarta.ai.agent.runtime.cancel.DefaultCancellationToken;
+import jakarta.ai.agent.runtime.jfr.WorkflowEndEvent;
+import jakarta.ai.agent.runtime.jfr.WorkflowStartEvent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link WorkflowHandle} whose status transitions are driven by the runtime.
+ * <p>
+ * The runtime creates the handle in {@link WorkflowStatus#PENDING}, calls
+ * {@link #markRunning()} when the trigger phase begins, and ends it with exactly one of
+ * {@link #complete(Object)}, {@link #terminate(Object)} or {@link #fail(Throwable)}.
+ * Transitions after the handle has ended, including after {@link #cancel()}, are
+ * ignored and return {@code false}, so the runtime does not need to synchronize with
+ * callers cancelling the workflow.
+ * <p>
+ * The handle emits the {@link WorkflowStartEvent} and {@link WorkflowEndEvent} flight
+ * recorder events of its workflow.
+ *
+ * @param <R> the result type
+ */
+public final class DefaultWorkflowHandle<R> implements WorkflowHandle<R> {
+
+    private final String workflowId;
+    private final String agentName;
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final AtomicReference<WorkflowStatus> status = new AtomicReference<>(WorkflowStatus.PENDING);
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final WorkflowEndEvent endEvent;
+    private final List<Runnable> cancelActions = new ArrayList<>();
+    private boolean cancelActionsRun;
+    private volatile CancellationException cancellation;
+
+    /**
+     * Create a pending handle.
+     *
+     * @param workflowId the workflow identifier
+     * @param agentName the agent name
+     */
+    public DefaultWorkflowHandle(String workflowId, String agentName) {
+        this.workflowId = Objects.requireNonNull(workflowId, "workflowId");
+        this.agentName = Objects.requireNonNull(agentName, "agentName");
+        this.endEvent = WorkflowEndEvent.start(agentName, workflowId);
+    }
+
+    /**
+     * Add an action run once when the workflow is cancelled, for example to remove it
+     * from a queue or signal its cancellation token. If the handle is already cancelled,
+     * the action runs immediately.
+     * <p>
+     * An exception thrown by the action does not propagate: it is added as suppressed
+     * exception to the {@link CancellationException} of the result.
+     *
+     * @param action the cancellation action
+     */
+    public void onCancel(Runnable action) {
+        Objects.requireNonNull(action, "action");
+        synchronized (cancelActions) {
+            if (!cancelActionsRun) {
+                cancelActions.add(action);
+                return;
+            }
+        }
+        runCancelAction(action);
+    }
+
+    /**
+     * Wire the cancellation token of the workflow to this handle: cancelling the handle
+     * cancels the token, and ending the workflow otherwise releases the token's
+     * deadline timer without running its actions.
+     *
+     * @param token the cancellation token of the workflow
+     */
+    public void bind(DefaultCancellationToken token) {
+        Objects.requireNonNull(token, "token");
+        onCancel(token::cancel);
+        result.whenComplete((value, failure) -> {
+            if (status.get() != WorkflowStatus.CANCELLED) {
+                token.close();
+            }
+        });
+    }
+
+    /**
+     * Move the workflow from pending to running.
+     *
+     * @return {@code true} if the workflow may run, {@code false} if it was cancelled
+     */
+    public boolean markRunning() {
+        if (!status.compareAndSet(WorkflowStatus.PENDING, WorkflowStatus.RUNNING)) {
+            return false;
+        }
+        WorkflowStartEvent.emit(agentName, workflowId, System.nanoTime() - startNanos);
+        return true;
+    }
+
+    /**
+     * End the workflow after its outcome phase.
+     *
+     * @param value the result value, may be {@code null}
+     * @return {@code true} if this call ended the workflow
+     */
+    public boolean complete(R value) {
+        return end(WorkflowStatus.COMPLETED) && result.complete(value);
+    }
+
+    /**
+     * End the workflow after a decision stopped it.
+     *
+     * @param value the result value, may be {@code null}
+     * @return {@code true} if this call ended the workflow
+     */
+    public boolean terminate(R value) {
+        return end(WorkflowStatus.TERMINATED) && result.complete(value);
+    }
+
+    /**
+     * End the workflow with an exception.
+     *
+     * @param failure the exception
+     * @return {@code true} if this call ended the workflow
+     */
+    public boolean fail(Throwable failure) {
+        return end(WorkflowStatus.FAILED) && result.completeExceptionally(failure);
+    }
+
+    @Override
+    public boolean cancel() {
+        if (!end(WorkflowStatus.CANCELLED)) {
+            return false;
+        }
+        cancellation = new CancellationException("Workflow " + workflowId + " was cancelled");
+        List<Runnable> actions;
+        synchronized (cancelActions) {
+            cancelActionsRun = true;
+            actions = new ArrayList<>(cancelActions);
+            cancelActions.clear();
+        }
+        try {
+            for (Runnable action : actions) {
+                runCancelAction(action);
+            }
+        } finally {
+            result.completeExceptionally(cancellation);
+        }
+        return true;
+    }
+
+    private void runCancelAction(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            cancellation.addSuppressed(e);
+        }
+    }
+
+    private boolean end(WorkflowStatus target) {
+        while (true) {
+            WorkflowStatus current = status.get();
+            if (current.isDone()) {
+                return false;
+            }
+            if (status.compareAndSet(current, target)) {
+                if (endEvent != null) {
+                    endEvent.finish(target);
+                }
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    @Override
+    public String getAgentName() {
+        return agentName;
+    }
+
+    @Override
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Get the monotonic time the handle was created, for latency measurement.
+     *
+     * @return the {@link System#nanoTime()} at creation
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    @Override
+    public WorkflowStatus getStatus() {
+        return status.get();
+    }
+
+    @Override
+    public CompletionStage<R> getResult() {
+        return result.minimalCompletionStage();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowHandle{workflowId='" + workflowId + "', agent='" + agentName + "', status=" + getStatus() + '}';
+    }
+}
@@ -0,0 +1,134 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.limits;
+
+import jakarta.ai.agent.AgentLimits;
+import jakarta.ai.agent.WorkflowPriority;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * The limits of an agent after applying deployment overrides to its
+ * {@link AgentLimits} annotation.
+ *
+ * @param agentName the agent name
+ * @param maxConcurrentWorkflows the maximum number of running workflows, or {@code 0} for no limit
+ * @param phaseTimeout the phase timeout, or {@link Duration#ZERO} for none
+ * @param workflowTimeout the workflow timeout, or {@link Duration#ZERO} for none
+ * @param executor the JNDI name of the executor, or an empty string for the default
+ * @param priority the initial workflow priority
+ */
+public record EffectiveAgentLimits(String agentName, int maxConcurrentWorkflows, Duration phaseTimeout,
+                                   Duration workflowTimeout, String executor, WorkflowPriority priority) {
+
+    /**
+     * Configuration key prefix; the full key is {@code PREFIX + agentName + "." + property}.
+     */
+    public static final String PREFIX = "jakarta.ai.agent.";
+
+    /** Property overriding {@link AgentLimits#maxConcurrentWorkflows()}. */
+    public static final String MAX_CONCURRENT_WORKFLOWS = "max-concurrent-workflows";
+
+    /** Property overriding {@link AgentLimits#phaseTimeoutMillis()}. */
+    public static final String PHASE_TIMEOUT_MILLIS = "phase-timeout-millis";
+
+    /** Property overriding {@link AgentLimits#workflowTimeoutMillis()}. */
+    public static final String WORKFLOW_TIMEOUT_MILLIS = "workflow-timeout-millis";
+
+    /** Property overriding {@link AgentLimits#executor()}. */
+    public static final String EXECUTOR = "executor";
+
+    /** Property overriding {@link AgentLimits#priority()}. */
+    public static final String PRIORITY = "priority";
+
+    /**
+     * Resolve the limits of an agent.
+     *
+     * @param agentName the agent name
+     * @param annotation the annotation of the agent class, may be {@code null}
+     * @param config looks up a configuration key, returning {@code null} if it is not set
+     * @return the effective limits
+     * @throws IllegalArgumentException if an override or annotation value is invalid
+     */
+    public static EffectiveAgentLimits resolve(String agentName, AgentLimits annotation,
+                                               Function<String, String> config) {
+        int maxConcurrent = annotation == null ? 0 : annotation.maxConcurrentWorkflows();
+        long phaseMillis = annotation == null ? 0 : annotation.phaseTimeoutMillis();
+        long workflowMillis = annotation == null ? 0 : annotation.workflowTimeoutMillis();
+        String executor = annotation == null ? "" : annotation.executor();
+        WorkflowPriority priority = annotation == null ? WorkflowPriority.MEDIUM : annotation.priority();
+
+        String value = lookup(config, agentName, MAX_CONCURRENT_WORKFLOWS);
+        if (value != null) {
+            maxConcurrent = (int) parseNonNegative(agentName, MAX_CONCURRENT_WORKFLOWS, value);
+        }
+        value = lookup(config, agentName, PHASE_TIMEOUT_MILLIS);
+        if (value != null) {
+            phaseMillis = parseNonNegative(agentName, PHASE_TIMEOUT_MILLIS, value);
+        }
+        value = lookup(config, agentName, WORKFLOW_TIMEOUT_MILLIS);
+        if (value != null) {
+            workflowMillis = parseNonNegative(agentName, WORKFLOW_TIMEOUT_MILLIS, value);
+        }
+        value = lookup(config, agentName, EXECUTOR);
+        if (value != null) {
+            executor = value.trim();
+        }
+        value = lookup(config, agentName, PRIORITY);
+        if (value != null) {
+            try {
+                priority = WorkflowPriority.parse(value);
+            } catch (IllegalArgumentException e) {
+                throw invalid(agentName, PRIORITY, value);
+            }
+        }
+        if (maxConcurrent < 0 || phaseMillis < 0 || workflowMillis < 0) {
+            throw new IllegalArgumentException("Agent " + agentName + " declares negative limits");
+        }
+        return new EffectiveAgentLimits(agentName, maxConcurrent, Duration.ofMillis(phaseMillis),
+                Duration.ofMillis(workflowMillis), executor, priority);
+    }
+
+    /**
+     * Get the configuration key of a property of an agent.
+     *
+     * @param agentName the agent name
+     * @param property the property
+     * @return the configuration key
+     */
+    public static String key(String agentName, String property) {
+        return PREFIX + agentName + "." + property;
+    }
+
+    private static String lookup(Function<String, String> config, String agentName, String property) {
+        String value = config.apply(key(agentName, property));
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static long parseNonNegative(String agentName, String property, String value) {
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0 && (!property.equals(MAX_CONCURRENT_WORKFLOWS) || parsed <= Integer.MAX_VALUE)) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw invalid(agentName, property, value);
+    }
+
+    private static IllegalArgumentException invalid(String agentName, String property, String value) {
+        return new IllegalArgumentException("Invalid value '" + value + "' for " + key(agentName, property));
+    }
+}
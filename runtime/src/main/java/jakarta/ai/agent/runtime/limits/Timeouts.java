@@ -0,0 +1,71 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.limits;
+
+import jakarta.ai.agent.WorkflowTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Applies {@link jakarta.ai.agent.AgentLimits} timeouts to phase and workflow stages.
+ */
+public final class Timeouts {
+
+    private Timeouts() {
+    }
+
+    /**
+     * Fail a stage with {@link WorkflowTimeoutException} if it does not complete in time.
+     * <p>
+     * The timeout timer is cancelled as soon as the stage completes. The underlying work
+     * is not interrupted; it keeps running until it observes cancellation.
+     *
+     * @param <T> the result type
+     * @param stage the stage
+     * @param timeout the timeout, or {@link Duration#ZERO} for none
+     * @param description what timed out, used in the exception message, e.g. {@code "Phase analyze"}
+     * @return a stage completed like {@code stage}, or failed on timeout
+     */
+    public static <T> CompletionStage<T> withTimeout(CompletionStage<T> stage, Duration timeout, String description) {
+        if (timeout.isZero() || timeout.isNegative()) {
+            return stage;
+        }
+        CompletableFuture<T> timed = new CompletableFuture<>();
+        stage.whenComplete((value, failure) -> {
+            if (failure != null) {
+                timed.completeExceptionally(failure);
+            } else {
+                timed.complete(value);
+            }
+        });
+        CompletableFuture<T> result = new CompletableFuture<>();
+        timed.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((value, failure) -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (cause instanceof TimeoutException) {
+                result.completeExceptionally(new WorkflowTimeoutException(
+                        description + " exceeded its timeout of " + timeout.toMillis() + " ms", cause));
+            } else if (cause != null) {
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,169 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.limits;
+
+import jakarta.ai.agent.runtime.concurrent.SerialDrain;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of running workflows of one agent, see
+ * {@link jakarta.ai.agent.AgentLimits#maxConcurrentWorkflows()}.
+ * <p>
+ * Workflows submitted at the limit wait in FIFO order without blocking the caller. A
+ * slot is held until the stage of the workflow completes, even if the caller has
+ * already been failed by a timeout, so the bulkhead bounds the work actually in
+ * progress.
+ */
+public final class WorkflowBulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<Waiter<?>> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final SerialDrain drain = new SerialDrain(this::startWaiting);
+    private final LongAdder started = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Create a bulkhead.
+     *
+     * @param name the bulkhead name, typically the agent name
+     * @param maxConcurrent the maximum number of running workflows
+     */
+    public WorkflowBulkhead(String name, int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive");
+        }
+        this.name = Objects.requireNonNull(name, "name");
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Run a workflow when a slot is free.
+     *
+     * @param <T> the result type
+     * @param workflow starts the workflow and returns a stage completed when it ends
+     * @return a stage completed with the outcome of the workflow
+     */
+    public <T> CompletionStage<T> submit(Supplier<? extends CompletionStage<T>> workflow) {
+        Waiter<T> waiter = new Waiter<>(Objects.requireNonNull(workflow, "workflow"), System.nanoTime());
+        waiting.add(waiter);
+        waitingCount.incrementAndGet();
+        drain.request();
+        return waiter.result;
+    }
+
+    private void startWaiting() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            Waiter<?> waiter = waiting.poll();
+            if (waiter == null) {
+                permits.release();
+            } else {
+                waitingCount.decrementAndGet();
+                start(waiter);
+            }
+        }
+    }
+
+    private <T> void start(Waiter<T> waiter) {
+        started.increment();
+        maxWaitNanos.accumulate(System.nanoTime() - waiter.submittedNanos);
+        CompletionStage<T> stage;
+        try {
+            stage = Objects.requireNonNull(waiter.workflow.get(), "workflow returned null");
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((value, failure) -> {
+            permits.release();
+            drain.request();
+            if (failure != null) {
+                waiter.result.completeExceptionally(failure);
+            } else {
+                waiter.result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * @return the bulkhead name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the maximum number of running workflows
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * @return the number of running workflows
+     */
+    public int getRunning() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * @return the number of workflows waiting for a slot
+     */
+    public int getWaiting() {
+        return waitingCount.get();
+    }
+
+    /**
+     * @return the number of workflows started so far
+     */
+    public long getStartedCount() {
+        return started.sum();
+    }
+
+    /**
+     * @return the longest time a workflow waited for a slot
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowBulkhead{name='" + name + "', running=" + getRunning() + ", waiting=" + getWaiting()
+                + ", started=" + getStartedCount() + '}';
+    }
+
+    private static final class Waiter<T> {
+
+        final Supplier<? extends CompletionStage<T>> workflow;
+        final long submittedNanos;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Waiter(Supplier<? extends CompletionStage<T>> workflow, long submittedNanos) {
+            this.workflow = workflow;
+            this.submittedNanos = submittedNanos;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+/**
+ * A prompt among the most expensive ones, as estimated by the top-K sketch of an
+ * {@link InstrumentedLargeLanguageModel}.
+ * <p>
+ * The sketch keeps a bounded number of prompts. A prompt that enters it replaces the
+ * cheapest one and inherits its expense, so {@code expense} is an upper bound that
+ * overestimates the true expense by at most {@code error}; the other figures count only
+ * the calls since the prompt entered the sketch.
+ *
+ * @param prompt the prompt text, without its inputs
+ * @param site the call site of the first call counted
+ * @param expense the estimated expense: the cost if prices are configured, otherwise
+ *        the total of prompt and completion tokens
+ * @param error the expense inherited when the prompt entered the sketch
+ * @param calls the calls counted
+ * @param promptTokens the prompt tokens of the counted calls
+ * @param completionTokens the completion tokens of the counted calls
+ * @param cacheHits the counted calls answered from a cache or by coalescing
+ */
+public record ExpensivePrompt(String prompt, LlmCallSite site, double expense, double error, long calls,
+                              long promptTokens, long completionTokens, long cacheHits) {
+}
@@ -0,0 +1,353 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.Payload;
+import jakarta.ai.agent.runtime.introspection.WorkflowCursor;
+import jakarta.ai.agent.runtime.jfr.LlmQueryEvent;
+import jakarta.ai.agent.runtime.tracing.TraceAttributes;
+import jakarta.ai.agent.runtime.tracing.TraceScope;
+import jakarta.ai.agent.runtime.tracing.TraceSpan;
+import jakarta.ai.agent.runtime.tracing.WorkflowTracer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link LargeLanguageModel} decorator that records metrics of every call, attributed
+ * to the agent and phase that made it.
+ * <p>
+ * For each {@link LlmCallSite}, the decorator records the latency, the time to first
+ * token, the prompt and completion tokens, the retries, the cache and coalescing hits
+ * and the failures by {@link LlmExceptionCategory}, both since the start and over a
+ * rolling window, see {@link LlmCallMetrics}, emits an {@link LlmQueryEvent} to the
+ * flight recorder, and traces the call as a client span of the configured
+ * {@link WorkflowTracer}, with the tokens as attributes. Calls in progress are reported
+ * to the current {@link WorkflowCursor}. It also keeps a sketch of the prompts with
+ * the highest expense, to find the prompts worth caching or moving to a cheaper model.
+ * <p>
+ * The decorator should be the outermost layer, so that it sees every call. The layers
+ * below report what the decorator cannot observe through {@link LlmCall#current()};
+ * tokens that are not reported are estimated from the length of the prompt, the inputs
+ * and the response, except for failed calls, which count only reported tokens.
+ * {@link Payload} inputs are measured by size without being read.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * InstrumentedLargeLanguageModel llm = InstrumentedLargeLanguageModel.builder(providerModel)
+ *         .prices(3.0, 15.0)
+ *         .window(Duration.ofMinutes(5), 30)
+ *         .build();
+ *
+ * for (ExpensivePrompt prompt : llm.getMostExpensivePrompts(10)) {
+ *     log.info(prompt.expense() + " " + prompt.cacheHits() + "/" + prompt.calls() + " " + prompt.prompt());
+ * }
+ * }</pre>
+ */
+public class InstrumentedLargeLanguageModel implements LargeLanguageModel {
+
+    private final LargeLanguageModel delegate;
+    private final TokenEstimator tokenEstimator;
+    private final double promptPrice;
+    private final double completionPrice;
+    private final Duration window;
+    private final int windowBuckets;
+    private final WorkflowTracer tracer;
+    private final PromptCostSketch prompts;
+    private final ConcurrentHashMap<LlmCallSite, LlmCallMetrics> sites = new ConcurrentHashMap<>();
+
+    /**
+     * Create a decorator from a builder.
+     *
+     * @param builder the builder
+     */
+    protected InstrumentedLargeLanguageModel(Builder builder) {
+        this.delegate = builder.delegate;
+        this.tokenEstimator = builder.tokenEstimator;
+        this.promptPrice = builder.promptPrice;
+        this.completionPrice = builder.completionPrice;
+        this.window = builder.window;
+        this.windowBuckets = builder.windowBuckets;
+        this.tracer = builder.tracer;
+        this.prompts = new PromptCostSketch(builder.topPrompts);
+    }
+
+    /**
+     * Create a builder for a decorator of the given model.
+     *
+     * @param delegate the model that performs the calls
+     * @return a new builder
+     */
+    public static Builder builder(LargeLanguageModel delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * Get the metrics of the calls made from a call site.
+     *
+     * @param site the call site
+     * @return the metrics, or {@code null} if no call was made from the site
+     */
+    public LlmCallMetrics getMetrics(LlmCallSite site) {
+        return sites.get(site);
+    }
+
+    /**
+     * Get the metrics of every call site that made a call.
+     *
+     * @return the metrics by call site
+     */
+    public Map<LlmCallSite, LlmCallMetrics> getMetrics() {
+        return Map.copyOf(sites);
+    }
+
+    /**
+     * Get the prompts with the highest expense, in decreasing order of expense.
+     *
+     * @param k the number of prompts, at most the capacity of the sketch
+     * @return the most expensive prompts
+     */
+    public List<ExpensivePrompt> getMostExpensivePrompts(int k) {
+        return prompts.top(k);
+    }
+
+    @Override
+    public String query(String prompt) {
+        return call(prompt, null, () -> delegate.query(prompt));
+    }
+
+    @Override
+    public <T> T query(String prompt, Class<T> resultType) {
+        return call(prompt, null, () -> delegate.query(prompt, resultType));
+    }
+
+    @Override
+    public String query(String prompt, Object... inputs) {
+        return call(prompt, inputs, () -> delegate.query(prompt, inputs));
+    }
+
+    @Override
+    public <T> T query(String prompt, Class<T> resultType, Object... inputs) {
+        return call(prompt, inputs, () -> delegate.query(prompt, resultType, inputs));
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> implClass) {
+        if (implClass.isInstance(this)) {
+            return implClass.cast(this);
+        }
+        return delegate.unwrap(implClass);
+    }
+
+    private <T> T call(String prompt, Object[] inputs, Supplier<T> invocation) {
+        LlmCallSite site = LlmCallSite.current();
+        LlmCall previous = LlmCall.current();
+        LlmCall call = LlmCall.begin();
+        LlmQueryEvent event = LlmQueryEvent.start(site.agentName(), site.phase() == null ? null : site.phase().name());
+        TraceSpan span = tracer.startLlmCall(site.agentName(), site.phase());
+        TraceScope scope = span.makeCurrent();
+        WorkflowCursor cursor = WorkflowCursor.current();
+        if (cursor != null) {
+            cursor.llmCallStarted();
+        }
+        T result;
+        try {
+            result = invocation.get();
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            record(site, call, event, span, prompt, inputs, null, LlmExceptionCategory.of(e));
+            throw e;
+        } finally {
+            if (cursor != null) {
+                cursor.llmCallEnded();
+            }
+            scope.close();
+            LlmCall.end(previous);
+        }
+        record(site, call, event, span, prompt, inputs, result, null);
+        return result;
+    }
+
+    private void record(LlmCallSite site, LlmCall call, LlmQueryEvent event, TraceSpan span, String prompt,
+                        Object[] inputs, Object result, LlmExceptionCategory failure) {
+        if (event != null) {
+            event.end();
+        }
+        long now = System.nanoTime();
+        boolean served = call.isCacheHit() || call.isCoalesced();
+        long promptTokens = 0;
+        long completionTokens = 0;
+        if (call.getPromptTokens() >= 0) {
+            promptTokens = call.getPromptTokens();
+            completionTokens = Math.max(call.getCompletionTokens(), 0);
+        } else if (!served && failure == null) {
+            promptTokens = estimatePrompt(prompt, inputs);
+            if (call.getCompletionTokens() >= 0) {
+                completionTokens = call.getCompletionTokens();
+            } else if (result != null) {
+                completionTokens = tokenEstimator.estimate(String.valueOf(result).length());
+            }
+        }
+        double cost = (promptTokens * promptPrice + completionTokens * completionPrice) / 1_000_000;
+        sites.computeIfAbsent(site, s -> new LlmCallMetrics(s, new RollingWindow(window, windowBuckets)))
+                .record(now, call, failure, promptTokens, completionTokens, cost);
+        if (prompt != null) {
+            double expense = promptPrice > 0 || completionPrice > 0 ? cost : promptTokens + completionTokens;
+            prompts.add(prompt, site, expense, promptTokens, completionTokens, call.isCacheHit());
+        }
+        if (event != null && event.shouldCommit()) {
+            event.setTokens(promptTokens, completionTokens);
+            event.setServing(Math.max(call.getFirstTokenNanos(), 0), call.getRetries(), call.isCacheHit(),
+                    call.isCoalesced());
+            if (failure != null) {
+                event.setFailure(failure.name());
+            }
+            event.commit();
+        }
+        span.setAttribute(TraceAttributes.INPUT_TOKENS, promptTokens)
+                .setAttribute(TraceAttributes.OUTPUT_TOKENS, completionTokens)
+                .setAttribute(TraceAttributes.CACHE_HIT, call.isCacheHit())
+                .setAttribute(TraceAttributes.RETRIES, call.getRetries())
+                .end();
+    }
+
+    private long estimatePrompt(String prompt, Object[] inputs) {
+        long characters = prompt == null ? 0 : prompt.length();
+        if (inputs != null) {
+            for (Object input : inputs) {
+                if (input instanceof CharSequence) {
+                    characters += ((CharSequence) input).length();
+                } else if (input instanceof Payload) {
+                    characters += ((Payload) input).size();
+                } else if (input != null) {
+                    characters += String.valueOf(input).length();
+                }
+            }
+        }
+        return tokenEstimator.estimate(characters);
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedLargeLanguageModel{delegate=" + delegate + ", sites=" + sites.keySet() + '}';
+    }
+
+    /**
+     * Builder of {@link InstrumentedLargeLanguageModel} instances.
+     */
+    public static class Builder {
+
+        private final LargeLanguageModel delegate;
+        private TokenEstimator tokenEstimator = TokenEstimator.charactersPerToken(4);
+        private double promptPrice;
+        private double completionPrice;
+        private Duration window = Duration.ofMinutes(1);
+        private int windowBuckets = 12;
+        private int topPrompts = 100;
+        private WorkflowTracer tracer = WorkflowTracer.NOOP;
+
+        /**
+         * Create a builder with the default settings.
+         *
+         * @param delegate the model that performs the calls
+         */
+        protected Builder(LargeLanguageModel delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        }
+
+        /**
+         * Set the estimator of the tokens that the provider client does not report.
+         * The default assumes four characters per token.
+         *
+         * @param tokenEstimator the estimator
+         * @return this builder
+         */
+        public Builder tokenEstimator(TokenEstimator tokenEstimator) {
+            this.tokenEstimator = Objects.requireNonNull(tokenEstimator, "tokenEstimator");
+            return this;
+        }
+
+        /**
+         * Set the prices of the model, to estimate the cost of calls. Without prices,
+         * the cost is zero and prompts are ranked by tokens.
+         *
+         * @param promptPerMillion the price of a million prompt tokens
+         * @param completionPerMillion the price of a million completion tokens
+         * @return this builder
+         */
+        public Builder prices(double promptPerMillion, double completionPerMillion) {
+            if (promptPerMillion < 0 || completionPerMillion < 0) {
+                throw new IllegalArgumentException("Prices must not be negative");
+            }
+            this.promptPrice = promptPerMillion;
+            this.completionPrice = completionPerMillion;
+            return this;
+        }
+
+        /**
+         * Set the rolling window. The default is one minute in 12 buckets.
+         *
+         * @param window the period covered by the window
+         * @param buckets the number of buckets the window advances by
+         * @return this builder
+         */
+        public Builder window(Duration window, int buckets) {
+            if (window.isNegative() || window.isZero() || buckets < 1) {
+                throw new IllegalArgumentException("The window must be positive and have at least one bucket");
+            }
+            this.window = window;
+            this.windowBuckets = buckets;
+            return this;
+        }
+
+        /**
+         * Set the number of prompts tracked by the top-K sketch. The default is 100.
+         *
+         * @param capacity the number of prompts, positive
+         * @return this builder
+         */
+        public Builder topPrompts(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("capacity must be positive");
+            }
+            this.topPrompts = capacity;
+            return this;
+        }
+
+        /**
+         * Set the tracer of the client spans of the calls. By default, calls are not
+         * traced.
+         *
+         * @param tracer the tracer
+         * @return this builder
+         */
+        public Builder tracer(WorkflowTracer tracer) {
+            this.tracer = Objects.requireNonNull(tracer, "tracer");
+            return this;
+        }
+
+        /**
+         * Create the decorator.
+         *
+         * @return the decorator
+         */
+        public InstrumentedLargeLanguageModel build() {
+            return new InstrumentedLargeLanguageModel(this);
+        }
+    }
+}
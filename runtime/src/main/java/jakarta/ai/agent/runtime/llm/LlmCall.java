@@ -0,0 +1,144 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link jakarta.ai.agent.LargeLanguageModel} call in progress, to which the layers
+ * below an {@link InstrumentedLargeLanguageModel} report what only they can observe.
+ * <p>
+ * The provider client reports the token usage returned by the provider and the arrival
+ * of the first streamed token; a retry layer reports each retry; a cache or a
+ * request-coalescing layer reports that it answered without a provider request. A layer
+ * that continues the call on another thread must get the call with {@link #current()}
+ * before handing off. Reports are optional: tokens that are not reported are estimated.
+ *
+ * <pre>{@code
+ * LlmCall call = LlmCall.current();
+ * Response response = client.send(request);
+ * if (call != null) {
+ *     call.recordUsage(response.usage().inputTokens(), response.usage().outputTokens());
+ * }
+ * }</pre>
+ */
+public final class LlmCall {
+
+    private static final ThreadLocal<LlmCall> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private volatile long promptTokens = -1;
+    private volatile long completionTokens = -1;
+    private volatile long firstTokenNanos = -1;
+    private final AtomicInteger retries = new AtomicInteger();
+    private volatile boolean cacheHit;
+    private volatile boolean coalesced;
+
+    private LlmCall(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Get the call in progress on the calling thread.
+     *
+     * @return the call, or {@code null} if the thread is not inside an instrumented call
+     */
+    public static LlmCall current() {
+        return CURRENT.get();
+    }
+
+    static LlmCall begin() {
+        LlmCall call = new LlmCall(System.nanoTime());
+        CURRENT.set(call);
+        return call;
+    }
+
+    static void end(LlmCall previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Report the token usage of the provider request.
+     *
+     * @param promptTokens the tokens of the prompt and inputs
+     * @param completionTokens the tokens of the response
+     */
+    public void recordUsage(long promptTokens, long completionTokens) {
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+    }
+
+    /**
+     * Report the arrival of the first token of a streamed response. Only the first
+     * report is kept.
+     */
+    public void recordFirstToken() {
+        if (firstTokenNanos < 0) {
+            firstTokenNanos = System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Report that the provider request is sent again after a failure.
+     */
+    public void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    /**
+     * Report that the response was served from a cache, without a provider request.
+     */
+    public void recordCacheHit() {
+        cacheHit = true;
+    }
+
+    /**
+     * Report that the response was shared with an identical call already in flight,
+     * without a provider request of its own.
+     */
+    public void recordCoalesced() {
+        coalesced = true;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getPromptTokens() {
+        return promptTokens;
+    }
+
+    long getCompletionTokens() {
+        return completionTokens;
+    }
+
+    long getFirstTokenNanos() {
+        return firstTokenNanos;
+    }
+
+    int getRetries() {
+        return retries.get();
+    }
+
+    boolean isCacheHit() {
+        return cacheHit;
+    }
+
+    boolean isCoalesced() {
+        return coalesced;
+    }
+}
@@ -0,0 +1,177 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import jakarta.ai.agent.runtime.metrics.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative and recent metrics of the {@link jakarta.ai.agent.LargeLanguageModel} calls
+ * made from one {@link LlmCallSite}.
+ * <p>
+ * Calls answered from a cache or by coalescing send no provider request, so they count
+ * no tokens and no cost.
+ */
+public final class LlmCallMetrics {
+
+    private static final LlmExceptionCategory[] CATEGORIES = LlmExceptionCategory.values();
+
+    private final LlmCallSite site;
+    private final long createdNanos = System.nanoTime();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram timeToFirstToken = new LatencyHistogram();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final DoubleAdder cost = new DoubleAdder();
+    private final LongAdder[] failures = new LongAdder[CATEGORIES.length];
+    private final RollingWindow window;
+
+    LlmCallMetrics(LlmCallSite site, RollingWindow window) {
+        this.site = site;
+        this.window = window;
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = new LongAdder();
+        }
+    }
+
+    void record(long now, LlmCall call, LlmExceptionCategory failure, long prompt, long completion, double callCost) {
+        long nanos = now - call.getStartNanos();
+        latency.record(nanos);
+        if (call.getFirstTokenNanos() >= 0) {
+            timeToFirstToken.record(call.getFirstTokenNanos());
+        }
+        promptTokens.add(prompt);
+        completionTokens.add(completion);
+        int callRetries = call.getRetries();
+        if (callRetries > 0) {
+            retries.add(callRetries);
+        }
+        if (call.isCacheHit()) {
+            cacheHits.increment();
+        }
+        if (call.isCoalesced()) {
+            coalesced.increment();
+        }
+        if (callCost > 0) {
+            cost.add(callCost);
+        }
+        if (failure != null) {
+            failures[failure.ordinal()].increment();
+        }
+        window.add(now, failure != null, prompt, completion, callRetries, call.isCacheHit(), call.isCoalesced(),
+                callCost, nanos);
+    }
+
+    /**
+     * @return the call site of the calls
+     */
+    public LlmCallSite getSite() {
+        return site;
+    }
+
+    /**
+     * @return the latency histogram of all calls, including those that threw
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the histogram of the time to the first streamed token, for calls whose
+     *         provider client reported it
+     */
+    public LatencyHistogram getTimeToFirstToken() {
+        return timeToFirstToken;
+    }
+
+    /**
+     * @return the prompt tokens sent to the provider so far
+     */
+    public long getPromptTokens() {
+        return promptTokens.sum();
+    }
+
+    /**
+     * @return the completion tokens received from the provider so far
+     */
+    public long getCompletionTokens() {
+        return completionTokens.sum();
+    }
+
+    /**
+     * @return the number of provider requests sent again after a failure
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the number of calls answered from a cache
+     */
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * @return the number of calls that shared the response of another call
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the estimated cost of the tokens, in the unit of the configured prices
+     */
+    public double getCost() {
+        return cost.sum();
+    }
+
+    /**
+     * @return the number of failed calls per category, including categories without failures
+     */
+    public Map<LlmExceptionCategory, Long> getFailureCounts() {
+        Map<LlmExceptionCategory, Long> counts = new EnumMap<>(LlmExceptionCategory.class);
+        for (LlmExceptionCategory category : CATEGORIES) {
+            counts.put(category, failures[category.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    /**
+     * Aggregate the calls of the rolling window, which ends now.
+     *
+     * @return the calls of the window
+     */
+    public LlmWindowSnapshot getWindow() {
+        return window.snapshot(System.nanoTime(), createdNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "LlmCallMetrics{" +
+                "site=" + site +
+                ", calls=" + latency.getCount() +
+                ", promptTokens=" + getPromptTokens() +
+                ", completionTokens=" + getCompletionTokens() +
+                ", cacheHits=" + getCacheHitCount() +
+                ", cost=" + getCost() +
+                '}';
+    }
+}
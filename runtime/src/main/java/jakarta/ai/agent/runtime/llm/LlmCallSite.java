@@ -0,0 +1,91 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+import java.util.Objects;
+
+/**
+ * The agent and lifecycle phase on whose behalf a {@link jakarta.ai.agent.LargeLanguageModel}
+ * call is made, used by {@link InstrumentedLargeLanguageModel} to attribute the call.
+ * <p>
+ * The runtime enters the call site of a lifecycle method on the thread that invokes it,
+ * in the same way as it activates the workflow scope:
+ * <pre>{@code
+ * LlmCallSite previous = LlmCallSite.enter(new LlmCallSite("FraudDetectionAgent", Phase.DECISION));
+ * try {
+ *     decision.invoke(agent, resolver);
+ * } finally {
+ *     LlmCallSite.restore(previous);
+ * }
+ * }</pre>
+ *
+ * @param agentName the name of the agent
+ * @param phase the lifecycle phase, or {@code null} if the call is not made from a
+ *        lifecycle method
+ */
+public record LlmCallSite(String agentName, Phase phase) {
+
+    /**
+     * The call site of calls made outside any agent.
+     */
+    public static final LlmCallSite UNATTRIBUTED = new LlmCallSite("", null);
+
+    private static final ThreadLocal<LlmCallSite> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Create a call site.
+     *
+     * @param agentName the name of the agent
+     * @param phase the lifecycle phase, or {@code null}
+     */
+    public LlmCallSite {
+        Objects.requireNonNull(agentName, "agentName");
+    }
+
+    /**
+     * Make the given call site the current one of the calling thread.
+     *
+     * @param site the call site
+     * @return the call site that was current before, to be passed to {@link #restore(LlmCallSite)}
+     */
+    public static LlmCallSite enter(LlmCallSite site) {
+        LlmCallSite previous = CURRENT.get();
+        CURRENT.set(Objects.requireNonNull(site, "site"));
+        return previous;
+    }
+
+    /**
+     * Reinstate the call site that was current before a matching {@link #enter(LlmCallSite)}.
+     *
+     * @param previous the call site returned by {@code enter}, possibly {@code null}
+     */
+    public static void restore(LlmCallSite previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Get the call site of the calling thread.
+     *
+     * @return the current call site, or {@link #UNATTRIBUTED} if none was entered
+     */
+    public static LlmCallSite current() {
+        LlmCallSite site = CURRENT.get();
+        return site == null ? UNATTRIBUTED : site;
+    }
+}
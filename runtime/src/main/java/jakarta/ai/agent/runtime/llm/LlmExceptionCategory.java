@@ -0,0 +1,97 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import jakarta.ai.agent.LLMException;
+import jakarta.ai.agent.WorkflowCancelledException;
+import jakarta.ai.agent.WorkflowTimeoutException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Category of a failed {@link jakarta.ai.agent.LargeLanguageModel} call.
+ */
+public enum LlmExceptionCategory {
+
+    /**
+     * The provider rejected the request because a rate or quota limit was reached.
+     */
+    RATE_LIMITED,
+
+    /**
+     * The call did not complete in time.
+     */
+    TIMEOUT,
+
+    /**
+     * The workflow that made the call was cancelled.
+     */
+    CANCELLED,
+
+    /**
+     * The provider could not be reached or the connection failed.
+     */
+    COMMUNICATION,
+
+    /**
+     * The request was invalid, or the response could not be converted to the requested type.
+     */
+    INVALID,
+
+    /**
+     * Any other failure.
+     */
+    OTHER;
+
+    /**
+     * Classify a failure by its type, its causes and, for {@link LLMException}s without
+     * a more specific cause, its message.
+     *
+     * @param failure the exception thrown by the call
+     * @return the category
+     */
+    public static LlmExceptionCategory of(Throwable failure) {
+        if (failure instanceof WorkflowTimeoutException) {
+            return TIMEOUT;
+        }
+        if (failure instanceof WorkflowCancelledException) {
+            return CANCELLED;
+        }
+        if (failure instanceof IllegalArgumentException) {
+            return INVALID;
+        }
+        for (Throwable cause = failure.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof SocketTimeoutException
+                    || cause instanceof HttpTimeoutException) {
+                return TIMEOUT;
+            }
+            if (cause instanceof IOException) {
+                return COMMUNICATION;
+            }
+        }
+        if (failure instanceof LLMException && failure.getMessage() != null) {
+            String message = failure.getMessage().toLowerCase(Locale.ROOT);
+            if (message.contains("rate limit") || message.contains("429") || message.contains("quota")) {
+                return RATE_LIMITED;
+            }
+            if (message.contains("timeout") || message.contains("timed out")) {
+                return TIMEOUT;
+            }
+        }
+        return OTHER;
+    }
+}
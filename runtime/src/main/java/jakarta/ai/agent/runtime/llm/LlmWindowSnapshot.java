@@ -0,0 +1,65 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import java.time.Duration;
+
+/**
+ * Aggregated {@link jakarta.ai.agent.LargeLanguageModel} calls of one call site over a
+ * recent period.
+ *
+ * @param span the period covered, at most the window of the
+ *        {@link InstrumentedLargeLanguageModel}
+ * @param calls the number of calls completed in the period
+ * @param failures the number of calls that threw
+ * @param promptTokens the prompt tokens sent to the provider
+ * @param completionTokens the completion tokens received from the provider
+ * @param retries the number of provider requests sent again after a failure
+ * @param cacheHits the number of calls answered from a cache
+ * @param coalesced the number of calls that shared the response of another call
+ * @param cost the estimated cost of the tokens, in the unit of the configured prices
+ * @param meanLatency the mean duration of a call
+ * @param maxLatency the longest duration of a call
+ */
+public record LlmWindowSnapshot(Duration span, long calls, long failures, long promptTokens,
+                                long completionTokens, long retries, long cacheHits, long coalesced,
+                                double cost, Duration meanLatency, Duration maxLatency) {
+
+    /**
+     * @return the calls per second over the period
+     */
+    public double callsPerSecond() {
+        return span.isZero() ? 0 : calls / (span.toNanos() / 1e9);
+    }
+
+    /**
+     * @return the prompt and completion tokens per second over the period
+     */
+    public double tokensPerSecond() {
+        return span.isZero() ? 0 : (promptTokens + completionTokens) / (span.toNanos() / 1e9);
+    }
+
+    /**
+     * @return the share of calls that threw, between 0 and 1
+     */
+    public double failureRate() {
+        return calls == 0 ? 0 : (double) failures / calls;
+    }
+
+    /**
+     * @return the share of calls answered from a cache or by coalescing, between 0 and 1
+     */
+    public double cacheHitRate() {
+        return calls == 0 ? 0 : (double) (cacheHits + coalesced) / calls;
+    }
+}
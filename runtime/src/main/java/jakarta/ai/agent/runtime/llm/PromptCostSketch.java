@@ -0,0 +1,178 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted Space-Saving sketch of the prompts with the highest expense.
+ * <p>
+ * At most {@code capacity} prompts are tracked. A prompt that is not tracked replaces
+ * the prompt with the lowest expense and inherits it, so any prompt whose share of the
+ * total expense exceeds {@code 1/capacity} is retained.
+ * <p>
+ * The sketch is split by prompt hash into stripes, each a Space-Saving sketch of its
+ * share of the capacity with its own lock, so that concurrent model calls rarely wait
+ * for each other. Each stripe keeps its prompts in a min-heap ordered by expense, so
+ * that replacing the cheapest prompt, the common case for prompts with interpolated
+ * data, takes logarithmic time. The guarantee above then holds per stripe: a prompt is
+ * retained if its share of the expense of its stripe exceeds one over the stripe
+ * capacity, which for prompts spread evenly by hash is close to the bound of a single
+ * sketch.
+ */
+final class PromptCostSketch {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 8;
+
+    private final Stripe[] stripes;
+
+    PromptCostSketch(int capacity) {
+        int stripeCount = Math.max(1, Math.min(MAX_STRIPES, Integer.highestOneBit(capacity / MIN_STRIPE_CAPACITY)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe((capacity + stripeCount - 1 - i) / stripeCount);
+        }
+    }
+
+    void add(String prompt, LlmCallSite site, double expense, long promptTokens, long completionTokens,
+             boolean cacheHit) {
+        int hash = prompt.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        synchronized (stripe) {
+            stripe.add(prompt, site, expense, promptTokens, completionTokens, cacheHit);
+        }
+    }
+
+    List<ExpensivePrompt> top(int k) {
+        List<ExpensivePrompt> top = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (int i = 0; i < stripe.size; i++) {
+                    Entry entry = stripe.heap[i];
+                    top.add(new ExpensivePrompt(entry.prompt, entry.site, entry.expense, entry.error, entry.calls,
+                            entry.promptTokens, entry.completionTokens, entry.cacheHits));
+                }
+            }
+        }
+        top.sort(Comparator.comparingDouble(ExpensivePrompt::expense).reversed());
+        return top.size() > k ? List.copyOf(top.subList(0, k)) : List.copyOf(top);
+    }
+
+    /**
+     * A Space-Saving sketch whose entries form a min-heap by expense. Guarded by its
+     * own monitor.
+     */
+    private static final class Stripe {
+
+        private final Map<String, Entry> entries;
+        private final Entry[] heap;
+        private int size;
+
+        Stripe(int capacity) {
+            this.entries = new HashMap<>(capacity * 2);
+            this.heap = new Entry[capacity];
+        }
+
+        void add(String prompt, LlmCallSite site, double expense, long promptTokens, long completionTokens,
+                 boolean cacheHit) {
+            Entry entry = entries.get(prompt);
+            if (entry == null) {
+                if (size < heap.length) {
+                    entry = new Entry(prompt, site, 0);
+                    entry.index = size;
+                    heap[size++] = entry;
+                } else {
+                    Entry cheapest = heap[0];
+                    entries.remove(cheapest.prompt);
+                    entry = new Entry(prompt, site, cheapest.expense);
+                    entry.index = 0;
+                    heap[0] = entry;
+                }
+                entries.put(prompt, entry);
+            }
+            entry.expense += expense;
+            entry.calls++;
+            entry.promptTokens += promptTokens;
+            entry.completionTokens += completionTokens;
+            if (cacheHit) {
+                entry.cacheHits++;
+            }
+            // a new entry appended at the end may be cheaper than its parent; any other
+            // entry only became more expensive
+            siftUp(entry.index);
+            siftDown(entry.index);
+        }
+
+        private void siftUp(int index) {
+            Entry entry = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent].expense <= entry.expense) {
+                    break;
+                }
+                place(heap[parent], index);
+                index = parent;
+            }
+            place(entry, index);
+        }
+
+        private void siftDown(int index) {
+            Entry entry = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1].expense < heap[child].expense) {
+                    child++;
+                }
+                if (entry.expense <= heap[child].expense) {
+                    break;
+                }
+                place(heap[child], index);
+                index = child;
+            }
+            place(entry, index);
+        }
+
+        private void place(Entry entry, int index) {
+            heap[index] = entry;
+            entry.index = index;
+        }
+    }
+
+    private static final class Entry {
+
+        final String prompt;
+        final LlmCallSite site;
+        final double error;
+        double expense;
+        long calls;
+        long promptTokens;
+        long completionTokens;
+        long cacheHits;
+        int index;
+
+        Entry(String prompt, LlmCallSite site, double error) {
+            this.prompt = prompt;
+            this.site = site;
+            this.error = error;
+            this.expense = error;
+        }
+    }
+}
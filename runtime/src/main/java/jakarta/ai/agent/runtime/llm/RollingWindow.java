@@ -0,0 +1,141 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ring of time buckets that aggregates the calls of one call site over the most recent
+ * window.
+ * <p>
+ * A call is added to the bucket of the current time slice. A bucket left over from an
+ * earlier turn of the ring is cleared by the first call that reaches it, so adds racing
+ * with the clearing of a bucket may be lost; the window is approximate at bucket
+ * boundaries.
+ */
+final class RollingWindow {
+
+    private final long bucketNanos;
+    private final Bucket[] buckets;
+
+    RollingWindow(Duration window, int bucketCount) {
+        this.bucketNanos = Math.max(window.toNanos() / bucketCount, 1);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    void add(long now, boolean failed, long promptTokens, long completionTokens, int retries,
+             boolean cacheHit, boolean coalesced, double cost, long latencyNanos) {
+        Bucket bucket = bucket(now);
+        bucket.calls.increment();
+        if (failed) {
+            bucket.failures.increment();
+        }
+        bucket.promptTokens.add(promptTokens);
+        bucket.completionTokens.add(completionTokens);
+        if (retries > 0) {
+            bucket.retries.add(retries);
+        }
+        if (cacheHit) {
+            bucket.cacheHits.increment();
+        }
+        if (coalesced) {
+            bucket.coalesced.increment();
+        }
+        if (cost > 0) {
+            bucket.cost.add(cost);
+        }
+        bucket.latencyNanos.add(latencyNanos);
+        bucket.maxLatencyNanos.accumulate(latencyNanos);
+    }
+
+    private Bucket bucket(long now) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        if (bucket.epoch != epoch) {
+            bucket.advance(epoch);
+        }
+        return bucket;
+    }
+
+    LlmWindowSnapshot snapshot(long now, long sinceNanos) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        long calls = 0;
+        long failures = 0;
+        long promptTokens = 0;
+        long completionTokens = 0;
+        long retries = 0;
+        long cacheHits = 0;
+        long coalesced = 0;
+        double cost = 0;
+        long latency = 0;
+        long maxLatency = 0;
+        for (Bucket bucket : buckets) {
+            long age = epoch - bucket.epoch;
+            if (age < 0 || age >= buckets.length) {
+                continue;
+            }
+            calls += bucket.calls.sum();
+            failures += bucket.failures.sum();
+            promptTokens += bucket.promptTokens.sum();
+            completionTokens += bucket.completionTokens.sum();
+            retries += bucket.retries.sum();
+            cacheHits += bucket.cacheHits.sum();
+            coalesced += bucket.coalesced.sum();
+            cost += bucket.cost.sum();
+            latency += bucket.latencyNanos.sum();
+            maxLatency = Math.max(maxLatency, bucket.maxLatencyNanos.get());
+        }
+        long windowStart = (epoch - buckets.length + 1) * bucketNanos;
+        Duration span = Duration.ofNanos(now - Math.max(windowStart, sinceNanos));
+        return new LlmWindowSnapshot(span, calls, failures, promptTokens, completionTokens, retries, cacheHits,
+                coalesced, cost, Duration.ofNanos(calls == 0 ? 0 : latency / calls), Duration.ofNanos(maxLatency));
+    }
+
+    private static final class Bucket {
+
+        private volatile long epoch = Long.MIN_VALUE;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final DoubleAdder cost = new DoubleAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+        synchronized void advance(long next) {
+            if (epoch >= next) {
+                return;
+            }
+            calls.reset();
+            failures.reset();
+            promptTokens.reset();
+            completionTokens.reset();
+            retries.reset();
+            cacheHits.reset();
+            coalesced.reset();
+            cost.reset();
+            latencyNanos.reset();
+            maxLatencyNanos.reset();
+            epoch = next;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+/**
+ * Estimates the number of tokens of a text, for calls whose provider client does not
+ * report the actual usage with {@link LlmCall#recordUsage(long, long)}.
+ */
+@FunctionalInterface
+public interface TokenEstimator {
+
+    /**
+     * Estimate the tokens of a text of the given length.
+     *
+     * @param characters the number of characters, or of bytes for binary content
+     * @return the estimated number of tokens
+     */
+    long estimate(long characters);
+
+    /**
+     * Get an estimator that assumes a fixed number of characters per token. About four
+     * characters per token is typical for English text with current tokenizers.
+     *
+     * @param charactersPerToken the average number of characters per token, positive
+     * @return the estimator
+     */
+    static TokenEstimator charactersPerToken(double charactersPerToken) {
+        if (!(charactersPerToken > 0)) {
+            throw new IllegalArgumentException("charactersPerToken must be positive");
+        }
+        return characters -> (long) Math.ceil(characters / charactersPerToken);
+    }
+}
@@ -0,0 +1,24 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Instrumentation of {@link jakarta.ai.agent.LargeLanguageModel} calls.
+ * <p>
+ * {@link jakarta.ai.agent.runtime.llm.InstrumentedLargeLanguageModel} decorates the
+ * model of an application and records, per
+ * {@link jakarta.ai.agent.runtime.llm.LlmCallSite}, the tokens, cost, latency, time to
+ * first token, retries, cache and coalescing hits and failure categories of its calls,
+ * as {@link jakarta.ai.agent.runtime.llm.LlmCallMetrics}. Inner layers report usage and
+ * hits through {@link jakarta.ai.agent.runtime.llm.LlmCall}.
+ */
+package jakarta.ai.agent.runtime.llm;
@@ -0,0 +1,282 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import jakarta.ai.agent.Payload;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SizeEstimator} that walks the object graph of a value, assuming a 64-bit JVM
+ * with compressed references.
+ * <p>
+ * Strings, boxed primitives and arrays are sized directly. JDK collections and maps are
+ * not introspected; instead, a fixed per-element overhead is charged and their elements
+ * are visited. Application classes are walked field by field through reflection. Shared
+ * constants such as enums and classes are not charged, and a {@link Payload} is charged
+ * only for its handle since its content lives outside the heap.
+ * <p>
+ * The walk visits at most a fixed number of objects, so that very large graphs do not
+ * stall the caller. Once that many objects are visited or queued, further references are
+ * not followed; each is charged the average size of the objects visited below the root,
+ * so the visited objects serve as a sample of the rest of the graph.
+ */
+public final class ApproximateSizeEstimator implements SizeEstimator {
+
+    static final ApproximateSizeEstimator INSTANCE = new ApproximateSizeEstimator(100_000);
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int COLLECTION_ELEMENT_OVERHEAD = 16;
+    private static final int MAP_ENTRY_OVERHEAD = 32;
+    private static final int PAYLOAD_HANDLE = 32;
+
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    private final int maxObjects;
+
+    /**
+     * Create an estimator that visits at most the given number of objects per value.
+     *
+     * @param maxObjects the maximum number of objects visited per estimate
+     */
+    public ApproximateSizeEstimator(int maxObjects) {
+        if (maxObjects <= 0) {
+            throw new IllegalArgumentException("maxObjects must be positive");
+        }
+        this.maxObjects = maxObjects;
+    }
+
+    @Override
+    public long estimate(Object value) {
+        Walk walk = new Walk(maxObjects);
+        walk.push(value);
+        walk.count++;
+        long root = sizeOf(walk.pending.pop(), walk);
+        long children = 0;
+        while (!walk.pending.isEmpty()) {
+            walk.count++;
+            children += sizeOf(walk.pending.pop(), walk);
+        }
+        long total = root + children;
+        if (walk.skipped > 0) {
+            // The objects below the root are the sample of the references not followed.
+            double average = walk.count > 1 ? (double) children / (walk.count - 1) : root;
+            total += Math.round(average * walk.skipped);
+        }
+        return total;
+    }
+
+    private static long sizeOf(Object value, Walk walk) {
+        if (value instanceof String) {
+            return stringSize((String) value);
+        }
+        if (value instanceof Enum || value instanceof Class) {
+            return 0;
+        }
+        if (value instanceof Payload) {
+            return PAYLOAD_HANDLE;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            return arraySize(value, type.getComponentType(), walk);
+        }
+        Layout layout = LAYOUTS.get(type);
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            pushAll(collection, walk);
+            return layout.shallowSize + (long) collection.size() * COLLECTION_ELEMENT_OVERHEAD;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            pushAll(map.keySet(), walk);
+            pushAll(map.values(), walk);
+            return layout.shallowSize + (long) map.size() * MAP_ENTRY_OVERHEAD;
+        }
+        for (Field field : layout.references) {
+            try {
+                Object child = field.get(value);
+                if (child != null) {
+                    walk.push(child);
+                }
+            } catch (IllegalAccessException e) {
+                // Not walkable; the reference itself is already charged in the shallow size.
+            }
+        }
+        return layout.shallowSize;
+    }
+
+    private static long stringSize(String value) {
+        // Compact strings: assume Latin-1 unless a sample of the content says otherwise.
+        int sample = Math.min(value.length(), 64);
+        int bytesPerChar = 1;
+        for (int i = 0; i < sample; i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + (long) value.length() * bytesPerChar);
+    }
+
+    private static long arraySize(Object array, Class<?> componentType, Walk walk) {
+        int length = java.lang.reflect.Array.getLength(array);
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+        }
+        Object[] elements = (Object[]) array;
+        int i = 0;
+        for (; i < elements.length && !walk.isFull(); i++) {
+            if (elements[i] != null) {
+                walk.push(elements[i]);
+            }
+        }
+        walk.skipped += elements.length - i;
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private static void pushAll(Collection<?> values, Walk walk) {
+        int size;
+        int seen = 0;
+        try {
+            size = values.size();
+            for (Object element : values) {
+                if (walk.isFull()) {
+                    break;
+                }
+                seen++;
+                if (element != null) {
+                    walk.push(element);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Concurrently modified or lazily loaded collections are charged for what was seen.
+            return;
+        }
+        walk.skipped += Math.max(0, size - seen);
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * State of one estimate: the objects visited or queued, each queued once, and the
+     * references not followed once the limit was reached.
+     */
+    private static final class Walk {
+
+        final IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<>();
+        final ArrayDeque<Object> pending = new ArrayDeque<>();
+        final int maxObjects;
+        int count;
+        long skipped;
+
+        Walk(int maxObjects) {
+            this.maxObjects = maxObjects;
+        }
+
+        boolean isFull() {
+            return count + pending.size() >= maxObjects;
+        }
+
+        void push(Object child) {
+            if (visited.containsKey(child)) {
+                return;
+            }
+            if (isFull()) {
+                skipped++;
+            } else {
+                visited.put(child, Boolean.TRUE);
+                pending.push(child);
+            }
+        }
+    }
+
+    /**
+     * Shallow size of a class and the reference fields that may be walked.
+     */
+    private static final class Layout {
+
+        final long shallowSize;
+        final Field[] references;
+
+        private Layout(long shallowSize, Field[] references) {
+            this.shallowSize = shallowSize;
+            this.references = references;
+        }
+
+        static Layout of(Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            boolean walkable = !isPlatformClass(type);
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    Class<?> fieldType = field.getType();
+                    if (fieldType.isPrimitive()) {
+                        size += primitiveSize(fieldType);
+                    } else {
+                        size += REFERENCE;
+                        if (walkable && trySetAccessible(field)) {
+                            references.add(field);
+                        }
+                    }
+                }
+            }
+            return new Layout(align(size), references.toArray(new Field[0]));
+        }
+
+        private static boolean isPlatformClass(Class<?> type) {
+            String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                    || name.startsWith("sun.");
+        }
+
+        private static boolean trySetAccessible(Field field) {
+            try {
+                return field.trySetAccessible();
+            } catch (SecurityException e) {
+                return false;
+            }
+        }
+    }
+}
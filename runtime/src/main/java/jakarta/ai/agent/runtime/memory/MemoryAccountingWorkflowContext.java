@@ -0,0 +1,253 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.WorkflowMemoryExceededException;
+import jakarta.ai.agent.WorkflowPriority;
+import jakarta.ai.agent.runtime.scope.ContextClassLoaderObjectInputStream;
+import jakarta.ai.agent.runtime.scope.PassivationStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link WorkflowContext} decorator that charges every attribute against a
+ * {@link WorkflowMemoryAccount} and applies the {@link OverflowPolicy} of its budget when
+ * a limit would be exceeded.
+ * <p>
+ * Sizes are estimated when an attribute is set; later mutation of a stored value is not
+ * observed. Spilled attributes are kept in the delegate as small handles and deserialized
+ * on every {@link #getAttribute(String)}, so callers receive a copy.
+ * <p>
+ * Writes of the same attribute are serialized by a lock per name, so that the charge
+ * of an attribute always matches the value stored, and the spilled value it replaced is
+ * discarded exactly once. Writes of different attributes proceed concurrently. All
+ * writes must go through this view rather than the delegate.
+ * <p>
+ * The runtime calls {@link #end()} when the workflow finishes, which discards spilled
+ * attributes and closes the account. Ending the delegate remains the runtime's
+ * responsibility.
+ */
+public class MemoryAccountingWorkflowContext implements WorkflowContext {
+
+    private static final long SPILLED_HANDLE_SIZE = 32;
+
+    private final WorkflowContext delegate;
+    private final WorkflowMemoryAccount account;
+    private final MemoryBudget budget;
+    private final AtomicLong spillSequence = new AtomicLong();
+    private final ConcurrentHashMap<String, Object> attributeLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Create an accounting view of a workflow context.
+     *
+     * @param delegate the context that stores the attributes
+     * @param account the account of the workflow, see {@link MemoryBudget#openAccount(String)}
+     */
+    public MemoryAccountingWorkflowContext(WorkflowContext delegate, WorkflowMemoryAccount account) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.account = Objects.requireNonNull(account, "account");
+        this.budget = account.getBudget();
+    }
+
+    /**
+     * Get the account this context charges.
+     *
+     * @return the account
+     */
+    public WorkflowMemoryAccount getAccount() {
+        return account;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws WorkflowMemoryExceededException if the attribute would exceed a limit and
+     *         cannot be spilled
+     * @throws IllegalStateException if the workflow has ended
+     */
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (name == null) {
+            throw new IllegalArgumentException("Attribute name must not be null");
+        }
+        if (value == null) {
+            removeAttribute(name);
+            return;
+        }
+        long size = budget.getEstimator().estimate(value);
+        synchronized (lockOf(name)) {
+            WorkflowMemoryExceededException rejection = account.charge(name, size);
+            if (rejection == null) {
+                replace(name, value);
+                return;
+            }
+            switch (budget.getOverflowPolicy()) {
+                case SPILL:
+                    if (spill(name, value)) {
+                        return;
+                    }
+                    budget.recordRejected();
+                    throw rejection;
+                case FAIL:
+                    account.fail(rejection);
+                    throw rejection;
+                default:
+                    budget.recordRejected();
+                    throw rejection;
+            }
+        }
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        Object value = delegate.getAttribute(name);
+        if (value instanceof SpilledAttribute) {
+            return readSpilled((SpilledAttribute) value);
+        }
+        return value;
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        if (name != null) {
+            synchronized (lockOf(name)) {
+                Object previous = delegate.getAttribute(name);
+                delegate.removeAttribute(name);
+                account.discharge(name);
+                discardSpilled(previous);
+            }
+        }
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return delegate.getAttributeNames();
+    }
+
+    @Override
+    public Object getTriggerEvent() {
+        return delegate.getTriggerEvent();
+    }
+
+    @Override
+    public WorkflowPriority getPriority() {
+        return delegate.getPriority();
+    }
+
+    @Override
+    public void raisePriority(WorkflowPriority priority) {
+        delegate.raisePriority(priority);
+    }
+
+    @Override
+    public CancellationToken getCancellationToken() {
+        return delegate.getCancellationToken();
+    }
+
+    /**
+     * End the workflow: discard spilled attributes and close the account.
+     */
+    public void end() {
+        for (String name : delegate.getAttributeNames()) {
+            discardSpilled(delegate.getAttribute(name));
+        }
+        account.close();
+    }
+
+    private boolean spill(String name, Object value) {
+        PassivationStore store = budget.getSpillStore();
+        if (store == null || !(value instanceof Serializable)) {
+            return false;
+        }
+        String key = account.getWorkflowId() + ".spill-" + spillSequence.incrementAndGet();
+        byte[] state;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            }
+            state = bytes.toByteArray();
+            store.write(key, state);
+        } catch (IOException e) {
+            return false;
+        }
+        if (account.charge(name, SPILLED_HANDLE_SIZE) != null) {
+            discard(store, key);
+            return false;
+        }
+        replace(name, new SpilledAttribute(key));
+        budget.recordSpilled(state.length);
+        return true;
+    }
+
+    private Object lockOf(String name) {
+        return attributeLocks.computeIfAbsent(name, key -> new Object());
+    }
+
+    // Called with the lock of the name held, after the new value was charged.
+    private void replace(String name, Object value) {
+        Object previous = delegate.getAttribute(name);
+        delegate.setAttribute(name, value);
+        discardSpilled(previous);
+    }
+
+    private Object readSpilled(SpilledAttribute spilled) {
+        try {
+            byte[] state = budget.getSpillStore().read(spilled.key());
+            if (state == null) {
+                throw new IllegalStateException("Spilled attribute " + spilled.key() + " is missing");
+            }
+            try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(state))) {
+                return in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot read spilled attribute " + spilled.key(), e);
+        }
+    }
+
+    private void discardSpilled(Object value) {
+        if (value instanceof SpilledAttribute) {
+            discard(budget.getSpillStore(), ((SpilledAttribute) value).key());
+        }
+    }
+
+    private static void discard(PassivationStore store, String key) {
+        try {
+            store.remove(key);
+        } catch (IOException e) {
+            // The entry is unreachable either way; a file store may leave it behind.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryAccountingWorkflowContext{" + account + ", delegate=" + delegate + '}';
+    }
+
+    /**
+     * Handle stored in the delegate in place of a spilled value.
+     */
+    private record SpilledAttribute(String key) {
+    }
+}
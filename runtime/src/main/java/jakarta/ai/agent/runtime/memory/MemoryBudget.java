@@ -0,0 +1,232 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import jakarta.ai.agent.runtime.scope.PassivationStore;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-workflow and global limits on the approximate memory retained by workflow
+ * context attributes, together with usage metrics.
+ * <p>
+ * A runtime typically creates one budget per deployment and opens a
+ * {@link WorkflowMemoryAccount} for each workflow, which it then passes to a
+ * {@link MemoryAccountingWorkflowContext}. Reservations against the global limit are
+ * lock-free.
+ */
+public final class MemoryBudget {
+
+    /**
+     * Limit value meaning no limit.
+     */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final long workflowLimitBytes;
+    private final long globalLimitBytes;
+    private final OverflowPolicy overflowPolicy;
+    private final SizeEstimator estimator;
+    private final PassivationStore spillStore;
+
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final LongAccumulator peakBytes = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger openAccounts = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder spilledBytes = new LongAdder();
+
+    /**
+     * Create a budget.
+     *
+     * @param workflowLimitBytes the limit for the attributes of a single workflow, or {@link #UNLIMITED}
+     * @param globalLimitBytes the limit for the attributes of all workflows, or {@link #UNLIMITED}
+     * @param overflowPolicy what to do when a limit would be exceeded
+     * @param estimator the estimator used to size attribute values
+     * @param spillStore where {@link OverflowPolicy#SPILL} writes attributes, may be {@code null}
+     */
+    public MemoryBudget(long workflowLimitBytes, long globalLimitBytes, OverflowPolicy overflowPolicy,
+                        SizeEstimator estimator, PassivationStore spillStore) {
+        if (workflowLimitBytes <= 0 || globalLimitBytes <= 0) {
+            throw new IllegalArgumentException("Memory limits must be positive");
+        }
+        this.workflowLimitBytes = workflowLimitBytes;
+        this.globalLimitBytes = globalLimitBytes;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+        this.estimator = Objects.requireNonNull(estimator, "estimator");
+        this.spillStore = spillStore;
+    }
+
+    /**
+     * Open the account of a new workflow. The account must be closed when the workflow ends.
+     *
+     * @param workflowId the workflow identifier
+     * @return the account
+     */
+    public WorkflowMemoryAccount openAccount(String workflowId) {
+        openAccounts.incrementAndGet();
+        return new WorkflowMemoryAccount(this, Objects.requireNonNull(workflowId, "workflowId"));
+    }
+
+    boolean tryReserve(long bytes) {
+        long used;
+        long next;
+        do {
+            used = usedBytes.get();
+            next = used + bytes;
+            if (bytes > 0 && (next > globalLimitBytes || next < used)) {
+                return false;
+            }
+        } while (!usedBytes.compareAndSet(used, next));
+        peakBytes.accumulate(next);
+        return true;
+    }
+
+    void release(long bytes) {
+        if (bytes != 0) {
+            usedBytes.addAndGet(-bytes);
+        }
+    }
+
+    void accountClosed() {
+        openAccounts.decrementAndGet();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordSpilled(long bytes) {
+        spilled.increment();
+        spilledBytes.add(bytes);
+    }
+
+    void recordFailed() {
+        failed.increment();
+    }
+
+    /**
+     * Get the limit for the attributes of a single workflow.
+     *
+     * @return the limit in bytes, or {@link #UNLIMITED}
+     */
+    public long getWorkflowLimit() {
+        return workflowLimitBytes;
+    }
+
+    /**
+     * Get the limit for the attributes of all workflows.
+     *
+     * @return the limit in bytes, or {@link #UNLIMITED}
+     */
+    public long getGlobalLimit() {
+        return globalLimitBytes;
+    }
+
+    /**
+     * Get the overflow policy.
+     *
+     * @return the overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    SizeEstimator getEstimator() {
+        return estimator;
+    }
+
+    PassivationStore getSpillStore() {
+        return spillStore;
+    }
+
+    /**
+     * Get the approximate memory currently retained by the attributes of all workflows.
+     *
+     * @return the used memory in bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * Get the highest value {@link #getUsedBytes()} has reached.
+     *
+     * @return the peak memory in bytes
+     */
+    public long getPeakBytes() {
+        return peakBytes.get();
+    }
+
+    /**
+     * Get the number of workflows with an open account.
+     *
+     * @return the number of open accounts
+     */
+    public int getOpenAccounts() {
+        return openAccounts.get();
+    }
+
+    /**
+     * Get the number of attributes rejected, including those that could not be spilled.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Get the number of attributes written to the spill store.
+     *
+     * @return the spilled count
+     */
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    /**
+     * Get the total serialized size of the attributes written to the spill store.
+     *
+     * @return the spilled size in bytes
+     */
+    public long getSpilledBytes() {
+        return spilledBytes.sum();
+    }
+
+    /**
+     * Get the number of workflows failed because of the budget.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBudget{used=" + getUsedBytes()
+                + ", peak=" + getPeakBytes()
+                + ", workflowLimit=" + workflowLimitBytes
+                + ", globalLimit=" + globalLimitBytes
+                + ", policy=" + overflowPolicy
+                + ", openAccounts=" + getOpenAccounts()
+                + ", rejected=" + getRejectedCount()
+                + ", spilled=" + getSpilledCount()
+                + ", failed=" + getFailedCount() + '}';
+    }
+}
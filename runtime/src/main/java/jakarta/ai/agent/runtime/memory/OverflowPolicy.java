@@ -0,0 +1,43 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import jakarta.ai.agent.WorkflowMemoryExceededException;
+
+/**
+ * What happens when storing an attribute would exceed a {@link MemoryBudget}.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The attribute is not stored and {@code setAttribute} throws
+     * {@link WorkflowMemoryExceededException}. The phase may catch the exception and
+     * continue.
+     */
+    REJECT,
+
+    /**
+     * The attribute is serialized to the spill store and read back on each access. Values
+     * that are not serializable, or a budget without a spill store, fall back to
+     * {@link #REJECT}.
+     */
+    SPILL,
+
+    /**
+     * The attribute is not stored, {@code setAttribute} throws
+     * {@link WorkflowMemoryExceededException}, and the workflow is marked failed. The
+     * runtime dispatches the exception to {@code @HandleException} methods once the
+     * current phase returns, even if the phase caught it.
+     */
+    FAIL
+}
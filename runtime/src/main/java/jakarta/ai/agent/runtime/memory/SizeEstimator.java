@@ -0,0 +1,42 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+/**
+ * Estimates the heap memory retained by a workflow context attribute.
+ * <p>
+ * Estimates only need to be good enough to size nodes and stop runaway workflows;
+ * they are not expected to match a heap dump.
+ */
+@FunctionalInterface
+public interface SizeEstimator {
+
+    /**
+     * Estimate the heap memory retained by the given value.
+     *
+     * @param value the attribute value, never {@code null}
+     * @return the approximate retained size in bytes
+     */
+    long estimate(Object value);
+
+    /**
+     * Get the default estimator, which walks the object graph up to a fixed number of
+     * objects.
+     *
+     * @return the default estimator
+     * @see ApproximateSizeEstimator
+     */
+    static SizeEstimator approximate() {
+        return ApproximateSizeEstimator.INSTANCE;
+    }
+}
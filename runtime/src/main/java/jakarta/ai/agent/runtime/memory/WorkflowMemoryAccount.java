@@ -0,0 +1,198 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import jakarta.ai.agent.WorkflowMemoryExceededException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The memory used by the attributes of one workflow, charged against a
+ * {@link MemoryBudget}.
+ * <p>
+ * The size of each attribute is recorded so that replacing or removing it releases
+ * exactly what was reserved. Closing the account releases whatever is left. Charges
+ * of different attributes proceed concurrently; closing waits for the charges in
+ * progress, and an account accepts no charge once closed, so that nothing is reserved
+ * against the budget that closing does not release.
+ */
+public final class WorkflowMemoryAccount implements AutoCloseable {
+
+    private final MemoryBudget budget;
+    private final String workflowId;
+    private final ConcurrentHashMap<String, Long> attributeSizes = new ConcurrentHashMap<>();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+    private volatile WorkflowMemoryExceededException failure;
+
+    WorkflowMemoryAccount(MemoryBudget budget, String workflowId) {
+        this.budget = budget;
+        this.workflowId = workflowId;
+    }
+
+    /**
+     * Get the identifier of the workflow this account belongs to.
+     *
+     * @return the workflow identifier
+     */
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    /**
+     * Get the approximate memory retained by the attributes of the workflow.
+     *
+     * @return the used memory in bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * Get the size charged for an attribute.
+     *
+     * @param name the attribute name
+     * @return the charged size in bytes, or {@code 0} if the attribute is not charged
+     */
+    public long getAttributeSize(String name) {
+        Long size = attributeSizes.get(name);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * Get the exception that failed the workflow under {@link OverflowPolicy#FAIL}.
+     * <p>
+     * The runtime checks this after each phase and, if it is set, dispatches it to the
+     * {@code @HandleException} methods of the agent.
+     *
+     * @return the failure, or {@code null} if the workflow has not failed
+     */
+    public WorkflowMemoryExceededException getFailure() {
+        return failure;
+    }
+
+    MemoryBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Charge an attribute at the given size, replacing its previous charge.
+     *
+     * @return {@code null} if the charge was accepted, otherwise the exception describing
+     *         the limit that would have been exceeded; the previous charge is then kept
+     * @throws IllegalStateException if the account is closed
+     */
+    WorkflowMemoryExceededException charge(String name, long size) {
+        Lock lock = closeLock.readLock();
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Workflow " + workflowId + " has ended");
+            }
+            return reserve(name, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private WorkflowMemoryExceededException reserve(String name, long size) {
+        WorkflowMemoryExceededException[] rejection = new WorkflowMemoryExceededException[1];
+        attributeSizes.compute(name, (key, previous) -> {
+            long delta = size - (previous == null ? 0 : previous);
+            if (delta <= 0) {
+                usedBytes.addAndGet(delta);
+                budget.release(-delta);
+                return size;
+            }
+            if (!tryReserve(delta)) {
+                rejection[0] = new WorkflowMemoryExceededException(
+                        "Attribute '" + name + "' of workflow " + workflowId + " needs about " + size
+                                + " bytes, exceeding the workflow limit of " + budget.getWorkflowLimit() + " bytes",
+                        size, budget.getWorkflowLimit());
+                return previous;
+            }
+            if (!budget.tryReserve(delta)) {
+                usedBytes.addAndGet(-delta);
+                rejection[0] = new WorkflowMemoryExceededException(
+                        "Attribute '" + name + "' of workflow " + workflowId + " needs about " + size
+                                + " bytes, exceeding the global limit of " + budget.getGlobalLimit() + " bytes",
+                        size, budget.getGlobalLimit());
+                return previous;
+            }
+            return size;
+        });
+        return rejection[0];
+    }
+
+    void discharge(String name) {
+        attributeSizes.computeIfPresent(name, (key, size) -> {
+            usedBytes.addAndGet(-size);
+            budget.release(size);
+            return null;
+        });
+    }
+
+    void fail(WorkflowMemoryExceededException exception) {
+        if (failure == null) {
+            failure = exception;
+            budget.recordFailed();
+        }
+    }
+
+    private boolean tryReserve(long bytes) {
+        long limit = budget.getWorkflowLimit();
+        long used;
+        long next;
+        do {
+            used = usedBytes.get();
+            next = used + bytes;
+            if (next > limit || next < used) {
+                return false;
+            }
+        } while (!usedBytes.compareAndSet(used, next));
+        return true;
+    }
+
+    /**
+     * Release everything charged to this account and remove it from the budget.
+     * Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        Lock lock = closeLock.writeLock();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (String name : attributeSizes.keySet()) {
+                discharge(name);
+            }
+        } finally {
+            lock.unlock();
+        }
+        budget.accountClosed();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowMemoryAccount{workflowId='" + workflowId + "', used=" + getUsedBytes()
+                + ", attributes=" + attributeSizes.size() + '}';
+    }
+}
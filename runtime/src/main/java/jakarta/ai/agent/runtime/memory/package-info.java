@@ -0,0 +1,23 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Memory accounting for workflow context attributes.
+ * <p>
+ * A {@link jakarta.ai.agent.runtime.memory.MemoryBudget} holds the per-workflow and
+ * global limits and the usage metrics. Each workflow gets a
+ * {@link jakarta.ai.agent.runtime.memory.WorkflowMemoryAccount}, and its context is
+ * wrapped in a {@link jakarta.ai.agent.runtime.memory.MemoryAccountingWorkflowContext}
+ * that sizes attributes with a {@link jakarta.ai.agent.runtime.memory.SizeEstimator}.
+ */
+package jakarta.ai.agent.runtime.memory;
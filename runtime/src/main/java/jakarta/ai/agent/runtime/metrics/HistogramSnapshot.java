@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import java.time.Duration;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    HistogramSnapshot(long[] counts, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        long sum = 0;
+        for (long bucket : counts) {
+            sum += bucket;
+        }
+        this.count = sum;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the recorded values
+     */
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * @return the mean of the recorded values, or zero if there are none
+     */
+    public Duration getMean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * @return the largest recorded value, or zero if there are none
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * Get the value below which the given share of the recorded values fall. The
+     * result is the highest value of the bucket that holds the percentile, capped at
+     * the maximum.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or zero if there are no values
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(LatencyHistogram.highestValue(i), maxNanos));
+            }
+        }
+        return Duration.ofNanos(maxNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "{count=" + count +
+                ", mean=" + getMean() +
+                ", p50=" + getValueAtPercentile(50) +
+                ", p99=" + getValueAtPercentile(99) +
+                ", max=" + getMax() +
+                '}';
+    }
+}
@@ -0,0 +1,137 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Concurrent latency histogram with logarithmic buckets, in the manner of HdrHistogram.
+ * <p>
+ * Values up to 127 nanoseconds are counted exactly. Above that, every power of two is
+ * split into 64 linear buckets, so any recorded value is reported within 1.6% of its
+ * true value, with about two significant digits. Values above
+ * {@link #HIGHEST_TRACKABLE_NANOS}, about 73 minutes, are counted in the last bucket;
+ * the maximum is kept exactly.
+ * <p>
+ * Recording is allocation-free: the value is mapped to a bucket with a few bit
+ * operations and counted in a stripe chosen by the calling thread, so threads rarely
+ * write to the same cache lines. A stripe is allocated the first time a thread maps to
+ * it. {@link #snapshot()} adds up the stripes; it is weakly consistent with recordings
+ * made at the same time.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The highest value counted in its own bucket, in nanoseconds.
+     */
+    public static final long HIGHEST_TRACKABLE_NANOS = (1L << 42) - 1;
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = index(HIGHEST_TRACKABLE_NANOS) + 1;
+    private static final int STRIPES = stripes();
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    private static int stripes() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+        return Integer.highestOneBit(Math.max(processors * 2 - 1, 1));
+    }
+
+    /**
+     * Map a value to its bucket.
+     */
+    static int index(long nanos) {
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos | 1);
+        if (exponent < SUB_BUCKET_BITS) {
+            return (int) nanos;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) (nanos >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Get the highest value mapped to a bucket.
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        AtomicLongArray stripe = stripe();
+        stripe.getAndIncrement(index(Math.min(value, HIGHEST_TRACKABLE_NANOS)));
+        stripe.getAndAdd(BUCKETS, value);
+        max.accumulate(value);
+    }
+
+    private AtomicLongArray stripe() {
+        int hash = Thread.currentThread().hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+        AtomicLongArray stripe = stripes.get(slot);
+        if (stripe == null) {
+            stripes.compareAndSet(slot, null, new AtomicLongArray(BUCKETS + 1));
+            stripe = stripes.get(slot);
+        }
+        return stripe;
+    }
+
+    /**
+     * Get the number of recorded values. This adds up all buckets; use
+     * {@link #snapshot()} to read several statistics at once.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return snapshot().getCount();
+    }
+
+    /**
+     * Copy the current state of the histogram.
+     *
+     * @return a snapshot of the histogram
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) {
+                continue;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+            total += stripe.get(BUCKETS);
+        }
+        return new HistogramSnapshot(counts, total, max.get());
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram" + snapshot();
+    }
+}
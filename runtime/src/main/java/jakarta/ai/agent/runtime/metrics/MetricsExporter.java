@@ -0,0 +1,33 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+/**
+ * Publishes {@link PhaseMetrics} to a monitoring system.
+ * <p>
+ * Exporters are added to a {@link WorkflowMetrics} registry, which passes them the
+ * metrics of every lifecycle method, existing and future. Exporters read the metrics
+ * when their monitoring system collects them, so recording never calls an exporter.
+ *
+ * @see jakarta.ai.agent.runtime.metrics.otel.OpenTelemetryMetricsExporter
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+
+    /**
+     * Start publishing the metrics of a lifecycle method. Called once per method.
+     *
+     * @param metrics the metrics of the method
+     */
+    void export(PhaseMetrics metrics);
+}
@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Point-in-time metrics of all lifecycle methods known to a {@link WorkflowMetrics}
+ * registry, for tests and simple monitoring.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * PhaseSnapshot decision = metrics.snapshot().find("FraudDetectionAgent", "checkFraud").orElseThrow();
+ * assertEquals(1000, decision.invocations());
+ * assertTrue(decision.latency().getValueAtPercentile(99).toMillis() < 5);
+ * }</pre>
+ */
+public final class MetricsSnapshot {
+
+    private final List<PhaseSnapshot> phases;
+
+    MetricsSnapshot(List<PhaseSnapshot> phases) {
+        this.phases = List.copyOf(phases);
+    }
+
+    /**
+     * @return the metrics of every lifecycle method
+     */
+    public List<PhaseSnapshot> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Get the metrics of the lifecycle methods of an agent.
+     *
+     * @param agentName the name of the agent
+     * @return the metrics of its methods, possibly empty
+     */
+    public List<PhaseSnapshot> forAgent(String agentName) {
+        return phases.stream().filter(phase -> phase.agentName().equals(agentName)).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the metrics of a lifecycle method.
+     *
+     * @param agentName the name of the agent
+     * @param methodName the name of the method
+     * @return the metrics of the method, or empty if it was never registered
+     */
+    public Optional<PhaseSnapshot> find(String agentName, String methodName) {
+        return phases.stream()
+                .filter(phase -> phase.agentName().equals(agentName) && phase.methodName().equals(methodName))
+                .findFirst();
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot" + phases;
+    }
+}
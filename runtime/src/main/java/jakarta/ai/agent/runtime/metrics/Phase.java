@@ -0,0 +1,44 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+/**
+ * The kind of agent lifecycle method a {@link PhaseMetrics} describes.
+ */
+public enum Phase {
+
+    /**
+     * A {@link jakarta.ai.agent.Trigger @Trigger} method.
+     */
+    TRIGGER,
+
+    /**
+     * A {@link jakarta.ai.agent.Decision @Decision} method.
+     */
+    DECISION,
+
+    /**
+     * An {@link jakarta.ai.agent.Action @Action} method.
+     */
+    ACTION,
+
+    /**
+     * An {@link jakarta.ai.agent.Outcome @Outcome} method.
+     */
+    OUTCOME,
+
+    /**
+     * A {@link jakarta.ai.agent.HandleException @HandleException} method.
+     */
+    HANDLE_EXCEPTION
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and counters of one lifecycle method of an agent.
+ * <p>
+ * A runtime looks up the metrics of each lifecycle method once, with
+ * {@link WorkflowMetrics#phase(String, Phase, String)}, and records every invocation
+ * with a single call, see
+ * {@link jakarta.ai.agent.runtime.dispatch.PhaseMethod#invoke(Object,
+ * jakarta.ai.agent.runtime.dispatch.ParameterResolver, PhaseMetrics)}. Recording does
+ * not allocate and does not contend between threads.
+ */
+public final class PhaseMetrics {
+
+    private final String agentName;
+    private final Phase phase;
+    private final String methodName;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder exceptions = new LongAdder();
+    private final LongAdder terminations = new LongAdder();
+
+    PhaseMetrics(String agentName, Phase phase, String methodName) {
+        this.agentName = agentName;
+        this.phase = phase;
+        this.methodName = methodName;
+    }
+
+    /**
+     * Record an invocation that returned normally.
+     *
+     * @param nanos the duration of the invocation
+     */
+    public void recordInvocation(long nanos) {
+        latency.record(nanos);
+    }
+
+    /**
+     * Record an invocation that threw an exception. Its duration is part of the
+     * latency histogram.
+     *
+     * @param nanos the duration of the invocation
+     */
+    public void recordException(long nanos) {
+        latency.record(nanos);
+        exceptions.increment();
+    }
+
+    /**
+     * Record that the value returned by this decision method terminated the workflow,
+     * see {@link jakarta.ai.agent.runtime.decision.DecisionGate#proceed(Object,
+     * jakarta.ai.agent.runtime.scope.WorkflowScopeStore,
+     * jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle, PhaseMetrics)}.
+     */
+    public void recordTermination() {
+        terminations.increment();
+    }
+
+    /**
+     * @return the name of the agent
+     */
+    public String getAgentName() {
+        return agentName;
+    }
+
+    /**
+     * @return the kind of lifecycle method
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the name of the lifecycle method
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return the latency histogram of all invocations, including those that threw
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the number of invocations that threw an exception
+     */
+    public long getExceptionCount() {
+        return exceptions.sum();
+    }
+
+    /**
+     * @return the number of workflows this decision method terminated
+     */
+    public long getTerminationCount() {
+        return terminations.sum();
+    }
+
+    /**
+     * Copy the current metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public PhaseSnapshot snapshot() {
+        HistogramSnapshot histogram = latency.snapshot();
+        return new PhaseSnapshot(agentName, phase, methodName, histogram.getCount(),
+                exceptions.sum(), terminations.sum(), histogram);
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseMetrics{" + agentName + '.' + methodName + ' ' + phase + '}';
+    }
+}
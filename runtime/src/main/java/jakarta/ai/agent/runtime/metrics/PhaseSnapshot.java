@@ -0,0 +1,28 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+/**
+ * Point-in-time metrics of one lifecycle method of an agent.
+ *
+ * @param agentName the name of the agent
+ * @param phase the kind of lifecycle method
+ * @param methodName the name of the lifecycle method
+ * @param invocations the number of invocations so far
+ * @param exceptions the number of invocations that threw an exception
+ * @param terminations the number of workflows this decision method terminated
+ * @param latency the latency histogram of all invocations
+ */
+public record PhaseSnapshot(String agentName, Phase phase, String methodName, long invocations,
+                            long exceptions, long terminations, HistogramSnapshot latency) {
+}
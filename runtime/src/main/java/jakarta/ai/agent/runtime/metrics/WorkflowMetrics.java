@@ -0,0 +1,112 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the {@link PhaseMetrics} of every agent lifecycle method.
+ * <p>
+ * A runtime typically keeps one registry, looks up the metrics of each lifecycle method
+ * when it deploys an agent, and keeps them next to the method so that recording an
+ * invocation needs no lookup. Metrics are published by the {@link MetricsExporter}s
+ * added to the registry, and can be read directly with {@link #snapshot()}.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * WorkflowMetrics metrics = new WorkflowMetrics();
+ * metrics.addExporter(new OpenTelemetryMetricsExporter(meter));
+ *
+ * // when deploying
+ * PhaseMetrics decisionMetrics = metrics.phase("FraudDetectionAgent", Phase.DECISION, "checkFraud");
+ *
+ * // for every workflow
+ * Object decision = checkFraud.invoke(agent, resolver, decisionMetrics);
+ * if (!DecisionGate.proceeds(decision)) {
+ *     decisionMetrics.recordTermination();
+ * }
+ * }</pre>
+ */
+public final class WorkflowMetrics {
+
+    private final ConcurrentHashMap<Key, PhaseMetrics> phases = new ConcurrentHashMap<>();
+    private final List<MetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Get the metrics of a lifecycle method, creating them on first use.
+     *
+     * @param agentName the name of the agent
+     * @param phase the kind of lifecycle method
+     * @param methodName the name of the method
+     * @return the metrics of the method
+     */
+    public PhaseMetrics phase(String agentName, Phase phase, String methodName) {
+        Key key = new Key(Objects.requireNonNull(agentName, "agentName"), Objects.requireNonNull(phase, "phase"),
+                Objects.requireNonNull(methodName, "methodName"));
+        PhaseMetrics existing = phases.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            existing = phases.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            PhaseMetrics created = new PhaseMetrics(agentName, phase, methodName);
+            phases.put(key, created);
+            for (MetricsExporter exporter : exporters) {
+                exporter.export(created);
+            }
+            return created;
+        }
+    }
+
+    /**
+     * Add an exporter. It receives the metrics of every method registered so far, and
+     * of every method registered later.
+     *
+     * @param exporter the exporter
+     */
+    public synchronized void addExporter(MetricsExporter exporter) {
+        Objects.requireNonNull(exporter, "exporter");
+        exporters.add(exporter);
+        for (PhaseMetrics metrics : phases.values()) {
+            exporter.export(metrics);
+        }
+    }
+
+    /**
+     * Copy the current metrics of every lifecycle method.
+     *
+     * @return a snapshot of all metrics
+     */
+    public MetricsSnapshot snapshot() {
+        List<PhaseSnapshot> snapshots = new ArrayList<>(phases.size());
+        for (PhaseMetrics metrics : phases.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        return new MetricsSnapshot(snapshots);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowMetrics{methods=" + phases.size() + ", exporters=" + exporters.size() + '}';
+    }
+
+    private record Key(String agentName, Phase phase, String methodName) {
+    }
+}
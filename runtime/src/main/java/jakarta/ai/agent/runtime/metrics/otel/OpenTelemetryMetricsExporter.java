@@ -0,0 +1,143 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics.otel;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import jakarta.ai.agent.runtime.metrics.HistogramSnapshot;
+import jakarta.ai.agent.runtime.metrics.MetricsExporter;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link MetricsExporter} that publishes phase metrics as OpenTelemetry asynchronous
+ * instruments, read when the OpenTelemetry SDK collects metrics.
+ * <p>
+ * Every lifecycle method is identified by the attributes {@code agent.name},
+ * {@code agent.phase} and {@code code.function}. The exporter publishes:
+ * <ul>
+ *   <li>{@code agent.phase.invocations} - counter of invocations</li>
+ *   <li>{@code agent.phase.exceptions} - counter of invocations that threw</li>
+ *   <li>{@code agent.phase.terminations} - counter of workflows terminated, for decisions</li>
+ *   <li>{@code agent.phase.duration.total} - counter of the time spent in the method, in seconds</li>
+ *   <li>{@code agent.phase.duration} - gauge of the latency percentiles, in seconds, with a
+ *       {@code quantile} attribute of 0.5, 0.9, 0.99, 0.999 and 1 for the maximum</li>
+ * </ul>
+ * OpenTelemetry has no asynchronous histogram instrument, so the histogram is published
+ * as precomputed percentiles. MicroProfile Telemetry runtimes publish these instruments
+ * through their OpenTelemetry SDK.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * Meter meter = openTelemetry.getMeter("jakarta.ai.agent");
+ * workflowMetrics.addExporter(new OpenTelemetryMetricsExporter(meter));
+ * }</pre>
+ * <p>
+ * This class requires {@code io.opentelemetry:opentelemetry-api} on the class path.
+ */
+public final class OpenTelemetryMetricsExporter implements MetricsExporter, AutoCloseable {
+
+    private static final AttributeKey<String> AGENT = AttributeKey.stringKey("agent.name");
+    private static final AttributeKey<String> PHASE = AttributeKey.stringKey("agent.phase");
+    private static final AttributeKey<String> FUNCTION = AttributeKey.stringKey("code.function");
+    private static final AttributeKey<Double> QUANTILE = AttributeKey.doubleKey("quantile");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999, 1.0};
+
+    private final List<Exported> exported = new CopyOnWriteArrayList<>();
+    private final ObservableLongMeasurement invocations;
+    private final ObservableLongMeasurement exceptions;
+    private final ObservableLongMeasurement terminations;
+    private final ObservableDoubleMeasurement totalDuration;
+    private final ObservableDoubleMeasurement duration;
+    private final BatchCallback callback;
+
+    /**
+     * Create an exporter that registers its instruments with a meter.
+     *
+     * @param meter the meter
+     */
+    public OpenTelemetryMetricsExporter(Meter meter) {
+        Objects.requireNonNull(meter, "meter");
+        this.invocations = meter.counterBuilder("agent.phase.invocations")
+                .setDescription("Invocations of an agent lifecycle method")
+                .setUnit("{invocation}")
+                .buildObserver();
+        this.exceptions = meter.counterBuilder("agent.phase.exceptions")
+                .setDescription("Invocations of an agent lifecycle method that threw an exception")
+                .setUnit("{invocation}")
+                .buildObserver();
+        this.terminations = meter.counterBuilder("agent.phase.terminations")
+                .setDescription("Workflows terminated by a decision method")
+                .setUnit("{workflow}")
+                .buildObserver();
+        this.totalDuration = meter.counterBuilder("agent.phase.duration.total")
+                .ofDoubles()
+                .setDescription("Time spent in an agent lifecycle method")
+                .setUnit("s")
+                .buildObserver();
+        this.duration = meter.gaugeBuilder("agent.phase.duration")
+                .setDescription("Latency percentiles of an agent lifecycle method")
+                .setUnit("s")
+                .buildObserver();
+        this.callback = meter.batchCallback(this::observe, invocations, exceptions, terminations, totalDuration, duration);
+    }
+
+    @Override
+    public void export(PhaseMetrics metrics) {
+        Attributes attributes = Attributes.of(AGENT, metrics.getAgentName(),
+                PHASE, metrics.getPhase().name().toLowerCase(Locale.ROOT),
+                FUNCTION, metrics.getMethodName());
+        Attributes[] quantiles = new Attributes[QUANTILES.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            quantiles[i] = attributes.toBuilder().put(QUANTILE, QUANTILES[i]).build();
+        }
+        exported.add(new Exported(metrics, attributes, quantiles));
+    }
+
+    private void observe() {
+        for (Exported entry : exported) {
+            PhaseMetrics metrics = entry.metrics();
+            HistogramSnapshot latency = metrics.getLatency().snapshot();
+            invocations.record(latency.getCount(), entry.attributes());
+            exceptions.record(metrics.getExceptionCount(), entry.attributes());
+            if (metrics.getPhase() == Phase.DECISION) {
+                terminations.record(metrics.getTerminationCount(), entry.attributes());
+            }
+            totalDuration.record(latency.getTotal().toNanos() / 1e9, entry.attributes());
+            for (int i = 0; i < QUANTILES.length; i++) {
+                duration.record(latency.getValueAtPercentile(QUANTILES[i] * 100).toNanos() / 1e9,
+                        entry.quantiles()[i]);
+            }
+        }
+    }
+
+    /**
+     * Stop publishing the metrics.
+     */
+    @Override
+    public void close() {
+        callback.close();
+    }
+
+    private record Exported(PhaseMetrics metrics, Attributes attributes, Attributes[] quantiles) {
+    }
+}
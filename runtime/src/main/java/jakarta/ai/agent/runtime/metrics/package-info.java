@@ -0,0 +1,25 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Per-agent, per-lifecycle-method latency histograms and counters.
+ * <p>
+ * {@link jakarta.ai.agent.runtime.metrics.WorkflowMetrics} holds the
+ * {@link jakarta.ai.agent.runtime.metrics.PhaseMetrics} of each lifecycle method:
+ * a {@link jakarta.ai.agent.runtime.metrics.LatencyHistogram}, the invocation and
+ * exception counts and, for decisions, the number of workflows terminated. Recording is
+ * allocation-free and striped. Metrics are read as a
+ * {@link jakarta.ai.agent.runtime.metrics.MetricsSnapshot} or published by a
+ * {@link jakarta.ai.agent.runtime.metrics.MetricsExporter}.
+ */
+package jakarta.ai.agent.runtime.metrics;
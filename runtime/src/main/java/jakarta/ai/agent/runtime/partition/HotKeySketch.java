@@ -0,0 +1,62 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.partition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving sketch of the most frequent keys of a lane.
+ * <p>
+ * At most {@code capacity} keys are counted. A key that is not counted replaces the
+ * key with the lowest count and inherits that count, so counts are upper bounds and any
+ * key whose true frequency exceeds {@code 1/capacity} of the traffic is retained.
+ */
+final class HotKeySketch {
+
+    private final int capacity;
+    private final Map<Object, long[]> counters;
+
+    HotKeySketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    synchronized void add(Object key) {
+        long[] counter = counters.get(key);
+        if (counter != null) {
+            counter[0]++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new long[] {1});
+            return;
+        }
+        Object minKey = null;
+        long min = Long.MAX_VALUE;
+        for (Map.Entry<Object, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] < min) {
+                min = entry.getValue()[0];
+                minKey = entry.getKey();
+            }
+        }
+        counters.remove(minKey);
+        counters.put(key, new long[] {min + 1});
+    }
+
+    synchronized Map<Object, Long> snapshot() {
+        Map<Object, Long> snapshot = new HashMap<>(counters.size() * 2);
+        counters.forEach((key, counter) -> snapshot.put(key, counter[0]));
+        return snapshot;
+    }
+}
@@ -0,0 +1,30 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.partition;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Point-in-time metrics of one lane of a {@link PartitionedExecutor}.
+ *
+ * @param index the lane index
+ * @param depth the number of workflows queued or running on the lane
+ * @param submitted the number of workflows submitted to the lane so far
+ * @param completed the number of workflows completed on the lane so far
+ * @param maxWait the longest time a workflow waited on the lane before starting
+ * @param topKeys the most frequent keys of the lane with their estimated counts
+ */
+public record LaneSnapshot(int index, int depth, long submitted, long completed, Duration maxWait,
+                           Map<Object, Long> topKeys) {
+}
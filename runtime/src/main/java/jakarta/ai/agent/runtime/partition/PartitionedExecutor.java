@@ -0,0 +1,226 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.partition;
+
+import jakarta.ai.agent.PartitionKey;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs workflows in key order on a fixed number of serial lanes, see {@link PartitionKey}.
+ * <p>
+ * Each key is hashed onto a lane. A lane starts its next workflow only when the stage
+ * returned by the previous one completes, so workflows with equal keys never overlap.
+ * Lanes do not own threads: each lane runs at most one task at a time on the shared
+ * executor, and lanes never synchronize with each other. The executor must not reject
+ * tasks. When a workflow ends before its start returns, for example on a direct
+ * executor, the lane runs the next workflow in a loop on the same thread instead of
+ * submitting it again, so that a backlog of quick workflows does not deepen the stack.
+ * <p>
+ * Every lane keeps a small frequency sketch of its keys. {@link #getHotKeys(double)}
+ * reports keys that take a large share of all traffic, which serialize their lane and
+ * everything that hashes next to them.
+ */
+public final class PartitionedExecutor {
+
+    private static final int SKETCH_CAPACITY = 8;
+    private static final int RUNNING = 0;
+    private static final int RETURNED = 1;
+    private static final int RUN_NEXT_INLINE = 2;
+
+    private final Lane[] lanes;
+    private final Executor executor;
+
+    /**
+     * Create an executor.
+     *
+     * @param lanes the number of lanes
+     * @param executor the executor running the lanes
+     */
+    public PartitionedExecutor(int lanes, Executor executor) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane(i);
+        }
+    }
+
+    /**
+     * Create an executor from the {@link PartitionKey} annotation of an agent.
+     *
+     * @param partitionKey the annotation
+     * @param executor the executor running the lanes
+     * @return the executor
+     */
+    public static PartitionedExecutor of(PartitionKey partitionKey, Executor executor) {
+        return new PartitionedExecutor(partitionKey.lanes(), executor);
+    }
+
+    /**
+     * Submit a workflow for a key.
+     *
+     * @param <T> the workflow result type
+     * @param key the partition key, may be {@code null}
+     * @param workflow starts the workflow and returns a stage completed when it ends
+     * @return a stage completed with the outcome of the workflow
+     */
+    public <T> CompletionStage<T> submit(Object key, Supplier<? extends CompletionStage<T>> workflow) {
+        Objects.requireNonNull(workflow, "workflow");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        laneOf(key).submit(key, new Task<>(workflow, result, System.nanoTime()));
+        return result;
+    }
+
+    /**
+     * Get the index of the lane a key is hashed onto.
+     *
+     * @param key the partition key, may be {@code null}
+     * @return the lane index
+     */
+    public int laneIndex(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private Lane laneOf(Object key) {
+        return lanes[laneIndex(key)];
+    }
+
+    /**
+     * @return the number of lanes
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * @return the metrics of every lane, in lane order
+     */
+    public List<LaneSnapshot> getLaneSnapshots() {
+        List<LaneSnapshot> snapshots = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            snapshots.add(lane.snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Get the keys whose estimated share of all submitted workflows is at least
+     * {@code minShare}.
+     *
+     * @param minShare the minimum share, between 0 and 1
+     * @return the hot keys with their estimated counts, most frequent first
+     */
+    public Map<Object, Long> getHotKeys(double minShare) {
+        long total = 0;
+        List<Map.Entry<Object, Long>> candidates = new ArrayList<>();
+        for (Lane lane : lanes) {
+            total += lane.submitted.sum();
+            candidates.addAll(lane.sketch.snapshot().entrySet());
+        }
+        double threshold = minShare * total;
+        candidates.removeIf(entry -> entry.getValue() < threshold);
+        candidates.sort(Map.Entry.<Object, Long>comparingByValue().reversed());
+        Map<Object, Long> hotKeys = new LinkedHashMap<>();
+        for (Map.Entry<Object, Long> entry : candidates) {
+            hotKeys.put(entry.getKey(), entry.getValue());
+        }
+        return hotKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedExecutor{lanes=" + lanes.length + '}';
+    }
+
+    private record Task<T>(Supplier<? extends CompletionStage<T>> workflow, CompletableFuture<T> result,
+                           long submittedNanos) {
+
+        CompletionStage<T> start() {
+            try {
+                return Objects.requireNonNull(workflow.get(), "workflow returned null");
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    private final class Lane {
+
+        private final int index;
+        private final ConcurrentLinkedQueue<Task<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final HotKeySketch sketch = new HotKeySketch(SKETCH_CAPACITY);
+
+        Lane(int index) {
+            this.index = index;
+        }
+
+        void submit(Object key, Task<?> task) {
+            sketch.add(key);
+            submitted.increment();
+            queue.add(task);
+            if (depth.getAndIncrement() == 0) {
+                executor.execute(this::runNext);
+            }
+        }
+
+        private void runNext() {
+            while (run(queue.poll())) {
+                // the workflow ended inline and the lane has a next one
+            }
+        }
+
+        private <T> boolean run(Task<T> task) {
+            maxWaitNanos.accumulate(System.nanoTime() - task.submittedNanos());
+            AtomicInteger state = new AtomicInteger(RUNNING);
+            task.start().whenComplete((value, failure) -> {
+                completed.increment();
+                if (depth.decrementAndGet() > 0 && !state.compareAndSet(RUNNING, RUN_NEXT_INLINE)) {
+                    executor.execute(this::runNext);
+                }
+                if (failure != null) {
+                    task.result().completeExceptionally(failure);
+                } else {
+                    task.result().complete(value);
+                }
+            });
+            return !state.compareAndSet(RUNNING, RETURNED);
+        }
+
+        LaneSnapshot snapshot() {
+            return new LaneSnapshot(index, depth.get(), submitted.sum(), completed.sum(),
+                    Duration.ofNanos(maxWaitNanos.get()), Collections.unmodifiableMap(sketch.snapshot()));
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.priority;
+
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.WorkflowPriority;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Dispatches workflow phases and LLM calls by {@link WorkflowPriority} when capacity is
+ * limited.
+ * <p>
+ * At most {@code concurrency} tasks run at a time on the delegate executor; the rest
+ * wait in one FIFO queue per priority class. When a slot frees up, classes are served by
+ * weighted round robin: each backlogged class receives credits equal to its weight, the
+ * highest class with credits is served first, and credits are refilled once every
+ * backlogged class has used its share. Under saturation, classes therefore receive
+ * capacity in proportion to their weights, and {@link WorkflowPriority#HIGH} work never
+ * waits behind a long backlog of {@link WorkflowPriority#LOW} work.
+ * <p>
+ * Starvation protection: a medium or low task that has waited longer than the aging
+ * threshold is served before any class selection, oldest first. Aged tasks take at most
+ * every other slot, so high-priority work keeps flowing during sustained overload.
+ * <p>
+ * A task submitted through {@link #submit(WorkflowPriority, Supplier)} holds its slot
+ * until its stage completes, which suits asynchronous LLM calls; a task submitted
+ * through {@link #execute(WorkflowPriority, Runnable)} holds it while it runs. When a
+ * task ends before the delegate executor returns, for example on a direct executor, the
+ * dispatch loop on that thread serves the next task instead of dispatching again from
+ * the completion, so that a backlog of quick tasks does not deepen the stack.
+ */
+public final class PriorityScheduler {
+
+    private static final WorkflowPriority[] CLASSES = WorkflowPriority.values();
+    private static final int RUNNING = 0;
+    private static final int RETURNED = 1;
+    private static final int RUN_NEXT_INLINE = 2;
+
+    private final Executor executor;
+    private final int concurrency;
+    private final int[] weights;
+    private final long agingNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Task>[] queues;
+    private final int[] credits;
+    private int running;
+    private boolean lastAged;
+
+    private final LongAdder[] dispatched = new LongAdder[CLASSES.length];
+    private final LongAccumulator[] maxWaitNanos = new LongAccumulator[CLASSES.length];
+    private final LongAdder aged = new LongAdder();
+
+    /**
+     * Create a scheduler with weights 8, 4 and 1 for the high, medium and low classes.
+     *
+     * @param executor the executor running dispatched tasks
+     * @param concurrency the maximum number of tasks running at a time
+     * @param aging the waiting time after which a task is served regardless of its class
+     */
+    public PriorityScheduler(Executor executor, int concurrency, Duration aging) {
+        this(executor, concurrency, aging, 8, 4, 1);
+    }
+
+    /**
+     * Create a scheduler.
+     *
+     * @param executor the executor running dispatched tasks
+     * @param concurrency the maximum number of tasks running at a time
+     * @param aging the waiting time after which a task is served regardless of its class
+     * @param highWeight the share of the high class
+     * @param mediumWeight the share of the medium class
+     * @param lowWeight the share of the low class
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PriorityScheduler(Executor executor, int concurrency, Duration aging,
+                             int highWeight, int mediumWeight, int lowWeight) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        if (highWeight <= 0 || mediumWeight <= 0 || lowWeight <= 0) {
+            throw new IllegalArgumentException("weights must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.concurrency = concurrency;
+        this.agingNanos = aging.toNanos();
+        this.weights = new int[] {highWeight, mediumWeight, lowWeight};
+        this.credits = weights.clone();
+        this.queues = new ArrayDeque[CLASSES.length];
+        for (int i = 0; i < CLASSES.length; i++) {
+            queues[i] = new ArrayDeque<>();
+            dispatched[i] = new LongAdder();
+            maxWaitNanos[i] = new LongAccumulator(Math::max, 0);
+        }
+    }
+
+    /**
+     * Run a task at the given priority.
+     *
+     * @param priority the priority class
+     * @param task the task
+     */
+    public void execute(WorkflowPriority priority, Runnable task) {
+        Objects.requireNonNull(task, "task");
+        enqueue(priority, () -> {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }, null);
+    }
+
+    /**
+     * Start an asynchronous task at the given priority. The task keeps its slot until
+     * the returned stage completes.
+     *
+     * @param <T> the result type
+     * @param priority the priority class
+     * @param task starts the task and returns its completion stage
+     * @return a stage completed with the outcome of the task
+     */
+    public <T> CompletionStage<T> submit(WorkflowPriority priority, Supplier<? extends CompletionStage<T>> task) {
+        Objects.requireNonNull(task, "task");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        enqueue(priority, task, result);
+        return result;
+    }
+
+    /**
+     * Get an executor that schedules tasks at the priority of a workflow, read when
+     * each task is submitted, so that raising the priority affects later phases.
+     *
+     * @param context the workflow context
+     * @return an executor bound to the workflow
+     */
+    public Executor forWorkflow(WorkflowContext context) {
+        Objects.requireNonNull(context, "context");
+        return task -> execute(context.getPriority(), task);
+    }
+
+    private void enqueue(WorkflowPriority priority, Supplier<? extends CompletionStage<?>> start,
+                         CompletableFuture<?> result) {
+        Task task = new Task(priority.ordinal(), start, result, System.nanoTime());
+        lock.lock();
+        try {
+            queues[task.priorityClass].add(task);
+        } finally {
+            lock.unlock();
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        while (true) {
+            Task task;
+            lock.lock();
+            try {
+                if (running >= concurrency || (task = nextLocked()) == null) {
+                    return;
+                }
+                running++;
+            } finally {
+                lock.unlock();
+            }
+            long waited = System.nanoTime() - task.enqueuedNanos;
+            dispatched[task.priorityClass].increment();
+            maxWaitNanos[task.priorityClass].accumulate(waited);
+            AtomicInteger state = new AtomicInteger(RUNNING);
+            try {
+                executor.execute(() -> run(task, state));
+            } catch (RuntimeException e) {
+                release();
+                task.fail(e);
+            }
+            // the task ended inline if this fails, and this loop dispatches the next one
+            state.compareAndSet(RUNNING, RETURNED);
+        }
+    }
+
+    private Task nextLocked() {
+        Task oldest = null;
+        for (int i = 1; i < queues.length; i++) {
+            Task head = queues[i].peek();
+            if (head != null && (oldest == null || head.enqueuedNanos - oldest.enqueuedNanos < 0)) {
+                oldest = head;
+            }
+        }
+        // Aged tasks take at most every other slot, so overload cannot turn the scheduler into plain FIFO.
+        if (!lastAged && oldest != null && System.nanoTime() - oldest.enqueuedNanos >= agingNanos) {
+            lastAged = true;
+            aged.increment();
+            return queues[oldest.priorityClass].poll();
+        }
+        lastAged = false;
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < queues.length; i++) {
+                if (credits[i] > 0 && !queues[i].isEmpty()) {
+                    credits[i]--;
+                    return queues[i].poll();
+                }
+            }
+            System.arraycopy(weights, 0, credits, 0, weights.length);
+        }
+        return null;
+    }
+
+    private void run(Task task, AtomicInteger state) {
+        CompletionStage<?> stage;
+        try {
+            stage = Objects.requireNonNull(task.start.get(), "workflow returned null");
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((value, failure) -> {
+            release();
+            task.complete(value, failure);
+            if (!state.compareAndSet(RUNNING, RUN_NEXT_INLINE)) {
+                dispatch();
+            }
+        });
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param priority the priority class
+     * @return the number of tasks of the class waiting to be dispatched
+     */
+    public int getQueueDepth(WorkflowPriority priority) {
+        lock.lock();
+        try {
+            return queues[priority.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param priority the priority class
+     * @return the number of tasks of the class dispatched so far
+     */
+    public long getDispatchedCount(WorkflowPriority priority) {
+        return dispatched[priority.ordinal()].sum();
+    }
+
+    /**
+     * @param priority the priority class
+     * @return the longest time a task of the class waited before being dispatched
+     */
+    public Duration getMaxWaitTime(WorkflowPriority priority) {
+        return Duration.ofNanos(maxWaitNanos[priority.ordinal()].get());
+    }
+
+    /**
+     * @return the number of tasks dispatched by starvation protection
+     */
+    public long getAgedCount() {
+        return aged.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PriorityScheduler{concurrency=").append(concurrency);
+        for (WorkflowPriority priority : CLASSES) {
+            builder.append(", ").append(priority).append("=").append(getDispatchedCount(priority));
+        }
+        return builder.append(", aged=").append(getAgedCount()).append('}').toString();
+    }
+
+    private static final class Task {
+
+        final int priorityClass;
+        final Supplier<? extends CompletionStage<?>> start;
+        final CompletableFuture<?> result;
+        final long enqueuedNanos;
+
+        Task(int priorityClass, Supplier<? extends CompletionStage<?>> start, CompletableFuture<?> result,
+             long enqueuedNanos) {
+            this.priorityClass = priorityClass;
+            this.start = start;
+            this.result = result;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value, Throwable failure) {
+            if (result == null) {
+                if (failure != null) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+                }
+                return;
+            }
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                ((CompletableFuture<Object>) result).complete(value);
+            }
+        }
+
+        void fail(Throwable failure) {
+            complete(null, failure);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A workflow store captured on one thread, to be reactivated on another.
+ * <p>
+ * Reactivation is a thread-local swap around the wrapped call; no locks are taken and
+ * nothing is allocated per call.
+ */
+final class CapturedScope {
+
+    private final WorkflowScopeContext context;
+    private final WorkflowScopeStore store;
+
+    CapturedScope(WorkflowScopeContext context) {
+        this.context = context;
+        this.store = context.currentStore();
+    }
+
+    /**
+     * Activate the captured store on the calling thread.
+     *
+     * @return the store active before, to be passed to {@link #exit(WorkflowScopeStore)}
+     */
+    WorkflowScopeStore enter() {
+        return context.activate(store);
+    }
+
+    void exit(WorkflowScopeStore previous) {
+        context.restore(previous);
+    }
+
+    Runnable wrap(Runnable task) {
+        return () -> {
+            WorkflowScopeStore previous = enter();
+            try {
+                task.run();
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+
+    <T> Consumer<T> wrapConsumer(Consumer<? super T> action) {
+        return value -> {
+            WorkflowScopeStore previous = enter();
+            try {
+                action.accept(value);
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+
+    <T, U> BiConsumer<T, U> wrapBiConsumer(BiConsumer<? super T, ? super U> action) {
+        return (first, second) -> {
+            WorkflowScopeStore previous = enter();
+            try {
+                action.accept(first, second);
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+
+    <T, R> Function<T, R> wrapFunction(Function<? super T, ? extends R> function) {
+        return value -> {
+            WorkflowScopeStore previous = enter();
+            try {
+                return function.apply(value);
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+
+    <T, U, R> BiFunction<T, U, R> wrapBiFunction(BiFunction<? super T, ? super U, ? extends R> function) {
+        return (first, second) -> {
+            WorkflowScopeStore previous = enter();
+            try {
+                return function.apply(first, second);
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+}
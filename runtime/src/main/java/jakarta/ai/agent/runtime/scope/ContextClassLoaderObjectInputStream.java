@@ -0,0 +1,51 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * {@link ObjectInputStream} that resolves classes with the context class loader of the
+ * reading thread, falling back to the default resolution.
+ * <p>
+ * Passivated and spilled state holds application classes, which the class loader of the
+ * runtime may not see.
+ */
+public final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+    /**
+     * Create a stream reading from the given input.
+     *
+     * @param in the serialized state
+     * @throws IOException if the stream header cannot be read
+     */
+    public ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader != null) {
+            try {
+                return Class.forName(desc.getName(), false, loader);
+            } catch (ClassNotFoundException e) {
+                // fall back to the default resolution below
+            }
+        }
+        return super.resolveClass(desc);
+    }
+}
@@ -0,0 +1,137 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latencies of workflow scope passivation and activation.
+ * <p>
+ * All counters are striped, so recording does not contend between threads.
+ */
+public final class PassivationStatistics {
+
+    private final LongAdder passivations = new LongAdder();
+    private final LongAdder passivationNanos = new LongAdder();
+    private final LongAccumulator maxPassivationNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder activationNanos = new LongAdder();
+    private final LongAccumulator maxActivationNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    void recordPassivation(long nanos, int bytes) {
+        passivations.increment();
+        passivationNanos.add(nanos);
+        maxPassivationNanos.accumulate(nanos);
+        bytesWritten.add(bytes);
+    }
+
+    void recordActivation(long nanos) {
+        activations.increment();
+        activationNanos.add(nanos);
+        maxActivationNanos.accumulate(nanos);
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * @return the number of workflow scopes passivated so far
+     */
+    public long getPassivationCount() {
+        return passivations.sum();
+    }
+
+    /**
+     * @return the number of workflow scopes activated from passivated state so far
+     */
+    public long getActivationCount() {
+        return activations.sum();
+    }
+
+    /**
+     * @return the number of passivation attempts skipped because the scope
+     *         holds non-serializable instances
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * @return the number of passivation attempts that failed to write their state
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the total number of bytes written to the passivation store
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * @return the mean time spent passivating one scope
+     */
+    public Duration getMeanPassivationTime() {
+        return mean(passivationNanos.sum(), passivations.sum());
+    }
+
+    /**
+     * @return the longest time spent passivating one scope
+     */
+    public Duration getMaxPassivationTime() {
+        return Duration.ofNanos(maxPassivationNanos.get());
+    }
+
+    /**
+     * @return the mean time spent activating one passivated scope
+     */
+    public Duration getMeanActivationTime() {
+        return mean(activationNanos.sum(), activations.sum());
+    }
+
+    /**
+     * @return the longest time spent activating one passivated scope
+     */
+    public Duration getMaxActivationTime() {
+        return Duration.ofNanos(maxActivationNanos.get());
+    }
+
+    private static Duration mean(long totalNanos, long count) {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    @Override
+    public String toString() {
+        return "PassivationStatistics{" +
+                "passivations=" + getPassivationCount() +
+                ", activations=" + getActivationCount() +
+                ", skipped=" + getSkippedCount() +
+                ", failures=" + getFailureCount() +
+                ", bytesWritten=" + getBytesWritten() +
+                ", meanPassivationTime=" + getMeanPassivationTime() +
+                ", meanActivationTime=" + getMeanActivationTime() +
+                '}';
+    }
+}
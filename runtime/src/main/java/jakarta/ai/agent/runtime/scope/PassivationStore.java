@@ -0,0 +1,154 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Storage for the serialized state of passivated workflow scopes.
+ * <p>
+ * State is keyed by workflow identifier. Two implementations are provided:
+ * {@link #directory(Path)} keeps one file per workflow, and {@link #offHeap()}
+ * keeps the bytes in direct buffers outside the Java heap.
+ *
+ * @see WorkflowScopePassivator
+ */
+public interface PassivationStore {
+
+    /**
+     * Store the passivated state of a workflow, replacing any previous state.
+     *
+     * @param workflowId the workflow identifier
+     * @param state the serialized state
+     * @throws IOException if the state cannot be written
+     */
+    void write(String workflowId, byte[] state) throws IOException;
+
+    /**
+     * Read the passivated state of a workflow.
+     *
+     * @param workflowId the workflow identifier
+     * @return the serialized state, or {@code null} if none is stored
+     * @throws IOException if the state cannot be read
+     */
+    byte[] read(String workflowId) throws IOException;
+
+    /**
+     * Discard the passivated state of a workflow.
+     * <p>
+     * If no state is stored, this method does nothing.
+     *
+     * @param workflowId the workflow identifier
+     * @throws IOException if the state cannot be removed
+     */
+    void remove(String workflowId) throws IOException;
+
+    /**
+     * Create a store that keeps one file per workflow in the given directory.
+     * <p>
+     * The file name is the hexadecimal encoding of the UTF-8 bytes of the workflow
+     * identifier, so that distinct identifiers never share a file, even on a
+     * case-insensitive file system. Identifiers longer than 100 bytes are named by
+     * their SHA-256 digest instead, to stay within file name limits.
+     *
+     * @param directory the directory, created if it does not exist
+     * @return a file-based store
+     */
+    static PassivationStore directory(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PassivationStore() {
+            @Override
+            public void write(String workflowId, byte[] state) throws IOException {
+                Files.write(directory.resolve(fileName(workflowId)), state);
+            }
+
+            @Override
+            public byte[] read(String workflowId) throws IOException {
+                try {
+                    return Files.readAllBytes(directory.resolve(fileName(workflowId)));
+                } catch (NoSuchFileException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public void remove(String workflowId) throws IOException {
+                Files.deleteIfExists(directory.resolve(fileName(workflowId)));
+            }
+
+            private String fileName(String workflowId) {
+                byte[] id = workflowId.getBytes(StandardCharsets.UTF_8);
+                if (id.length <= 100) {
+                    return HexFormat.of().formatHex(id) + ".scope";
+                }
+                try {
+                    return "sha256-" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(id))
+                            + ".scope";
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("SHA-256 is not available", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Create a store that keeps passivated state in direct buffers.
+     * <p>
+     * This moves idle state out of the garbage-collected heap while keeping
+     * activation free of disk I/O.
+     *
+     * @return an off-heap store
+     */
+    static PassivationStore offHeap() {
+        Map<String, ByteBuffer> buffers = new ConcurrentHashMap<>();
+        return new PassivationStore() {
+            @Override
+            public void write(String workflowId, byte[] state) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(state.length);
+                buffer.put(state).flip();
+                buffers.put(workflowId, buffer);
+            }
+
+            @Override
+            public byte[] read(String workflowId) {
+                ByteBuffer buffer = buffers.get(workflowId);
+                if (buffer == null) {
+                    return null;
+                }
+                byte[] state = new byte[buffer.remaining()];
+                buffer.duplicate().get(state);
+                return state;
+            }
+
+            @Override
+            public void remove(String workflowId) {
+                buffers.remove(workflowId);
+            }
+        };
+    }
+}
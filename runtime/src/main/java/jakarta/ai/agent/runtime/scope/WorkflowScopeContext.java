@@ -0,0 +1,169 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import jakarta.ai.agent.WorkflowScoped;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reference {@link AlterableContext} for the {@link WorkflowScoped @WorkflowScoped} scope.
+ * <p>
+ * Every client proxy call on a workflow-scoped bean goes through {@link #get(Contextual)},
+ * so the context is built around two cheap lookups:
+ * <ul>
+ *   <li>The store of the workflow that is active on the calling thread is kept in a
+ *       thread-local, set by the runtime with {@link #activate(WorkflowScopeStore)} before
+ *       a phase runs and reset with {@link #restore(WorkflowScopeStore)} afterwards.</li>
+ *   <li>Each bean is given a fixed slot number the first time the context sees it (or
+ *       eagerly, through {@link #register(Contextual)} during bean discovery). Workflow
+ *       stores keep instances in an array indexed by that slot instead of a
+ *       {@code Map<Contextual, Instance>} per workflow.</li>
+ * </ul>
+ * <p>
+ * The slot table is shared by all workflows and is only written while new beans are
+ * registered, so in steady state a lookup is one lock-free hash read followed by one
+ * array read.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * void afterBeanDiscovery(@Observes AfterBeanDiscovery abd) {
+ *     abd.addContext(workflowScopeContext);
+ * }
+ *
+ * WorkflowScopeStore store = workflowScopeContext.newStore(workflowId);
+ * WorkflowScopeStore previous = workflowScopeContext.activate(store);
+ * try {
+ *     invokePhase();
+ * } finally {
+ *     workflowScopeContext.restore(previous);
+ * }
+ * // when the workflow ends
+ * store.destroy();
+ * }</pre>
+ */
+public class WorkflowScopeContext implements AlterableContext {
+
+    private final ThreadLocal<WorkflowScopeStore> current = new ThreadLocal<>();
+    private final ConcurrentHashMap<Contextual<?>, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return WorkflowScoped.class;
+    }
+
+    /**
+     * Assign a slot to the given bean ahead of its first use.
+     * <p>
+     * Registering all workflow-scoped beans during bean discovery lets new stores be
+     * sized exactly, so they never have to grow. Registering a bean twice returns the
+     * same slot.
+     *
+     * @param contextual the workflow-scoped bean
+     * @return the slot assigned to the bean
+     */
+    public int register(Contextual<?> contextual) {
+        Integer slot = slots.get(contextual);
+        if (slot != null) {
+            return slot;
+        }
+        return slots.computeIfAbsent(contextual, c -> nextSlot.getAndIncrement());
+    }
+
+    /**
+     * Create an empty store for a new workflow execution.
+     *
+     * @param workflowId the workflow identifier
+     * @return a new store sized for all beans registered so far
+     */
+    public WorkflowScopeStore newStore(String workflowId) {
+        return new WorkflowScopeStore(workflowId, nextSlot.get());
+    }
+
+    /**
+     * Make the given store the active workflow scope of the calling thread.
+     *
+     * @param store the store to activate, or {@code null} to deactivate the scope
+     * @return the store that was active before, to be passed to {@link #restore(WorkflowScopeStore)}
+     */
+    public WorkflowScopeStore activate(WorkflowScopeStore store) {
+        WorkflowScopeStore previous = current.get();
+        if (store != null) {
+            store.enter();
+        }
+        current.set(store);
+        return previous;
+    }
+
+    /**
+     * Reinstate the store that was active before a matching {@link #activate(WorkflowScopeStore)}.
+     *
+     * @param previous the store returned by {@code activate}, possibly {@code null}
+     */
+    public void restore(WorkflowScopeStore previous) {
+        WorkflowScopeStore active = current.get();
+        if (active != null) {
+            active.exit();
+        }
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * Get the store that is active on the calling thread.
+     *
+     * @return the active store, or {@code null} if no workflow is active
+     */
+    public WorkflowScopeStore currentStore() {
+        return current.get();
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        return activeStore().getOrCreate(register(contextual), contextual, creationalContext);
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual) {
+        return activeStore().get(register(contextual));
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        activeStore().destroy(register(contextual));
+    }
+
+    @Override
+    public boolean isActive() {
+        WorkflowScopeStore store = current.get();
+        return store != null && !store.isDestroyed();
+    }
+
+    private WorkflowScopeStore activeStore() {
+        WorkflowScopeStore store = current.get();
+        if (store == null || store.isDestroyed()) {
+            throw new ContextNotActiveException("No workflow is active on the current thread");
+        }
+        return store;
+    }
+}
@@ -0,0 +1,53 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link Executor} that runs each task inside the workflow scope that was active
+ * when the task was submitted.
+ * <p>
+ * The submitting thread's {@link WorkflowScopeStore} is captured in
+ * {@link #execute(Runnable)} and activated on the executing thread for the duration
+ * of the task, after which the executing thread's previous scope is restored.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * Executor executor = new WorkflowScopeExecutor(workflowScopeContext, managedExecutorService);
+ * CompletableFuture.supplyAsync(() -> scopedBean.analyze(), executor);
+ * }</pre>
+ */
+public class WorkflowScopeExecutor implements Executor {
+
+    private final WorkflowScopeContext context;
+    private final Executor delegate;
+
+    /**
+     * Create an executor that propagates the workflow scope to the given delegate.
+     *
+     * @param context the workflow scope context
+     * @param delegate the executor that runs the tasks
+     */
+    public WorkflowScopeExecutor(WorkflowScopeContext context, Executor delegate) {
+        this.context = Objects.requireNonNull(context, "context");
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command");
+        delegate.execute(new CapturedScope(context).wrap(command));
+    }
+}
@@ -0,0 +1,141 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passivation policy for {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} beans.
+ * <p>
+ * Workflows waiting on slow LLM responses or human review keep their scoped beans
+ * alive without touching them. The passivator serializes the beans of every tracked
+ * workflow that has not been activated for longer than the idle threshold into a
+ * {@link PassivationStore} and drops them from the heap. The next client proxy call
+ * on any of the workflow's beans reads them back transparently.
+ * <p>
+ * A workflow is only passivated while no thread has its scope active, and only if
+ * every instance and its {@link jakarta.enterprise.context.spi.CreationalContext} is
+ * {@link java.io.Serializable}; other workflows are left on the heap and counted as
+ * skipped in the {@link #getStatistics() statistics}. Workflows whose state cannot be
+ * written are counted as failures and retried on the next run.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * WorkflowScopePassivator passivator = new WorkflowScopePassivator(
+ *         PassivationStore.directory(Path.of("/var/agents/passivated")), Duration.ofMinutes(2));
+ * passivator.schedule(scheduler, Duration.ofSeconds(30));
+ *
+ * WorkflowScopeStore store = workflowScopeContext.newStore(workflowId);
+ * passivator.track(store);
+ * }</pre>
+ */
+public class WorkflowScopePassivator {
+
+    private final PassivationStore passivationStore;
+    private final long idleThresholdNanos;
+    private final PassivationStatistics statistics = new PassivationStatistics();
+    private final Set<WorkflowScopeStore> tracked = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create a passivator.
+     *
+     * @param passivationStore where passivated state is kept
+     * @param idleThreshold how long a workflow must stay inactive before it is passivated
+     */
+    public WorkflowScopePassivator(PassivationStore passivationStore, Duration idleThreshold) {
+        this.passivationStore = Objects.requireNonNull(passivationStore, "passivationStore");
+        if (idleThreshold.isNegative()) {
+            throw new IllegalArgumentException("idleThreshold must not be negative");
+        }
+        this.idleThresholdNanos = idleThreshold.toNanos();
+    }
+
+    /**
+     * Make a workflow store eligible for passivation.
+     * <p>
+     * The store is tracked until it is destroyed.
+     *
+     * @param store the workflow store
+     */
+    public void track(WorkflowScopeStore store) {
+        store.passivateWith(this);
+        if (!store.isDestroyed()) {
+            tracked.add(store);
+        }
+    }
+
+    void untrack(WorkflowScopeStore store) {
+        tracked.remove(store);
+    }
+
+    /**
+     * Passivate every tracked workflow that has been idle for longer than the threshold.
+     *
+     * @return the number of workflows passivated by this call
+     */
+    public int passivateIdle() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (WorkflowScopeStore store : tracked) {
+            if (store.isPassivated() || now - store.getLastAccessNanos() < idleThresholdNanos) {
+                continue;
+            }
+            try {
+                if (store.passivate()) {
+                    count++;
+                }
+            } catch (IOException e) {
+                // the workflow stays on the heap and is retried on the next run
+                statistics.recordFailure();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Run {@link #passivateIdle()} periodically.
+     *
+     * @param scheduler the scheduler to run on
+     * @param period the time between two runs
+     * @return the scheduled task, to be cancelled on shutdown
+     */
+    public ScheduledFuture<?> schedule(ScheduledExecutorService scheduler, Duration period) {
+        long nanos = period.toNanos();
+        return scheduler.scheduleWithFixedDelay(this::passivateIdle, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of live workflow stores tracked by this passivator
+     */
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    /**
+     * @return the passivation and activation statistics
+     */
+    public PassivationStatistics getStatistics() {
+        return statistics;
+    }
+
+    PassivationStore getPassivationStore() {
+        return passivationStore;
+    }
+}
@@ -0,0 +1,407 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.runtime.jfr.ContextPassivateEvent;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} bean instances
+ * of a single workflow execution.
+ * <p>
+ * Instances are kept in an array indexed by the slot that the owning
+ * {@link WorkflowScopeContext} assigned to each bean, so looking up an existing
+ * instance is a single volatile array read. Creation, removal and growth of the
+ * array are serialized by a per-store lock; reads never take it.
+ * <p>
+ * A store is created by the runtime when a workflow starts and is destroyed in
+ * bulk with {@link #destroy()} when the workflow ends. While the workflow is idle,
+ * a {@link WorkflowScopePassivator} may move its instances out of the heap; they
+ * are read back on the next access. A thread activating the store waits for a
+ * passivation in progress, and a store with an active thread is not passivated, so
+ * no bean is changed while it is serialized.
+ */
+public final class WorkflowScopeStore {
+
+    private static final int PASSIVATING = -1;
+
+    private final String workflowId;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Threads in the store, or {@link #PASSIVATING} while a passivation runs. */
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    private volatile AtomicReferenceArray<ContextualInstance<?>> slots;
+    private volatile boolean destroyed;
+    private volatile long lastAccessNanos = System.nanoTime();
+    private volatile WorkflowScopePassivator passivator;
+    private volatile boolean passivated;
+    private Contextual<?>[] passivatedContextuals;
+
+    WorkflowScopeStore(String workflowId, int initialSlots) {
+        this.workflowId = workflowId;
+        this.slots = new AtomicReferenceArray<>(Math.max(initialSlots, 1));
+    }
+
+    /**
+     * Get the identifier of the workflow this store belongs to.
+     *
+     * @return the workflow identifier
+     */
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    /**
+     * Check whether this store has been destroyed.
+     *
+     * @return {@code true} once {@link #destroy()} has been called
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    /**
+     * Check whether the instances of this store are currently passivated.
+     *
+     * @return {@code true} if the instances have been moved out of the heap
+     */
+    public boolean isPassivated() {
+        return passivated;
+    }
+
+    /**
+     * Get the time of the last activation of this store.
+     *
+     * @return the {@link System#nanoTime()} value of the last activation
+     */
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Count the bean instances currently held on the heap by this store.
+     *
+     * @return the number of live instances
+     */
+    public int size() {
+        AtomicReferenceArray<ContextualInstance<?>> current = slots;
+        int count = 0;
+        for (int i = 0; i < current.length(); i++) {
+            if (current.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    void enter() {
+        while (true) {
+            int active = activeThreads.get();
+            if (active == PASSIVATING) {
+                // the passivating thread holds the lock until it resets the state
+                lock.lock();
+                lock.unlock();
+            } else if (activeThreads.compareAndSet(active, active + 1)) {
+                break;
+            }
+        }
+        lastAccessNanos = System.nanoTime();
+    }
+
+    void exit() {
+        activeThreads.decrementAndGet();
+    }
+
+    <T> T get(int slot) {
+        T existing = peek(slot);
+        if (existing == null && passivated) {
+            reactivate();
+            existing = peek(slot);
+        }
+        return existing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T peek(int slot) {
+        AtomicReferenceArray<ContextualInstance<?>> current = slots;
+        if (slot < current.length()) {
+            ContextualInstance<?> existing = current.get(slot);
+            if (existing != null) {
+                return (T) existing.instance();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getOrCreate(int slot, Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        T existing = get(slot);
+        if (existing != null || creationalContext == null) {
+            return existing;
+        }
+        lock.lock();
+        try {
+            if (destroyed) {
+                throw new ContextNotActiveException("Workflow " + workflowId + " has already ended");
+            }
+            reactivate();
+            AtomicReferenceArray<ContextualInstance<?>> current = ensureCapacity(slot);
+            ContextualInstance<?> raced = current.get(slot);
+            if (raced != null) {
+                return (T) raced.instance();
+            }
+            T instance = contextual.create(creationalContext);
+            current.set(slot, new ContextualInstance<>(contextual, creationalContext, instance));
+            return instance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void destroy(int slot) {
+        lock.lock();
+        try {
+            reactivate();
+            AtomicReferenceArray<ContextualInstance<?>> current = slots;
+            if (slot < current.length()) {
+                ContextualInstance<?> removed = current.getAndSet(slot, null);
+                if (removed != null) {
+                    removed.destroy();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Destroy this store as soon as the workflow is cancelled, instead of when its
+     * stages have unwound, so that the beans release their resources immediately.
+     *
+     * @param token the cancellation token of the workflow
+     * @return the registration of the destroy action
+     */
+    public CancellationToken.Registration destroyOnCancel(CancellationToken token) {
+        return token.onCancel(this::destroy);
+    }
+
+    /**
+     * Destroy every bean instance held by this store and mark it as ended.
+     * <p>
+     * All instances are destroyed even if some of them fail; the first failure
+     * is rethrown afterwards with the others attached as suppressed exceptions.
+     * Calling this method more than once has no further effect.
+     */
+    public void destroy() {
+        RuntimeException failure = null;
+        lock.lock();
+        try {
+            if (destroyed) {
+                return;
+            }
+            WorkflowScopePassivator owner = passivator;
+            if (owner != null) {
+                owner.untrack(this);
+            }
+            try {
+                reactivate();
+            } catch (RuntimeException e) {
+                failure = e;
+                discardPassivatedState(owner);
+            }
+            destroyed = true;
+            AtomicReferenceArray<ContextualInstance<?>> current = slots;
+            for (int i = 0; i < current.length(); i++) {
+                ContextualInstance<?> removed = current.getAndSet(i, null);
+                if (removed == null) {
+                    continue;
+                }
+                try {
+                    removed.destroy();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    void passivateWith(WorkflowScopePassivator owner) {
+        passivator = owner;
+    }
+
+    /**
+     * Serialize all instances into the passivator's store and drop them from the heap.
+     *
+     * @return {@code true} if the store was passivated, {@code false} if it is in use,
+     *         already passivated, destroyed, or holds non-serializable state
+     * @throws IOException if the state cannot be written
+     */
+    boolean passivate() throws IOException {
+        WorkflowScopePassivator owner = passivator;
+        if (owner == null || activeThreads.get() != 0 || !lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (destroyed || passivated || !activeThreads.compareAndSet(0, PASSIVATING)) {
+                return false;
+            }
+            try {
+                return passivate(owner);
+            } finally {
+                activeThreads.set(0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean passivate(WorkflowScopePassivator owner) throws IOException {
+        ContextPassivateEvent event = ContextPassivateEvent.start(workflowId);
+        long start = System.nanoTime();
+        AtomicReferenceArray<ContextualInstance<?>> current = slots;
+        Contextual<?>[] contextuals = new Contextual<?>[current.length()];
+        int instances = 0;
+        Object[] state = new Object[current.length() * 2];
+        for (int i = 0; i < current.length(); i++) {
+            ContextualInstance<?> entry = current.get(i);
+            if (entry == null) {
+                continue;
+            }
+            if (!(entry.instance() instanceof Serializable)
+                    || !(entry.creationalContext() instanceof Serializable)) {
+                owner.getStatistics().recordSkipped();
+                return false;
+            }
+            contextuals[i] = entry.contextual();
+            instances++;
+            state[i * 2] = entry.instance();
+            state[i * 2 + 1] = entry.creationalContext();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        byte[] serialized = bytes.toByteArray();
+        owner.getPassivationStore().write(workflowId, serialized);
+        passivatedContextuals = contextuals;
+        passivated = true;
+        for (int i = 0; i < current.length(); i++) {
+            current.set(i, null);
+        }
+        owner.getStatistics().recordPassivation(System.nanoTime() - start, serialized.length);
+        if (event != null) {
+            event.setState(instances, serialized.length);
+            event.commit();
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void reactivate() {
+        if (!passivated) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!passivated) {
+                return;
+            }
+            long start = System.nanoTime();
+            WorkflowScopePassivator owner = passivator;
+            PassivationStore store = owner.getPassivationStore();
+            Object[] state;
+            try {
+                byte[] serialized = store.read(workflowId);
+                if (serialized == null) {
+                    throw new IllegalStateException("Passivated state of workflow " + workflowId + " is missing");
+                }
+                try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(serialized))) {
+                    state = (Object[]) in.readObject();
+                }
+                store.remove(workflowId);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot activate workflow " + workflowId, e);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Cannot activate workflow " + workflowId, e);
+            }
+            AtomicReferenceArray<ContextualInstance<?>> current = slots;
+            Contextual<?>[] contextuals = passivatedContextuals;
+            for (int i = 0; i < contextuals.length; i++) {
+                if (contextuals[i] != null) {
+                    current.set(i, new ContextualInstance(contextuals[i],
+                            (CreationalContext) state[i * 2 + 1], state[i * 2]));
+                }
+            }
+            passivatedContextuals = null;
+            passivated = false;
+            owner.getStatistics().recordActivation(System.nanoTime() - start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void discardPassivatedState(WorkflowScopePassivator owner) {
+        try {
+            owner.getPassivationStore().remove(workflowId);
+        } catch (IOException e) {
+            // the state is unusable either way; the original failure is reported
+        }
+        passivatedContextuals = null;
+        passivated = false;
+    }
+
+    private AtomicReferenceArray<ContextualInstance<?>> ensureCapacity(int slot) {
+        AtomicReferenceArray<ContextualInstance<?>> current = slots;
+        if (slot < current.length()) {
+            return current;
+        }
+        AtomicReferenceArray<ContextualInstance<?>> grown =
+                new AtomicReferenceArray<>(Math.max(slot + 1, current.length() * 2));
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        slots = grown;
+        return grown;
+    }
+
+    private record ContextualInstance<T>(Contextual<T> contextual,
+                                         CreationalContext<T> creationalContext,
+                                         T instance) {
+
+        void destroy() {
+            contextual.destroy(instance, creationalContext);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link CompletionStage} decorator that runs every dependent action inside the
+ * workflow scope captured when the decorator was created.
+ * <p>
+ * Asynchronous LLM calls complete on provider threads, so callbacks attached to
+ * their stages would otherwise run without an active workflow scope. Every stage
+ * returned by this decorator is decorated in turn, so the whole chain keeps the
+ * scope. {@link #toCompletableFuture()} returns the undecorated future; actions
+ * attached to it directly are not propagated.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * CompletionStage<String> answer = new WorkflowScopedCompletionStage<>(
+ *         workflowScopeContext, client.sendAsync(prompt));
+ * answer.thenAccept(text -> scopedBean.record(text));
+ * }</pre>
+ *
+ * @param <T> the stage result type
+ */
+public class WorkflowScopedCompletionStage<T> implements CompletionStage<T> {
+
+    private final CompletionStage<T> delegate;
+    private final WorkflowScopeContext context;
+    private final CapturedScope scope;
+
+    /**
+     * Decorate a stage, capturing the workflow scope active on the calling thread.
+     *
+     * @param context the workflow scope context
+     * @param delegate the stage to decorate
+     */
+    public WorkflowScopedCompletionStage(WorkflowScopeContext context, CompletionStage<T> delegate) {
+        this(context, delegate, new CapturedScope(Objects.requireNonNull(context, "context")));
+    }
+
+    private WorkflowScopedCompletionStage(WorkflowScopeContext context, CompletionStage<T> delegate,
+                                          CapturedScope scope) {
+        this.context = context;
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.scope = scope;
+    }
+
+    private <U> CompletionStage<U> decorate(CompletionStage<U> stage) {
+        return new WorkflowScopedCompletionStage<>(context, stage, scope);
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
+        return decorate(delegate.thenApply(scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+        return decorate(delegate.thenApplyAsync(scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
+        return decorate(delegate.thenApplyAsync(scope.wrapFunction(fn), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAccept(Consumer<? super T> action) {
+        return decorate(delegate.thenAccept(scope.wrapConsumer(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action) {
+        return decorate(delegate.thenAcceptAsync(scope.wrapConsumer(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+        return decorate(delegate.thenAcceptAsync(scope.wrapConsumer(action), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRun(Runnable action) {
+        return decorate(delegate.thenRun(scope.wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action) {
+        return decorate(delegate.thenRunAsync(scope.wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action, Executor executor) {
+        return decorate(delegate.thenRunAsync(scope.wrap(action), executor));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombine(CompletionStage<? extends U> other,
+                                                 BiFunction<? super T, ? super U, ? extends V> fn) {
+        return decorate(delegate.thenCombine(other, scope.wrapBiFunction(fn)));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+                                                      BiFunction<? super T, ? super U, ? extends V> fn) {
+        return decorate(delegate.thenCombineAsync(other, scope.wrapBiFunction(fn)));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+                                                      BiFunction<? super T, ? super U, ? extends V> fn,
+                                                      Executor executor) {
+        return decorate(delegate.thenCombineAsync(other, scope.wrapBiFunction(fn), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBoth(CompletionStage<? extends U> other,
+                                                    BiConsumer<? super T, ? super U> action) {
+        return decorate(delegate.thenAcceptBoth(other, scope.wrapBiConsumer(action)));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+                                                         BiConsumer<? super T, ? super U> action) {
+        return decorate(delegate.thenAcceptBothAsync(other, scope.wrapBiConsumer(action)));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+                                                         BiConsumer<? super T, ? super U> action,
+                                                         Executor executor) {
+        return decorate(delegate.thenAcceptBothAsync(other, scope.wrapBiConsumer(action), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+        return decorate(delegate.runAfterBoth(other, scope.wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+        return decorate(delegate.runAfterBothAsync(other, scope.wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return decorate(delegate.runAfterBothAsync(other, scope.wrap(action), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEither(CompletionStage<? extends T> other,
+                                                Function<? super T, U> fn) {
+        return decorate(delegate.applyToEither(other, scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other,
+                                                     Function<? super T, U> fn) {
+        return decorate(delegate.applyToEitherAsync(other, scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other,
+                                                     Function<? super T, U> fn, Executor executor) {
+        return decorate(delegate.applyToEitherAsync(other, scope.wrapFunction(fn), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return decorate(delegate.acceptEither(other, scope.wrapConsumer(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other,
+                                                   Consumer<? super T> action) {
+        return decorate(delegate.acceptEitherAsync(other, scope.wrapConsumer(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other,
+                                                   Consumer<? super T> action, Executor executor) {
+        return decorate(delegate.acceptEitherAsync(other, scope.wrapConsumer(action), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+        return decorate(delegate.runAfterEither(other, scope.wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+        return decorate(delegate.runAfterEitherAsync(other, scope.wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action,
+                                                     Executor executor) {
+        return decorate(delegate.runAfterEitherAsync(other, scope.wrap(action), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return decorate(delegate.thenCompose(scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return decorate(delegate.thenComposeAsync(scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn,
+                                                   Executor executor) {
+        return decorate(delegate.thenComposeAsync(scope.wrapFunction(fn), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return decorate(delegate.handle(scope.wrapBiFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return decorate(delegate.handleAsync(scope.wrapBiFunction(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn,
+                                              Executor executor) {
+        return decorate(delegate.handleAsync(scope.wrapBiFunction(fn), executor));
+    }
+
+    @Override
+    public CompletionStage<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        return decorate(delegate.whenComplete(scope.wrapBiConsumer(action)));
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+        return decorate(delegate.whenCompleteAsync(scope.wrapBiConsumer(action)));
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action,
+                                                Executor executor) {
+        return decorate(delegate.whenCompleteAsync(scope.wrapBiConsumer(action), executor));
+    }
+
+    @Override
+    public CompletionStage<T> exceptionally(Function<Throwable, ? extends T> fn) {
+        return decorate(delegate.exceptionally(scope.wrapFunction(fn)));
+    }
+
+    @Override
+    public CompletableFuture<T> toCompletableFuture() {
+        return delegate.toCompletableFuture();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowScopedCompletionStage{" + delegate + "}";
+    }
+}
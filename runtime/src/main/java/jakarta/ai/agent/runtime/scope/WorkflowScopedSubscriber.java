@@ -0,0 +1,84 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link Flow.Subscriber} adapter that delivers every signal inside the workflow
+ * scope that was active when the adapter was created.
+ * <p>
+ * Publishers such as streaming LLM clients usually signal on their own I/O threads.
+ * Wrapping the subscriber lets {@code onNext}, {@code onError} and {@code onComplete}
+ * use {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} beans as if they ran in
+ * the originating phase.
+ *
+ * @param <T> the subscribed item type
+ */
+public class WorkflowScopedSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final Flow.Subscriber<? super T> delegate;
+    private final CapturedScope scope;
+
+    /**
+     * Wrap a subscriber, capturing the workflow scope active on the calling thread.
+     *
+     * @param context the workflow scope context
+     * @param delegate the subscriber receiving the signals
+     */
+    public WorkflowScopedSubscriber(WorkflowScopeContext context, Flow.Subscriber<? super T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.scope = new CapturedScope(Objects.requireNonNull(context, "context"));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        WorkflowScopeStore previous = scope.enter();
+        try {
+            delegate.onSubscribe(subscription);
+        } finally {
+            scope.exit(previous);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        WorkflowScopeStore previous = scope.enter();
+        try {
+            delegate.onNext(item);
+        } finally {
+            scope.exit(previous);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        WorkflowScopeStore previous = scope.enter();
+        try {
+            delegate.onError(throwable);
+        } finally {
+            scope.exit(previous);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        WorkflowScopeStore previous = scope.enter();
+        try {
+            delegate.onComplete();
+        } finally {
+            scope.exit(previous);
+        }
+    }
+}
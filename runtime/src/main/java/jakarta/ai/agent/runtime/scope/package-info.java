@@ -0,0 +1,27 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Reference implementation of the {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped}
+ * CDI context.
+ *
+ * <p>Runtimes register a {@link jakarta.ai.agent.runtime.scope.WorkflowScopeContext} with the
+ * container, create one {@link jakarta.ai.agent.runtime.scope.WorkflowScopeStore} per workflow
+ * execution and activate it around each lifecycle method invocation.
+ *
+ * <p>Work handed to other threads keeps its workflow scope when it goes through
+ * {@link jakarta.ai.agent.runtime.scope.WorkflowScopeExecutor},
+ * {@link jakarta.ai.agent.runtime.scope.WorkflowScopedCompletionStage} or
+ * {@link jakarta.ai.agent.runtime.scope.WorkflowScopedSubscriber}.
+ */
+package jakarta.ai.agent.runtime.scope;
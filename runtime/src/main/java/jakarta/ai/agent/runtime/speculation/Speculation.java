@@ -0,0 +1,117 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.speculation;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.runtime.cancel.DefaultCancellationToken;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A speculative action started by a {@link Speculator}, to be either confirmed or
+ * discarded exactly once.
+ *
+ * @param <T> the action result type
+ */
+public final class Speculation<T> {
+
+    private static final int RUNNING = 0;
+    private static final int CONFIRMED = 1;
+    private static final int DISCARDED = 2;
+
+    private final DefaultCancellationToken token;
+    private final CancellationToken.Registration registration;
+    private final SpeculationStatistics statistics;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+    private final CompletableFuture<T> result;
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+    Speculation(Function<CancellationToken, T> action, CancellationToken workflowToken, Executor executor,
+                SpeculationStatistics statistics) {
+        this.statistics = statistics;
+        this.token = DefaultCancellationToken.withDeadlineOf(workflowToken);
+        this.registration = workflowToken.onCancel(token::cancel);
+        CompletableFuture<T> started;
+        try {
+            started = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return action.apply(token);
+                } finally {
+                    endNanos = System.nanoTime();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            endNanos = startNanos;
+            started = CompletableFuture.failedFuture(e);
+        }
+        this.result = started;
+    }
+
+    /**
+     * Use the speculative result because the decision let the workflow proceed.
+     *
+     * @return a stage completed with the action result, or exceptionally with its
+     *         exception, as if the action had run after the decision
+     * @throws IllegalStateException if the speculation was already confirmed or discarded
+     */
+    public CompletionStage<T> confirm() {
+        if (!state.compareAndSet(RUNNING, CONFIRMED)) {
+            throw new IllegalStateException("Speculation was already " + (state.get() == CONFIRMED ? "confirmed" : "discarded"));
+        }
+        long confirmedNanos = System.nanoTime();
+        // The action keeps running for the workflow: cancelling it must still reach the action.
+        result.whenComplete((value, failure) -> registration.close());
+        long end = result.isDone() ? endNanos : confirmedNanos;
+        statistics.recordHit(end - startNanos);
+        return result.minimalCompletionStage();
+    }
+
+    /**
+     * Cancel the action and discard its result because the decision stopped the
+     * workflow. Has no effect if the speculation was already discarded.
+     *
+     * @throws IllegalStateException if the speculation was already confirmed
+     */
+    public void discard() {
+        if (!state.compareAndSet(RUNNING, DISCARDED)) {
+            if (state.get() == CONFIRMED) {
+                throw new IllegalStateException("Speculation was already confirmed");
+            }
+            return;
+        }
+        registration.close();
+        statistics.recordMiss();
+        token.cancel();
+        result.whenComplete((value, failure) -> statistics.recordWasted(endNanos - startNanos));
+    }
+
+    /**
+     * Check whether the action has finished.
+     *
+     * @return {@code true} if the action has returned or thrown
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    @Override
+    public String toString() {
+        String[] names = {"running", "confirmed", "discarded"};
+        return "Speculation{" + names[state.get()] + ", done=" + isDone() + '}';
+    }
+}
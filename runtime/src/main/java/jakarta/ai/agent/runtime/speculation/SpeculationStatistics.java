@@ -0,0 +1,92 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.speculation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit rate and cost of speculative actions.
+ * <p>
+ * A hit is a speculation confirmed because the decision let the workflow proceed, and
+ * saves the time the action had already run. A miss is a speculation discarded because
+ * the decision stopped the workflow, and wastes the time the action ran. All counters
+ * are striped, so recording does not contend between threads.
+ */
+public final class SpeculationStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+    private final LongAdder wastedNanos = new LongAdder();
+
+    void recordHit(long overlapNanos) {
+        hits.increment();
+        savedNanos.add(Math.max(overlapNanos, 0));
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordWasted(long nanos) {
+        wastedNanos.add(Math.max(nanos, 0));
+    }
+
+    /**
+     * @return the number of speculations confirmed by their decision
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of speculations discarded because the workflow was terminated
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the share of speculations that were confirmed, between 0 and 1
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * @return the total action time that overlapped the decision phase of confirmed speculations
+     */
+    public Duration getSavedTime() {
+        return Duration.ofNanos(savedNanos.sum());
+    }
+
+    /**
+     * @return the total time spent running actions whose speculation was discarded
+     */
+    public Duration getWastedTime() {
+        return Duration.ofNanos(wastedNanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "SpeculationStatistics{" +
+                "hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", savedTime=" + getSavedTime() +
+                ", wastedTime=" + getWastedTime() +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.speculation;
+
+import jakarta.ai.agent.CancellationToken;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Starts {@link jakarta.ai.agent.Speculative @Speculative} actions in parallel with the
+ * decision phase of their workflow.
+ * <p>
+ * The runtime calls {@link #speculate(Function, CancellationToken)} after the trigger
+ * phase, evaluates the decisions, and then either
+ * {@link Speculation#confirm() confirms} the speculation to obtain the action result,
+ * or {@link Speculation#discard() discards} it when the workflow is terminated.
+ *
+ * <pre>{@code
+ * Speculation<Object> speculation = speculator.speculate(
+ *         token -> invoke(firstAction, contextWith(token)), context.getCancellationToken());
+ * Object decision = invokeDecisions(agent, context);
+ * if (!gate.proceed(decision, scope, handle)) {
+ *     speculation.discard();
+ *     return;
+ * }
+ * speculation.confirm().thenCompose(result -> runRemainingActions(result));
+ * }</pre>
+ * <p>
+ * Instances are thread-safe and are typically shared by all workflows of an agent.
+ */
+public final class Speculator {
+
+    private final Executor executor;
+    private final SpeculationStatistics statistics = new SpeculationStatistics();
+
+    /**
+     * Create a speculator.
+     *
+     * @param executor the executor running speculative actions
+     */
+    public Speculator(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Start a speculative action.
+     * <p>
+     * The action receives a cancellation token with the deadline of the workflow that is
+     * cancelled when the speculation is discarded or the workflow is cancelled; the
+     * runtime exposes it as the token of the action's workflow context.
+     *
+     * @param <T> the action result type
+     * @param action invokes the action method with its cancellation token
+     * @param workflowToken the cancellation token of the workflow
+     * @return the running speculation
+     */
+    public <T> Speculation<T> speculate(Function<CancellationToken, T> action, CancellationToken workflowToken) {
+        return new Speculation<>(action, workflowToken, executor, statistics);
+    }
+
+    /**
+     * Get the speculation statistics.
+     *
+     * @return the statistics
+     */
+    public SpeculationStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "Speculator{" + statistics + '}';
+    }
+}
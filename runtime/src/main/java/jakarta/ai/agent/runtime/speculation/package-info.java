@@ -0,0 +1,19 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Speculative execution of {@link jakarta.ai.agent.Speculative @Speculative} actions
+ * during the decision phase, see
+ * {@link jakarta.ai.agent.runtime.speculation.Speculator}.
+ */
+package jakarta.ai.agent.runtime.speculation;
@@ -0,0 +1,204 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link WorkflowTracer} that keeps ended spans in memory, to verify traces in tests
+ * without an OpenTelemetry SDK or a collector.
+ * <p>
+ * Spans have W3C trace context identifiers. The current span of a thread is only known
+ * to this tracer, so spans of other tracing libraries are not parents of its spans.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * InMemoryTracer tracer = new InMemoryTracer();
+ * // run a workflow with the tracer
+ * RecordedSpan workflow = tracer.getFinishedSpans().stream()
+ *         .filter(span -> span.parentSpanId() == null)
+ *         .findFirst().orElseThrow();
+ * }</pre>
+ */
+public final class InMemoryTracer implements WorkflowTracer {
+
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final ConcurrentLinkedQueue<RecordedSpan> finished = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public TraceSpan startWorkflow(String agentName, String workflowId, Class<?> triggerType) {
+        return start("invoke_agent " + agentName, SpanKind.INTERNAL)
+                .setAttribute(TraceAttributes.AGENT_NAME, agentName)
+                .setAttribute(TraceAttributes.WORKFLOW_ID, workflowId)
+                .setAttribute(TraceAttributes.TRIGGER_TYPE, triggerType.getName());
+    }
+
+    @Override
+    public TraceSpan startPhase(String agentName, String workflowId, Phase phase, String methodName) {
+        return start(phase.name().toLowerCase(Locale.ROOT) + ' ' + methodName, SpanKind.INTERNAL)
+                .setAttribute(TraceAttributes.AGENT_NAME, agentName)
+                .setAttribute(TraceAttributes.WORKFLOW_ID, workflowId)
+                .setAttribute(TraceAttributes.PHASE, phase.name())
+                .setAttribute(TraceAttributes.METHOD, methodName);
+    }
+
+    @Override
+    public TraceSpan startLlmCall(String agentName, Phase phase) {
+        TraceSpan span = start("chat", SpanKind.CLIENT)
+                .setAttribute(TraceAttributes.OPERATION, "chat")
+                .setAttribute(TraceAttributes.AGENT_NAME, agentName);
+        if (phase != null) {
+            span.setAttribute(TraceAttributes.PHASE, phase.name());
+        }
+        return span;
+    }
+
+    @Override
+    public Runnable wrap(Runnable task) {
+        Objects.requireNonNull(task, "task");
+        Span captured = current.get();
+        return () -> {
+            Span previous = current.get();
+            current.set(captured);
+            try {
+                task.run();
+            } finally {
+                current.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public <T> Callable<T> wrap(Callable<T> task) {
+        Objects.requireNonNull(task, "task");
+        Span captured = current.get();
+        return () -> {
+            Span previous = current.get();
+            current.set(captured);
+            try {
+                return task.call();
+            } finally {
+                current.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public Executor wrap(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * Get the spans ended so far.
+     *
+     * @return the spans, in the order they ended
+     */
+    public List<RecordedSpan> getFinishedSpans() {
+        return new ArrayList<>(finished);
+    }
+
+    /**
+     * Discard the spans ended so far.
+     */
+    public void reset() {
+        finished.clear();
+    }
+
+    private Span start(String name, SpanKind kind) {
+        Span parent = current.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = parent != null ? parent.traceId
+                : hex(random.nextLong()) + hex(random.nextLong());
+        return new Span(traceId, hex(random.nextLong()), parent == null ? null : parent.spanId, name, kind);
+    }
+
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0".repeat(16 - digits.length()) + digits;
+    }
+
+    private final class Span implements TraceSpan {
+
+        private final String traceId;
+        private final String spanId;
+        private final String parentSpanId;
+        private final String name;
+        private final SpanKind kind;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private volatile Throwable exception;
+
+        Span(String traceId, String spanId, String parentSpanId, String name, SpanKind kind) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.name = name;
+            this.kind = kind;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, String value) {
+            if (value != null) {
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, long value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, boolean value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void recordException(Throwable exception) {
+            this.exception = exception;
+            attributes.put(TraceAttributes.ERROR_TYPE, exception.getClass().getName());
+        }
+
+        @Override
+        public TraceScope makeCurrent() {
+            Span previous = current.get();
+            current.set(this);
+            return () -> current.set(previous);
+        }
+
+        @Override
+        public void end() {
+            if (ended.compareAndSet(false, true)) {
+                finished.add(new RecordedSpan(traceId, spanId, parentSpanId, name, kind, Map.copyOf(attributes),
+                        exception, startNanos, System.nanoTime()));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * A span ended while recorded by an {@link InMemoryTracer}.
+ *
+ * @param traceId the trace identifier, 32 lowercase hexadecimal digits
+ * @param spanId the span identifier, 16 lowercase hexadecimal digits
+ * @param parentSpanId the identifier of the parent span, or {@code null} for a root span
+ * @param name the span name
+ * @param kind the span kind
+ * @param attributes the attributes
+ * @param exception the recorded exception, or {@code null}
+ * @param startNanos the {@link System#nanoTime()} at the start
+ * @param endNanos the {@link System#nanoTime()} at the end
+ */
+public record RecordedSpan(String traceId, String spanId, String parentSpanId, String name, SpanKind kind,
+                           Map<String, Object> attributes, Throwable exception, long startNanos, long endNanos) {
+
+    /**
+     * @return the time between the start and the end of the span
+     */
+    public Duration duration() {
+        return Duration.ofNanos(endNanos - startNanos);
+    }
+
+    /**
+     * Get an attribute.
+     *
+     * @param key the attribute key
+     * @return the value, a {@link String}, {@link Long} or {@link Boolean}, or {@code null}
+     */
+    public Object attribute(String key) {
+        return attributes.get(key);
+    }
+}
@@ -0,0 +1,29 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+/**
+ * The relation of a span to the work it measures.
+ */
+public enum SpanKind {
+
+    /**
+     * Work within the runtime, such as a workflow or a lifecycle method.
+     */
+    INTERNAL,
+
+    /**
+     * A request to a remote service, such as a large language model provider.
+     */
+    CLIENT
+}
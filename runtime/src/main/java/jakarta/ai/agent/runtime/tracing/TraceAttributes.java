@@ -0,0 +1,87 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+/**
+ * Keys of the attributes set on workflow spans.
+ * <p>
+ * The agent, phase and method keys are the attributes of the
+ * {@link jakarta.ai.agent.runtime.metrics.otel.OpenTelemetryMetricsExporter} metrics, so
+ * that traces and metrics can be joined. The keys of large language model calls follow
+ * the OpenTelemetry semantic conventions for generative AI.
+ */
+public final class TraceAttributes {
+
+    /**
+     * The name of the agent.
+     */
+    public static final String AGENT_NAME = "agent.name";
+
+    /**
+     * The kind of lifecycle method, the name of a {@link jakarta.ai.agent.runtime.metrics.Phase}.
+     */
+    public static final String PHASE = "agent.phase";
+
+    /**
+     * The name of the lifecycle method.
+     */
+    public static final String METHOD = "code.function";
+
+    /**
+     * The identifier of the workflow.
+     */
+    public static final String WORKFLOW_ID = "agent.workflow.id";
+
+    /**
+     * The class of the event that triggered the workflow.
+     */
+    public static final String TRIGGER_TYPE = "agent.trigger.type";
+
+    /**
+     * The final status of the workflow, the name of a {@link jakarta.ai.agent.WorkflowStatus}.
+     */
+    public static final String WORKFLOW_STATUS = "agent.workflow.status";
+
+    /**
+     * The operation requested from a large language model.
+     */
+    public static final String OPERATION = "gen_ai.operation.name";
+
+    /**
+     * The prompt tokens of a large language model call.
+     */
+    public static final String INPUT_TOKENS = "gen_ai.usage.input_tokens";
+
+    /**
+     * The completion tokens of a large language model call.
+     */
+    public static final String OUTPUT_TOKENS = "gen_ai.usage.output_tokens";
+
+    /**
+     * Whether a large language model call was answered from a cache.
+     */
+    public static final String CACHE_HIT = "agent.llm.cache_hit";
+
+    /**
+     * The number of provider requests of a large language model call sent again.
+     */
+    public static final String RETRIES = "agent.llm.retries";
+
+    /**
+     * The class of the exception that failed the operation of a span.
+     */
+    public static final String ERROR_TYPE = "error.type";
+
+    private TraceAttributes() {
+    }
+}
@@ -0,0 +1,30 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+/**
+ * The period during which a {@link TraceSpan} is the current span of a thread.
+ * Closing it restores the previous current span.
+ */
+@FunctionalInterface
+public interface TraceScope extends AutoCloseable {
+
+    /**
+     * Scope of a span that is not recorded.
+     */
+    TraceScope NOOP = () -> {
+    };
+
+    @Override
+    void close();
+}
@@ -0,0 +1,105 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+/**
+ * A span of a workflow trace, created by a {@link WorkflowTracer}.
+ * <p>
+ * A span is started by the tracer and must be ended exactly once with {@link #end()}.
+ * Spans started on a thread while this span is current, see {@link #makeCurrent()},
+ * are its children.
+ */
+public interface TraceSpan {
+
+    /**
+     * Span that records nothing, returned by {@link WorkflowTracer#NOOP}.
+     */
+    TraceSpan NOOP = new TraceSpan() {
+        @Override
+        public TraceSpan setAttribute(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, boolean value) {
+            return this;
+        }
+
+        @Override
+        public void recordException(Throwable exception) {
+        }
+
+        @Override
+        public TraceScope makeCurrent() {
+            return TraceScope.NOOP;
+        }
+
+        @Override
+        public void end() {
+        }
+    };
+
+    /**
+     * Set a string attribute.
+     *
+     * @param key the attribute key, see {@link TraceAttributes}
+     * @param value the value
+     * @return this span
+     */
+    TraceSpan setAttribute(String key, String value);
+
+    /**
+     * Set a numeric attribute.
+     *
+     * @param key the attribute key, see {@link TraceAttributes}
+     * @param value the value
+     * @return this span
+     */
+    TraceSpan setAttribute(String key, long value);
+
+    /**
+     * Set a boolean attribute.
+     *
+     * @param key the attribute key, see {@link TraceAttributes}
+     * @param value the value
+     * @return this span
+     */
+    TraceSpan setAttribute(String key, boolean value);
+
+    /**
+     * Record the exception that ended the operation of the span, and mark the span as
+     * failed.
+     *
+     * @param exception the exception
+     */
+    void recordException(Throwable exception);
+
+    /**
+     * Make this span the current span of the calling thread, until the returned scope is
+     * closed. A span may be made current on several threads, for example for phases of
+     * the workflow that run on other threads.
+     *
+     * @return the scope to close on the same thread
+     */
+    TraceScope makeCurrent();
+
+    /**
+     * End the span. Calls after the first are ignored.
+     */
+    void end();
+}
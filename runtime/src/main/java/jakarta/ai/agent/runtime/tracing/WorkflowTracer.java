@@ -0,0 +1,149 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Starts the spans of workflow traces.
+ * <p>
+ * A workflow is traced as one span started when its trigger fires, with a child span for
+ * every lifecycle method invocation and a {@link SpanKind#CLIENT client} span for every
+ * {@link jakarta.ai.agent.LargeLanguageModel} call made by a method. A span is the child
+ * of the span current on the starting thread, so a trigger observing an event fired
+ * inside a traced request joins the trace of the request.
+ * <p>
+ * Work run on other threads, such as asynchronous or concurrent phases, keeps the trace
+ * when it is submitted through {@link #wrap(Executor)}, or when the workflow span is
+ * made current on the other thread with {@link TraceSpan#makeCurrent()}.
+ * <p>
+ * {@link #NOOP} records nothing and allocates nothing; it is the tracer of runtimes
+ * without tracing. {@link InMemoryTracer} keeps the spans in memory, and the
+ * {@link jakarta.ai.agent.runtime.tracing.otel.OpenTelemetryWorkflowTracer} records them
+ * with OpenTelemetry.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * TraceSpan workflow = tracer.startWorkflow(agentName, workflowId, event.getClass());
+ * try (TraceScope ignored = workflow.makeCurrent()) {
+ *     TraceSpan decision = tracer.startPhase(agentName, workflowId, Phase.DECISION, "checkFraud");
+ *     try (TraceScope ignored2 = decision.makeCurrent()) {
+ *         proceed = (Boolean) checkFraud.invoke(agent, resolver);
+ *     } catch (Exception e) {
+ *         decision.recordException(e);
+ *         throw e;
+ *     } finally {
+ *         decision.end();
+ *     }
+ * }
+ * // ... later phases, possibly on other threads, then
+ * workflow.setAttribute(TraceAttributes.WORKFLOW_STATUS, status.name());
+ * workflow.end();
+ * }</pre>
+ */
+public interface WorkflowTracer {
+
+    /**
+     * Tracer that records nothing.
+     */
+    WorkflowTracer NOOP = new WorkflowTracer() {
+        @Override
+        public TraceSpan startWorkflow(String agentName, String workflowId, Class<?> triggerType) {
+            return TraceSpan.NOOP;
+        }
+
+        @Override
+        public TraceSpan startPhase(String agentName, String workflowId, Phase phase, String methodName) {
+            return TraceSpan.NOOP;
+        }
+
+        @Override
+        public TraceSpan startLlmCall(String agentName, Phase phase) {
+            return TraceSpan.NOOP;
+        }
+
+        @Override
+        public Runnable wrap(Runnable task) {
+            return task;
+        }
+
+        @Override
+        public <T> Callable<T> wrap(Callable<T> task) {
+            return task;
+        }
+
+        @Override
+        public Executor wrap(Executor executor) {
+            return executor;
+        }
+    };
+
+    /**
+     * Start the span of a workflow, when its trigger fires.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier
+     * @param triggerType the class of the trigger event
+     * @return the started span
+     */
+    TraceSpan startWorkflow(String agentName, String workflowId, Class<?> triggerType);
+
+    /**
+     * Start the span of a lifecycle method invocation, as a child of the current span.
+     *
+     * @param agentName the agent name
+     * @param workflowId the workflow identifier
+     * @param phase the kind of lifecycle method
+     * @param methodName the method name
+     * @return the started span
+     */
+    TraceSpan startPhase(String agentName, String workflowId, Phase phase, String methodName);
+
+    /**
+     * Start the client span of a large language model call, as a child of the current span.
+     *
+     * @param agentName the agent making the call, empty if unknown
+     * @param phase the phase making the call, or {@code null} if unknown
+     * @return the started span
+     */
+    TraceSpan startLlmCall(String agentName, Phase phase);
+
+    /**
+     * Wrap a task so that it runs with the current span of the calling thread.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    Runnable wrap(Runnable task);
+
+    /**
+     * Wrap a task so that it runs with the current span of the calling thread.
+     *
+     * @param task the task
+     * @param <T> the result type
+     * @return the wrapped task
+     */
+    <T> Callable<T> wrap(Callable<T> task);
+
+    /**
+     * Wrap an executor so that every task runs with the span current when it was
+     * submitted.
+     *
+     * @param executor the executor
+     * @return the wrapped executor
+     */
+    Executor wrap(Executor executor);
+}
@@ -0,0 +1,159 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing.otel;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.tracing.TraceAttributes;
+import jakarta.ai.agent.runtime.tracing.TraceScope;
+import jakarta.ai.agent.runtime.tracing.TraceSpan;
+import jakarta.ai.agent.runtime.tracing.WorkflowTracer;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link WorkflowTracer} that records spans with an OpenTelemetry {@link Tracer}.
+ * <p>
+ * Spans are children of the current OpenTelemetry {@link Context}, so workflows join the
+ * traces of the requests that fired their trigger, and spans of instrumented provider
+ * clients called by a large language model are children of its client span. The names
+ * and attributes are those of the {@link jakarta.ai.agent.runtime.tracing.InMemoryTracer}.
+ * <p>
+ * Tests verify the spans with the in-memory exporter of the OpenTelemetry SDK, without
+ * a collector:
+ * <pre>{@code
+ * InMemorySpanExporter exporter = InMemorySpanExporter.create();
+ * SdkTracerProvider provider = SdkTracerProvider.builder()
+ *         .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+ *         .build();
+ * WorkflowTracer tracer = new OpenTelemetryWorkflowTracer(provider.get("jakarta.ai.agent"));
+ * }</pre>
+ * <p>
+ * This class requires {@code io.opentelemetry:opentelemetry-api} on the class path.
+ */
+public final class OpenTelemetryWorkflowTracer implements WorkflowTracer {
+
+    private final Tracer tracer;
+
+    /**
+     * Create a tracer.
+     *
+     * @param tracer the OpenTelemetry tracer
+     */
+    public OpenTelemetryWorkflowTracer(Tracer tracer) {
+        this.tracer = Objects.requireNonNull(tracer, "tracer");
+    }
+
+    @Override
+    public TraceSpan startWorkflow(String agentName, String workflowId, Class<?> triggerType) {
+        return start(tracer.spanBuilder("invoke_agent " + agentName)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute(TraceAttributes.AGENT_NAME, agentName)
+                .setAttribute(TraceAttributes.WORKFLOW_ID, workflowId)
+                .setAttribute(TraceAttributes.TRIGGER_TYPE, triggerType.getName()));
+    }
+
+    @Override
+    public TraceSpan startPhase(String agentName, String workflowId, Phase phase, String methodName) {
+        return start(tracer.spanBuilder(phase.name().toLowerCase(Locale.ROOT) + ' ' + methodName)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute(TraceAttributes.AGENT_NAME, agentName)
+                .setAttribute(TraceAttributes.WORKFLOW_ID, workflowId)
+                .setAttribute(TraceAttributes.PHASE, phase.name())
+                .setAttribute(TraceAttributes.METHOD, methodName));
+    }
+
+    @Override
+    public TraceSpan startLlmCall(String agentName, Phase phase) {
+        SpanBuilder builder = tracer.spanBuilder("chat")
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(TraceAttributes.OPERATION, "chat")
+                .setAttribute(TraceAttributes.AGENT_NAME, agentName);
+        if (phase != null) {
+            builder.setAttribute(TraceAttributes.PHASE, phase.name());
+        }
+        return start(builder);
+    }
+
+    @Override
+    public Runnable wrap(Runnable task) {
+        return Context.current().wrap(task);
+    }
+
+    @Override
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return Context.current().wrap(task);
+    }
+
+    @Override
+    public Executor wrap(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return task -> executor.execute(Context.current().wrap(task));
+    }
+
+    private static TraceSpan start(SpanBuilder builder) {
+        return new OpenTelemetrySpan(builder.startSpan());
+    }
+
+    private static final class OpenTelemetrySpan implements TraceSpan {
+
+        private final Span span;
+
+        OpenTelemetrySpan(Span span) {
+            this.span = span;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, String value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, long value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, boolean value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public void recordException(Throwable exception) {
+            span.recordException(exception);
+            span.setAttribute(TraceAttributes.ERROR_TYPE, exception.getClass().getName());
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        @Override
+        public TraceScope makeCurrent() {
+            return span.makeCurrent()::close;
+        }
+
+        @Override
+        public void end() {
+            span.end();
+        }
+    }
+}
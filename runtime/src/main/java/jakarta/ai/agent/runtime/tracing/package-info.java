@@ -0,0 +1,26 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+
+/**
+ * Tracing of workflows, their lifecycle methods and their large language model calls.
+ * <p>
+ * A {@link jakarta.ai.agent.runtime.tracing.WorkflowTracer} starts a
+ * {@link jakarta.ai.agent.runtime.tracing.TraceSpan} per workflow, per lifecycle method
+ * invocation and per model call, and propagates the current span to work run on other
+ * threads. {@link jakarta.ai.agent.runtime.tracing.WorkflowTracer#NOOP} records nothing,
+ * {@link jakarta.ai.agent.runtime.tracing.InMemoryTracer} keeps the spans for tests, and
+ * {@link jakarta.ai.agent.runtime.tracing.otel.OpenTelemetryWorkflowTracer} records them
+ * with OpenTelemetry. Model calls are traced by
+ * {@link jakarta.ai.agent.runtime.llm.InstrumentedLargeLanguageModel}.
+ */
+package jakarta.ai.agent.runtime.tracing;
@@ -0,0 +1,74 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-element outcome invocation by {@link BatchFanOut}.
+ */
+public class BatchFanOutTest {
+
+    @Test
+    public void pairsElementsWithListEntries() throws Exception {
+        List<String> invocations = new ArrayList<>();
+        BatchFanOut.fanOut(List.of("a", "b"), List.of(1, 2), true,
+                (element, result) -> invocations.add(element + result));
+        assertEquals(List.of("a1", "b2"), invocations);
+
+        invocations.clear();
+        BatchFanOut.fanOut(List.of("a", "b"), "shared", false,
+                (element, result) -> invocations.add(element + result));
+        assertEquals(List.of("ashared", "bshared"), invocations, "A single result must go to every element");
+    }
+
+    @Test
+    public void pairingIsDeclaredNotInferred() throws Exception {
+        List<Object> results = new ArrayList<>();
+        BatchFanOut.fanOut(List.of("a", "b"), List.of(1, 2), false, (element, result) -> results.add(result));
+        assertEquals(List.of(List.of(1, 2), List.of(1, 2)), results,
+                "An unpaired list result must go whole to every element, whatever its size");
+
+        List<String> invocations = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> BatchFanOut.fanOut(List.of("a", "b"), List.of(1), true,
+                (element, result) -> invocations.add(element)));
+        assertThrows(IllegalStateException.class, () -> BatchFanOut.fanOut(List.of("a", "b"), "shared", true,
+                (element, result) -> invocations.add(element)));
+        assertTrue(invocations.isEmpty(), "Paired results of the wrong shape must fail before any outcome");
+    }
+
+    @Test
+    public void failingElementDoesNotStopOthers() {
+        List<String> invocations = new ArrayList<>();
+        IllegalStateException first = new IllegalStateException("a failed");
+        IllegalStateException second = new IllegalStateException("c failed");
+        Exception failure = assertThrows(Exception.class, () -> BatchFanOut.fanOut(List.of("a", "b", "c"), null, false,
+                (element, result) -> {
+                    invocations.add(element);
+                    if (element.equals("a")) {
+                        throw first;
+                    }
+                    if (element.equals("c")) {
+                        throw second;
+                    }
+                }));
+        assertEquals(List.of("a", "b", "c"), invocations, "Every element must be processed");
+        assertSame(first, failure, "The first failure must be thrown");
+        assertSame(second, failure.getSuppressed()[0], "Later failures must be suppressed");
+    }
+}
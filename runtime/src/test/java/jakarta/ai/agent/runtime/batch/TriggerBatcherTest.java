@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the size, linger and close flushes of a {@link TriggerBatcher}.
+ */
+public class TriggerBatcherTest {
+
+    @Test
+    public void launchesFullBatchesAndLingeringRemainder() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            LinkedBlockingQueue<List<String>> launched = new LinkedBlockingQueue<>();
+            TriggerBatcher<String> batcher = new TriggerBatcher<>(2, Duration.ofMillis(20), scheduler, launched::add);
+
+            batcher.add("a");
+            batcher.add("b");
+            assertEquals(List.of("a", "b"), launched.poll(), "A full batch must launch on the adding thread");
+            batcher.add("c");
+            assertEquals(List.of("c"), launched.poll(5, TimeUnit.SECONDS), "A lingering batch must launch");
+            assertEquals(2, batcher.getBatchCount());
+            assertEquals(3, batcher.getElementCount());
+            assertEquals(1, batcher.getLingerFlushCount());
+            assertEquals(1.5, batcher.getMeanBatchSize());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void closeLaunchesPendingBatchAndRejectsEvents() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            LinkedBlockingQueue<List<String>> launched = new LinkedBlockingQueue<>();
+            TriggerBatcher<String> batcher = new TriggerBatcher<>(10, Duration.ofHours(1), scheduler, launched::add);
+
+            batcher.add("a");
+            batcher.close();
+            assertEquals(List.of("a"), launched.poll(), "close() must launch the pending batch");
+            assertThrows(IllegalStateException.class, () -> batcher.add("b"));
+            assertEquals(0, batcher.getLingerFlushCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.cancel;
+
+import jakarta.ai.agent.CancellationToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for aborting streamed responses with {@link CancellableCalls}.
+ */
+public class CancellableCallsTest {
+
+    @Test
+    public void cancellationClosesTheStream() {
+        DefaultCancellationToken token = new DefaultCancellationToken();
+        AtomicInteger closes = new AtomicInteger();
+        CancellableCalls.abortOnCancel(token, closes::incrementAndGet);
+        assertTrue(token.cancel());
+        assertEquals(1, closes.get(), "Cancelling the workflow must close the stream");
+
+        DefaultCancellationToken consumed = new DefaultCancellationToken();
+        AtomicInteger late = new AtomicInteger();
+        CancellationToken.Registration registration = CancellableCalls.abortOnCancel(consumed, late::incrementAndGet);
+        registration.close();
+        assertTrue(consumed.cancel());
+        assertEquals(0, late.get(), "A consumed stream must not be closed");
+    }
+
+    @Test
+    public void closeFailureDoesNotEscapeTheAction() {
+        IOException failure = new IOException("connection reset");
+        List<Throwable> reported = new ArrayList<>();
+        AtomicBoolean ran = new AtomicBoolean();
+        CancellationToken token = new CancellationToken() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public Optional<Instant> getDeadline() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Registration onCancel(Runnable action) {
+                Thread thread = Thread.currentThread();
+                Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+                thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+                try {
+                    action.run();
+                    ran.set(true);
+                } finally {
+                    thread.setUncaughtExceptionHandler(handler);
+                }
+                return () -> {
+                };
+            }
+        };
+        CancellableCalls.abortOnCancel(token, () -> {
+            throw failure;
+        });
+        assertTrue(ran.get(), "The abort action must not throw");
+        assertEquals(1, reported.size(), "The close failure must be reported");
+        assertSame(failure, reported.get(0).getCause());
+    }
+
+    @Test
+    public void cancellationCancelsTheSubscription() {
+        DefaultCancellationToken token = new DefaultCancellationToken();
+        AtomicInteger cancels = new AtomicInteger();
+        CancellableCalls.abortOnCancel(token, new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancels.incrementAndGet();
+            }
+        });
+        assertTrue(token.cancel());
+        assertEquals(1, cancels.get(), "Cancelling the workflow must cancel the subscription");
+    }
+}
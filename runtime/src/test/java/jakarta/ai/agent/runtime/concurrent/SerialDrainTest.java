@@ -0,0 +1,55 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the runs of a {@link SerialDrain}.
+ */
+public class SerialDrainTest {
+
+    @Test
+    public void requestsDuringARunAreServedByTheRunningThread() {
+        AtomicInteger runs = new AtomicInteger();
+        SerialDrain[] drain = new SerialDrain[1];
+        drain[0] = new SerialDrain(() -> {
+            if (runs.incrementAndGet() == 1) {
+                drain[0].request();
+                drain[0].request();
+                assertEquals(1, runs.get(), "A nested request must not run the action");
+            }
+        });
+        drain[0].request();
+        assertEquals(2, runs.get(), "Requests during a run must be served by one more run");
+    }
+
+    @Test
+    public void failingActionReleasesTheDrain() {
+        AtomicInteger runs = new AtomicInteger();
+        SerialDrain[] drain = new SerialDrain[1];
+        drain[0] = new SerialDrain(() -> {
+            if (runs.incrementAndGet() == 1) {
+                drain[0].request();
+                throw new IllegalStateException("failed");
+            }
+        });
+        assertThrows(IllegalStateException.class, drain[0]::request);
+        drain[0].request();
+        assertEquals(2, runs.get(), "A request after a failed run must run the action");
+    }
+}
@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.decision;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.ConcurrentDecisions;
+import jakarta.ai.agent.Result;
+import jakarta.ai.agent.runtime.cancel.DefaultCancellationToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the combination and cancellation of concurrent decisions by a {@link DecisionCombiner}.
+ */
+public class DecisionCombinerTest {
+
+    @Test
+    public void weightedVoteToleratesRoundedWeights() {
+        ManualExecutor executor = new ManualExecutor();
+        DecisionCombiner combiner = new DecisionCombiner(ConcurrentDecisions.Combinator.WEIGHTED_VOTE, 1.0, executor);
+        CompletableFuture<Result> result = combiner.evaluate(List.of(
+                new DecisionCombiner.Candidate("low", 0.1, token -> true),
+                new DecisionCombiner.Candidate("medium", 0.2, token -> true),
+                new DecisionCombiner.Candidate("high", 0.3, token -> true)), CancellationToken.none())
+                .toCompletableFuture();
+
+        executor.run(2, 1, 0);
+        assertTrue(result.join().success(), "All weights passing must pass a threshold of 1.0");
+        assertEquals(Arrays.asList(true, true, true), result.join().details());
+    }
+
+    @Test
+    public void knownOutcomeCancelsTheOtherDecisions() {
+        ManualExecutor executor = new ManualExecutor();
+        DecisionCombiner combiner = new DecisionCombiner(ConcurrentDecisions.Combinator.ANY, 1.0, executor);
+        List<CancellationToken> tokens = new ArrayList<>();
+        CompletableFuture<Result> result = combiner.evaluate(List.of(
+                new DecisionCombiner.Candidate("fast", 1, token -> true),
+                new DecisionCombiner.Candidate("slow", 1, token -> {
+                    tokens.add(token);
+                    return false;
+                })), CancellationToken.none()).toCompletableFuture();
+
+        executor.run(0);
+        assertTrue(result.join().success(), "ANY must pass as soon as one decision passes");
+        assertEquals(Arrays.asList(true, null), result.join().details(), "Unfinished decisions must be null");
+        executor.run(1);
+        assertTrue(tokens.get(0).isCancelled(), "The remaining decision must see its token cancelled");
+        assertEquals(Arrays.asList(true, null), result.join().details(), "A late result must be ignored");
+    }
+
+    @Test
+    public void workflowCancellationCancelsTheDecisions() {
+        ManualExecutor executor = new ManualExecutor();
+        DecisionCombiner combiner = new DecisionCombiner(ConcurrentDecisions.Combinator.ALL, 1.0, executor);
+        DefaultCancellationToken workflow = new DefaultCancellationToken();
+        List<CancellationToken> tokens = new ArrayList<>();
+        CompletableFuture<Result> result = combiner.evaluate(List.of(
+                new DecisionCombiner.Candidate("check", 1, token -> {
+                    tokens.add(token);
+                    token.throwIfCancelled();
+                    return true;
+                })), workflow).toCompletableFuture();
+
+        workflow.cancel();
+        executor.run(0);
+        assertTrue(tokens.get(0).isCancelled(), "Cancelling the workflow must cancel its decisions");
+        assertThrows(CompletionException.class, result::join);
+    }
+
+    @Test
+    public void firstFailureFailsTheEvaluation() {
+        ManualExecutor executor = new ManualExecutor();
+        DecisionCombiner combiner = new DecisionCombiner(ConcurrentDecisions.Combinator.ALL, 1.0, executor);
+        IllegalStateException failure = new IllegalStateException("decision failed");
+        List<CancellationToken> tokens = new ArrayList<>();
+        CompletableFuture<Result> result = combiner.evaluate(List.of(
+                new DecisionCombiner.Candidate("failing", 1, token -> {
+                    throw failure;
+                }),
+                new DecisionCombiner.Candidate("other", 1, token -> {
+                    tokens.add(token);
+                    return true;
+                })), CancellationToken.none()).toCompletableFuture();
+
+        executor.run(0, 1);
+        assertSame(failure, assertThrows(CompletionException.class, result::join).getCause(),
+                "The exception of the decision must fail the evaluation");
+        assertTrue(tokens.get(0).isCancelled(), "A failure must cancel the remaining decisions");
+    }
+
+    /**
+     * Runs the submitted tasks only when asked, in the requested order.
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void run(int... indexes) {
+            for (int index : indexes) {
+                tasks.get(index).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.decision;
+
+import jakarta.ai.agent.Result;
+import jakarta.ai.agent.WorkflowStatus;
+import jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+import jakarta.ai.agent.runtime.metrics.WorkflowMetrics;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeContext;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeStore;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the termination of workflows at the decision phase by a {@link DecisionGate}.
+ */
+public class DecisionGateTest {
+
+    @Test
+    public void decisionValuesThatProceed() {
+        assertTrue(DecisionGate.proceeds(true));
+        assertFalse(DecisionGate.proceeds(false));
+        assertTrue(DecisionGate.proceeds(new Result(true, "fine")));
+        assertFalse(DecisionGate.proceeds(new Result(false, "suspicious")));
+        assertFalse(DecisionGate.proceeds(null), "A null decision must stop the workflow");
+        assertTrue(DecisionGate.proceeds("analysis"), "Any other value must let the workflow proceed");
+    }
+
+    @Test
+    public void proceedingLeavesScopeAndHandleAlone() {
+        DecisionGate gate = new DecisionGate();
+        WorkflowScopeStore scope = new WorkflowScopeContext().newStore("workflow-1");
+        DefaultWorkflowHandle<Object> handle = running("workflow-1");
+
+        assertTrue(gate.proceed(Boolean.TRUE, scope, handle));
+        assertFalse(scope.isDestroyed(), "A proceeding workflow must keep its scope");
+        assertEquals(WorkflowStatus.RUNNING, handle.getStatus());
+    }
+
+    @Test
+    public void terminationDestroysTheScopeBeforeEndingTheHandle() {
+        DecisionGate gate = new DecisionGate();
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        WorkflowScopeStore scope = context.newStore("workflow-1");
+        DefaultWorkflowHandle<Object> handle = running("workflow-1");
+        List<WorkflowStatus> statusAtDestroy = new ArrayList<>();
+        Contextual<String> bean = new Contextual<>() {
+            @Override
+            public String create(CreationalContext<String> creationalContext) {
+                return "instance";
+            }
+
+            @Override
+            public void destroy(String instance, CreationalContext<String> creationalContext) {
+                statusAtDestroy.add(handle.getStatus());
+            }
+        };
+        WorkflowScopeStore previous = context.activate(scope);
+        try {
+            context.get(bean, new NoOpCreationalContext<>());
+        } finally {
+            context.restore(previous);
+        }
+
+        Result decision = new Result(false, "suspicious");
+        assertFalse(gate.proceed(decision, scope, handle));
+        assertTrue(scope.isDestroyed());
+        assertEquals(List.of(WorkflowStatus.RUNNING), statusAtDestroy,
+                "The scope must be destroyed before the handle ends");
+        assertEquals(WorkflowStatus.TERMINATED, handle.getStatus());
+        assertSame(decision, handle.getResult().toCompletableFuture().join(),
+                "The handle must end with the decision value");
+    }
+
+    @Test
+    public void handleIsTerminatedWhenDestroyFails() {
+        DecisionGate gate = new DecisionGate();
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        WorkflowScopeStore scope = context.newStore("workflow-1");
+        DefaultWorkflowHandle<Object> handle = running("workflow-1");
+        IllegalStateException failure = new IllegalStateException("@PreDestroy failed");
+        Contextual<String> bean = new Contextual<>() {
+            @Override
+            public String create(CreationalContext<String> creationalContext) {
+                return "instance";
+            }
+
+            @Override
+            public void destroy(String instance, CreationalContext<String> creationalContext) {
+                throw failure;
+            }
+        };
+        WorkflowScopeStore previous = context.activate(scope);
+        try {
+            context.get(bean, new NoOpCreationalContext<>());
+        } finally {
+            context.restore(previous);
+        }
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> gate.proceed(false, scope, handle)));
+        assertEquals(WorkflowStatus.TERMINATED, handle.getStatus(),
+                "A failing destroy must not leave the handle running");
+        assertEquals(Boolean.FALSE, handle.getResult().toCompletableFuture().join());
+    }
+
+    @Test
+    public void statisticsCountProceededAndTerminatedWorkflows() {
+        DecisionGate gate = new DecisionGate();
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        gate.proceed(true, context.newStore("workflow-1"), null);
+        gate.proceed("analysis", context.newStore("workflow-2"), null);
+        gate.proceed(null, context.newStore("workflow-3"), null);
+        gate.proceed(new Result(false, null), context.newStore("workflow-4"), running("workflow-4"));
+
+        DecisionStatistics statistics = gate.getStatistics();
+        assertEquals(2, statistics.getProceededCount());
+        assertEquals(2, statistics.getTerminatedAtDecisionCount());
+        assertEquals(0.5, statistics.getTerminationRatio(), 1e-9);
+        assertFalse(statistics.getMaxTeardownTime().isNegative());
+    }
+
+    @Test
+    public void terminationIsCountedInTheDecisionMetrics() {
+        DecisionGate gate = new DecisionGate();
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        WorkflowMetrics workflowMetrics = new WorkflowMetrics();
+        PhaseMetrics metrics = workflowMetrics.phase("agent", Phase.DECISION, "isSuspicious");
+
+        assertTrue(gate.proceed(true, context.newStore("workflow-1"), null, metrics));
+        assertEquals(0, metrics.getTerminationCount(), "A proceeding workflow must not count as terminated");
+        assertFalse(gate.proceed(false, context.newStore("workflow-2"), running("workflow-2"), metrics));
+        assertFalse(gate.proceed(null, context.newStore("workflow-3"), null, metrics));
+        assertEquals(2, metrics.getTerminationCount());
+        assertEquals(2, metrics.snapshot().terminations(), "The snapshot must report the terminations");
+    }
+
+    private static DefaultWorkflowHandle<Object> running(String workflowId) {
+        DefaultWorkflowHandle<Object> handle = new DefaultWorkflowHandle<>(workflowId, "agent");
+        assertTrue(handle.markRunning());
+        return handle;
+    }
+
+    private static final class NoOpCreationalContext<T> implements CreationalContext<T> {
+
+        @Override
+        public void push(T incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
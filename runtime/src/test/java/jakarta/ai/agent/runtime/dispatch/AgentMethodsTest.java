@@ -0,0 +1,75 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+import jakarta.ai.agent.Action;
+import jakarta.ai.agent.Decision;
+import jakarta.ai.agent.Outcome;
+import jakarta.ai.agent.Trigger;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the discovery of lifecycle methods by {@link AgentMethods}.
+ */
+public class AgentMethodsTest {
+
+    @Test
+    public void discoversMethodsOfTheHierarchySuperclassFirst() {
+        AgentMethods methods = AgentMethods.of(Child.class);
+        assertSame(Child.class, methods.getAgentClass());
+        assertEquals(List.of("start"), names(methods.getTriggers()));
+        assertEquals(List.of("check"), names(methods.getDecisions()));
+        assertEquals(List.of("inherited", "act"), names(methods.getActions()),
+                "Superclass methods must come before subclass methods");
+        assertEquals(List.of("finish"), names(methods.getOutcomes()));
+        assertTrue(methods.getExceptionHandlers().getHandlers().isEmpty());
+    }
+
+    private static List<String> names(List<PhaseMethod> methods) {
+        return methods.stream().map(method -> method.getMethod().getName()).toList();
+    }
+
+    static class Parent {
+
+        @Action
+        void inherited() {
+        }
+    }
+
+    static class Child extends Parent {
+
+        @Trigger
+        void start(String event) {
+        }
+
+        @Decision
+        boolean check() {
+            return true;
+        }
+
+        @Action
+        void act() {
+        }
+
+        @Outcome
+        void finish() {
+        }
+
+        void helper() {
+        }
+    }
+}
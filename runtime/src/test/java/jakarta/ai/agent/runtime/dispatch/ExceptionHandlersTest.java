@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+import jakarta.ai.agent.HandleException;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the selection of {@link HandleException @HandleException} methods by {@link ExceptionHandlers}.
+ */
+public class ExceptionHandlersTest {
+
+    @Test
+    public void mostSpecificHandlerIsSelected() {
+        ExceptionHandlers handlers = AgentMethods.of(Agent.class).getExceptionHandlers();
+        assertEquals("onIo", selected(handlers, new IOException()), "The IOException handler must win over Exception");
+        assertEquals("onIo", selected(handlers, new FileNotFoundException()),
+                "A subclass must go to the handler of its closest supertype");
+        assertEquals("onRuntime", selected(handlers, new UncheckedIOException(new IOException())),
+                "A runtime exception must go to the RuntimeException handler");
+        assertEquals("onAny", selected(handlers, new Exception()));
+        assertTrue(handlers.select(new AssertionError()).isEmpty(), "An Error without handler must propagate");
+    }
+
+    @Test
+    public void firstDeclaredHandlerWinsATie() throws Exception {
+        PhaseMethod first = PhaseMethod.of(Tied.class.getDeclaredMethod("first", IOException.class));
+        PhaseMethod second = PhaseMethod.of(Tied.class.getDeclaredMethod("second", IOException.class));
+        assertSame(first, new ExceptionHandlers(List.of(first, second)).select(new IOException()).orElseThrow());
+        assertSame(second, new ExceptionHandlers(List.of(second, first)).select(new IOException()).orElseThrow(),
+                "Among handlers of the same type, the first in the list must win");
+    }
+
+    @Test
+    public void selectionsAreCachedPerInstance() throws Exception {
+        PhaseMethod io = PhaseMethod.of(Tied.class.getDeclaredMethod("first", IOException.class));
+        PhaseMethod any = PhaseMethod.of(Tied.class.getDeclaredMethod("any", Exception.class));
+        ExceptionHandlers specific = new ExceptionHandlers(List.of(any, io));
+        ExceptionHandlers general = new ExceptionHandlers(List.of(any));
+
+        Optional<PhaseMethod> selected = specific.select(new IOException());
+        assertSame(selected, specific.select(new IOException()), "A repeated selection must come from the cache");
+        assertSame(io, selected.orElseThrow());
+        assertSame(any, general.select(new IOException()).orElseThrow(),
+                "The selection of one instance must not leak into another");
+        assertTrue(new ExceptionHandlers(List.of()).select(new IOException()).isEmpty());
+    }
+
+    @Test
+    public void handlerWithoutExceptionParameterIsRejected() throws Exception {
+        PhaseMethod none = PhaseMethod.of(Tied.class.getDeclaredMethod("none", String.class));
+        assertThrows(IllegalArgumentException.class, () -> new ExceptionHandlers(List.of(none)));
+    }
+
+    private static String selected(ExceptionHandlers handlers, Throwable exception) {
+        Method method = handlers.select(exception).orElseThrow().getMethod();
+        return method.getName();
+    }
+
+    static class Agent {
+
+        @HandleException
+        void onAny(Exception e) {
+        }
+
+        @HandleException
+        void onIo(String event, IOException e) {
+        }
+
+        @HandleException
+        void onRuntime(RuntimeException e) {
+        }
+    }
+
+    static class Tied {
+
+        void first(IOException e) {
+        }
+
+        void second(IOException e) {
+        }
+
+        void any(Exception e) {
+        }
+
+        void none(String event) {
+        }
+    }
+}
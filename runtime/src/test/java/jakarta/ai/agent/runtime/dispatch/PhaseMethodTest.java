@@ -0,0 +1,111 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.dispatch;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+import jakarta.ai.agent.runtime.metrics.WorkflowMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the invocation of lifecycle methods by a {@link PhaseMethod}.
+ */
+public class PhaseMethodTest {
+
+    @Test
+    public void argumentsAreResolvedByParameterType() throws Exception {
+        PhaseMethod method = PhaseMethod.of(Agent.class.getDeclaredMethod("describe", String.class, Integer.class,
+                long.class));
+        List<Class<?>> requested = new ArrayList<>();
+        Object result = method.invoke(new Agent(), type -> {
+            requested.add(type);
+            if (type == String.class) {
+                return "event";
+            }
+            if (type == Integer.class) {
+                return Integer.valueOf(7);
+            }
+            return Long.valueOf(3);
+        });
+        assertEquals("event/7/3", result);
+        assertEquals(List.of(String.class, Integer.class, long.class), requested,
+                "Each parameter must be resolved once, in declaration order");
+    }
+
+    @Test
+    public void privateStaticAndVoidMethodsAreInvoked() throws Exception {
+        PhaseMethod twice = PhaseMethod.of(Agent.class.getDeclaredMethod("twice", int.class));
+        assertEquals(42, twice.invoke(null, type -> 21), "A private static method must be invoked");
+
+        Agent agent = new Agent();
+        PhaseMethod record = PhaseMethod.of(Agent.class.getDeclaredMethod("record", String.class));
+        assertNull(record.invoke(agent, type -> "seen"), "A void method must return null");
+        assertEquals("seen", agent.recorded);
+    }
+
+    @Test
+    public void exceptionsAreThrownUnwrapped() throws Exception {
+        PhaseMethod checked = PhaseMethod.of(Agent.class.getDeclaredMethod("failChecked"));
+        IOException io = assertThrows(IOException.class, () -> checked.invoke(new Agent(), type -> null),
+                "A checked exception must not be wrapped");
+        assertEquals("checked", io.getMessage());
+
+        PhaseMethod unchecked = PhaseMethod.of(Agent.class.getDeclaredMethod("failUnchecked"));
+        IllegalStateException state = assertThrows(IllegalStateException.class,
+                () -> unchecked.invoke(new Agent(), type -> null), "A runtime exception must not be wrapped");
+        assertEquals("unchecked", state.getMessage());
+    }
+
+    @Test
+    public void metricsRecordInvocationsAndExceptions() throws Exception {
+        PhaseMetrics metrics = new WorkflowMetrics().phase("agent", Phase.ACTION, "failChecked");
+        PhaseMethod record = PhaseMethod.of(Agent.class.getDeclaredMethod("record", String.class));
+        PhaseMethod failing = PhaseMethod.of(Agent.class.getDeclaredMethod("failChecked"));
+
+        record.invoke(new Agent(), type -> "seen", metrics);
+        assertThrows(IOException.class, () -> failing.invoke(new Agent(), type -> null, metrics, "workflow-1"));
+        assertEquals(2, metrics.getLatency().snapshot().getCount(), "Every invocation must be timed");
+        assertEquals(1, metrics.getExceptionCount(), "The exception must be counted");
+    }
+
+    static class Agent {
+
+        String recorded;
+
+        String describe(String event, Integer count, long limit) {
+            return event + '/' + count + '/' + limit;
+        }
+
+        private static int twice(int value) {
+            return value * 2;
+        }
+
+        private void record(String value) {
+            recorded = value;
+        }
+
+        void failChecked() throws IOException {
+            throw new IOException("checked");
+        }
+
+        void failUnchecked() {
+            throw new IllegalStateException("unchecked");
+        }
+    }
+}
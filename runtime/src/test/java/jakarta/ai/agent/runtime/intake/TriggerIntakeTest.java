@@ -0,0 +1,120 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.intake;
+
+import jakarta.ai.agent.Intake;
+import jakarta.ai.agent.TriggerRejected;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the queueing, in-flight limit and overflow policies of a {@link TriggerIntake}.
+ */
+public class TriggerIntakeTest {
+
+    @Test
+    public void startsQueuedEventsInOrderAsPermitsReturn() {
+        Launcher launcher = new Launcher();
+        List<TriggerRejected> rejected = new ArrayList<>();
+        TriggerIntake intake = new TriggerIntake("agent", 2, 1, Intake.Overflow.REJECT,
+                launcher::launch, rejected::add, null);
+
+        assertTrue(intake.submit("a"));
+        assertTrue(intake.submit("b"));
+        assertTrue(intake.submit("c"));
+        assertFalse(intake.submit("d"), "An event beyond the capacity must be rejected");
+        assertEquals(List.of("a"), launcher.started, "Only maxInFlight workflows may run");
+        assertEquals(1, intake.getInFlight());
+        assertEquals(2, intake.getQueueDepth());
+        assertEquals(1, rejected.size());
+        assertEquals("d", rejected.get(0).event());
+
+        launcher.complete("a");
+        assertEquals(List.of("a", "b"), launcher.started, "A returned permit must start the next event");
+        launcher.fail("b");
+        assertEquals(List.of("a", "b", "c"), launcher.started, "A failed workflow must return its permit");
+        launcher.complete("c");
+        assertEquals(0, intake.getInFlight());
+        assertEquals(0, intake.getQueueDepth());
+        assertEquals(3, intake.getStatistics().getStartedCount());
+        assertEquals(1, intake.getStatistics().getRejectedCount());
+    }
+
+    @Test
+    public void overflowPoliciesDiscardOrDeadLetter() {
+        Launcher launcher = new Launcher();
+        List<TriggerRejected> rejected = new ArrayList<>();
+        TriggerIntake dropOldest = new TriggerIntake("agent", 1, 1, Intake.Overflow.DROP_OLDEST,
+                launcher::launch, rejected::add, null);
+        dropOldest.submit("running");
+        dropOldest.submit("old");
+        assertTrue(dropOldest.submit("new"), "DROP_OLDEST must always queue the new event");
+        assertEquals(1, rejected.size());
+        assertEquals("old", rejected.get(0).event(), "DROP_OLDEST must discard the oldest queued event");
+        launcher.complete("running");
+        assertEquals(List.of("running", "new"), launcher.started);
+
+        Map<String, List<Object>> deadLetters = new ConcurrentHashMap<>();
+        TriggerIntake deadLetter = new TriggerIntake("agent", 1, 1, Intake.Overflow.DEAD_LETTER,
+                new Launcher()::launch, rejected::add,
+                (agent, event) -> deadLetters.computeIfAbsent(agent, a -> new ArrayList<>()).add(event));
+        deadLetter.submit("running");
+        deadLetter.submit("queued");
+        assertFalse(deadLetter.submit("overflow"));
+        assertEquals(Map.of("agent", List.of("overflow")), deadLetters);
+        assertEquals(1, rejected.size(), "A dead-lettered event must not be reported as rejected");
+        assertEquals(1, deadLetter.getStatistics().getDeadLetteredCount());
+    }
+
+    @Test
+    public void nullCompletionReturnsThePermit() {
+        List<Object> started = new ArrayList<>();
+        TriggerIntake intake = new TriggerIntake("agent", 2, 1, Intake.Overflow.REJECT, event -> {
+            started.add(event);
+            return null;
+        }, rejected -> { }, null);
+
+        assertTrue(intake.submit("a"));
+        assertTrue(intake.submit("b"));
+        assertEquals(List.of("a", "b"), started, "A null completion must return the permit");
+        assertEquals(0, intake.getInFlight());
+    }
+
+    private static final class Launcher {
+
+        private final List<Object> started = new ArrayList<>();
+        private final Map<Object, CompletableFuture<Object>> running = new ConcurrentHashMap<>();
+
+        CompletableFuture<Object> launch(Object event) {
+            started.add(event);
+            CompletableFuture<Object> completion = new CompletableFuture<>();
+            running.put(event, completion);
+            return completion;
+        }
+
+        void complete(Object event) {
+            running.remove(event).complete(event);
+        }
+
+        void fail(Object event) {
+            running.remove(event).completeExceptionally(new IllegalStateException("failed"));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.introspection;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the aggregates and queries of a {@link WorkflowRegistry}.
+ */
+public class WorkflowRegistryTest {
+
+    @Test
+    public void aggregatesFollowTheCursors() {
+        WorkflowRegistry registry = new WorkflowRegistry();
+        WorkflowCursor first = registry.register("fraud", "workflow-1");
+        WorkflowCursor second = registry.register("fraud", "workflow-2");
+        WorkflowCursor third = registry.register("audit", "workflow-3");
+        first.enter(Phase.DECISION, "check");
+        first.enter(Phase.DECISION, "score");
+        second.enter(Phase.DECISION, "check");
+        second.enter(Phase.ACTION, "notify");
+        third.llmCallStarted();
+
+        assertEquals(3, registry.getInFlightWorkflows());
+        assertEquals(1, registry.getPendingLlmCalls());
+        List<AgentOccupancy> agents = registry.getAgents();
+        assertEquals("audit", agents.get(0).getAgentName());
+        assertEquals(2, agents.get(1).getWorkflows());
+        assertEquals(2, agents.get(1).getWorkflowAge().getCount());
+        assertEquals(2, agents.get(1).getWorkflowAge().getCountAtLeast(0));
+        List<PhaseOccupancy> phases = registry.getPhases();
+        assertEquals(2, phases.size(), "Only phases holding a workflow must be listed");
+        assertEquals(Phase.DECISION, phases.get(0).getPhase());
+        assertEquals(1, phases.get(0).getWorkflows(), "A workflow must leave its previous phase");
+        assertEquals(Phase.ACTION, phases.get(1).getPhase());
+
+        third.llmCallEnded();
+        first.close();
+        first.close();
+        second.close();
+        third.close();
+        assertEquals(0, registry.getInFlightWorkflows(), "A cursor closed twice must be removed once");
+        assertEquals(0, registry.getPendingLlmCalls());
+        assertTrue(registry.getPhases().isEmpty());
+        assertEquals(0, registry.getAgents().get(1).getWorkflowAge().getCount());
+        assertTrue(registry.findOldestWorkflows(10).isEmpty());
+    }
+
+    @Test
+    public void queriesVisitTheWorkflowsAndAreExposedOverJmx() throws Exception {
+        WorkflowRegistry registry = new WorkflowRegistry();
+        WorkflowCursor oldest = registry.register("fraud", "workflow-1");
+        Thread.sleep(5);
+        WorkflowCursor newest = registry.register("fraud", "workflow-2");
+        newest.enter(Phase.TRIGGER, "onTransaction");
+
+        List<WorkflowInfo> found = registry.findOldestWorkflows(1);
+        assertEquals(1, found.size());
+        assertEquals("workflow-1", found.get(0).getWorkflowId(), "The oldest workflow must come first");
+        assertEquals(-1, found.get(0).getContextAttributes(), "No context is attached");
+        assertEquals(-1, found.get(0).getScopeBeans(), "No scope store is attached");
+        assertTrue(registry.findWorkflowsInPhaseLongerThan(60_000, 10).isEmpty());
+        List<WorkflowInfo> inPhase = registry.findWorkflowsInPhaseLongerThan(0, 10);
+        assertEquals(2, inPhase.size());
+        assertEquals("onTransaction", inPhase.get(1).getMethodName());
+        assertTrue(registry.findOldestWorkflows(0).isEmpty());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = registry.registerMBean(server, "WorkflowRegistryTest");
+        try {
+            assertEquals(2L, server.getAttribute(name, "InFlightWorkflows"));
+            assertNotNull(server.getAttribute(name, "Agents"), "The occupancy must map to open types");
+        } finally {
+            server.unregisterMBean(name);
+            oldest.close();
+            newest.close();
+        }
+    }
+}
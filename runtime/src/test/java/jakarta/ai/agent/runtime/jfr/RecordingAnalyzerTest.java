@@ -0,0 +1,109 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.jfr;
+
+import jakarta.ai.agent.runtime.dispatch.PhaseMethod;
+import jakarta.ai.agent.runtime.launch.DefaultWorkflowHandle;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.metrics.PhaseMetrics;
+import jakarta.ai.agent.runtime.metrics.PhaseSnapshot;
+import jakarta.ai.agent.runtime.metrics.WorkflowMetrics;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the workflow events emitted by the building blocks, as summarized by a {@link RecordingAnalyzer}.
+ */
+public class RecordingAnalyzerTest {
+
+    private static final List<String> ALL_EVENTS = List.of("jakarta.ai.agent.WorkflowStart",
+            "jakarta.ai.agent.WorkflowEnd", "jakarta.ai.agent.PhaseInvoke", "jakarta.ai.agent.LLMQuery",
+            "jakarta.ai.agent.ContextPassivate", "jakarta.ai.agent.HandleExceptionDispatch");
+
+    @Test
+    public void summarizesWorkflowAndPhaseEvents() throws Exception {
+        List<AgentSummary> summaries = record("jakarta.ai.agent.WorkflowStart", "jakarta.ai.agent.WorkflowEnd",
+                "jakarta.ai.agent.PhaseInvoke");
+        assertEquals(1, summaries.size());
+        AgentSummary summary = summaries.get(0);
+        assertEquals("fraud", summary.getAgentName());
+        assertEquals(1, summary.getWorkflowsStarted());
+        assertEquals(Map.of("COMPLETED", 1L), summary.getWorkflowsEnded());
+        assertEquals(1, summary.getWorkflowDuration().getCount());
+        PhaseSnapshot decision = summary.getPhases().get(0);
+        assertEquals(Phase.DECISION, decision.phase());
+        assertEquals("check", decision.methodName());
+        assertEquals(2, decision.invocations());
+        assertEquals(1, decision.exceptions());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordingAnalyzer.print(summaries, new PrintStream(out, true, StandardCharsets.UTF_8));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("Agent fraud"));
+    }
+
+    @Test
+    public void disabledEventsAreNotRecorded() throws Exception {
+        List<AgentSummary> summaries = record("jakarta.ai.agent.WorkflowEnd");
+        AgentSummary summary = summaries.get(0);
+        assertEquals(0, summary.getWorkflowsStarted());
+        assertEquals(Map.of("COMPLETED", 1L), summary.getWorkflowsEnded());
+        assertTrue(summary.getPhases().isEmpty(), "Disabled phase events must not be recorded");
+    }
+
+    private static List<AgentSummary> record(String... events) throws Exception {
+        Path file = Files.createTempFile("workflow", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : ALL_EVENTS) {
+                recording.disable(event);
+            }
+            for (String event : events) {
+                recording.enable(event);
+            }
+            recording.start();
+            runWorkflow();
+            recording.stop();
+            recording.dump(file);
+            return RecordingAnalyzer.analyze(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void runWorkflow() throws Exception {
+        PhaseMetrics metrics = new WorkflowMetrics().phase("fraud", Phase.DECISION, "check");
+        PhaseMethod check = PhaseMethod.of(RecordingAnalyzerTest.class.getDeclaredMethod("check", String.class));
+        DefaultWorkflowHandle<Object> handle = new DefaultWorkflowHandle<>("workflow-1", "fraud");
+        assertTrue(handle.markRunning());
+        assertEquals(Boolean.TRUE, check.invoke(null, type -> "ok", metrics, handle.getWorkflowId()));
+        assertThrows(IllegalStateException.class, () -> check.invoke(null, type -> "fail", metrics,
+                handle.getWorkflowId()));
+        assertTrue(handle.complete(null));
+    }
+
+    private static boolean check(String input) {
+        if (input.equals("fail")) {
+            throw new IllegalStateException("check failed");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,78 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.launch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-flight limit and failure handling of a {@link BackpressuredStarter}.
+ */
+public class BackpressuredStarterTest {
+
+    @Test
+    public void pullsEventsOnlyWhileBelowLimit() {
+        List<DefaultWorkflowHandle<Object>> handles = new ArrayList<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<String> events = Stream.of("a", "b", "c").onClose(() -> closed.set(true));
+        CompletionStage<Long> done = BackpressuredStarter.startAll(events, 2,
+                event -> new DefaultWorkflowHandle<>(event.toString(), "agent"), handles::add);
+
+        assertEquals(2, handles.size(), "Only maxInFlight workflows may be started");
+        handles.get(0).complete(null);
+        assertEquals(3, handles.size(), "An ended workflow must let the next event start");
+        assertFalse(done.toCompletableFuture().isDone(), "Started workflows are still running");
+
+        handles.get(1).fail(new IllegalStateException("failed"));
+        assertTrue(closed.get(), "The stream must be closed once exhausted");
+        handles.get(2).cancel();
+        assertEquals(3, (long) done.toCompletableFuture().join(), "Failed workflows still count as started");
+    }
+
+    @Test
+    public void startFailureStopsPullingAndFailsAfterRunningWorkflowsEnd() {
+        List<DefaultWorkflowHandle<Object>> handles = new ArrayList<>();
+        IllegalStateException failure = new IllegalStateException("start failed");
+        CompletionStage<Long> done = BackpressuredStarter.startAll(Stream.of("a", "b", "c"), 5,
+                event -> {
+                    if (event.equals("b")) {
+                        throw failure;
+                    }
+                    return new DefaultWorkflowHandle<>(event.toString(), "agent");
+                }, handles::add);
+
+        assertEquals(1, handles.size(), "No event may be pulled after a failure");
+        CompletableFuture<Long> result = done.toCompletableFuture();
+        assertFalse(result.isDone(), "The stage must wait for the running workflow");
+        handles.get(0).complete(null);
+        assertSame(failure, assertThrows(CompletionException.class, result::join).getCause());
+    }
+
+    @Test
+    public void nullHandleFailsTheStarter() {
+        CompletionStage<Long> done = BackpressuredStarter.startAll(Stream.of("a", "b"), 5,
+                event -> null, handle -> fail("A null handle must not be passed on"));
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> done.toCompletableFuture().join());
+        assertTrue(failure.getCause() instanceof NullPointerException, "A null handle must fail the starter");
+    }
+}
@@ -0,0 +1,126 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.launch;
+
+import jakarta.ai.agent.WorkflowStatus;
+import jakarta.ai.agent.runtime.cancel.DefaultCancellationToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the status transitions and cancellation actions of a {@link DefaultWorkflowHandle}.
+ */
+public class DefaultWorkflowHandleTest {
+
+    @Test
+    public void firstEndingTransitionWins() {
+        DefaultWorkflowHandle<String> handle = new DefaultWorkflowHandle<>("workflow-1", "agent");
+        assertEquals(WorkflowStatus.PENDING, handle.getStatus());
+        assertTrue(handle.markRunning());
+        assertEquals(WorkflowStatus.RUNNING, handle.getStatus());
+
+        assertTrue(handle.terminate("stopped"));
+        assertFalse(handle.complete("late"), "An ended workflow must not complete");
+        assertFalse(handle.fail(new IllegalStateException("late")), "An ended workflow must not fail");
+        assertFalse(handle.cancel(), "An ended workflow must not be cancelled");
+        assertEquals(WorkflowStatus.TERMINATED, handle.getStatus());
+        assertEquals("stopped", handle.getResult().toCompletableFuture().join());
+    }
+
+    @Test
+    public void cancelledPendingWorkflowDoesNotRun() {
+        DefaultWorkflowHandle<String> handle = new DefaultWorkflowHandle<>("workflow-1", "agent");
+        assertTrue(handle.cancel());
+        assertFalse(handle.markRunning(), "A cancelled workflow must not start");
+        assertEquals(WorkflowStatus.CANCELLED, handle.getStatus());
+
+        DefaultWorkflowHandle<String> failed = new DefaultWorkflowHandle<>("workflow-2", "agent");
+        IllegalStateException failure = new IllegalStateException("failed");
+        assertTrue(failed.fail(failure));
+        CompletableFuture<String> result = failed.getResult().toCompletableFuture();
+        assertSame(failure, assertThrows(CompletionException.class, result::join).getCause());
+    }
+
+    @Test
+    public void cancelCompletesResultWhenActionThrows() {
+        DefaultWorkflowHandle<String> handle = new DefaultWorkflowHandle<>("workflow-1", "agent");
+        IllegalStateException failure = new IllegalStateException("action failed");
+        AtomicInteger runs = new AtomicInteger();
+        handle.onCancel(() -> {
+            throw failure;
+        });
+        handle.onCancel(runs::incrementAndGet);
+
+        assertTrue(handle.cancel(), "cancel() must succeed although an action throws");
+        assertEquals(1, runs.get(), "Actions after a throwing one must run");
+        assertEquals(WorkflowStatus.CANCELLED, handle.getStatus());
+        CancellationException cancellation = cancellation(handle);
+        assertEquals(1, cancellation.getSuppressed().length, "The action failure must be suppressed");
+        assertSame(failure, cancellation.getSuppressed()[0], "The action failure must be suppressed");
+    }
+
+    @Test
+    public void actionAddedAfterCancelRunsOnce() {
+        DefaultWorkflowHandle<String> handle = new DefaultWorkflowHandle<>("workflow-1", "agent");
+        AtomicInteger runs = new AtomicInteger();
+        handle.onCancel(runs::incrementAndGet);
+        assertTrue(handle.cancel());
+        assertFalse(handle.cancel(), "A second cancel() must have no effect");
+        assertEquals(1, runs.get(), "An action must run once");
+
+        AtomicInteger late = new AtomicInteger();
+        handle.onCancel(late::incrementAndGet);
+        assertEquals(1, late.get(), "An action added after cancel() must run immediately");
+        IllegalStateException failure = new IllegalStateException("late action failed");
+        assertDoesNotThrow(() -> handle.onCancel(() -> {
+            throw failure;
+        }), "A late action must not throw to the caller");
+        CancellationException cancellation = cancellation(handle);
+        assertSame(failure, cancellation.getSuppressed()[0], "The late action failure must be suppressed");
+    }
+
+    @Test
+    public void boundTokenFollowsTheHandle() {
+        DefaultWorkflowHandle<String> cancelled = new DefaultWorkflowHandle<>("workflow-1", "agent");
+        DefaultCancellationToken token = new DefaultCancellationToken();
+        AtomicInteger runs = new AtomicInteger();
+        token.onCancel(runs::incrementAndGet);
+        cancelled.bind(token);
+        assertTrue(cancelled.cancel());
+        assertTrue(token.isCancelled(), "Cancelling the handle must cancel the bound token");
+        assertEquals(1, runs.get(), "The token actions must run when the handle is cancelled");
+
+        DefaultWorkflowHandle<String> completed = new DefaultWorkflowHandle<>("workflow-2", "agent");
+        DefaultCancellationToken released = new DefaultCancellationToken();
+        AtomicInteger discarded = new AtomicInteger();
+        released.onCancel(discarded::incrementAndGet);
+        completed.bind(released);
+        assertTrue(completed.complete("done"));
+        assertTrue(released.cancel());
+        assertEquals(0, discarded.get(), "Completing the handle must release the token actions");
+    }
+
+    private static CancellationException cancellation(DefaultWorkflowHandle<?> handle) {
+        CompletableFuture<?> result = handle.getResult().toCompletableFuture();
+        assertTrue(result.isDone(), "The result must be completed");
+        CompletionException failure = assertThrows(CompletionException.class, result::join);
+        assertTrue(failure.getCause() instanceof CancellationException, "The result must be cancelled");
+        return (CancellationException) failure.getCause();
+    }
+}
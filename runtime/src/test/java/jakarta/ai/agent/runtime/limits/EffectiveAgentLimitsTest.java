@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.limits;
+
+import jakarta.ai.agent.AgentLimits;
+import jakarta.ai.agent.WorkflowPriority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for resolving {@link AgentLimits} with deployment overrides.
+ */
+public class EffectiveAgentLimitsTest {
+
+    @AgentLimits(maxConcurrentWorkflows = 4, phaseTimeoutMillis = 500, priority = WorkflowPriority.HIGH)
+    private static final class LimitedAgent {
+    }
+
+    @Test
+    public void overridesReplaceAnnotationValues() {
+        AgentLimits annotation = LimitedAgent.class.getAnnotation(AgentLimits.class);
+        EffectiveAgentLimits annotated = EffectiveAgentLimits.resolve("fraud", annotation, key -> null);
+        assertEquals(new EffectiveAgentLimits("fraud", 4, Duration.ofMillis(500), Duration.ZERO, "",
+                WorkflowPriority.HIGH), annotated);
+
+        Map<String, String> config = Map.of(
+                EffectiveAgentLimits.key("fraud", EffectiveAgentLimits.MAX_CONCURRENT_WORKFLOWS), "8",
+                EffectiveAgentLimits.key("fraud", EffectiveAgentLimits.WORKFLOW_TIMEOUT_MILLIS), "2000",
+                EffectiveAgentLimits.key("fraud", EffectiveAgentLimits.EXECUTOR), " concurrent/agents ",
+                EffectiveAgentLimits.key("fraud", EffectiveAgentLimits.PRIORITY), "low",
+                EffectiveAgentLimits.key("fraud", EffectiveAgentLimits.PHASE_TIMEOUT_MILLIS), " ");
+        EffectiveAgentLimits overridden = EffectiveAgentLimits.resolve("fraud", annotation, config::get);
+        assertEquals(new EffectiveAgentLimits("fraud", 8, Duration.ofMillis(500), Duration.ofMillis(2000),
+                "concurrent/agents", WorkflowPriority.LOW), overridden);
+
+        EffectiveAgentLimits unannotated = EffectiveAgentLimits.resolve("docs", null, key -> null);
+        assertEquals(0, unannotated.maxConcurrentWorkflows(), "An agent without limits must be unlimited");
+        assertEquals(WorkflowPriority.MEDIUM, unannotated.priority());
+    }
+
+    @Test
+    public void invalidOverridesAreRejected() {
+        for (String property : new String[] {EffectiveAgentLimits.MAX_CONCURRENT_WORKFLOWS,
+                EffectiveAgentLimits.PHASE_TIMEOUT_MILLIS, EffectiveAgentLimits.PRIORITY}) {
+            String key = EffectiveAgentLimits.key("fraud", property);
+            IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                    () -> EffectiveAgentLimits.resolve("fraud", null, Map.of(key, "-1")::get));
+            assertTrue(failure.getMessage().contains(key), "The message must name the key");
+        }
+        Map<String, String> tooMany = Map.of(EffectiveAgentLimits.key("fraud",
+                EffectiveAgentLimits.MAX_CONCURRENT_WORKFLOWS), String.valueOf(Integer.MAX_VALUE + 1L));
+        assertThrows(IllegalArgumentException.class, () -> EffectiveAgentLimits.resolve("fraud", null, tooMany::get));
+    }
+}
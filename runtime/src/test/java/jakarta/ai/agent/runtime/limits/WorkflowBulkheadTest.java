@@ -0,0 +1,90 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.limits;
+
+import jakarta.ai.agent.WorkflowTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the concurrency limit of a {@link WorkflowBulkhead} and for {@link Timeouts}.
+ */
+public class WorkflowBulkheadTest {
+
+    @Test
+    public void waitingWorkflowsStartInOrderAsSlotsFree() {
+        WorkflowBulkhead bulkhead = new WorkflowBulkhead("agent", 2);
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> running = new ArrayList<>();
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (String name : List.of("a", "b", "c", "d")) {
+            results.add(bulkhead.submit(() -> {
+                started.add(name);
+                CompletableFuture<String> workflow = new CompletableFuture<>();
+                running.add(workflow);
+                return workflow;
+            }));
+        }
+        assertEquals(List.of("a", "b"), started);
+        assertEquals(2, bulkhead.getRunning());
+        assertEquals(2, bulkhead.getWaiting());
+
+        running.get(1).completeExceptionally(new IllegalStateException("failed"));
+        assertEquals(List.of("a", "b", "c"), started, "A failed workflow must free its slot");
+        assertTrue(results.get(1).toCompletableFuture().isCompletedExceptionally());
+        running.get(0).complete("a");
+        assertEquals(List.of("a", "b", "c", "d"), started);
+        assertEquals("a", results.get(0).toCompletableFuture().join());
+        running.get(2).complete("c");
+        running.get(3).complete("d");
+        assertEquals(0, bulkhead.getRunning());
+        assertEquals(0, bulkhead.getWaiting());
+        assertEquals(4, bulkhead.getStartedCount());
+    }
+
+    @Test
+    public void nullStageFailsTheWorkflowAndFreesItsSlot() {
+        WorkflowBulkhead bulkhead = new WorkflowBulkhead("agent", 1);
+        CompletionStage<String> result = bulkhead.submit(() -> null);
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> result.toCompletableFuture().join());
+        assertTrue(failure.getCause() instanceof NullPointerException, "A null stage must fail the workflow");
+        assertEquals(0, bulkhead.getRunning(), "A null stage must free its slot");
+        assertEquals("next", bulkhead.submit(() -> CompletableFuture.completedFuture("next"))
+                .toCompletableFuture().join());
+    }
+
+    @Test
+    public void timeoutFailsStageButNotWork() {
+        CompletableFuture<String> work = new CompletableFuture<>();
+        CompletionStage<String> timed = Timeouts.withTimeout(work, Duration.ofMillis(10), "Phase analyze");
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> timed.toCompletableFuture().join());
+        assertTrue(failure.getCause() instanceof WorkflowTimeoutException, "The stage must time out");
+        assertTrue(failure.getCause().getMessage().startsWith("Phase analyze"));
+        assertFalse(work.isDone(), "The underlying work must not be cancelled");
+
+        assertSame(work, Timeouts.withTimeout(work, Duration.ZERO, "Phase analyze"), "A zero timeout must not wrap");
+        CompletionStage<String> inTime = Timeouts.withTimeout(CompletableFuture.completedFuture("done"),
+                Duration.ofHours(1), "Phase analyze");
+        assertEquals("done", inTime.toCompletableFuture().join());
+    }
+}
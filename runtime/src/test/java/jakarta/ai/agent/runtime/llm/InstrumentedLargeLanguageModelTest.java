@@ -0,0 +1,152 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.llm;
+
+import jakarta.ai.agent.LLMException;
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.runtime.metrics.Phase;
+import jakarta.ai.agent.runtime.tracing.InMemoryTracer;
+import jakarta.ai.agent.runtime.tracing.RecordedSpan;
+import jakarta.ai.agent.runtime.tracing.SpanKind;
+import jakarta.ai.agent.runtime.tracing.TraceAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the call metrics recorded by an {@link InstrumentedLargeLanguageModel}.
+ */
+public class InstrumentedLargeLanguageModelTest {
+
+    private static final LlmCallSite DECISION = new LlmCallSite("agent", Phase.DECISION);
+
+    @Test
+    public void callsAreAttributedToTheirSiteWithReportedOrEstimatedTokens() {
+        InstrumentedLargeLanguageModel llm = InstrumentedLargeLanguageModel.builder(new ReportingModel())
+                .prices(1_000_000, 2_000_000)
+                .build();
+        LlmCallSite previous = LlmCallSite.enter(DECISION);
+        try {
+            assertEquals("reported", llm.query("report"));
+            assertEquals("12345678", llm.query("12345678"));
+            assertEquals("cached", llm.query("cache"));
+        } finally {
+            LlmCallSite.restore(previous);
+        }
+        llm.query("unattributed");
+
+        LlmCallMetrics metrics = llm.getMetrics(DECISION);
+        assertEquals(3, metrics.getLatency().getCount());
+        assertEquals(10 + 2, metrics.getPromptTokens(), "Reported tokens must be used, others estimated");
+        assertEquals(20 + 2, metrics.getCompletionTokens());
+        assertEquals(1, metrics.getRetryCount());
+        assertEquals(1, metrics.getCacheHitCount());
+        assertEquals(12 * 1.0 + 22 * 2.0, metrics.getCost(), 1e-9, "A cached call must cost nothing");
+        assertNotNull(llm.getMetrics(LlmCallSite.UNATTRIBUTED), "A call outside any site must be recorded");
+        assertEquals(2, llm.getMetrics().size());
+
+        List<ExpensivePrompt> expensive = llm.getMostExpensivePrompts(1);
+        assertEquals("report", expensive.get(0).prompt(), "The prompt with the highest cost must come first");
+        assertEquals(DECISION, expensive.get(0).site());
+    }
+
+    @Test
+    public void failuresAreCountedByCategory() {
+        InstrumentedLargeLanguageModel llm = InstrumentedLargeLanguageModel.builder(new ReportingModel()).build();
+        LlmCallSite previous = LlmCallSite.enter(DECISION);
+        try {
+            assertThrows(LLMException.class, () -> llm.query("rate limit"));
+            assertThrows(IllegalArgumentException.class, () -> llm.query("invalid"));
+        } finally {
+            LlmCallSite.restore(previous);
+        }
+        LlmCallMetrics metrics = llm.getMetrics(DECISION);
+        assertEquals(1, metrics.getFailureCounts().get(LlmExceptionCategory.RATE_LIMITED));
+        assertEquals(1, metrics.getFailureCounts().get(LlmExceptionCategory.INVALID));
+        assertEquals(0, metrics.getPromptTokens(), "A failed call must count only reported tokens");
+        assertEquals(2, metrics.getWindow().failures());
+        assertNull(LlmCall.current(), "The call must end with the invocation");
+    }
+
+    @Test
+    public void callsAreTracedAsClientSpans() {
+        InMemoryTracer tracer = new InMemoryTracer();
+        InstrumentedLargeLanguageModel llm = InstrumentedLargeLanguageModel.builder(new ReportingModel())
+                .tracer(tracer)
+                .build();
+        LlmCallSite previous = LlmCallSite.enter(DECISION);
+        try {
+            llm.query("report");
+            assertThrows(LLMException.class, () -> llm.query("rate limit"));
+        } finally {
+            LlmCallSite.restore(previous);
+        }
+
+        List<RecordedSpan> spans = tracer.getFinishedSpans();
+        assertEquals(2, spans.size());
+        RecordedSpan call = spans.get(0);
+        assertEquals(SpanKind.CLIENT, call.kind());
+        assertEquals("agent", call.attribute(TraceAttributes.AGENT_NAME));
+        assertEquals("DECISION", call.attribute(TraceAttributes.PHASE));
+        assertEquals(10L, call.attribute(TraceAttributes.INPUT_TOKENS));
+        assertEquals(20L, call.attribute(TraceAttributes.OUTPUT_TOKENS));
+        assertEquals(1L, call.attribute(TraceAttributes.RETRIES));
+        assertNull(call.exception());
+        assertInstanceOf(LLMException.class, spans.get(1).exception(), "A failed call must record its exception");
+    }
+
+    private static final class ReportingModel implements LargeLanguageModel {
+
+        @Override
+        public String query(String prompt) {
+            LlmCall call = LlmCall.current();
+            switch (prompt) {
+                case "report":
+                    call.recordRetry();
+                    call.recordUsage(10, 20);
+                    return "reported";
+                case "cache":
+                    call.recordCacheHit();
+                    return "cached";
+                case "rate limit":
+                    throw new LLMException("429 rate limit exceeded");
+                case "invalid":
+                    throw new IllegalArgumentException("invalid prompt");
+                default:
+                    return prompt;
+            }
+        }
+
+        @Override
+        public <T> T query(String prompt, Class<T> resultType) {
+            return resultType.cast(query(prompt));
+        }
+
+        @Override
+        public String query(String prompt, Object... inputs) {
+            return query(prompt);
+        }
+
+        @Override
+        public <T> T query(String prompt, Class<T> resultType, Object... inputs) {
+            return resultType.cast(query(prompt));
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> implClass) {
+            throw new IllegalArgumentException("Not supported");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the object limit of an {@link ApproximateSizeEstimator}.
+ */
+public class ApproximateSizeEstimatorTest {
+
+    @Test
+    public void objectsBeyondTheLimitAreExtrapolated() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add("value-" + (100_000 + i));
+        }
+        long exact = new ApproximateSizeEstimator(100_000).estimate(values);
+        long sampled = new ApproximateSizeEstimator(1_000).estimate(values);
+        assertTrue(Math.abs(sampled - exact) < exact / 10,
+                "A sampled estimate must stay close to the full walk: " + sampled + " vs " + exact);
+    }
+
+    @Test
+    public void sharedReferencesAreNotExtrapolated() {
+        String shared = "shared";
+        List<String> values = new ArrayList<>(Collections.nCopies(10_000, shared));
+        values.add(0, "first");
+        long exact = new ApproximateSizeEstimator(100_000).estimate(values);
+        long limited = new ApproximateSizeEstimator(10).estimate(values);
+        assertEquals(exact, limited, "References to visited objects must not be charged again");
+    }
+}
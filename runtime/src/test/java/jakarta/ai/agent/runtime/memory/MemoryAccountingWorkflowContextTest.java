@@ -0,0 +1,114 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import jakarta.ai.agent.runtime.context.DefaultWorkflowContext;
+import jakarta.ai.agent.runtime.scope.PassivationStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for concurrent writes of one attribute through a {@link MemoryAccountingWorkflowContext}.
+ */
+public class MemoryAccountingWorkflowContextTest {
+
+    @Test
+    public void chargeMatchesTheStoredValueAfterRacingWrites() throws Exception {
+        ApproximateSizeEstimator estimator = new ApproximateSizeEstimator(100);
+        MemoryBudget budget = new MemoryBudget(MemoryBudget.UNLIMITED, MemoryBudget.UNLIMITED,
+                OverflowPolicy.REJECT, estimator, null);
+        MemoryAccountingWorkflowContext context = context(budget);
+
+        race(t -> context.setAttribute("a", "x".repeat(10 + t * 100)));
+
+        long stored = estimator.estimate(context.getAttribute("a"));
+        assertEquals(stored, context.getAccount().getAttributeSize("a"), "The charge must match the stored value");
+        assertEquals(stored, budget.getUsedBytes());
+        context.removeAttribute("a");
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    @Test
+    public void racingSpillsLeaveOnlyTheStoredValueSpilled() throws Exception {
+        Map<String, byte[]> spilled = new ConcurrentHashMap<>();
+        MemoryBudget budget = new MemoryBudget(200, MemoryBudget.UNLIMITED, OverflowPolicy.SPILL,
+                new ApproximateSizeEstimator(100), new MapStore(spilled));
+        MemoryAccountingWorkflowContext context = context(budget);
+
+        race(t -> context.setAttribute("a", String.valueOf(t).repeat(1_000)));
+
+        assertEquals(1, spilled.size(), "Every replaced spilled value must be discarded");
+        assertEquals(1_000, ((String) context.getAttribute("a")).length());
+        context.removeAttribute("a");
+        assertTrue(spilled.isEmpty(), "Removing a spilled attribute must discard its value");
+        context.end();
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    private static MemoryAccountingWorkflowContext context(MemoryBudget budget) {
+        return new MemoryAccountingWorkflowContext(new DefaultWorkflowContext("workflow-1", "event"),
+                budget.openAccount("workflow-1"));
+    }
+
+    private static void race(Writer writer) throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int index = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    writer.write(index);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private interface Writer {
+
+        void write(int thread);
+    }
+
+    private static final class MapStore implements PassivationStore {
+
+        private final Map<String, byte[]> entries;
+
+        MapStore(Map<String, byte[]> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public void write(String workflowId, byte[] state) {
+            entries.put(workflowId, state);
+        }
+
+        @Override
+        public byte[] read(String workflowId) {
+            return entries.get(workflowId);
+        }
+
+        @Override
+        public void remove(String workflowId) {
+            entries.remove(workflowId);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for charges to a {@link WorkflowMemoryAccount} after or racing with its close.
+ */
+public class WorkflowMemoryAccountTest {
+
+    @Test
+    public void chargeAfterCloseIsRejected() {
+        MemoryBudget budget = budget();
+        WorkflowMemoryAccount account = budget.openAccount("workflow-1");
+        assertNull(account.charge("a", 100), "The charge must be accepted");
+        assertEquals(100, budget.getUsedBytes());
+
+        account.close();
+        assertEquals(0, budget.getUsedBytes(), "close() must release every charge");
+        assertEquals(0, budget.getOpenAccounts());
+
+        assertThrows(IllegalStateException.class, () -> account.charge("b", 100),
+                "A closed account must not accept charges");
+        assertEquals(0, budget.getUsedBytes(), "A rejected charge must not reserve memory");
+        account.close();
+        assertEquals(0, budget.getOpenAccounts(), "A second close() must have no effect");
+    }
+
+    @Test
+    public void chargesRacingCloseLeaveNothingReserved() throws Exception {
+        MemoryBudget budget = budget();
+        WorkflowMemoryAccount account = budget.openAccount("workflow-1");
+        int threads = 4;
+        CountDownLatch charging = new CountDownLatch(threads);
+        List<Thread> chargers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String prefix = "attribute-" + t + "-";
+            Thread charger = new Thread(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        account.charge(prefix + (i % 16), 10 + i % 7);
+                        if (i == 0) {
+                            charging.countDown();
+                        }
+                    }
+                } catch (IllegalStateException expected) {
+                    // the account was closed
+                }
+            });
+            chargers.add(charger);
+            charger.start();
+        }
+        assertTrue(charging.await(5, TimeUnit.SECONDS), "Every thread must be charging");
+
+        account.close();
+        for (Thread charger : chargers) {
+            charger.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(charger.isAlive(), "Charges must fail once the account is closed");
+        }
+        assertEquals(0, account.getUsedBytes(), "The account must not keep charges made during close()");
+        assertEquals(0, budget.getUsedBytes(), "The budget must not keep charges made during close()");
+    }
+
+    private static MemoryBudget budget() {
+        return new MemoryBudget(MemoryBudget.UNLIMITED, MemoryBudget.UNLIMITED, OverflowPolicy.REJECT,
+                new ApproximateSizeEstimator(100), null);
+    }
+}
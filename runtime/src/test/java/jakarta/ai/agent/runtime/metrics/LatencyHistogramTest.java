@@ -0,0 +1,75 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bucket precision and concurrent recording of a {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        histogram.record(-5);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(1_001, snapshot.getCount());
+        assertEquals(Duration.ofMillis(1), snapshot.getMax());
+        assertEquals(Duration.ZERO, snapshot.getValueAtPercentile(0), "A negative value must count as zero");
+        long median = snapshot.getValueAtPercentile(50).toNanos();
+        assertTrue(median >= 500_000 && median <= 500_000 * 1.016, "Median " + median + " is off by more than 1.6%");
+        assertEquals(Duration.ofMillis(1), snapshot.getValueAtPercentile(100),
+                "The top bucket must be capped at the max");
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101));
+
+        long[] values = {0, 127, 128, 4_095, 4_096, 1_000_000_007L, LatencyHistogram.HIGHEST_TRACKABLE_NANOS};
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value, "Bucket of " + value + " ends below it");
+            assertTrue(index == 0 || LatencyHistogram.highestValue(index - 1) < value,
+                    "Value " + value + " belongs to an earlier bucket");
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(LatencyHistogram.HIGHEST_TRACKABLE_NANOS));
+    }
+
+    @Test
+    public void concurrentRecordingsAreAllCounted() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(Duration.ofNanos(8L * 9_999 * 10_000 / 2), snapshot.getTotal());
+    }
+}
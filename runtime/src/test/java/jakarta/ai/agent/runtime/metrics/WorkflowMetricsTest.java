@@ -0,0 +1,57 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the registry, counters and exporters of {@link WorkflowMetrics}.
+ */
+public class WorkflowMetricsTest {
+
+    @Test
+    public void phaseMetricsAreRegisteredOnceAndCounted() {
+        WorkflowMetrics metrics = new WorkflowMetrics();
+        PhaseMetrics decision = metrics.phase("agent", Phase.DECISION, "check");
+        assertSame(decision, metrics.phase("agent", Phase.DECISION, "check"), "A method must have one metrics object");
+        decision.recordInvocation(1_000);
+        decision.recordException(3_000);
+        decision.recordTermination();
+        metrics.phase("other", Phase.ACTION, "act").recordInvocation(10);
+
+        PhaseSnapshot snapshot = metrics.snapshot().find("agent", "check").orElseThrow();
+        assertEquals(Phase.DECISION, snapshot.phase());
+        assertEquals(2, snapshot.invocations(), "Invocations that threw must be counted");
+        assertEquals(1, snapshot.exceptions());
+        assertEquals(1, snapshot.terminations());
+        assertEquals(2_000, snapshot.latency().getMean().toNanos());
+        assertEquals(1, metrics.snapshot().forAgent("other").size());
+        assertTrue(metrics.snapshot().find("agent", "missing").isEmpty());
+    }
+
+    @Test
+    public void exportersSeeExistingAndLaterMethods() {
+        WorkflowMetrics metrics = new WorkflowMetrics();
+        PhaseMetrics existing = metrics.phase("agent", Phase.TRIGGER, "start");
+        List<PhaseMetrics> exported = new ArrayList<>();
+        metrics.addExporter(exported::add);
+        PhaseMetrics later = metrics.phase("agent", Phase.OUTCOME, "finish");
+        metrics.phase("agent", Phase.OUTCOME, "finish");
+        assertEquals(List.of(existing, later), exported, "Every method must be exported exactly once");
+    }
+}
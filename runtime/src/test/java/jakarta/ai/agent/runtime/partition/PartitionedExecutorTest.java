@@ -0,0 +1,96 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for key ordering and lane metrics of a {@link PartitionedExecutor}.
+ */
+public class PartitionedExecutorTest {
+
+    @Test
+    public void workflowsWithEqualKeysRunOneAfterAnother() {
+        PartitionedExecutor executor = new PartitionedExecutor(4, Runnable::run);
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> running = new ArrayList<>();
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (String name : List.of("first", "second")) {
+            results.add(executor.submit("key", () -> {
+                started.add(name);
+                CompletableFuture<String> workflow = new CompletableFuture<>();
+                running.add(workflow);
+                return workflow;
+            }));
+        }
+        assertEquals(List.of("first"), started, "A key must not run two workflows at once");
+        assertEquals(2, executor.getLaneSnapshots().get(executor.laneIndex("key")).depth());
+
+        running.get(0).completeExceptionally(new IllegalStateException("failed"));
+        assertEquals(List.of("first", "second"), started, "A failed workflow must release its lane");
+        assertTrue(results.get(0).toCompletableFuture().isCompletedExceptionally());
+        running.get(1).complete("done");
+        assertEquals("done", results.get(1).toCompletableFuture().join());
+
+        LaneSnapshot lane = executor.getLaneSnapshots().get(executor.laneIndex("key"));
+        assertEquals(0, lane.depth());
+        assertEquals(2, lane.submitted());
+        assertEquals(2, lane.completed());
+    }
+
+    @Test
+    public void lanesRunIndependentlyAndReportHotKeys() {
+        PartitionedExecutor executor = new PartitionedExecutor(2, Runnable::run);
+        Object blocked = 0;
+        Object other = 1;
+        assertNotEquals(executor.laneIndex(blocked), executor.laneIndex(other));
+
+        executor.submit(blocked, CompletableFuture::new);
+        for (int i = 0; i < 9; i++) {
+            CompletionStage<Object> result = executor.submit(other, () -> CompletableFuture.completedFuture("done"));
+            assertTrue(result.toCompletableFuture().isDone(), "A blocked lane must not hold up another lane");
+        }
+        Map<Object, Long> hotKeys = executor.getHotKeys(0.5);
+        assertEquals(Map.of(other, 9L), hotKeys);
+    }
+
+    @Test
+    public void inlineCompletionsRunInALoopAndNullStagesFail() {
+        PartitionedExecutor executor = new PartitionedExecutor(1, Runnable::run);
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        executor.submit("key", () -> blocker);
+        CompletionStage<String> nullStage = executor.submit("key", () -> null);
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            results.add(executor.submit("key", () -> CompletableFuture.completedFuture("done")));
+        }
+
+        assertDoesNotThrow(() -> blocker.complete("first"), "A backlog of inline completions must not recurse");
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> nullStage.toCompletableFuture().join());
+        assertTrue(failure.getCause() instanceof NullPointerException, "A null stage must fail the workflow");
+        for (CompletionStage<String> result : results) {
+            assertEquals("done", result.toCompletableFuture().getNow(null));
+        }
+        assertEquals(0, executor.getLaneSnapshots().get(0).depth());
+    }
+}
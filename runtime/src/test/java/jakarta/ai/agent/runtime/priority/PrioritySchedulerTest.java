@@ -0,0 +1,114 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.priority;
+
+import jakarta.ai.agent.WorkflowPriority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the dispatch order of a {@link PriorityScheduler} with a single slot.
+ */
+public class PrioritySchedulerTest {
+
+    @Test
+    public void higherClassesAreServedFirst() {
+        PriorityScheduler scheduler = new PriorityScheduler(Runnable::run, 1, Duration.ofHours(1));
+        Tasks tasks = new Tasks();
+        tasks.submit(scheduler, WorkflowPriority.LOW, "blocking");
+        tasks.submit(scheduler, WorkflowPriority.LOW, "low");
+        tasks.submit(scheduler, WorkflowPriority.MEDIUM, "medium");
+        CompletionStage<String> high = tasks.submit(scheduler, WorkflowPriority.HIGH, "high");
+        assertEquals(List.of("blocking"), tasks.started, "Only one task may run at a time");
+        assertEquals(1, scheduler.getQueueDepth(WorkflowPriority.HIGH));
+
+        tasks.completeAll();
+        assertEquals(List.of("blocking", "high", "medium", "low"), tasks.started);
+        assertEquals("high", high.toCompletableFuture().join());
+        assertEquals(2, scheduler.getDispatchedCount(WorkflowPriority.LOW));
+        assertEquals(0, scheduler.getAgedCount());
+    }
+
+    @Test
+    public void agedTasksTakeEveryOtherSlot() {
+        PriorityScheduler scheduler = new PriorityScheduler(Runnable::run, 1, Duration.ZERO);
+        Tasks tasks = new Tasks();
+        tasks.submit(scheduler, WorkflowPriority.HIGH, "blocking");
+        tasks.submit(scheduler, WorkflowPriority.LOW, "low-1");
+        tasks.submit(scheduler, WorkflowPriority.LOW, "low-2");
+        tasks.submit(scheduler, WorkflowPriority.HIGH, "high-1");
+        tasks.submit(scheduler, WorkflowPriority.HIGH, "high-2");
+
+        tasks.completeAll();
+        assertEquals(List.of("blocking", "low-1", "high-1", "low-2", "high-2"), tasks.started);
+        assertEquals(2, scheduler.getAgedCount());
+    }
+
+    @Test
+    public void nullStageFailsTheTaskAndFreesItsSlot() {
+        PriorityScheduler scheduler = new PriorityScheduler(Runnable::run, 1, Duration.ofHours(1));
+        CompletionStage<String> result = scheduler.submit(WorkflowPriority.HIGH, () -> null);
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> result.toCompletableFuture().join());
+        assertTrue(failure.getCause() instanceof NullPointerException, "A null stage must fail the task");
+        assertEquals("next", scheduler.submit(WorkflowPriority.LOW, () -> CompletableFuture.completedFuture("next"))
+                .toCompletableFuture().join(), "A null stage must free its slot");
+    }
+
+    @Test
+    public void inlineCompletionsDoNotDeepenTheStack() {
+        PriorityScheduler scheduler = new PriorityScheduler(Runnable::run, 1, Duration.ofHours(1));
+        CompletableFuture<String> blocking = new CompletableFuture<>();
+        scheduler.submit(WorkflowPriority.HIGH, () -> blocking);
+        int[] ran = new int[1];
+        for (int i = 0; i < 5000; i++) {
+            scheduler.execute(WorkflowPriority.LOW, () -> ran[0]++);
+        }
+        assertEquals(5000, scheduler.getQueueDepth(WorkflowPriority.LOW));
+
+        blocking.complete("done");
+        assertEquals(5000, ran[0], "Every queued task must run once the slot frees up");
+        assertEquals(0, scheduler.getQueueDepth(WorkflowPriority.LOW));
+        assertEquals("done", scheduler.submit(WorkflowPriority.LOW, () -> CompletableFuture.completedFuture("done"))
+                .toCompletableFuture().join(), "The slot must be free after the backlog drains");
+    }
+
+    private static final class Tasks {
+
+        private final List<String> started = new ArrayList<>();
+        private final List<CompletableFuture<String>> running = new ArrayList<>();
+
+        CompletionStage<String> submit(PriorityScheduler scheduler, WorkflowPriority priority, String name) {
+            return scheduler.submit(priority, () -> {
+                started.add(name);
+                CompletableFuture<String> task = new CompletableFuture<>();
+                running.add(task);
+                return task;
+            });
+        }
+
+        void completeAll() {
+            for (int i = 0; i < running.size(); i++) {
+                running.get(i).complete(started.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bean instances held by a {@link WorkflowScopeContext} per workflow.
+ */
+public class WorkflowScopeContextTest {
+
+    @Test
+    public void instancesAreSharedWithinAndIsolatedBetweenWorkflows() {
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        CountingBean bean = new CountingBean("state");
+        assertEquals(context.register(bean), context.register(bean), "A bean must keep its slot");
+
+        WorkflowScopeStore first = context.newStore("workflow-1");
+        WorkflowScopeStore second = context.newStore("workflow-2");
+        WorkflowScopeStore previous = context.activate(first);
+        try {
+            assertTrue(context.isActive());
+            String instance = context.get(bean, new NoOpCreationalContext<>());
+            assertSame(instance, context.get(bean, new NoOpCreationalContext<>()),
+                    "A workflow must see one instance of a bean");
+            context.activate(second);
+            assertNull(context.get(bean), "A workflow must not see the instances of another one");
+            assertNotSame(instance, context.get(bean, new NoOpCreationalContext<>()));
+        } finally {
+            context.restore(previous);
+        }
+        assertEquals(2, bean.created.size());
+        assertFalse(context.isActive(), "restore() must deactivate the scope");
+        assertThrows(ContextNotActiveException.class, () -> context.get(bean));
+    }
+
+    @Test
+    public void destroyEndsScopeAndDestroysEveryInstance() {
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        CountingBean early = new CountingBean("early");
+        context.register(early);
+        WorkflowScopeStore store = context.newStore("workflow-1");
+        CountingBean late = new CountingBean("late");
+
+        context.activate(store);
+        try {
+            context.get(early, new NoOpCreationalContext<>());
+            context.get(late, new NoOpCreationalContext<>());
+            assertEquals(2, store.size(), "A bean registered after the store was sized must still get a slot");
+
+            store.destroy();
+            assertTrue(store.isDestroyed());
+            assertEquals(0, store.size());
+            assertEquals(List.of("early"), early.destroyed);
+            assertEquals(List.of("late"), late.destroyed);
+            assertFalse(context.isActive(), "A destroyed store must not be active");
+            assertThrows(ContextNotActiveException.class,
+                    () -> context.get(early, new NoOpCreationalContext<>()));
+            store.destroy();
+            assertEquals(1, early.destroyed.size(), "A second destroy() must have no effect");
+        } finally {
+            context.restore(null);
+        }
+    }
+
+    private static final class CountingBean implements Contextual<String> {
+
+        private final String name;
+        private final List<String> created = new ArrayList<>();
+        private final List<String> destroyed = new ArrayList<>();
+
+        CountingBean(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            String instance = new String(name);
+            created.add(instance);
+            return instance;
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            destroyed.add(instance);
+        }
+    }
+
+    private static final class NoOpCreationalContext<T> implements CreationalContext<T> {
+
+        @Override
+        public void push(T incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for propagation of the workflow scope to executor tasks, stage callbacks and subscriber signals.
+ */
+public class WorkflowScopePropagationTest {
+
+    @Test
+    public void executorAndStageRunInCapturedScope() throws Exception {
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        WorkflowScopeStore store = context.newStore("workflow-1");
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            WorkflowScopeExecutor executor = new WorkflowScopeExecutor(context, pool);
+            CompletableFuture<String> source = new CompletableFuture<>();
+            CompletableFuture<WorkflowScopeStore> task = new CompletableFuture<>();
+            CompletionStage<WorkflowScopeStore> callback;
+            WorkflowScopeStore previous = context.activate(store);
+            try {
+                executor.execute(() -> task.complete(context.currentStore()));
+                callback = new WorkflowScopedCompletionStage<>(context, source)
+                        .thenApplyAsync(value -> context.currentStore(), pool);
+            } finally {
+                context.restore(previous);
+            }
+            assertSame(store, task.get(5, TimeUnit.SECONDS), "A task must run in the submitting workflow");
+
+            source.complete("value");
+            assertSame(store, callback.toCompletableFuture().get(5, TimeUnit.SECONDS),
+                    "A callback must run in the workflow that registered it");
+            assertNull(pool.submit(context::currentStore).get(5, TimeUnit.SECONDS),
+                    "The pool thread must be left without a workflow");
+            assertNull(context.currentStore(), "The calling thread must be left without a workflow");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void subscriberSignalsRunInCapturedScope() throws Exception {
+        WorkflowScopeContext context = new WorkflowScopeContext();
+        WorkflowScopeStore store = context.newStore("workflow-1");
+        RecordingSubscriber recording = new RecordingSubscriber(context);
+        Flow.Subscriber<String> subscriber;
+        WorkflowScopeStore previous = context.activate(store);
+        try {
+            subscriber = new WorkflowScopedSubscriber<>(context, recording);
+        } finally {
+            context.restore(previous);
+        }
+
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(subscriber);
+            publisher.submit("a");
+            publisher.submit("b");
+        }
+        assertTrue(recording.completed.await(5, TimeUnit.SECONDS), "The subscriber must complete");
+        assertEquals(List.of("a", "b"), recording.items);
+        assertEquals(4, recording.stores.size(), "Every signal must be recorded");
+        for (WorkflowScopeStore seen : recording.stores) {
+            assertSame(store, seen, "Every signal must be delivered in the subscribing workflow");
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        private final WorkflowScopeContext context;
+        private final List<String> items = new ArrayList<>();
+        private final List<WorkflowScopeStore> stores = new ArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingSubscriber(WorkflowScopeContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            stores.add(context.currentStore());
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String item) {
+            stores.add(context.currentStore());
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            stores.add(context.currentStore());
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            stores.add(context.currentStore());
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.scope;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for passivation of a {@link WorkflowScopeStore} racing with threads entering it.
+ */
+public class WorkflowScopeStoreTest {
+
+    @Test
+    public void enterWaitsForPassivationInProgress() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        WorkflowScopeStore store = passivatableStore(new MemoryStore(writing, proceed));
+
+        CompletableFuture<Boolean> passivation = CompletableFuture.supplyAsync(() -> passivate(store));
+        assertTrue(writing.await(5, TimeUnit.SECONDS), "Passivation must start");
+
+        Thread entering = new Thread(store::enter, "entering");
+        entering.start();
+        awaitState(entering, Thread.State.WAITING);
+        assertFalse(store.isPassivated(), "The state must not be published before it is written");
+
+        proceed.countDown();
+        assertTrue(passivation.get(5, TimeUnit.SECONDS), "Passivation must succeed");
+        entering.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(entering.isAlive(), "enter() must return once passivation has finished");
+        assertTrue(store.isPassivated(), "The store must be passivated");
+        assertEquals("state", store.get(0), "The entered thread must see the reactivated instance");
+        store.exit();
+    }
+
+    @Test
+    public void passivateSkipsEnteredStore() throws Exception {
+        WorkflowScopeStore store = passivatableStore(new MemoryStore(new CountDownLatch(1), new CountDownLatch(0)));
+
+        store.enter();
+        assertFalse(store.passivate(), "An entered store must not be passivated");
+        store.exit();
+        assertTrue(store.passivate(), "A store that was exited must be passivated");
+        assertEquals("state", store.get(0), "The instance must be reactivated");
+    }
+
+    private static WorkflowScopeStore passivatableStore(PassivationStore passivationStore) {
+        WorkflowScopeStore store = new WorkflowScopeStore("workflow-1", 4);
+        new WorkflowScopePassivator(passivationStore, Duration.ZERO).track(store);
+        assertEquals("state", store.getOrCreate(0, new StateBean(), new SerializableCreationalContext<>()));
+        return store;
+    }
+
+    private static boolean passivate(WorkflowScopeStore store) {
+        try {
+            return store.passivate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Thread " + thread.getName() + " is " + thread.getState() + ", expected " + state);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class MemoryStore implements PassivationStore {
+
+        private final Map<String, byte[]> states = new ConcurrentHashMap<>();
+        private final CountDownLatch writing;
+        private final CountDownLatch proceed;
+
+        MemoryStore(CountDownLatch writing, CountDownLatch proceed) {
+            this.writing = writing;
+            this.proceed = proceed;
+        }
+
+        @Override
+        public void write(String workflowId, byte[] state) throws IOException {
+            writing.countDown();
+            try {
+                if (!proceed.await(5, TimeUnit.SECONDS)) {
+                    throw new IOException("Test did not release the write");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            states.put(workflowId, state);
+        }
+
+        @Override
+        public byte[] read(String workflowId) {
+            return states.get(workflowId);
+        }
+
+        @Override
+        public void remove(String workflowId) {
+            states.remove(workflowId);
+        }
+    }
+
+    private static final class StateBean implements Contextual<String> {
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return "state";
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+        }
+    }
+
+    private static final class SerializableCreationalContext<T> implements CreationalContext<T>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void push(T incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
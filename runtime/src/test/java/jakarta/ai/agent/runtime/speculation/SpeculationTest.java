@@ -0,0 +1,119 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.speculation;
+
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.runtime.cancel.DefaultCancellationToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the confirmation, discarding and cancellation of a {@link Speculation}.
+ */
+public class SpeculationTest {
+
+    @Test
+    public void confirmReturnsTheActionResult() {
+        QueuedExecutor executor = new QueuedExecutor();
+        Speculator speculator = new Speculator(executor);
+        Speculation<String> speculation = speculator.speculate(token -> "result", CancellationToken.none());
+        assertFalse(speculation.isDone(), "The action must run on the executor");
+
+        executor.runAll();
+        CompletableFuture<String> result = speculation.confirm().toCompletableFuture();
+        assertEquals("result", result.join());
+        assertThrows(IllegalStateException.class, speculation::confirm, "A second confirm() must fail");
+        assertThrows(IllegalStateException.class, speculation::discard,
+                "A confirmed speculation must not be discarded");
+        assertEquals(1, speculator.getStatistics().getHitCount());
+        assertEquals(0, speculator.getStatistics().getMissCount());
+        assertEquals(1.0, speculator.getStatistics().getHitRate());
+    }
+
+    @Test
+    public void discardCancelsTheAction() {
+        QueuedExecutor executor = new QueuedExecutor();
+        Speculator speculator = new Speculator(executor);
+        AtomicReference<CancellationToken> seen = new AtomicReference<>();
+        Speculation<String> speculation = speculator.speculate(token -> {
+            seen.set(token);
+            return "unused";
+        }, CancellationToken.none());
+
+        speculation.discard();
+        assertDoesNotThrow(speculation::discard, "A second discard() must have no effect");
+        executor.runAll();
+        assertTrue(seen.get().isCancelled(), "The action must see its token cancelled");
+        assertEquals(0, speculator.getStatistics().getHitCount());
+        assertEquals(1, speculator.getStatistics().getMissCount());
+        assertEquals(0.0, speculator.getStatistics().getHitRate());
+        assertThrows(IllegalStateException.class, speculation::confirm,
+                "A discarded speculation must not be confirmed");
+    }
+
+    @Test
+    public void workflowCancelledAfterConfirmCancelsTheRunningAction() {
+        QueuedExecutor executor = new QueuedExecutor();
+        Speculator speculator = new Speculator(executor);
+        DefaultCancellationToken workflow = new DefaultCancellationToken();
+        AtomicReference<CancellationToken> seen = new AtomicReference<>();
+        Speculation<String> speculation = speculator.speculate(token -> {
+            seen.set(token);
+            workflow.cancel();
+            return token.isCancelled() ? "aborted" : "completed";
+        }, workflow);
+
+        CompletableFuture<String> result = speculation.confirm().toCompletableFuture();
+        executor.runAll();
+        assertEquals("aborted", result.join(), "Cancelling the workflow must reach a confirmed running action");
+        assertTrue(seen.get().isCancelled());
+    }
+
+    @Test
+    public void actionFailureCompletesTheConfirmedStage() {
+        QueuedExecutor executor = new QueuedExecutor();
+        Speculator speculator = new Speculator(executor);
+        IllegalStateException failure = new IllegalStateException("action failed");
+        Speculation<String> speculation = speculator.speculate(token -> {
+            throw failure;
+        }, CancellationToken.none());
+
+        executor.runAll();
+        CompletableFuture<String> result = speculation.confirm().toCompletableFuture();
+        assertTrue(result.isCompletedExceptionally(), "The failure of the action must complete the stage");
+        assertSame(failure, assertThrows(Exception.class, result::join).getCause());
+    }
+
+    private static final class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            for (Runnable task; (task = tasks.poll()) != null; ) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.stress;
+
+import ee.jakarta.tck.ai.agent.stress.StressRuntime;
+import ee.jakarta.tck.ai.agent.stress.StressScope;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.runtime.context.DefaultWorkflowContext;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeContext;
+import jakarta.ai.agent.runtime.scope.WorkflowScopeStore;
+import jakarta.enterprise.context.spi.Context;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@link StressRuntime} over the reference {@link DefaultWorkflowContext} and
+ * {@link WorkflowScopeContext}, so that the concurrency stress tests of the TCK run
+ * against this runtime.
+ */
+public class ReferenceStressRuntime implements StressRuntime {
+
+    private final WorkflowScopeContext scopeContext = new WorkflowScopeContext();
+
+    @Override
+    public WorkflowContext newWorkflowContext(String workflowId, Object triggerEvent) {
+        return new DefaultWorkflowContext(workflowId, triggerEvent);
+    }
+
+    @Override
+    public Context getWorkflowScopeContext() {
+        return scopeContext;
+    }
+
+    @Override
+    public StressScope beginWorkflowScope(String workflowId) {
+        WorkflowScopeStore store = scopeContext.newStore(workflowId);
+        return new StressScope() {
+            @Override
+            public <T> T call(Callable<T> phase) throws Exception {
+                WorkflowScopeStore previous = scopeContext.activate(store);
+                try {
+                    return phase.call();
+                } finally {
+                    scopeContext.restore(previous);
+                }
+            }
+
+            @Override
+            public void end() {
+                store.destroy();
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package jakarta.ai.agent.runtime.tracing;
+
+import jakarta.ai.agent.runtime.metrics.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the spans recorded by an {@link InMemoryTracer}.
+ */
+public class InMemoryTracerTest {
+
+    @Test
+    public void phasesAreChildrenOfTheirWorkflowAcrossThreads() throws Exception {
+        InMemoryTracer tracer = new InMemoryTracer();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TraceSpan workflow = tracer.startWorkflow("fraud", "workflow-1", String.class);
+            try (TraceScope ignored = workflow.makeCurrent()) {
+                TraceSpan decision = tracer.startPhase("fraud", "workflow-1", Phase.DECISION, "check");
+                decision.end();
+                tracer.wrap(executor).execute(
+                        () -> tracer.startPhase("fraud", "workflow-1", Phase.ACTION, "notify").end());
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            workflow.setAttribute(TraceAttributes.WORKFLOW_STATUS, "COMPLETED");
+            workflow.end();
+            workflow.end();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<RecordedSpan> spans = tracer.getFinishedSpans();
+        assertEquals(3, spans.size(), "A span ended twice must be recorded once");
+        RecordedSpan root = spans.get(2);
+        assertNull(root.parentSpanId());
+        assertEquals("invoke_agent fraud", root.name());
+        assertEquals(String.class.getName(), root.attribute(TraceAttributes.TRIGGER_TYPE));
+        assertEquals("COMPLETED", root.attribute(TraceAttributes.WORKFLOW_STATUS));
+        for (RecordedSpan phase : spans.subList(0, 2)) {
+            assertEquals(root.traceId(), phase.traceId(), "A phase must join the trace of its workflow");
+            assertEquals(root.spanId(), phase.parentSpanId(), "A phase must be a child of its workflow");
+        }
+        assertEquals("decision check", spans.get(0).name());
+        assertEquals("action notify", spans.get(1).name());
+        assertEquals(32, root.traceId().length());
+        assertEquals(16, root.spanId().length());
+    }
+
+    @Test
+    public void exceptionsAreRecordedAndScopesRestoreTheParent() {
+        InMemoryTracer tracer = new InMemoryTracer();
+        TraceSpan first = tracer.startWorkflow("fraud", "workflow-1", String.class);
+        try (TraceScope ignored = first.makeCurrent()) {
+            first.recordException(new IllegalStateException("failed"));
+        }
+        first.end();
+        tracer.startWorkflow("fraud", "workflow-2", String.class).end();
+
+        List<RecordedSpan> spans = tracer.getFinishedSpans();
+        assertEquals(IllegalStateException.class.getName(), spans.get(0).attribute(TraceAttributes.ERROR_TYPE));
+        assertInstanceOf(IllegalStateException.class, spans.get(0).exception());
+        assertNull(spans.get(1).parentSpanId(), "A closed scope must restore the previous current span");
+        assertNotEquals(spans.get(0).traceId(), spans.get(1).traceId());
+
+        tracer.reset();
+        assertTrue(tracer.getFinishedSpans().isEmpty());
+        assertSame(TraceSpan.NOOP, WorkflowTracer.NOOP.startWorkflow("fraud", "workflow-3", String.class));
+    }
+}
@@ -0,0 +1,94 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.Agent;
+import jakarta.ai.agent.AgentLimits;
+import jakarta.ai.agent.WorkflowPriority;
+import jakarta.ai.agent.WorkflowTimeoutException;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link AgentLimits} annotation and {@link WorkflowTimeoutException}.
+ *
+ * <p>These tests verify that agent limits conform to the
+ * Jakarta Agentic AI 1.0 specification requirements.
+ */
+public class AgentLimitsAnnotationTests {
+
+    @Assertion(id = "AGENTICAI-LIMITS-001",
+               strategy = "Verify @AgentLimits annotation has RUNTIME retention and targets TYPE elements")
+    public void testAgentLimitsRetentionAndTarget() {
+        Retention retention = AgentLimits.class.getAnnotation(Retention.class);
+        assertNotNull(retention, "@AgentLimits must have @Retention annotation");
+        assertEquals(RetentionPolicy.RUNTIME, retention.value(),
+                "@AgentLimits must have RUNTIME retention policy");
+
+        Target target = AgentLimits.class.getAnnotation(Target.class);
+        assertNotNull(target, "@AgentLimits must have @Target annotation");
+        assertArrayEquals(new ElementType[] {ElementType.TYPE}, target.value(),
+                "@AgentLimits must target TYPE elements");
+    }
+
+    @Assertion(id = "AGENTICAI-LIMITS-002",
+               strategy = "Verify @AgentLimits defaults mean no limits, the default executor and MEDIUM priority")
+    public void testAgentLimitsDefaults() {
+        @Agent
+        @AgentLimits
+        class TestAgent {}
+
+        AgentLimits limits = TestAgent.class.getAnnotation(AgentLimits.class);
+        assertNotNull(limits, "@AgentLimits must be retrievable from annotated class");
+        assertEquals(0, limits.maxConcurrentWorkflows(), "maxConcurrentWorkflows() must default to 0");
+        assertEquals(0L, limits.phaseTimeoutMillis(), "phaseTimeoutMillis() must default to 0");
+        assertEquals(0L, limits.workflowTimeoutMillis(), "workflowTimeoutMillis() must default to 0");
+        assertEquals("", limits.executor(), "executor() must default to an empty string");
+        assertEquals(WorkflowPriority.MEDIUM, limits.priority(), "priority() must default to MEDIUM");
+    }
+
+    @Assertion(id = "AGENTICAI-LIMITS-003",
+               strategy = "Verify @AgentLimits attributes can be customized")
+    public void testAgentLimitsCustomValues() {
+        @Agent
+        @AgentLimits(maxConcurrentWorkflows = 4, phaseTimeoutMillis = 90_000, workflowTimeoutMillis = 300_000,
+                     executor = "java:app/concurrent/docsExecutor", priority = WorkflowPriority.LOW)
+        class TestAgent {}
+
+        AgentLimits limits = TestAgent.class.getAnnotation(AgentLimits.class);
+        assertEquals(4, limits.maxConcurrentWorkflows(), "maxConcurrentWorkflows() must return the configured value");
+        assertEquals(90_000L, limits.phaseTimeoutMillis(), "phaseTimeoutMillis() must return the configured value");
+        assertEquals(300_000L, limits.workflowTimeoutMillis(), "workflowTimeoutMillis() must return the configured value");
+        assertEquals("java:app/concurrent/docsExecutor", limits.executor(), "executor() must return the configured value");
+        assertEquals(WorkflowPriority.LOW, limits.priority(), "priority() must return the configured value");
+    }
+
+    @Assertion(id = "AGENTICAI-LIMITS-004",
+               strategy = "Verify WorkflowTimeoutException extends RuntimeException and keeps message and cause")
+    public void testWorkflowTimeoutException() {
+        Throwable cause = new TimeoutException();
+        WorkflowTimeoutException exception = new WorkflowTimeoutException("Phase timed out", cause);
+
+        assertTrue(RuntimeException.class.isAssignableFrom(WorkflowTimeoutException.class),
+                "WorkflowTimeoutException must extend RuntimeException");
+        assertEquals("Phase timed out", exception.getMessage(), "getMessage() must return the constructor message");
+        assertSame(cause, exception.getCause(), "getCause() must return the constructor cause");
+    }
+}
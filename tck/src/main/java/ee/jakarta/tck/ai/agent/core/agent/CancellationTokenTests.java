@@ -0,0 +1,94 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.CancellationToken;
+import jakarta.ai.agent.WorkflowCancelledException;
+import jakarta.ai.agent.WorkflowTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link CancellationToken} interface and
+ * {@link WorkflowCancelledException}.
+ *
+ * <p>These tests verify that cooperative cancellation conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements.
+ */
+public class CancellationTokenTests {
+
+    @Assertion(id = "AGENTICAI-CANCEL-001",
+               strategy = "Verify CancellationToken.none() is never cancelled and has no deadline")
+    public void testNoneToken() {
+        CancellationToken token = CancellationToken.none();
+        assertFalse(token.isCancelled(), "none() must not be cancelled");
+        assertTrue(token.getDeadline().isEmpty(), "none() must not have a deadline");
+        assertTrue(token.getRemainingTime().isEmpty(), "none() must not have a remaining time");
+        assertDoesNotThrow(token::throwIfCancelled, "throwIfCancelled() must not throw for none()");
+        assertNotNull(token.onCancel(() -> { }), "onCancel() must return a registration");
+    }
+
+    @Assertion(id = "AGENTICAI-CANCEL-002",
+               strategy = "Verify getRemainingTime() is never negative and throwIfCancelled() reports a passed deadline")
+    public void testPassedDeadline() {
+        CancellationToken token = token(true, Instant.now().minusSeconds(1));
+        assertEquals(Optional.of(Duration.ZERO), token.getRemainingTime(),
+                "getRemainingTime() must be zero once the deadline has passed");
+        assertThrows(WorkflowTimeoutException.class, token::throwIfCancelled,
+                "throwIfCancelled() must throw WorkflowTimeoutException after the deadline");
+    }
+
+    @Assertion(id = "AGENTICAI-CANCEL-003",
+               strategy = "Verify throwIfCancelled() throws WorkflowCancelledException for an explicit cancellation")
+    public void testExplicitCancellation() {
+        CancellationToken token = token(true, Instant.now().plusSeconds(60));
+        assertThrows(WorkflowCancelledException.class, token::throwIfCancelled,
+                "throwIfCancelled() must throw WorkflowCancelledException before the deadline");
+        assertDoesNotThrow(token(false, Instant.now().minusSeconds(1))::throwIfCancelled,
+                "throwIfCancelled() must only throw for a cancelled token");
+    }
+
+    @Assertion(id = "AGENTICAI-CANCEL-004",
+               strategy = "Verify WorkflowCancelledException is a CancellationException")
+    public void testWorkflowCancelledExceptionHierarchy() {
+        WorkflowCancelledException exception = new WorkflowCancelledException("cancelled");
+        assertTrue(exception instanceof CancellationException,
+                "WorkflowCancelledException must extend CancellationException");
+        assertEquals("cancelled", exception.getMessage(), "Message must be preserved");
+    }
+
+    private static CancellationToken token(boolean cancelled, Instant deadline) {
+        return new CancellationToken() {
+            @Override
+            public boolean isCancelled() {
+                return cancelled;
+            }
+
+            @Override
+            public Optional<Instant> getDeadline() {
+                return Optional.of(deadline);
+            }
+
+            @Override
+            public Registration onCancel(Runnable action) {
+                return () -> { };
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.Agent;
+import jakarta.ai.agent.DeadLetterStore;
+import jakarta.ai.agent.Intake;
+import jakarta.ai.agent.TriggerRejected;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link Intake} annotation and its companion types
+ * {@link TriggerRejected} and {@link DeadLetterStore}.
+ *
+ * <p>These tests verify that the intake types conform to the
+ * Jakarta Agentic AI 1.0 specification requirements.
+ */
+public class IntakeAnnotationTests {
+
+    @Assertion(id = "AGENTICAI-INTAKE-001",
+               strategy = "Verify @Intake annotation has RUNTIME retention and targets TYPE elements")
+    public void testIntakeRetentionAndTarget() {
+        Retention retention = Intake.class.getAnnotation(Retention.class);
+        assertNotNull(retention, "@Intake must have @Retention annotation");
+        assertEquals(RetentionPolicy.RUNTIME, retention.value(),
+                "@Intake must have RUNTIME retention policy");
+
+        Target target = Intake.class.getAnnotation(Target.class);
+        assertNotNull(target, "@Intake must have @Target annotation");
+        assertArrayEquals(new ElementType[] {ElementType.TYPE}, target.value(),
+                "@Intake must target TYPE elements");
+    }
+
+    @Assertion(id = "AGENTICAI-INTAKE-002",
+               strategy = "Verify @Intake defaults: capacity 1024, maxInFlight 64, overflow BLOCK")
+    public void testIntakeDefaults() {
+        @Agent
+        @Intake
+        class TestAgent {}
+
+        Intake intake = TestAgent.class.getAnnotation(Intake.class);
+        assertNotNull(intake, "@Intake must be retrievable from annotated class");
+        assertEquals(1024, intake.capacity(), "capacity() must default to 1024");
+        assertEquals(64, intake.maxInFlight(), "maxInFlight() must default to 64");
+        assertEquals(Intake.Overflow.BLOCK, intake.overflow(), "overflow() must default to BLOCK");
+    }
+
+    @Assertion(id = "AGENTICAI-INTAKE-003",
+               strategy = "Verify Intake.Overflow declares BLOCK, DROP_OLDEST, REJECT and DEAD_LETTER")
+    public void testIntakeOverflowConstants() {
+        assertArrayEquals(new String[] {"BLOCK", "DROP_OLDEST", "REJECT", "DEAD_LETTER"},
+                Arrays.stream(Intake.Overflow.values()).map(Enum::name).toArray(String[]::new),
+                "Intake.Overflow must declare the four overflow policies in order");
+    }
+
+    @Assertion(id = "AGENTICAI-INTAKE-004",
+               strategy = "Verify TriggerRejected is a record exposing agent name, event and overflow policy")
+    public void testTriggerRejected() {
+        Object event = new Object();
+        TriggerRejected rejected = new TriggerRejected("fraudAgent", event, Intake.Overflow.REJECT);
+
+        assertTrue(TriggerRejected.class.isRecord(), "TriggerRejected must be a record");
+        assertEquals("fraudAgent", rejected.agentName(), "agentName() must return the agent name");
+        assertSame(event, rejected.event(), "event() must return the discarded event");
+        assertEquals(Intake.Overflow.REJECT, rejected.overflow(), "overflow() must return the policy");
+    }
+
+    @Assertion(id = "AGENTICAI-INTAKE-005",
+               strategy = "Verify DeadLetterStore is an interface in the jakarta.ai.agent package")
+    public void testDeadLetterStore() throws NoSuchMethodException {
+        assertTrue(DeadLetterStore.class.isInterface(), "DeadLetterStore must be an interface");
+        assertEquals("jakarta.ai.agent", DeadLetterStore.class.getPackageName(),
+                "DeadLetterStore must be in jakarta.ai.agent package");
+        assertNotNull(DeadLetterStore.class.getMethod("store", String.class, Object.class),
+                "DeadLetterStore must declare store(String, Object)");
+    }
+}
@@ -0,0 +1,99 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.Payload;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link Payload} class.
+ *
+ * <p>These tests verify that the Payload class conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements for off-heap workflow content.
+ */
+public class PayloadTests {
+
+    @Assertion(id = "AGENTICAI-PAYLOAD-001",
+               strategy = "Verify Payload class exists in the jakarta.ai.agent package and is AutoCloseable")
+    public void testPayloadExists() {
+        assertEquals("jakarta.ai.agent", Payload.class.getPackageName(),
+                "Payload must be in jakarta.ai.agent package");
+        assertTrue(AutoCloseable.class.isAssignableFrom(Payload.class),
+                "Payload must implement AutoCloseable");
+    }
+
+    @Assertion(id = "AGENTICAI-PAYLOAD-002",
+               strategy = "Verify Payload.of(CharSequence) stores the UTF-8 encoding of the text")
+    public void testPayloadOfText() {
+        String text = "Diff with non-ASCII content: é中😀";
+        Payload payload = Payload.of(text);
+
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, payload.size(),
+                "size() must return the UTF-8 length of the text");
+        assertEquals(text, payload.asString(),
+                "asString() must return the original text");
+    }
+
+    @Assertion(id = "AGENTICAI-PAYLOAD-003",
+               strategy = "Verify Payload buffers are direct and read-only")
+    public void testPayloadBufferIsDirectAndReadOnly() {
+        Payload payload = Payload.of(new byte[] {1, 2, 3});
+        ByteBuffer buffer = payload.asReadOnlyBuffer();
+
+        assertTrue(buffer.isDirect(), "Payload content must be held in direct memory");
+        assertTrue(buffer.isReadOnly(), "asReadOnlyBuffer() must return a read-only view");
+        assertEquals(3, buffer.remaining(), "The view must cover the whole content");
+    }
+
+    @Assertion(id = "AGENTICAI-PAYLOAD-004",
+               strategy = "Verify Payload.read(InputStream) and openStream() round-trip the content")
+    public void testPayloadStreamRoundTrip() throws IOException {
+        byte[] content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Payload payload = Payload.read(new ByteArrayInputStream(content));
+
+        assertEquals(content.length, payload.size(), "size() must match the stream length");
+        try (InputStream in = payload.openStream()) {
+            assertArrayEquals(content, in.readAllBytes(),
+                    "openStream() must return the content read from the stream");
+        }
+    }
+
+    @Assertion(id = "AGENTICAI-PAYLOAD-005",
+               strategy = "Verify a released Payload rejects access and release is idempotent")
+    public void testReleasedPayloadRejectsAccess() {
+        Payload payload = Payload.of("content");
+        assertFalse(payload.isReleased(), "A new payload must not be released");
+
+        payload.close();
+        payload.release();
+
+        assertTrue(payload.isReleased(), "close() must release the payload");
+        assertThrows(IllegalStateException.class, payload::asReadOnlyBuffer,
+                "asReadOnlyBuffer() must fail after release");
+        assertThrows(IllegalStateException.class, payload::openStream,
+                "openStream() must fail after release");
+        assertThrows(IllegalStateException.class, payload::asString,
+                "asString() must fail after release");
+    }
+}
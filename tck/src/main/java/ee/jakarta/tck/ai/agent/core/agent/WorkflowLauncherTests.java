@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.WorkflowHandle;
+import jakarta.ai.agent.WorkflowLauncher;
+import jakarta.ai.agent.WorkflowStatus;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link WorkflowLauncher} and {@link WorkflowHandle} interfaces
+ * and the {@link WorkflowStatus} enum.
+ *
+ * <p>These tests verify that the launcher API conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements.
+ */
+public class WorkflowLauncherTests {
+
+    @Assertion(id = "AGENTICAI-LAUNCHER-001",
+               strategy = "Verify WorkflowLauncher and WorkflowHandle are interfaces in the jakarta.ai.agent package")
+    public void testLauncherTypesExist() {
+        assertTrue(WorkflowLauncher.class.isInterface(), "WorkflowLauncher must be an interface");
+        assertTrue(WorkflowHandle.class.isInterface(), "WorkflowHandle must be an interface");
+        assertEquals("jakarta.ai.agent", WorkflowLauncher.class.getPackageName(),
+                "WorkflowLauncher must be in jakarta.ai.agent package");
+        assertEquals("jakarta.ai.agent", WorkflowHandle.class.getPackageName(),
+                "WorkflowHandle must be in jakarta.ai.agent package");
+    }
+
+    @Assertion(id = "AGENTICAI-LAUNCHER-002",
+               strategy = "Verify WorkflowLauncher declares start by agent name and by agent class")
+    public void testLauncherStartMethods() throws NoSuchMethodException {
+        assertEquals(WorkflowHandle.class,
+                WorkflowLauncher.class.getMethod("start", String.class, Object.class).getReturnType(),
+                "start(String, Object) must return a WorkflowHandle");
+        assertEquals(WorkflowHandle.class,
+                WorkflowLauncher.class.getMethod("start", Class.class, Object.class).getReturnType(),
+                "start(Class, Object) must return a WorkflowHandle");
+    }
+
+    @Assertion(id = "AGENTICAI-LAUNCHER-003",
+               strategy = "Verify the three-argument startAll delegates to the four-argument variant")
+    public void testStartAllDefaultDelegates() {
+        Object[] captured = new Object[3];
+        WorkflowLauncher launcher = new WorkflowLauncher() {
+            @Override
+            public WorkflowHandle<Object> start(String agentName, Object triggerEvent) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public WorkflowHandle<Object> start(Class<?> agentClass, Object triggerEvent) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletionStage<Long> startAll(String agentName, Stream<?> triggerEvents, int maxInFlight,
+                                                  Consumer<? super WorkflowHandle<Object>> onStart) {
+                captured[0] = agentName;
+                captured[1] = maxInFlight;
+                captured[2] = onStart;
+                return CompletableFuture.completedFuture(0L);
+            }
+        };
+
+        launcher.startAll("fraudAgent", Stream.empty(), 8);
+
+        assertEquals("fraudAgent", captured[0], "The agent name must be passed through");
+        assertEquals(8, captured[1], "maxInFlight must be passed through");
+        assertNotNull(captured[2], "A non-null onStart consumer must be passed");
+    }
+
+    @Assertion(id = "AGENTICAI-LAUNCHER-004",
+               strategy = "Verify WorkflowStatus.isDone() is false only for PENDING and RUNNING")
+    public void testWorkflowStatusIsDone() {
+        for (WorkflowStatus status : WorkflowStatus.values()) {
+            boolean active = EnumSet.of(WorkflowStatus.PENDING, WorkflowStatus.RUNNING).contains(status);
+            assertEquals(!active, status.isDone(), "Unexpected isDone() for " + status);
+        }
+        assertEquals(6, WorkflowStatus.values().length,
+                "WorkflowStatus must declare PENDING, RUNNING, COMPLETED, TERMINATED, FAILED and CANCELLED");
+    }
+}
@@ -0,0 +1,55 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.WorkflowMemoryExceededException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link WorkflowMemoryExceededException} class.
+ *
+ * <p>These tests verify that the WorkflowMemoryExceededException class conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements.
+ */
+public class WorkflowMemoryExceededExceptionTests {
+
+    @Assertion(id = "AGENTICAI-MEMORYEXCEEDED-001",
+               strategy = "Verify WorkflowMemoryExceededException exists in the jakarta.ai.agent package")
+    public void testWorkflowMemoryExceededExceptionExists() {
+        assertEquals("jakarta.ai.agent", WorkflowMemoryExceededException.class.getPackageName(),
+                "WorkflowMemoryExceededException must be in jakarta.ai.agent package");
+    }
+
+    @Assertion(id = "AGENTICAI-MEMORYEXCEEDED-002",
+               strategy = "Verify WorkflowMemoryExceededException extends RuntimeException")
+    public void testWorkflowMemoryExceededExceptionExtendsRuntimeException() {
+        assertTrue(RuntimeException.class.isAssignableFrom(WorkflowMemoryExceededException.class),
+                "WorkflowMemoryExceededException must extend RuntimeException");
+    }
+
+    @Assertion(id = "AGENTICAI-MEMORYEXCEEDED-003",
+               strategy = "Verify WorkflowMemoryExceededException exposes the message, requested size and limit")
+    public void testWorkflowMemoryExceededExceptionSizes() {
+        WorkflowMemoryExceededException exception =
+                new WorkflowMemoryExceededException("Too large", 2048, 1024);
+
+        assertEquals("Too large", exception.getMessage(),
+                "getMessage() must return the constructor message");
+        assertEquals(2048, exception.getRequestedBytes(),
+                "getRequestedBytes() must return the constructor value");
+        assertEquals(1024, exception.getLimitBytes(),
+                "getLimitBytes() must return the constructor value");
+    }
+}
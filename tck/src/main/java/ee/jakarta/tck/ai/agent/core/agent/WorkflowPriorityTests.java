@@ -0,0 +1,91 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.agent;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.ai.agent.WorkflowPriority;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link WorkflowPriority} enum and the priority methods of
+ * {@link WorkflowContext}.
+ *
+ * <p>These tests verify that workflow priorities conform to the
+ * Jakarta Agentic AI 1.0 specification requirements.
+ */
+public class WorkflowPriorityTests {
+
+    @Assertion(id = "AGENTICAI-PRIORITY-001",
+               strategy = "Verify WorkflowPriority declares HIGH, MEDIUM and LOW from highest to lowest")
+    public void testWorkflowPriorityOrder() {
+        assertArrayEquals(new WorkflowPriority[] {WorkflowPriority.HIGH, WorkflowPriority.MEDIUM, WorkflowPriority.LOW},
+                WorkflowPriority.values(),
+                "WorkflowPriority must declare HIGH, MEDIUM and LOW in that order");
+        assertTrue(WorkflowPriority.HIGH.isHigherThan(WorkflowPriority.LOW),
+                "HIGH must be higher than LOW");
+        assertFalse(WorkflowPriority.MEDIUM.isHigherThan(WorkflowPriority.MEDIUM),
+                "A priority must not be higher than itself");
+    }
+
+    @Assertion(id = "AGENTICAI-PRIORITY-002",
+               strategy = "Verify WorkflowPriority.parse accepts names ignoring case and rejects unknown names")
+    public void testWorkflowPriorityParse() {
+        assertEquals(WorkflowPriority.HIGH, WorkflowPriority.parse("high"),
+                "parse() must accept lower-case names");
+        assertEquals(WorkflowPriority.LOW, WorkflowPriority.parse(" Low "),
+                "parse() must ignore case and surrounding whitespace");
+        assertThrows(IllegalArgumentException.class, () -> WorkflowPriority.parse("urgent"),
+                "parse() must reject unknown names");
+        assertThrows(IllegalArgumentException.class, () -> WorkflowPriority.parse(null),
+                "parse() must reject null");
+    }
+
+    @Assertion(id = "AGENTICAI-PRIORITY-003",
+               strategy = "Verify WorkflowContext priority methods default to MEDIUM and a no-op raise")
+    public void testWorkflowContextPriorityDefaults() {
+        WorkflowContext context = new WorkflowContext() {
+            @Override
+            public void setAttribute(String name, Object value) {
+            }
+
+            @Override
+            public Object getAttribute(String name) {
+                return null;
+            }
+
+            @Override
+            public void removeAttribute(String name) {
+            }
+
+            @Override
+            public Set<String> getAttributeNames() {
+                return Set.of();
+            }
+
+            @Override
+            public Object getTriggerEvent() {
+                return null;
+            }
+        };
+
+        assertEquals(WorkflowPriority.MEDIUM, context.getPriority(),
+                "getPriority() must default to MEDIUM");
+        context.raisePriority(WorkflowPriority.HIGH);
+        assertEquals(WorkflowPriority.MEDIUM, context.getPriority(),
+                "The default raisePriority() must not change the priority");
+    }
+}
@@ -0,0 +1,100 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.lifecycle;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.Batch;
+import jakarta.ai.agent.Trigger;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link Batch} annotation.
+ *
+ * <p>These tests verify that the @Batch annotation conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements. The @Batch annotation
+ * makes a trigger method start one workflow per batch of events.
+ */
+public class BatchAnnotationTests {
+
+    @Assertion(id = "AGENTICAI-BATCH-001",
+               strategy = "Verify @Batch annotation has RUNTIME retention and targets METHOD elements")
+    public void testBatchRetentionAndTarget() {
+        Retention retention = Batch.class.getAnnotation(Retention.class);
+        assertNotNull(retention, "@Batch must have @Retention annotation");
+        assertEquals(RetentionPolicy.RUNTIME, retention.value(),
+                "@Batch must have RUNTIME retention policy");
+
+        Target target = Batch.class.getAnnotation(Target.class);
+        assertNotNull(target, "@Batch must have @Target annotation");
+        assertArrayEquals(new ElementType[] {ElementType.METHOD}, target.value(),
+                "@Batch must target METHOD elements");
+    }
+
+    @Assertion(id = "AGENTICAI-BATCH-002",
+               strategy = "Verify @Batch defaults: size 100, lingerMillis 100, pairResults false")
+    public void testBatchDefaults() throws NoSuchMethodException {
+        Method method = TestAgent.class.getDeclaredMethod("onEvents", List.class);
+        Batch batch = method.getAnnotation(Batch.class);
+
+        assertNotNull(batch, "@Batch must be retrievable from annotated method");
+        assertEquals(100, batch.size(), "size() must default to 100");
+        assertEquals(100L, batch.lingerMillis(), "lingerMillis() must default to 100");
+        assertFalse(batch.pairResults(), "pairResults() must default to false");
+    }
+
+    @Assertion(id = "AGENTICAI-BATCH-003",
+               strategy = "Verify @Batch can be combined with @Trigger on a method taking a List of events")
+    public void testBatchTriggerWithListParameter() throws NoSuchMethodException {
+        Method method = TestAgent.class.getDeclaredMethod("onEvents", List.class);
+
+        assertTrue(method.isAnnotationPresent(Trigger.class),
+                "A batch trigger method must also be annotated with @Trigger");
+        ParameterizedType type = (ParameterizedType) method.getGenericParameterTypes()[0];
+        assertEquals(List.class, type.getRawType(), "The batch parameter must be a List");
+        assertEquals(String.class, type.getActualTypeArguments()[0],
+                "The element type of the batch must be discoverable by reflection");
+    }
+
+    @Assertion(id = "AGENTICAI-BATCH-004",
+               strategy = "Verify @Batch attributes can be customized")
+    public void testBatchCustomValues() throws NoSuchMethodException {
+        Method method = TestAgent.class.getDeclaredMethod("onTunedEvents", List.class);
+        Batch batch = method.getAnnotation(Batch.class);
+
+        assertEquals(50, batch.size(), "size() must return the configured value");
+        assertEquals(250L, batch.lingerMillis(), "lingerMillis() must return the configured value");
+        assertTrue(batch.pairResults(), "pairResults() must return the configured value");
+    }
+
+    static class TestAgent {
+
+        @Trigger
+        @Batch
+        void onEvents(List<String> events) {
+        }
+
+        @Trigger
+        @Batch(size = 50, lingerMillis = 250, pairResults = true)
+        void onTunedEvents(List<String> events) {
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.lifecycle;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.ConcurrentDecisions;
+import jakarta.ai.agent.Decision;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link ConcurrentDecisions} annotation and the
+ * {@link Decision#weight()} attribute.
+ *
+ * <p>These tests verify that the @ConcurrentDecisions annotation conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements. The @ConcurrentDecisions
+ * annotation makes the decision methods of an agent run concurrently.
+ */
+public class ConcurrentDecisionsAnnotationTests {
+
+    @Assertion(id = "AGENTICAI-CONCURRENTDECISIONS-001",
+               strategy = "Verify @ConcurrentDecisions annotation has RUNTIME retention and targets TYPE elements")
+    public void testConcurrentDecisionsRetentionAndTarget() {
+        Retention retention = ConcurrentDecisions.class.getAnnotation(Retention.class);
+        assertNotNull(retention, "@ConcurrentDecisions must have @Retention annotation");
+        assertEquals(RetentionPolicy.RUNTIME, retention.value(),
+                "@ConcurrentDecisions must have RUNTIME retention policy");
+
+        Target target = ConcurrentDecisions.class.getAnnotation(Target.class);
+        assertNotNull(target, "@ConcurrentDecisions must have @Target annotation");
+        assertArrayEquals(new ElementType[] {ElementType.TYPE}, target.value(),
+                "@ConcurrentDecisions must target TYPE elements");
+    }
+
+    @Assertion(id = "AGENTICAI-CONCURRENTDECISIONS-002",
+               strategy = "Verify @ConcurrentDecisions defaults: combinator ALL, threshold 0.5")
+    public void testConcurrentDecisionsDefaults() {
+        ConcurrentDecisions annotation = DefaultAgent.class.getAnnotation(ConcurrentDecisions.class);
+
+        assertNotNull(annotation, "@ConcurrentDecisions must be retrievable from annotated class");
+        assertEquals(ConcurrentDecisions.Combinator.ALL, annotation.combinator(),
+                "combinator() must default to ALL");
+        assertEquals(0.5, annotation.threshold(), "threshold() must default to 0.5");
+    }
+
+    @Assertion(id = "AGENTICAI-CONCURRENTDECISIONS-003",
+               strategy = "Verify ConcurrentDecisions.Combinator declares ALL, ANY and WEIGHTED_VOTE")
+    public void testCombinatorValues() {
+        assertArrayEquals(new ConcurrentDecisions.Combinator[] {
+                        ConcurrentDecisions.Combinator.ALL,
+                        ConcurrentDecisions.Combinator.ANY,
+                        ConcurrentDecisions.Combinator.WEIGHTED_VOTE},
+                ConcurrentDecisions.Combinator.values(),
+                "Combinator must declare ALL, ANY and WEIGHTED_VOTE");
+    }
+
+    @Assertion(id = "AGENTICAI-CONCURRENTDECISIONS-004",
+               strategy = "Verify @Decision weight defaults to 1.0 and can be customized for a weighted vote")
+    public void testDecisionWeight() throws NoSuchMethodException {
+        ConcurrentDecisions annotation = VotingAgent.class.getAnnotation(ConcurrentDecisions.class);
+        assertEquals(ConcurrentDecisions.Combinator.WEIGHTED_VOTE, annotation.combinator(),
+                "combinator() must return the configured value");
+        assertEquals(0.75, annotation.threshold(), "threshold() must return the configured value");
+
+        Method rules = VotingAgent.class.getDeclaredMethod("rules", String.class);
+        Method model = VotingAgent.class.getDeclaredMethod("model", String.class);
+        assertEquals(1.0, rules.getAnnotation(Decision.class).weight(), "weight() must default to 1.0");
+        assertEquals(3.0, model.getAnnotation(Decision.class).weight(), "weight() must return the configured value");
+    }
+
+    @ConcurrentDecisions
+    static class DefaultAgent {
+
+        @Decision
+        boolean check(String event) {
+            return true;
+        }
+    }
+
+    @ConcurrentDecisions(combinator = ConcurrentDecisions.Combinator.WEIGHTED_VOTE, threshold = 0.75)
+    static class VotingAgent {
+
+        @Decision
+        boolean rules(String event) {
+            return true;
+        }
+
+        @Decision(weight = 3)
+        boolean model(String event) {
+            return false;
+        }
+    }
+}
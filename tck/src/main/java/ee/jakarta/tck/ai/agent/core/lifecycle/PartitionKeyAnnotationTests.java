@@ -0,0 +1,73 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.lifecycle;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.PartitionKey;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link PartitionKey} annotation.
+ *
+ * <p>These tests verify that the @PartitionKey annotation conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements. The @PartitionKey annotation
+ * marks the method that extracts the ordering key of a triggering event.
+ */
+public class PartitionKeyAnnotationTests {
+
+    @Assertion(id = "AGENTICAI-PARTITIONKEY-001",
+               strategy = "Verify @PartitionKey annotation has RUNTIME retention and targets METHOD elements")
+    public void testPartitionKeyRetentionAndTarget() {
+        Retention retention = PartitionKey.class.getAnnotation(Retention.class);
+        assertNotNull(retention, "@PartitionKey must have @Retention annotation");
+        assertEquals(RetentionPolicy.RUNTIME, retention.value(),
+                "@PartitionKey must have RUNTIME retention policy");
+
+        Target target = PartitionKey.class.getAnnotation(Target.class);
+        assertNotNull(target, "@PartitionKey must have @Target annotation");
+        assertArrayEquals(new ElementType[] {ElementType.METHOD}, target.value(),
+                "@PartitionKey must target METHOD elements");
+    }
+
+    @Assertion(id = "AGENTICAI-PARTITIONKEY-002",
+               strategy = "Verify @PartitionKey lanes() defaults to 16 and can be customized")
+    public void testPartitionKeyLanes() throws NoSuchMethodException {
+        Method defaults = TestAgent.class.getDeclaredMethod("key", String.class);
+        Method tuned = TestAgent.class.getDeclaredMethod("tunedKey", Integer.class);
+
+        assertEquals(16, defaults.getAnnotation(PartitionKey.class).lanes(),
+                "lanes() must default to 16");
+        assertEquals(64, tuned.getAnnotation(PartitionKey.class).lanes(),
+                "lanes() must return the configured value");
+    }
+
+    static class TestAgent {
+
+        @PartitionKey
+        String key(String event) {
+            return event;
+        }
+
+        @PartitionKey(lanes = 64)
+        Object tunedKey(Integer event) {
+            return event % 10;
+        }
+    }
+}
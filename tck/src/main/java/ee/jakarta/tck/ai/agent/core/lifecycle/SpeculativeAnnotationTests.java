@@ -0,0 +1,82 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.core.lifecycle;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.Action;
+import jakarta.ai.agent.Speculative;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TCK tests for the {@link Speculative} annotation.
+ *
+ * <p>These tests verify that the @Speculative annotation conforms to the
+ * Jakarta Agentic AI 1.0 specification requirements. The @Speculative annotation
+ * lets a side-effect-free first action start during the decision phase.
+ */
+public class SpeculativeAnnotationTests {
+
+    @Assertion(id = "AGENTICAI-SPECULATIVE-001",
+               strategy = "Verify @Speculative annotation has RUNTIME retention and targets METHOD elements")
+    public void testSpeculativeRetentionAndTarget() {
+        Retention retention = Speculative.class.getAnnotation(Retention.class);
+        assertNotNull(retention, "@Speculative must have @Retention annotation");
+        assertEquals(RetentionPolicy.RUNTIME, retention.value(),
+                "@Speculative must have RUNTIME retention policy");
+
+        Target target = Speculative.class.getAnnotation(Target.class);
+        assertNotNull(target, "@Speculative must have @Target annotation");
+        assertArrayEquals(new ElementType[] {ElementType.METHOD}, target.value(),
+                "@Speculative must target METHOD elements");
+    }
+
+    @Assertion(id = "AGENTICAI-SPECULATIVE-002",
+               strategy = "Verify @Speculative is a marker annotation without attributes")
+    public void testSpeculativeIsMarker() {
+        assertEquals(0, Speculative.class.getDeclaredMethods().length,
+                "@Speculative must not declare any attributes");
+    }
+
+    @Assertion(id = "AGENTICAI-SPECULATIVE-003",
+               strategy = "Verify @Speculative can be combined with @Action and is opt-in")
+    public void testSpeculativeOnAction() throws NoSuchMethodException {
+        Method prepare = TestAgent.class.getDeclaredMethod("loadCustomer", String.class);
+        Method handle = TestAgent.class.getDeclaredMethod("handle", String.class);
+
+        assertTrue(prepare.isAnnotationPresent(Action.class), "A speculative method must be an @Action");
+        assertTrue(prepare.isAnnotationPresent(Speculative.class),
+                "@Speculative must be retrievable from annotated method");
+        assertFalse(handle.isAnnotationPresent(Speculative.class),
+                "Actions must not be speculative unless annotated");
+    }
+
+    static class TestAgent {
+
+        @Action
+        @Speculative
+        String loadCustomer(String event) {
+            return event;
+        }
+
+        @Action
+        void handle(String customer) {
+        }
+    }
+}
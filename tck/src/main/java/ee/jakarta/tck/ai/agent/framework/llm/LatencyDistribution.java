@@ -0,0 +1,84 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.framework.llm;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution of the time a {@link SimulatedLargeLanguageModel} takes before its first
+ * token.
+ * <p>
+ * Samples are drawn from a generator seeded per call, so a model with a fixed seed
+ * produces the same latencies for the same sequence of calls.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Draw a latency.
+     *
+     * @param random the generator of the call
+     * @return the latency in nanoseconds, not negative
+     */
+    long sampleNanos(RandomGenerator random);
+
+    /**
+     * Get a distribution that always returns the same latency.
+     *
+     * @param latency the latency, not negative
+     * @return the distribution
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    /**
+     * Get a log-normal distribution, the usual shape of remote call latencies.
+     *
+     * @param median the median latency, positive
+     * @param sigma the standard deviation of the logarithm of the latency; {@code 0.5}
+     *        puts the 99th percentile at about 3.2 times the median
+     * @return the distribution
+     */
+    static LatencyDistribution lognormal(Duration median, double sigma) {
+        if (median.isNegative() || median.isZero() || sigma < 0) {
+            throw new IllegalArgumentException("Median must be positive and sigma not negative");
+        }
+        double mu = Math.log(median.toNanos());
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Get a mixture of a fast and a slow distribution, modelling a provider that
+     * usually answers quickly but sometimes queues requests.
+     *
+     * @param fast the distribution of most calls
+     * @param slow the distribution of the long tail
+     * @param slowProbability the probability of a call being slow, between 0 and 1
+     * @return the distribution
+     */
+    static LatencyDistribution bimodal(LatencyDistribution fast, LatencyDistribution slow, double slowProbability) {
+        Objects.requireNonNull(fast, "fast");
+        Objects.requireNonNull(slow, "slow");
+        if (slowProbability < 0 || slowProbability > 1) {
+            throw new IllegalArgumentException("slowProbability must be between 0 and 1");
+        }
+        return random -> random.nextDouble() < slowProbability ? slow.sampleNanos(random) : fast.sampleNanos(random);
+    }
+}
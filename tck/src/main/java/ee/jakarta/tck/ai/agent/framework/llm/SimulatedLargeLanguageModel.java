@@ -0,0 +1,743 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.framework.llm;
+
+import jakarta.ai.agent.LLMException;
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.Result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic, in-process {@link LargeLanguageModel} stand-in for TCK tests and load
+ * tests.
+ * <p>
+ * <b>Responses</b><br>
+ * Each prompt is matched against the rules of the model in the order they were added;
+ * the first rule whose pattern is found in the prompt produces the response. A rule
+ * answers with a fixed text, a function of the prompt, or a script of successive
+ * answers. Prompts that match no rule get the default response.
+ * <p>
+ * <b>Timing</b><br>
+ * Every call waits for a time to first token drawn from a {@link LatencyDistribution},
+ * then for the time needed to produce the response at the configured token
+ * throughput, where a token is a whitespace-separated word. Blocking queries park the
+ * calling thread for that time, as a remote call would. {@link #queryAsync} and
+ * {@link #stream} do not block any thread, so a single model can emulate 100,000 calls
+ * per second.
+ * <p>
+ * <b>Failures</b><br>
+ * A configurable share of calls fails with {@link LLMException}, and another share
+ * with {@link SimulatedRateLimitException}. Failures are reported after the time to
+ * first token.
+ * <p>
+ * <b>Determinism</b><br>
+ * Latencies and failures are drawn from a generator derived from the seed and the
+ * sequence number of the call, so a model with a given seed behaves the same way for
+ * the same sequence of calls. Calls made concurrently take their sequence numbers in
+ * the order they happen to arrive, so which of them is slow or fails varies between
+ * runs; the distribution of latencies and failures over the run does not.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+ *         .rule("fraudulent", prompt -> "no")
+ *         .script("summarize", "short summary", "longer summary of the change")
+ *         .latency(LatencyDistribution.bimodal(
+ *                 LatencyDistribution.lognormal(Duration.ofMillis(400), 0.3),
+ *                 LatencyDistribution.lognormal(Duration.ofSeconds(4), 0.5), 0.02))
+ *         .tokensPerSecond(80)
+ *         .failureRate(0.001)
+ *         .rateLimitRate(0.01)
+ *         .seed(42)
+ *         .build();
+ * }</pre>
+ */
+public class SimulatedLargeLanguageModel implements LargeLanguageModel {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final Object[] NO_INPUTS = new Object[0];
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private final List<Rule> rules;
+    private final String defaultResponse;
+    private final LatencyDistribution latency;
+    private final double tokensPerSecond;
+    private final double failureRate;
+    private final double rateLimitRate;
+    private final Duration retryAfter;
+    private final long seed;
+    private final Map<Class<?>, Function<String, ?>> converters;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    /**
+     * Create a model from a builder.
+     *
+     * @param builder the builder
+     */
+    protected SimulatedLargeLanguageModel(Builder builder) {
+        this.rules = List.copyOf(builder.rules);
+        this.defaultResponse = builder.response;
+        this.latency = builder.latency;
+        this.tokensPerSecond = builder.tokensPerSecond;
+        this.failureRate = builder.failureRate;
+        this.rateLimitRate = builder.rateLimitRate;
+        this.retryAfter = builder.retryAfter;
+        this.seed = builder.seed;
+        this.converters = Map.copyOf(builder.converters);
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "simulated-llm-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Create a builder for a model that answers {@code "yes"} without latency or failures.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the number of queries received so far.
+     *
+     * @return the number of calls
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * Get the number of queries currently waiting for their response.
+     *
+     * @return the number of calls in progress
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get the number of calls failed with an injected {@link LLMException}, excluding
+     * rate limits.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * Get the number of calls failed with {@link SimulatedRateLimitException}.
+     *
+     * @return the number of rate-limited calls
+     */
+    public long getRateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    /**
+     * Produce the response to a query. Subclasses may override this method; the
+     * default applies the rules of the model.
+     *
+     * @param prompt the prompt
+     * @param inputs the input objects, possibly empty
+     * @return the response text
+     */
+    protected String respond(String prompt, Object[] inputs) {
+        for (Rule rule : rules) {
+            if (rule.pattern().matcher(prompt).find()) {
+                return rule.responder().apply(prompt);
+            }
+        }
+        return defaultResponse;
+    }
+
+    /**
+     * Convert a response to the requested result type.
+     * <p>
+     * Converters registered with {@link Builder#converter(Class, Function)} take
+     * precedence. Otherwise {@code String}, {@code CharSequence} and {@code Object}
+     * receive the text; {@code Boolean} is {@code true} for {@code yes}, {@code y},
+     * {@code true} or {@code 1}, ignoring case; {@code Integer}, {@code Long} and
+     * {@code Double} are parsed; an enum constant is looked up by name, ignoring case;
+     * and a {@link Result} succeeds if the first word is a {@code true} answer and carries
+     * the text as details. Primitive types are converted like their wrappers.
+     *
+     * @param <T> the result type
+     * @param text the response text
+     * @param resultType the requested result type
+     * @return the converted response
+     * @throws IllegalArgumentException if the result type is not supported or the text
+     *         cannot be converted
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected <T> T convert(String text, Class<T> resultType) {
+        Function<String, ?> converter = converters.get(resultType);
+        if (converter != null) {
+            return (T) converter.apply(text);
+        }
+        String trimmed = text.trim();
+        try {
+            if (resultType == String.class || resultType == CharSequence.class || resultType == Object.class) {
+                return (T) text;
+            }
+            if (resultType == Boolean.class || resultType == boolean.class) {
+                return (T) Boolean.valueOf(isYes(trimmed));
+            }
+            if (resultType == Integer.class || resultType == int.class) {
+                return (T) Integer.valueOf(trimmed);
+            }
+            if (resultType == Long.class || resultType == long.class) {
+                return (T) Long.valueOf(trimmed);
+            }
+            if (resultType == Double.class || resultType == double.class) {
+                return (T) Double.valueOf(trimmed);
+            }
+            if (resultType.isEnum()) {
+                for (Object constant : resultType.getEnumConstants()) {
+                    if (((Enum) constant).name().equalsIgnoreCase(trimmed)) {
+                        return (T) constant;
+                    }
+                }
+                throw new IllegalArgumentException("No " + resultType.getSimpleName() + " constant named " + trimmed);
+            }
+            if (resultType == Result.class) {
+                String first = trimmed.split("[\\s,.:;]+", 2)[0];
+                return (T) new Result(isYes(first), text);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cannot convert '" + trimmed + "' to " + resultType.getSimpleName(), e);
+        }
+        throw new IllegalArgumentException("Unsupported result type " + resultType.getName());
+    }
+
+    private static boolean isYes(String text) {
+        return text.equalsIgnoreCase("yes") || text.equalsIgnoreCase("y")
+                || text.equalsIgnoreCase("true") || text.equals("1");
+    }
+
+    /**
+     * Plan a call: choose its response, latency and injected failure.
+     */
+    private Call plan(String prompt, Object[] inputs) {
+        if (prompt == null) {
+            throw new IllegalArgumentException("Prompt must not be null");
+        }
+        long sequence = calls.getAndIncrement();
+        SplittableRandom random = new SplittableRandom(mix(seed + sequence * GOLDEN_GAMMA));
+        long firstTokenNanos = Math.max(0, latency.sampleNanos(random));
+        double draw = random.nextDouble();
+        if (draw < rateLimitRate) {
+            rateLimited.incrementAndGet();
+            return new Call(null, null, firstTokenNanos, 0,
+                    new SimulatedRateLimitException("Simulated rate limit exceeded", retryAfter));
+        }
+        if (draw < rateLimitRate + failureRate) {
+            failures.incrementAndGet();
+            return new Call(null, null, firstTokenNanos, 0, new LLMException("Simulated provider failure"));
+        }
+        String response = respond(prompt, inputs);
+        String[] tokens = tokensPerSecond > 0 ? splitTokens(response) : null;
+        long tokenNanos = tokens == null ? 0 : (long) (1e9 / tokensPerSecond);
+        return new Call(response, tokens, firstTokenNanos, tokenNanos, null);
+    }
+
+    private static String[] splitTokens(String response) {
+        String[] words = response.split("(?<=\\s)(?=\\S)");
+        return words.length == 0 ? new String[] {response} : words;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private String call(String prompt, Object[] inputs) {
+        Call call = plan(prompt, inputs);
+        inFlight.incrementAndGet();
+        try {
+            park(call.totalNanos());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (call.failure() != null) {
+            throw call.failure();
+        }
+        return call.response();
+    }
+
+    private static void park(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new LLMException("Query was interrupted");
+            }
+        }
+    }
+
+    @Override
+    public String query(String prompt) {
+        return call(prompt, NO_INPUTS);
+    }
+
+    @Override
+    public <T> T query(String prompt, Class<T> resultType) {
+        return query(prompt, resultType, NO_INPUTS);
+    }
+
+    @Override
+    public String query(String prompt, Object... inputs) {
+        return call(prompt, inputs);
+    }
+
+    @Override
+    public <T> T query(String prompt, Class<T> resultType, Object... inputs) {
+        if (resultType == null) {
+            throw new IllegalArgumentException("Result type must not be null");
+        }
+        return convert(call(prompt, inputs), resultType);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> implClass) {
+        if (implClass.isInstance(this)) {
+            return implClass.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + implClass.getName());
+    }
+
+    /**
+     * Query the model without blocking the calling thread.
+     * <p>
+     * The returned future is completed by a shared timer thread once the simulated
+     * latency has elapsed; dependent stages that do real work should use the
+     * {@code *Async} methods of {@link CompletableFuture}. Cancelling the future aborts
+     * the simulated call.
+     *
+     * @param prompt the prompt
+     * @param inputs the input objects
+     * @return a future completed with the response, or exceptionally with the injected
+     *         failure
+     */
+    public CompletableFuture<String> queryAsync(String prompt, Object... inputs) {
+        Call call = plan(prompt, inputs);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        inFlight.incrementAndGet();
+        Runnable complete = () -> {
+            if (call.failure() != null) {
+                result.completeExceptionally(call.failure());
+            } else {
+                result.complete(call.response());
+            }
+        };
+        if (call.totalNanos() == 0) {
+            complete.run();
+        } else {
+            var timer = TIMER.schedule(complete, call.totalNanos(), TimeUnit.NANOSECONDS);
+            result.whenComplete((value, failure) -> timer.cancel(false));
+        }
+        result.whenComplete((value, failure) -> inFlight.decrementAndGet());
+        return result;
+    }
+
+    /**
+     * Query the model and receive the response as a stream of tokens.
+     * <p>
+     * The first token is published after the time to first token, the following ones
+     * at the configured token throughput, subject to the demand of the subscriber.
+     * Tokens are whitespace-separated words including their trailing whitespace, so
+     * concatenating them gives the response. An injected failure is published with
+     * {@code onError} instead of the first token.
+     *
+     * @param prompt the prompt
+     * @param inputs the input objects
+     * @return a publisher of the response tokens, supporting a single subscriber
+     */
+    public Flow.Publisher<String> stream(String prompt, Object... inputs) {
+        Call call = plan(prompt, inputs);
+        AtomicInteger subscribed = new AtomicInteger();
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            if (subscribed.getAndIncrement() != 0) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("A simulated stream supports a single subscriber"));
+                return;
+            }
+            new TokenStream(call, subscriber).start();
+        };
+    }
+
+    /**
+     * A planned call.
+     */
+    private record Call(String response, String[] tokens, long firstTokenNanos, long tokenNanos,
+                        LLMException failure) {
+
+        long totalNanos() {
+            return tokens == null ? firstTokenNanos : firstTokenNanos + (tokens.length - 1) * tokenNanos;
+        }
+
+        String[] streamTokens() {
+            return tokens != null ? tokens : splitTokens(response);
+        }
+    }
+
+    /**
+     * Publishes the tokens of a call on the timer thread, one drain loop at a time.
+     */
+    private final class TokenStream implements Flow.Subscription {
+
+        private final Call call;
+        private final String[] tokens;
+        private final Flow.Subscriber<? super String> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drains = new AtomicInteger();
+        private final long startNanos = System.nanoTime();
+        private volatile boolean cancelled;
+        private volatile boolean invalidDemand;
+        private boolean done;
+        private volatile boolean scheduled;
+        private int next;
+
+        TokenStream(Call call, Flow.Subscriber<? super String> subscriber) {
+            this.call = call;
+            this.tokens = call.failure() == null ? call.streamTokens() : new String[0];
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            inFlight.incrementAndGet();
+            subscriber.onSubscribe(this);
+            drain();
+        }
+
+        private long dueNanos(int index) {
+            return startNanos + call.firstTokenNanos() + index * call.tokenNanos();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Signalled from the drain loop, so that it cannot overlap an onNext.
+                invalidDemand = true;
+                drain();
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = drains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidDemand) {
+                finish();
+                subscriber.onError(new IllegalArgumentException("Demand must be positive"));
+                return;
+            }
+            long now = System.nanoTime();
+            if (call.failure() != null) {
+                if (now >= dueNanos(0)) {
+                    finish();
+                    subscriber.onError(call.failure());
+                } else {
+                    schedule(dueNanos(0) - now);
+                }
+                return;
+            }
+            while (next < tokens.length && demand.get() > 0 && now >= dueNanos(next)) {
+                subscriber.onNext(tokens[next++]);
+                demand.decrementAndGet();
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+            }
+            if (next == tokens.length) {
+                finish();
+                subscriber.onComplete();
+            } else if (demand.get() > 0) {
+                schedule(dueNanos(next) - now);
+            }
+        }
+
+        private void schedule(long delayNanos) {
+            if (!scheduled) {
+                scheduled = true;
+                TIMER.schedule(() -> {
+                    scheduled = false;
+                    drain();
+                }, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void finish() {
+            if (!done) {
+                done = true;
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * A response rule.
+     */
+    private record Rule(Pattern pattern, Function<String, String> responder) {
+    }
+
+    /**
+     * Builder of {@link SimulatedLargeLanguageModel} instances.
+     */
+    public static class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+        private final Map<Class<?>, Function<String, ?>> converters = new HashMap<>();
+        private String response = "yes";
+        private LatencyDistribution latency = LatencyDistribution.fixed(Duration.ZERO);
+        private double tokensPerSecond;
+        private double failureRate;
+        private double rateLimitRate;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        private long seed;
+
+        /**
+         * Create a builder with the default settings.
+         */
+        protected Builder() {
+        }
+
+        /**
+         * Set the response to prompts that match no rule.
+         *
+         * @param response the response text
+         * @return this builder
+         */
+        public Builder response(String response) {
+            this.response = Objects.requireNonNull(response, "response");
+            return this;
+        }
+
+        /**
+         * Answer prompts containing a match of a regular expression with a fixed text.
+         *
+         * @param regex the regular expression, searched in the prompt
+         * @param response the response text
+         * @return this builder
+         */
+        public Builder rule(String regex, String response) {
+            Objects.requireNonNull(response, "response");
+            return rule(regex, prompt -> response);
+        }
+
+        /**
+         * Answer prompts containing a match of a regular expression with a function of
+         * the prompt. The function may be called concurrently.
+         *
+         * @param regex the regular expression, searched in the prompt
+         * @param responder computes the response text from the prompt
+         * @return this builder
+         */
+        public Builder rule(String regex, Function<String, String> responder) {
+            rules.add(new Rule(Pattern.compile(regex), Objects.requireNonNull(responder, "responder")));
+            return this;
+        }
+
+        /**
+         * Answer successive prompts containing a match of a regular expression with
+         * successive responses; once the script is exhausted, its last response repeats.
+         *
+         * @param regex the regular expression, searched in the prompt
+         * @param responses the scripted responses, at least one
+         * @return this builder
+         */
+        public Builder script(String regex, String... responses) {
+            if (responses.length == 0) {
+                throw new IllegalArgumentException("A script needs at least one response");
+            }
+            String[] script = responses.clone();
+            AtomicInteger position = new AtomicInteger();
+            return rule(regex, prompt -> script[Math.min(position.getAndIncrement(), script.length - 1)]);
+        }
+
+        /**
+         * Set a fixed time to first token.
+         *
+         * @param latency the latency, not negative
+         * @return this builder
+         */
+        public Builder latency(Duration latency) {
+            return latency(LatencyDistribution.fixed(latency));
+        }
+
+        /**
+         * Set the distribution of the time to first token.
+         *
+         * @param latency the distribution
+         * @return this builder
+         */
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = Objects.requireNonNull(latency, "latency");
+            return this;
+        }
+
+        /**
+         * Set the rate at which tokens are produced after the first one.
+         *
+         * @param tokensPerSecond the token throughput, or {@code 0} to produce the whole
+         *        response at once
+         * @return this builder
+         */
+        public Builder tokensPerSecond(double tokensPerSecond) {
+            if (tokensPerSecond < 0) {
+                throw new IllegalArgumentException("tokensPerSecond must not be negative");
+            }
+            this.tokensPerSecond = tokensPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the share of calls failing with {@link LLMException}.
+         *
+         * @param failureRate the probability of a failure, between 0 and 1
+         * @return this builder
+         */
+        public Builder failureRate(double failureRate) {
+            this.failureRate = probability(failureRate, "failureRate");
+            return this;
+        }
+
+        /**
+         * Set the share of calls failing with {@link SimulatedRateLimitException}.
+         *
+         * @param rateLimitRate the probability of a rate limit, between 0 and 1
+         * @return this builder
+         */
+        public Builder rateLimitRate(double rateLimitRate) {
+            this.rateLimitRate = probability(rateLimitRate, "rateLimitRate");
+            return this;
+        }
+
+        /**
+         * Set the retry delay reported by {@link SimulatedRateLimitException}.
+         *
+         * @param retryAfter the retry delay
+         * @return this builder
+         */
+        public Builder retryAfter(Duration retryAfter) {
+            this.retryAfter = Objects.requireNonNull(retryAfter, "retryAfter");
+            return this;
+        }
+
+        /**
+         * Set the seed of the latencies and failures.
+         *
+         * @param seed the seed
+         * @return this builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Register the conversion of responses to a result type.
+         *
+         * @param <T> the result type
+         * @param resultType the result type
+         * @param converter converts the response text
+         * @return this builder
+         */
+        public <T> Builder converter(Class<T> resultType, Function<String, ? extends T> converter) {
+            converters.put(Objects.requireNonNull(resultType, "resultType"), Objects.requireNonNull(converter, "converter"));
+            return this;
+        }
+
+        private static double probability(double value, String name) {
+            if (value < 0 || value > 1) {
+                throw new IllegalArgumentException(name + " must be between 0 and 1");
+            }
+            return value;
+        }
+
+        /**
+         * Create the model.
+         *
+         * @return the model
+         * @throws IllegalArgumentException if the failure and rate limit rates add up to more than 1
+         */
+        public SimulatedLargeLanguageModel build() {
+            if (failureRate + rateLimitRate > 1) {
+                throw new IllegalArgumentException("failureRate and rateLimitRate must not add up to more than 1");
+            }
+            return new SimulatedLargeLanguageModel(this);
+        }
+    }
+}
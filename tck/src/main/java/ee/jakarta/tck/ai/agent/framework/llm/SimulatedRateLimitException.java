@@ -0,0 +1,48 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.framework.llm;
+
+import jakarta.ai.agent.LLMException;
+
+import java.time.Duration;
+
+/**
+ * {@link LLMException} thrown by a {@link SimulatedLargeLanguageModel} to emulate a
+ * provider rejecting a request because of its rate limit.
+ */
+public class SimulatedRateLimitException extends LLMException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    /**
+     * Create a rate limit exception.
+     *
+     * @param message The detail message.
+     * @param retryAfter The time after which the provider would accept the request.
+     */
+    public SimulatedRateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get the time after which the provider would accept the request.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,237 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import ee.jakarta.tck.ai.agent.framework.llm.SimulatedLargeLanguageModel;
+import jakarta.ai.agent.WorkflowHandle;
+import jakarta.ai.agent.WorkflowLauncher;
+import jakarta.ai.agent.WorkflowStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Optional performance profile of the TCK.
+ *
+ * <p>These tests deploy the reference {@link ProbeAgent} and {@link ScopedProbeAgent}
+ * into the runtime registered as a {@link PerformanceRuntime}, drive them with a
+ * {@link SimulatedLargeLanguageModel} and record per-phase overhead, sustainable
+ * throughput, workflow scope cost and memory per in-flight workflow in the
+ * {@link PerformanceReport}. They run only with the {@code performance} Maven profile,
+ * and are skipped if no runtime is registered.
+ */
+public class PerformanceProfileTests {
+
+    private static final int[][] PHASE_GAPS = {
+            {ProbeEvent.LAUNCHED, ProbeEvent.TRIGGER_START},
+            {ProbeEvent.TRIGGER_END, ProbeEvent.DECISION_START},
+            {ProbeEvent.DECISION_END, ProbeEvent.ACTION_START},
+            {ProbeEvent.ACTION_END, ProbeEvent.OUTCOME_START},
+            {ProbeEvent.OUTCOME_END, ProbeEvent.ENDED}
+    };
+    private static final String[] PHASE_GAP_NAMES = {
+            "launchToTrigger", "triggerToDecision", "decisionToAction", "actionToOutcome", "outcomeToEnd"
+    };
+
+    @Assertion(id = "AGENTICAI-PERF-001",
+               strategy = "Measure the runtime overhead between consecutive phases of completed workflows")
+    public void testPhaseOverhead() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder().build();
+        withRuntime(model, launcher -> {
+            List<ProbeEvent> events = runSequentially(launcher, ProbeAgent.NAME, true, WorkflowStatus.COMPLETED);
+            for (int gap = 0; gap < PHASE_GAPS.length; gap++) {
+                long[] samples = new long[events.size()];
+                for (int i = 0; i < samples.length; i++) {
+                    samples[i] = events.get(i).between(PHASE_GAPS[gap][0], PHASE_GAPS[gap][1]);
+                }
+                long median = PerformanceReport.percentile(samples, 50);
+                record("phaseOverhead." + PHASE_GAP_NAMES[gap] + ".p50Micros", median / 1e3);
+                record("phaseOverhead." + PHASE_GAP_NAMES[gap] + ".p99Micros", PerformanceReport.percentile(samples, 99) / 1e3);
+                if (PerformanceSettings.MAX_PHASE_OVERHEAD_MICROS != null) {
+                    assertTrue(median / 1000 <= PerformanceSettings.MAX_PHASE_OVERHEAD_MICROS,
+                            "Median overhead " + PHASE_GAP_NAMES[gap] + " must not exceed "
+                                    + PerformanceSettings.MAX_PHASE_OVERHEAD_MICROS + " microseconds");
+                }
+            }
+        });
+    }
+
+    @Assertion(id = "AGENTICAI-PERF-002",
+               strategy = "Measure workflows terminated at the decision and verify they skip action and outcome")
+    public void testTerminationLatency() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder().build();
+        withRuntime(model, launcher -> {
+            List<ProbeEvent> events = runSequentially(launcher, ProbeAgent.NAME, false, WorkflowStatus.TERMINATED);
+            long[] samples = new long[events.size()];
+            for (int i = 0; i < samples.length; i++) {
+                ProbeEvent event = events.get(i);
+                assertFalse(event.isMarked(ProbeEvent.ACTION_START),
+                        "A workflow terminated at its decision must not run its action");
+                assertFalse(event.isMarked(ProbeEvent.OUTCOME_START),
+                        "A workflow terminated at its decision must not run its outcome");
+                samples[i] = event.between(ProbeEvent.DECISION_END, ProbeEvent.ENDED);
+            }
+            record("termination.decisionToEnd.p50Micros", PerformanceReport.percentile(samples, 50) / 1e3);
+            record("termination.decisionToEnd.p99Micros", PerformanceReport.percentile(samples, 99) / 1e3);
+        });
+    }
+
+    @Assertion(id = "AGENTICAI-PERF-003",
+               strategy = "Measure the highest workflow throughput over increasing concurrency with a fixed model latency")
+    public void testSustainableThroughput() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .latency(PerformanceSettings.LLM_LATENCY)
+                .build();
+        withRuntime(model, launcher -> {
+            double best = 0;
+            int bestConcurrency = 0;
+            for (int concurrency = 1; concurrency <= PerformanceSettings.MAX_IN_FLIGHT; concurrency *= 2) {
+                int workflows = Math.max(PerformanceSettings.WORKFLOWS / 4, concurrency * 8);
+                ConcurrentLinkedQueue<WorkflowHandle<Object>> handles = new ConcurrentLinkedQueue<>();
+                long start = System.nanoTime();
+                long started = launcher.startAll(ProbeAgent.NAME,
+                                Stream.generate(() -> new ProbeEvent(true)).limit(workflows), concurrency, handles::add)
+                        .toCompletableFuture()
+                        .get(5, TimeUnit.MINUTES);
+                double throughput = workflows / ((System.nanoTime() - start) / 1e9);
+                assertEquals(workflows, started, "startAll() must start one workflow per event");
+                for (WorkflowHandle<Object> handle : handles) {
+                    assertEquals(WorkflowStatus.COMPLETED, handle.getStatus(), "Every probe workflow must complete");
+                }
+                record("throughput.concurrency" + concurrency + ".workflowsPerSecond", throughput);
+                if (throughput < best * 1.05) {
+                    break;
+                }
+                if (throughput > best) {
+                    best = throughput;
+                    bestConcurrency = concurrency;
+                }
+            }
+            record("throughput.sustainable.workflowsPerSecond", best);
+            record("throughput.sustainable.concurrency", bestConcurrency);
+            record("throughput.llmLatencyMillis", PerformanceSettings.LLM_LATENCY.toMillis());
+            if (PerformanceSettings.MIN_WORKFLOWS_PER_SECOND != null) {
+                assertTrue(best >= PerformanceSettings.MIN_WORKFLOWS_PER_SECOND,
+                        "Sustainable throughput must reach " + PerformanceSettings.MIN_WORKFLOWS_PER_SECOND
+                                + " workflows per second");
+            }
+        });
+    }
+
+    @Assertion(id = "AGENTICAI-PERF-004",
+               strategy = "Measure the added latency of a workflow whose phases use a @WorkflowScoped bean")
+    public void testWorkflowScopeCost() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder().build();
+        withRuntime(model, launcher -> {
+            runSequentially(launcher, ProbeAgent.NAME, true, WorkflowStatus.COMPLETED);
+            runSequentially(launcher, ScopedProbeAgent.NAME, true, WorkflowStatus.COMPLETED);
+            long plain = medianLatency(runSequentially(launcher, ProbeAgent.NAME, true, WorkflowStatus.COMPLETED));
+            long scoped = medianLatency(runSequentially(launcher, ScopedProbeAgent.NAME, true, WorkflowStatus.COMPLETED));
+            record("workflowScope.plainLatency.p50Micros", plain / 1e3);
+            record("workflowScope.scopedLatency.p50Micros", scoped / 1e3);
+            record("workflowScope.costMicros", Math.max(0, scoped - plain) / 1e3);
+        });
+    }
+
+    @Assertion(id = "AGENTICAI-PERF-005",
+               strategy = "Measure the heap retained per workflow while workflows wait for the model")
+    public void testMemoryPerInFlightWorkflow() throws Exception {
+        int inFlight = PerformanceSettings.MAX_IN_FLIGHT;
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .latency(Duration.ofSeconds(5))
+                .build();
+        withRuntime(model, launcher -> {
+            long before = usedHeap();
+            List<WorkflowHandle<Object>> handles = new ArrayList<>(inFlight);
+            for (int i = 0; i < inFlight; i++) {
+                handles.add(launcher.start(ProbeAgent.NAME, new ProbeEvent(true)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(4);
+            while (model.getInFlightCount() < inFlight && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            int waiting = model.getInFlightCount();
+            long after = usedHeap();
+            assumeTrue(waiting > 0, "The runtime did not run any workflow concurrently");
+            record("memory.inFlightWorkflows", waiting);
+            record("memory.bytesPerInFlightWorkflow", Math.max(0, after - before) / (double) waiting);
+            for (WorkflowHandle<Object> handle : handles) {
+                handle.getResult().toCompletableFuture().get(1, TimeUnit.MINUTES);
+            }
+        });
+    }
+
+    private static List<ProbeEvent> runSequentially(WorkflowLauncher launcher, String agentName, boolean proceed,
+                                                    WorkflowStatus expected) throws Exception {
+        List<ProbeEvent> events = new ArrayList<>(PerformanceSettings.WORKFLOWS);
+        for (int i = 0; i < PerformanceSettings.WORKFLOWS; i++) {
+            ProbeEvent event = new ProbeEvent(proceed);
+            event.mark(ProbeEvent.LAUNCHED);
+            WorkflowHandle<Object> handle = launcher.start(agentName, event);
+            handle.getResult().toCompletableFuture().get(1, TimeUnit.MINUTES);
+            event.mark(ProbeEvent.ENDED);
+            assertEquals(expected, handle.getStatus(), "Probe workflow of " + agentName + " must end as " + expected);
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static long medianLatency(List<ProbeEvent> events) {
+        long[] samples = new long[events.size()];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = events.get(i).between(ProbeEvent.LAUNCHED, ProbeEvent.ENDED);
+        }
+        return PerformanceReport.percentile(samples, 50);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void record(String name, double value) {
+        PerformanceReport.get().record(name, value);
+    }
+
+    private static void withRuntime(SimulatedLargeLanguageModel model, Measurement measurement) throws Exception {
+        Optional<PerformanceRuntime> runtime = PerformanceRuntime.load();
+        assumeTrue(runtime.isPresent(), "No PerformanceRuntime is registered; skipping the performance profile");
+        PerformanceReport.get().property("runtime", runtime.get().getClass().getName());
+        WorkflowLauncher launcher = runtime.get().deploy(
+                List.of(ProbeAgent.class, ScopedProbeAgent.class, ProbeScopedState.class), model);
+        try {
+            measurement.run(launcher);
+        } finally {
+            runtime.get().undeploy();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Measurement {
+
+        void run(WorkflowLauncher launcher) throws Exception;
+    }
+}
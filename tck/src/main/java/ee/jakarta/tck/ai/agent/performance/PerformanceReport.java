@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the measurements of the performance profile and writes them as a flat JSON
+ * object, so that the reports of two runtimes can be compared.
+ * <p>
+ * The report is rewritten after every measurement, to the file named by the
+ * {@code tck.performance.report} system property, {@code target/tck-performance.json}
+ * by default.
+ */
+public final class PerformanceReport {
+
+    private static final PerformanceReport INSTANCE = new PerformanceReport();
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    private PerformanceReport() {
+    }
+
+    /**
+     * Get the report of this test run.
+     *
+     * @return the shared report
+     */
+    public static PerformanceReport get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record a measurement and rewrite the report file.
+     *
+     * @param name the measurement name, such as {@code phaseOverhead.triggerToDecision.p50Micros}
+     * @param value the measured value
+     */
+    public synchronized void record(String name, double value) {
+        entries.put(name, String.format(Locale.ROOT, "%.3f", value));
+        System.out.printf(Locale.ROOT, "[tck-performance] %s = %.3f%n", name, value);
+        write();
+    }
+
+    /**
+     * Record a text property of the run, such as the runtime name.
+     *
+     * @param name the property name
+     * @param value the property value
+     */
+    public synchronized void property(String name, String value) {
+        entries.put(name, '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+        write();
+    }
+
+    private void write() {
+        StringBuilder json = new StringBuilder("{\n");
+        int remaining = entries.size();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            json.append("  \"").append(entry.getKey()).append("\": ").append(entry.getValue());
+            json.append(--remaining > 0 ? ",\n" : "\n");
+        }
+        json.append("}\n");
+        Path file = Path.of(System.getProperty("tck.performance.report", "target/tck-performance.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write performance report " + file, e);
+        }
+    }
+
+    /**
+     * Get a percentile of a set of samples.
+     *
+     * @param samples the samples, sorted in place
+     * @param percentile the percentile, between 0 and 100
+     * @return the sample at the percentile
+     */
+    public static long percentile(long[] samples, double percentile) {
+        if (samples.length == 0) {
+            return 0;
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile / 100 * samples.length) - 1;
+        return samples[Math.max(0, Math.min(index, samples.length - 1))];
+    }
+}
@@ -0,0 +1,61 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.WorkflowLauncher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Deploys the reference agents of the performance profile into the runtime under test.
+ * <p>
+ * Vendors running the optional performance profile provide one implementation and
+ * register it in {@code META-INF/services/ee.jakarta.tck.ai.agent.performance.PerformanceRuntime}
+ * on the test class path. The implementation boots the runtime in the test JVM, so that
+ * the profile measures the runtime rather than the network. If no implementation is
+ * found, the performance tests are skipped.
+ */
+public interface PerformanceRuntime {
+
+    /**
+     * Deploy agent classes. The given model must be the {@link LargeLanguageModel} the
+     * agents receive by injection or as a lifecycle method parameter.
+     *
+     * @param agentClasses the agent classes, with the classes they depend on in the
+     *        same package
+     * @param model the model stand-in
+     * @return a launcher for workflows of the deployed agents
+     * @throws Exception if the deployment fails
+     */
+    WorkflowLauncher deploy(List<Class<?>> agentClasses, LargeLanguageModel model) throws Exception;
+
+    /**
+     * Undeploy the agents deployed by the last call of
+     * {@link #deploy(List, LargeLanguageModel)}.
+     *
+     * @throws Exception if the undeployment fails
+     */
+    void undeploy() throws Exception;
+
+    /**
+     * Find the runtime under test.
+     *
+     * @return the registered runtime, or empty if none is registered
+     */
+    static Optional<PerformanceRuntime> load() {
+        return ServiceLoader.load(PerformanceRuntime.class).findFirst();
+    }
+}
@@ -0,0 +1,43 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import java.time.Duration;
+
+/**
+ * Settings of the performance profile, read from system properties.
+ * <ul>
+ *   <li>{@code tck.performance.workflows} - workflows per measurement, default 2000</li>
+ *   <li>{@code tck.performance.llmLatencyMillis} - latency of the model stand-in in the
+ *       throughput measurement, default 5</li>
+ *   <li>{@code tck.performance.maxInFlight} - highest concurrency tried by the throughput
+ *       measurement, and workflows held in flight by the memory measurement, default 256</li>
+ *   <li>{@code tck.performance.maxPhaseOverheadMicros} - if set, the median overhead
+ *       between two phases must not exceed it</li>
+ *   <li>{@code tck.performance.minWorkflowsPerSecond} - if set, the sustainable
+ *       throughput must reach it</li>
+ * </ul>
+ * The last two turn the profile into a conformance check for a given environment;
+ * without them the profile only reports.
+ */
+final class PerformanceSettings {
+
+    static final int WORKFLOWS = Integer.getInteger("tck.performance.workflows", 2000);
+    static final Duration LLM_LATENCY = Duration.ofMillis(Long.getLong("tck.performance.llmLatencyMillis", 5));
+    static final int MAX_IN_FLIGHT = Integer.getInteger("tck.performance.maxInFlight", 256);
+    static final Long MAX_PHASE_OVERHEAD_MICROS = Long.getLong("tck.performance.maxPhaseOverheadMicros");
+    static final Long MIN_WORKFLOWS_PER_SECOND = Long.getLong("tck.performance.minWorkflowsPerSecond");
+
+    private PerformanceSettings() {
+    }
+}
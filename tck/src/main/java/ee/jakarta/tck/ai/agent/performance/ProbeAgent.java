@@ -0,0 +1,62 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import jakarta.ai.agent.Action;
+import jakarta.ai.agent.Agent;
+import jakarta.ai.agent.Decision;
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.Outcome;
+import jakarta.ai.agent.Trigger;
+import jakarta.inject.Inject;
+
+/**
+ * Reference agent of the performance profile. Every phase only records its start and
+ * end in the {@link ProbeEvent}, and the decision makes one model call, so the time
+ * between phases is runtime overhead.
+ */
+@Agent(name = ProbeAgent.NAME, description = "TCK performance probe")
+public class ProbeAgent {
+
+    /** The agent name. */
+    public static final String NAME = "tckProbe";
+
+    @Inject
+    LargeLanguageModel model;
+
+    @Trigger
+    public void onProbe(ProbeEvent event) {
+        event.mark(ProbeEvent.TRIGGER_START);
+        event.mark(ProbeEvent.TRIGGER_END);
+    }
+
+    @Decision
+    public boolean decide(ProbeEvent event) {
+        event.mark(ProbeEvent.DECISION_START);
+        model.query("Should this probe proceed?", event);
+        event.mark(ProbeEvent.DECISION_END);
+        return event.isProceed();
+    }
+
+    @Action
+    public void act(ProbeEvent event) {
+        event.mark(ProbeEvent.ACTION_START);
+        event.mark(ProbeEvent.ACTION_END);
+    }
+
+    @Outcome
+    public void complete(ProbeEvent event) {
+        event.mark(ProbeEvent.OUTCOME_START);
+        event.mark(ProbeEvent.OUTCOME_END);
+    }
+}
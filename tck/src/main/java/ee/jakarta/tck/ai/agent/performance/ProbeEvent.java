@@ -0,0 +1,102 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Trigger event of the reference agents, which records when each phase of its
+ * workflow starts and ends.
+ */
+public final class ProbeEvent {
+
+    /** The test asked the launcher to start the workflow. */
+    public static final int LAUNCHED = 0;
+    /** The trigger method was entered. */
+    public static final int TRIGGER_START = 1;
+    /** The trigger method returned. */
+    public static final int TRIGGER_END = 2;
+    /** The decision method was entered. */
+    public static final int DECISION_START = 3;
+    /** The decision method returned. */
+    public static final int DECISION_END = 4;
+    /** The action method was entered. */
+    public static final int ACTION_START = 5;
+    /** The action method returned. */
+    public static final int ACTION_END = 6;
+    /** The outcome method was entered. */
+    public static final int OUTCOME_START = 7;
+    /** The outcome method returned. */
+    public static final int OUTCOME_END = 8;
+    /** The test observed the end of the workflow. */
+    public static final int ENDED = 9;
+
+    private final boolean proceed;
+    private final AtomicLongArray marks = new AtomicLongArray(ENDED + 1);
+
+    /**
+     * Create an event.
+     *
+     * @param proceed whether the decision of the workflow lets it proceed
+     */
+    public ProbeEvent(boolean proceed) {
+        this.proceed = proceed;
+    }
+
+    /**
+     * @return whether the decision of the workflow lets it proceed
+     */
+    public boolean isProceed() {
+        return proceed;
+    }
+
+    /**
+     * Record that a point of the workflow has been reached.
+     *
+     * @param point one of the constants of this class
+     */
+    public void mark(int point) {
+        marks.set(point, System.nanoTime());
+    }
+
+    /**
+     * Get the time a point of the workflow was reached.
+     *
+     * @param point one of the constants of this class
+     * @return the {@link System#nanoTime()} of the point, or {@code 0} if not reached
+     */
+    public long getMark(int point) {
+        return marks.get(point);
+    }
+
+    /**
+     * Check whether a point of the workflow has been reached.
+     *
+     * @param point one of the constants of this class
+     * @return {@code true} if the point was reached
+     */
+    public boolean isMarked(int point) {
+        return marks.get(point) != 0;
+    }
+
+    /**
+     * Get the time between two points.
+     *
+     * @param from the earlier point
+     * @param to the later point
+     * @return the elapsed nanoseconds
+     */
+    public long between(int from, int to) {
+        return marks.get(to) - marks.get(from);
+    }
+}
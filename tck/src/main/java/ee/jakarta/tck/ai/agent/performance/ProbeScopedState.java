@@ -0,0 +1,33 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import jakarta.ai.agent.WorkflowScoped;
+
+/**
+ * Workflow-scoped bean used by {@link ScopedProbeAgent}.
+ */
+@WorkflowScoped
+public class ProbeScopedState {
+
+    private int visits;
+
+    /**
+     * Record a visit by a phase.
+     *
+     * @return the number of visits in this workflow so far
+     */
+    public int visit() {
+        return ++visits;
+    }
+}
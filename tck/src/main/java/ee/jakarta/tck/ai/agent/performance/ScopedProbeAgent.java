@@ -0,0 +1,69 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.performance;
+
+import jakarta.ai.agent.Action;
+import jakarta.ai.agent.Agent;
+import jakarta.ai.agent.Decision;
+import jakarta.ai.agent.LargeLanguageModel;
+import jakarta.ai.agent.Outcome;
+import jakarta.ai.agent.Trigger;
+import jakarta.inject.Inject;
+
+/**
+ * Reference agent identical to {@link ProbeAgent}, except that every phase uses a
+ * {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} bean. The difference in
+ * workflow latency between the two agents is the cost of the workflow scope.
+ */
+@Agent(name = ScopedProbeAgent.NAME, description = "TCK performance probe using the workflow scope")
+public class ScopedProbeAgent {
+
+    /** The agent name. */
+    public static final String NAME = "tckScopedProbe";
+
+    @Inject
+    LargeLanguageModel model;
+
+    @Inject
+    ProbeScopedState state;
+
+    @Trigger
+    public void onProbe(ProbeEvent event) {
+        event.mark(ProbeEvent.TRIGGER_START);
+        state.visit();
+        event.mark(ProbeEvent.TRIGGER_END);
+    }
+
+    @Decision
+    public boolean decide(ProbeEvent event) {
+        event.mark(ProbeEvent.DECISION_START);
+        state.visit();
+        model.query("Should this probe proceed?", event);
+        event.mark(ProbeEvent.DECISION_END);
+        return event.isProceed();
+    }
+
+    @Action
+    public void act(ProbeEvent event) {
+        event.mark(ProbeEvent.ACTION_START);
+        state.visit();
+        event.mark(ProbeEvent.ACTION_END);
+    }
+
+    @Outcome
+    public void complete(ProbeEvent event) {
+        event.mark(ProbeEvent.OUTCOME_START);
+        state.visit();
+        event.mark(ProbeEvent.OUTCOME_END);
+    }
+}
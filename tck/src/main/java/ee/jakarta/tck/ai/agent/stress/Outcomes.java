@@ -0,0 +1,56 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.stress;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Histogram of the outcomes observed by a {@link StressHarness} run.
+ */
+final class Outcomes {
+
+    private final Map<String, Long> counts = new TreeMap<>();
+
+    void add(String outcome) {
+        counts.merge(outcome, 1L, Long::sum);
+    }
+
+    long count(String outcome) {
+        return counts.getOrDefault(outcome, 0L);
+    }
+
+    /**
+     * Assert that every observed outcome is one of the acceptable ones.
+     *
+     * @param description what the outcomes describe, for the failure message
+     * @param acceptable the acceptable outcomes
+     */
+    void assertOnly(String description, String... acceptable) {
+        Set<String> allowed = Set.of(acceptable);
+        for (String outcome : counts.keySet()) {
+            assertTrue(allowed.contains(outcome),
+                    description + ": forbidden outcome '" + outcome + "' observed; acceptable outcomes are "
+                            + Arrays.toString(acceptable) + ", observed " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return counts.toString();
+    }
+}
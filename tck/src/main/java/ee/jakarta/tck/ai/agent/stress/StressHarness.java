@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.stress;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Minimal harness in the style of jcstress.
+ * <p>
+ * Each actor runs on its own thread. The actors are applied to batches of fresh states,
+ * all actors working through the same batch at the same time, so that their actions on
+ * a state overlap as often as possible. Once every actor is done with a batch, the
+ * arbiter observes each state and its outcome is added to the histogram. Tests then
+ * check that only acceptable outcomes were observed.
+ * <p>
+ * The number of states is read from the {@code tck.stress.iterations} system property,
+ * default 20000.
+ */
+final class StressHarness {
+
+    static final int ITERATIONS = Integer.getInteger("tck.stress.iterations", 20000);
+    private static final int BATCH = 1024;
+
+    /**
+     * An action applied to every state.
+     *
+     * @param <S> the state type
+     */
+    @FunctionalInterface
+    interface Actor<S> {
+
+        void act(S state) throws Exception;
+    }
+
+    private StressHarness() {
+    }
+
+    /**
+     * Run the actors concurrently on {@link #ITERATIONS} states.
+     *
+     * @param <S> the state type
+     * @param states creates a fresh state
+     * @param arbiter observes a state after all actors are done with it
+     * @param actors the concurrent actions, at least two
+     * @return the observed outcomes
+     * @throws Exception if an actor or the arbiter fails unexpectedly
+     */
+    static <S> Outcomes run(Supplier<S> states, Function<S, String> arbiter, List<Actor<S>> actors) throws Exception {
+        Outcomes outcomes = new Outcomes();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int[] remaining = {ITERATIONS};
+        SpinBarrier barrier = new SpinBarrier(actors.size(), previous -> {
+            if (previous != null) {
+                observe(previous, arbiter, outcomes, failure);
+            }
+            int size = failure.get() == null ? Math.min(BATCH, remaining[0]) : 0;
+            remaining[0] -= size;
+            return size == 0 ? null : newBatch(states, size);
+        });
+        Thread[] threads = new Thread[actors.size()];
+        for (int i = 0; i < threads.length; i++) {
+            Actor<S> actor = actors.get(i);
+            threads[i] = new Thread(() -> act(actor, barrier, failure), "tck-stress-actor-" + i);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Throwable cause = failure.get();
+        if (cause instanceof Exception) {
+            throw (Exception) cause;
+        }
+        if (cause != null) {
+            throw new AssertionError("Stress actor failed", cause);
+        }
+        return outcomes;
+    }
+
+    private static <S> Object[] newBatch(Supplier<S> states, int size) {
+        Object[] batch = new Object[size];
+        for (int i = 0; i < size; i++) {
+            batch[i] = states.get();
+        }
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> void act(Actor<S> actor, SpinBarrier barrier, AtomicReference<Throwable> failure) {
+        for (Object[] batch = barrier.await(); batch != null; batch = barrier.await()) {
+            for (Object state : batch) {
+                try {
+                    actor.act((S) state);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> void observe(Object[] batch, Function<S, String> arbiter, Outcomes outcomes,
+                                    AtomicReference<Throwable> failure) {
+        for (Object state : batch) {
+            try {
+                outcomes.add(arbiter.apply((S) state));
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    /**
+     * Barrier that releases the actors by spinning rather than parking, so that they
+     * start a batch within nanoseconds of each other. The last actor to arrive observes
+     * the finished batch and prepares the next one.
+     */
+    private static final class SpinBarrier {
+
+        private final int parties;
+        private final UnaryOperator<Object[]> advance;
+        private final boolean yield;
+        private final AtomicInteger arrived = new AtomicInteger();
+        private volatile int generation;
+        private volatile Object[] batch;
+
+        SpinBarrier(int parties, UnaryOperator<Object[]> advance) {
+            this.parties = parties;
+            this.advance = advance;
+            this.yield = Runtime.getRuntime().availableProcessors() < parties;
+        }
+
+        Object[] await() {
+            int current = generation;
+            if (arrived.incrementAndGet() == parties) {
+                arrived.set(0);
+                batch = advance.apply(batch);
+                generation = current + 1;
+            } else {
+                while (generation == current) {
+                    if (yield) {
+                        Thread.yield();
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+            }
+            return batch;
+        }
+    }
+}
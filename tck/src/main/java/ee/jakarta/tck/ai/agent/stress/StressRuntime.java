@@ -0,0 +1,65 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.stress;
+
+import jakarta.ai.agent.WorkflowContext;
+import jakarta.enterprise.context.spi.Context;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Gives the concurrency stress tests access to the {@link WorkflowContext} and
+ * {@link jakarta.ai.agent.WorkflowScoped @WorkflowScoped} implementations of the runtime
+ * under test.
+ * <p>
+ * Vendors provide one implementation and register it in
+ * {@code META-INF/services/ee.jakarta.tck.ai.agent.stress.StressRuntime} on the test
+ * class path. If no implementation is found, the stress tests are skipped.
+ */
+public interface StressRuntime {
+
+    /**
+     * Create the workflow context of a new workflow execution, as the runtime would when
+     * the workflow is triggered.
+     *
+     * @param workflowId the workflow identifier
+     * @param triggerEvent the trigger event
+     * @return a new, empty workflow context
+     */
+    WorkflowContext newWorkflowContext(String workflowId, Object triggerEvent);
+
+    /**
+     * Get the context that implements the {@code @WorkflowScoped} scope.
+     *
+     * @return the workflow scope context
+     */
+    Context getWorkflowScopeContext();
+
+    /**
+     * Start the workflow scope of a new workflow execution.
+     *
+     * @param workflowId the workflow identifier
+     * @return the scope of the workflow
+     */
+    StressScope beginWorkflowScope(String workflowId);
+
+    /**
+     * Find the runtime under test.
+     *
+     * @return the registered runtime, or empty if none is registered
+     */
+    static Optional<StressRuntime> load() {
+        return ServiceLoader.load(StressRuntime.class).findFirst();
+    }
+}
@@ -0,0 +1,42 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.stress;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The workflow scope of one workflow execution, as seen by the stress tests.
+ * <p>
+ * Both methods may be called concurrently from several threads.
+ */
+public interface StressScope {
+
+    /**
+     * Run a phase of the workflow on the calling thread, with the workflow scope of the
+     * workflow active for its duration.
+     *
+     * @param <T> the result type
+     * @param phase the phase
+     * @return the result of the phase
+     * @throws jakarta.enterprise.context.ContextNotActiveException if the workflow has
+     *         already ended
+     * @throws Exception if the phase fails
+     */
+    <T> T call(Callable<T> phase) throws Exception;
+
+    /**
+     * End the workflow, as the runtime does after its last phase, destroying its
+     * workflow-scoped instances. Ending a workflow more than once has no further effect.
+     */
+    void end();
+}
@@ -0,0 +1,161 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.stress;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.WorkflowContext;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Concurrency stress tests for the {@link WorkflowContext} of the runtime under test.
+ *
+ * <p>These tests verify that the workflow context of the runtime registered as a
+ * {@link StressRuntime} is safe to share between phases running on different threads, as
+ * required by the Jakarta Agentic AI 1.0 specification. Each test races two or more
+ * actors on many fresh contexts and checks that only acceptable outcomes are observed.
+ * They are skipped if no runtime is registered.
+ */
+public class WorkflowContextStressTests {
+
+    private static final AtomicLong WORKFLOWS = new AtomicLong();
+    private static final int STABLE_NAMES = 8;
+
+    @Assertion(id = "AGENTICAI-CONTEXTSTRESS-001",
+               strategy = "Race setAttribute against getAttribute and verify the reader sees no value or a fully constructed one")
+    public void testAttributePublication() throws Exception {
+        StressRuntime runtime = runtime();
+        Outcomes outcomes = StressHarness.run(() -> new State(runtime),
+                state -> state.observed,
+                List.of(state -> state.context.setAttribute("box", new Box(42)),
+                        state -> {
+                            Object value = state.context.getAttribute("box");
+                            state.observed = value == null ? "null" : String.valueOf(((Box) value).value);
+                        }));
+        outcomes.assertOnly("Value read while it is being set", "null", "42");
+    }
+
+    @Assertion(id = "AGENTICAI-CONTEXTSTRESS-002",
+               strategy = "Race setAttribute against removeAttribute and verify getAttribute and getAttributeNames agree afterwards")
+    public void testSetRemoveConsistency() throws Exception {
+        StressRuntime runtime = runtime();
+        Outcomes outcomes = StressHarness.run(() -> new State(runtime),
+                state -> state.context.getAttribute("key") + "/" + state.context.getAttributeNames().contains("key"),
+                List.of(state -> state.context.setAttribute("key", "value"),
+                        state -> state.context.removeAttribute("key")));
+        outcomes.assertOnly("Attribute after a racing set and remove", "value/true", "null/false");
+    }
+
+    @Assertion(id = "AGENTICAI-CONTEXTSTRESS-003",
+               strategy = "Set distinct attributes from four threads and verify no update is lost")
+    public void testNoLostUpdates() throws Exception {
+        StressRuntime runtime = runtime();
+        Outcomes outcomes = StressHarness.run(() -> new State(runtime),
+                state -> new TreeSet<>(state.context.getAttributeNames()) + "="
+                        + state.context.getAttribute("a") + state.context.getAttribute("b")
+                        + state.context.getAttribute("c") + state.context.getAttribute("d"),
+                List.of(state -> state.context.setAttribute("a", 1),
+                        state -> state.context.setAttribute("b", 2),
+                        state -> state.context.setAttribute("c", 3),
+                        state -> state.context.setAttribute("d", 4)));
+        outcomes.assertOnly("Attributes set concurrently", "[a, b, c, d]=1234");
+    }
+
+    @Assertion(id = "AGENTICAI-CONTEXTSTRESS-004",
+               strategy = "Set the same attribute from two threads and verify exactly one of the values remains")
+    public void testConcurrentOverwrite() throws Exception {
+        StressRuntime runtime = runtime();
+        Outcomes outcomes = StressHarness.run(() -> new State(runtime),
+                state -> state.context.getAttributeNames() + "=" + state.context.getAttribute("key"),
+                List.of(state -> state.context.setAttribute("key", "first"),
+                        state -> state.context.setAttribute("key", "second")));
+        outcomes.assertOnly("Attribute set concurrently", "[key]=first", "[key]=second");
+        assertTrue(outcomes.count("[key]=first") + outcomes.count("[key]=second") == StressHarness.ITERATIONS,
+                "Every context must hold the attribute");
+    }
+
+    @Assertion(id = "AGENTICAI-CONTEXTSTRESS-005",
+               strategy = "Iterate getAttributeNames while another thread adds and removes attributes and verify "
+                       + "the iteration neither fails nor misses attributes that are not modified")
+    public void testAttributeNamesIterationDuringMutation() throws Exception {
+        StressRuntime runtime = runtime();
+        Outcomes outcomes = StressHarness.run(() -> {
+                    State state = new State(runtime);
+                    for (int i = 0; i < STABLE_NAMES; i++) {
+                        state.context.setAttribute("stable-" + i, i);
+                    }
+                    return state;
+                },
+                state -> state.observed,
+                List.of(state -> {
+                            for (int i = 0; i < 16; i++) {
+                                state.context.setAttribute("transient-" + i, i);
+                                state.context.removeAttribute("transient-" + (i / 2));
+                            }
+                        },
+                        state -> {
+                            try {
+                                int stable = 0;
+                                for (String name : state.context.getAttributeNames()) {
+                                    if (name.startsWith("stable-")) {
+                                        stable++;
+                                    }
+                                }
+                                state.observed = String.valueOf(stable);
+                            } catch (ConcurrentModificationException e) {
+                                state.observed = "ConcurrentModificationException";
+                            }
+                        }));
+        outcomes.assertOnly("Stable attribute names seen while iterating", String.valueOf(STABLE_NAMES));
+    }
+
+    private static StressRuntime runtime() {
+        StressRuntime runtime = StressRuntime.load().orElse(null);
+        assumeTrue(runtime != null, "No StressRuntime is registered");
+        return runtime;
+    }
+
+    /**
+     * A fresh workflow context and what an actor observed of it.
+     */
+    private static final class State {
+
+        final WorkflowContext context;
+        String observed;
+
+        State(StressRuntime runtime) {
+            String workflowId = "stress-" + WORKFLOWS.incrementAndGet();
+            this.context = runtime.newWorkflowContext(workflowId, workflowId);
+            assertNotNull(context, "The runtime must create a workflow context");
+        }
+    }
+
+    /**
+     * A value whose field is not final, so a reader could see it unset if the value
+     * were published without a happens-before edge.
+     */
+    private static final class Box {
+
+        int value;
+
+        Box(int value) {
+            this.value = value;
+        }
+    }
+}
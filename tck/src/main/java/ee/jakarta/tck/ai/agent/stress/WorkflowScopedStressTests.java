@@ -0,0 +1,184 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.stress;
+
+import ee.jakarta.tck.ai.agent.framework.junit.anno.Assertion;
+import jakarta.ai.agent.WorkflowScoped;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Concurrency stress tests for the {@link WorkflowScoped @WorkflowScoped} context of the
+ * runtime under test.
+ *
+ * <p>These tests verify that the workflow scope of the runtime registered as a
+ * {@link StressRuntime} creates at most one instance of a bean per workflow when phases
+ * request it concurrently, and destroys every instance exactly once when the end of the
+ * workflow races a phase, as required by the Jakarta Agentic AI 1.0 specification. They
+ * are skipped if no runtime is registered.
+ */
+public class WorkflowScopedStressTests {
+
+    private static final AtomicLong WORKFLOWS = new AtomicLong();
+    private static final TrackedBean BEAN = new TrackedBean();
+
+    @Assertion(id = "AGENTICAI-SCOPESTRESS-001",
+               strategy = "Request a workflow-scoped bean from three phases of the same workflow concurrently and "
+                       + "verify a single instance is created and shared")
+    public void testConcurrentCreationInWorkflow() throws Exception {
+        StressRuntime runtime = runtime();
+        Context context = runtime.getWorkflowScopeContext();
+        Outcomes outcomes = StressHarness.run(() -> new State(runtime),
+                state -> ended("created=" + state.tracker.created.get()
+                        + ",shared=" + (state.seen[0] == state.seen[1] && state.seen[1] == state.seen[2]), state),
+                List.of(state -> state.seen[0] = state.scope.call(() -> context.get(BEAN, state.tracker)),
+                        state -> state.seen[1] = state.scope.call(() -> context.get(BEAN, state.tracker)),
+                        state -> state.seen[2] = state.scope.call(() -> context.get(BEAN, state.tracker))));
+        outcomes.assertOnly("Instances created by concurrent phases", "created=1,shared=true");
+    }
+
+    @Assertion(id = "AGENTICAI-SCOPESTRESS-002",
+               strategy = "Request a workflow-scoped bean in two workflows concurrently and verify each workflow "
+                       + "gets its own instance")
+    public void testConcurrentCreationAcrossWorkflows() throws Exception {
+        StressRuntime runtime = runtime();
+        Context context = runtime.getWorkflowScopeContext();
+        Outcomes outcomes = StressHarness.run(() -> new State[] {new State(runtime), new State(runtime)},
+                states -> ended("created=" + states[0].tracker.created.get()
+                        + "/" + states[1].tracker.created.get()
+                        + ",isolated=" + (states[0].seen[0] != states[1].seen[0]), states),
+                List.of(states -> states[0].seen[0] = states[0].scope.call(() -> context.get(BEAN, states[0].tracker)),
+                        states -> states[1].seen[0] = states[1].scope.call(() -> context.get(BEAN, states[1].tracker))));
+        outcomes.assertOnly("Instances created by two workflows", "created=1/1,isolated=true");
+    }
+
+    @Assertion(id = "AGENTICAI-SCOPESTRESS-003",
+               strategy = "End a workflow while a phase requests a workflow-scoped bean and verify the phase either "
+                       + "fails with ContextNotActiveException or gets an instance that is destroyed exactly once")
+    public void testEndRacingInFlightPhase() throws Exception {
+        StressRuntime runtime = runtime();
+        Context context = runtime.getWorkflowScopeContext();
+        Outcomes outcomes = StressHarness.run(() -> new State(runtime),
+                state -> state.observed + ",created=" + state.tracker.created.get()
+                        + ",destroyed=" + state.tracker.destroyed.get(),
+                List.of(state -> {
+                            try {
+                                state.scope.call(() -> context.get(BEAN, state.tracker));
+                                state.observed = "instance";
+                            } catch (ContextNotActiveException e) {
+                                state.observed = "inactive";
+                            }
+                        },
+                        state -> state.scope.end()));
+        outcomes.assertOnly("Bean requested while the workflow ends",
+                "instance,created=1,destroyed=1", "inactive,created=0,destroyed=0");
+    }
+
+    @Assertion(id = "AGENTICAI-SCOPESTRESS-004",
+               strategy = "End a workflow from two threads concurrently and verify its instances are destroyed exactly once")
+    public void testConcurrentEnd() throws Exception {
+        StressRuntime runtime = runtime();
+        Context context = runtime.getWorkflowScopeContext();
+        Outcomes outcomes = StressHarness.run(() -> {
+                    State state = new State(runtime);
+                    try {
+                        state.scope.call(() -> context.get(BEAN, state.tracker));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return state;
+                },
+                state -> "created=" + state.tracker.created.get() + ",destroyed=" + state.tracker.destroyed.get(),
+                List.of(state -> state.scope.end(),
+                        state -> state.scope.end()));
+        outcomes.assertOnly("Instances of a workflow ended twice", "created=1,destroyed=1");
+    }
+
+    /**
+     * End the workflows of an iteration once its outcome is observed, so that their
+     * instances do not accumulate in the runtime over the iterations.
+     */
+    private static String ended(String outcome, State... states) {
+        for (State state : states) {
+            state.scope.end();
+        }
+        return outcome;
+    }
+
+    private static StressRuntime runtime() {
+        StressRuntime runtime = StressRuntime.load().orElse(null);
+        assumeTrue(runtime != null, "No StressRuntime is registered");
+        return runtime;
+    }
+
+    /**
+     * The scope of a fresh workflow, the creational context its instances are tracked
+     * with, and what the actors observed.
+     */
+    private static final class State {
+
+        final StressScope scope;
+        final Tracker tracker = new Tracker();
+        final Object[] seen = new Object[3];
+        String observed;
+
+        State(StressRuntime runtime) {
+            this.scope = runtime.beginWorkflowScope("stress-scope-" + WORKFLOWS.incrementAndGet());
+            assertNotNull(scope, "The runtime must begin a workflow scope");
+        }
+    }
+
+    /**
+     * A workflow-scoped bean, shared by all tests so that the context sees a single bean,
+     * that counts its instances in the creational context it is given.
+     */
+    private static final class TrackedBean implements Contextual<Object> {
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            ((Tracker) creationalContext).created.incrementAndGet();
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+            ((Tracker) creationalContext).destroyed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Creational context of one workflow, counting the instances created and destroyed.
+     */
+    private static final class Tracker implements CreationalContext<Object> {
+
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public void push(Object incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
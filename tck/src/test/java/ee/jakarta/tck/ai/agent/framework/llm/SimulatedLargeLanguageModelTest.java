@@ -0,0 +1,256 @@
+/*****************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *****************************************************************************/
+package ee.jakarta.tck.ai.agent.framework.llm;
+
+import jakarta.ai.agent.LLMException;
+import jakarta.ai.agent.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the responses, timing, failures and streams of a {@link SimulatedLargeLanguageModel}.
+ */
+public class SimulatedLargeLanguageModelTest {
+
+    @Test
+    public void sameSeedGivesSameLatenciesAndFailures() {
+        List<String> first = run(42);
+        assertEquals(first, run(42), "The same seed must give the same latencies and failures");
+        assertNotEquals(first, run(43), "Another seed must give other latencies and failures");
+    }
+
+    @Test
+    public void failureAndRateLimitSharesFollowTheRates() {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .failureRate(0.1)
+                .rateLimitRate(0.05)
+                .retryAfter(Duration.ofSeconds(3))
+                .seed(7)
+                .build();
+        int calls = 20_000;
+        int failures = 0;
+        int rateLimits = 0;
+        for (int i = 0; i < calls; i++) {
+            try {
+                model.query("prompt");
+            } catch (SimulatedRateLimitException e) {
+                assertEquals(Duration.ofSeconds(3), e.getRetryAfter());
+                rateLimits++;
+            } catch (LLMException e) {
+                failures++;
+            }
+        }
+        assertEquals(calls, model.getCallCount());
+        assertEquals(failures, model.getFailureCount());
+        assertEquals(rateLimits, model.getRateLimitedCount());
+        assertEquals(0.1, (double) failures / calls, 0.01, "The failure share must follow failureRate");
+        assertEquals(0.05, (double) rateLimits / calls, 0.01, "The rate limit share must follow rateLimitRate");
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulatedLargeLanguageModel.builder().failureRate(0.6).rateLimitRate(0.5).build());
+    }
+
+    @Test
+    public void responsesAreConvertedToTheResultType() {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .rule("flag", "Yes")
+                .rule("count", " 12 ")
+                .rule("ratio", "0.25")
+                .rule("level", "high")
+                .rule("verdict", "no, the amount is unusual")
+                .converter(Duration.class, Duration::parse)
+                .rule("delay", "PT2S")
+                .build();
+        assertEquals("yes", model.query("anything"), "Unmatched prompts must get the default response");
+        assertEquals(Boolean.TRUE, model.query("flag", Boolean.class));
+        assertEquals(true, (boolean) model.query("flag", boolean.class));
+        assertEquals(12, model.query("count", Integer.class));
+        assertEquals(12L, model.query("count", long.class));
+        assertEquals(0.25, model.query("ratio", Double.class));
+        assertEquals(" 12 ", model.query("count", CharSequence.class), "Text results must not be trimmed");
+        assertEquals(" 12 ", model.query("count", Object.class));
+        assertEquals(Level.HIGH, model.query("level", Level.class), "Enum constants must match ignoring case");
+        assertEquals(new Result(false, "no, the amount is unusual"), model.query("verdict", Result.class));
+        assertEquals(Duration.ofSeconds(2), model.query("delay", Duration.class), "A converter must take precedence");
+
+        assertThrows(IllegalArgumentException.class, () -> model.query("flag", Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> model.query("ratio", Level.class));
+        assertThrows(IllegalArgumentException.class, () -> model.query("flag", List.class));
+        assertThrows(IllegalArgumentException.class, () -> model.query("flag", (Class<?>) null));
+    }
+
+    @Test
+    public void exhaustedScriptRepeatsItsLastResponse() {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .script("summarize", "short", "longer")
+                .build();
+        assertEquals("short", model.query("summarize this"));
+        assertEquals("longer", model.query("summarize this"));
+        assertEquals("longer", model.query("summarize this"), "An exhausted script must repeat its last response");
+        assertThrows(IllegalArgumentException.class, () -> SimulatedLargeLanguageModel.builder().script("any"));
+    }
+
+    @Test
+    public void cancellingAnAsyncQueryAbortsIt() {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .latency(Duration.ofSeconds(30))
+                .build();
+        CompletableFuture<String> result = model.queryAsync("prompt");
+        assertFalse(result.isDone(), "An async query must not block for its latency");
+        assertEquals(1, model.getInFlightCount());
+        assertTrue(result.cancel(true));
+        assertEquals(0, model.getInFlightCount(), "A cancelled query must no longer be in flight");
+
+        SimulatedLargeLanguageModel failing = SimulatedLargeLanguageModel.builder().failureRate(1).build();
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> failing.queryAsync("prompt").join());
+        assertInstanceOf(LLMException.class, failure.getCause());
+    }
+
+    @Test
+    public void streamHonoursDemand() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .response("one two three")
+                .tokensPerSecond(10_000)
+                .build();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        model.stream("prompt").subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertEquals("one ", subscriber.next());
+        assertNull(subscriber.signals.poll(50, TimeUnit.MILLISECONDS), "No token may exceed the demand");
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals("two ", subscriber.next());
+        assertEquals("three", subscriber.next());
+        assertEquals("complete", subscriber.next());
+        assertEquals(0, model.getInFlightCount());
+    }
+
+    @Test
+    public void cancelledStreamStopsSignalling() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .response("one two three")
+                .tokensPerSecond(100)
+                .build();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        model.stream("prompt").subscribe(subscriber);
+        subscriber.subscription.request(3);
+        assertEquals("one ", subscriber.next());
+        subscriber.subscription.cancel();
+        assertNull(subscriber.signals.poll(100, TimeUnit.MILLISECONDS), "A cancelled stream must not signal");
+        assertEquals(0, model.getInFlightCount(), "A cancelled stream must no longer be in flight");
+    }
+
+    @Test
+    public void invalidDemandIsSignalledAsError() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .response("one two")
+                .tokensPerSecond(10_000)
+                .build();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        model.stream("prompt").subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertEquals("error:IllegalArgumentException", subscriber.next());
+        subscriber.subscription.request(1);
+        assertNull(subscriber.signals.poll(50, TimeUnit.MILLISECONDS), "No signal may follow onError");
+        assertEquals(0, model.getInFlightCount());
+    }
+
+    @Test
+    public void streamRejectsASecondSubscriber() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder().build();
+        Flow.Publisher<String> stream = model.stream("prompt");
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        stream.subscribe(first);
+        stream.subscribe(second);
+        assertEquals("error:IllegalStateException", second.next(), "A second subscriber must be rejected");
+        first.subscription.request(1);
+        assertEquals("yes", first.next());
+        assertEquals("complete", first.next());
+    }
+
+    @Test
+    public void failedStreamSignalsTheFailure() throws Exception {
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder().failureRate(1).build();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        model.stream("prompt").subscribe(subscriber);
+        assertEquals("error:LLMException", subscriber.next(), "An injected failure must replace the first token");
+    }
+
+    private static List<String> run(long seed) {
+        List<String> outcomes = new ArrayList<>();
+        SimulatedLargeLanguageModel model = SimulatedLargeLanguageModel.builder()
+                .latency(random -> {
+                    outcomes.add("latency=" + random.nextLong());
+                    return 0;
+                })
+                .failureRate(0.3)
+                .seed(seed)
+                .build();
+        for (int i = 0; i < 50; i++) {
+            try {
+                outcomes.add(model.query("prompt"));
+            } catch (LLMException e) {
+                outcomes.add("failed");
+            }
+        }
+        return outcomes;
+    }
+
+    enum Level {
+        LOW, HIGH
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        private final BlockingQueue<String> signals = new LinkedBlockingQueue<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            signals.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signals.add("error:" + throwable.getClass().getSimpleName());
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add("complete");
+        }
+
+        String next() throws InterruptedException {
+            String signal = signals.poll(5, TimeUnit.SECONDS);
+            assertNotNull(signal, "A signal must arrive");
+            return signal;
+        }
+    }
+}